@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("com.github.jk1.dependency-license-report") version "2.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.andreygs"
@@ -19,6 +20,83 @@ sourceSets {
     }
 }
 
+// Classes that require java.lang.foreign API. They are packed to META-INF/versions/22 of multi-release jar and
+// override their baseline counterparts when running on Java 22 or later.
+val java22: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java22")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+// Java 22 classes and benchmarks on them need JDK 22 toolchain, which is not resolved automatically, so they are
+// built only with "-Pjcsp.java22=true". Otherwise jar contains baseline classes only and build runs on Java 17 alone.
+val java22Enabled = providers.gradleProperty("jcsp.java22").map { it.toBoolean() }.getOrElse(false)
+
+tasks.named<JavaCompile>(java22.compileJavaTaskName) {
+    enabled = java22Enabled
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+    options.release.set(22)
+    // Vectorized kernels are loaded only when jdk.incubator.vector module is present at runtime.
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
+// Annotation processor, that generates class processors at compile time. It is not a part of runtime jar, but is
+// packed with classes of library to separate jar with "processor" classifier, which is added to annotation
+// processor path of user projects.
+val processor: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+val processorJar by tasks.registering(Jar::class) {
+    archiveClassifier.set("processor")
+    from(processor.output)
+    from(sourceSets.main.get().output) {
+        exclude("module-info.class")
+    }
+}
+
+tasks.assemble {
+    dependsOn(processorJar)
+}
+
+sourceSets.test {
+    compileClasspath += processor.output
+    runtimeClasspath += processor.output
+}
+
+if (java22Enabled) {
+    tasks.jar {
+        into("META-INF/versions/22") {
+            from(java22.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+
+    // Benchmarks compare Java 22 kernels with baseline code, so they are built and run on Java 22 with java22
+    // classes preceding baseline ones.
+    sourceSets.named("jmh") {
+        compileClasspath = java22.output + compileClasspath
+        runtimeClasspath = java22.output + runtimeClasspath
+    }
+
+    tasks.named<JavaCompile>("compileJmhJava") {
+        javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+        options.release.set(22)
+        options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+    }
+
+    jmh {
+        jvm.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(22)) }
+            .map { it.executablePath.asFile.absolutePath })
+        jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    }
+}
+
+jmh {
+    duplicateClassesStrategy.set(DuplicatesStrategy.EXCLUDE)
+}
+
 repositories {
     mavenCentral()
 }
@@ -42,9 +120,37 @@ dependencies {
     mockitoAgent(mockitoInlineLib) { isTransitive = false }
 }
 
-tasks.test {
+// Vectorized codec tests run in their own task, since on Java 22 classes they need JDK 22 launcher and vector
+// module, that the rest of tests does not.
+val vectorizedCodecTests = listOf("io/andreygs/jcsp/internal/processing/buffer/ByteSwapKernelTest*")
+
+tasks.withType<Test>().configureEach {
     systemProperty("lib.config.services.custom", "infrastructure/test_config.xml")
     val args = jvmArgs ?: mutableListOf<String>().also { jvmArgs = it }
     args.add("-javaagent:${mockitoAgent.asPath}")
     useJUnitPlatform()
 }
+
+tasks.test {
+    exclude(vectorizedCodecTests)
+}
+
+val vectorizedCodecTest by tasks.registering(Test::class) {
+    description = "Runs tests of vectorized codecs."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    include(vectorizedCodecTests)
+    shouldRunAfter(tasks.test)
+    // Java 22 classes are loaded by named module tests only when tests are running on Java 22 or later.
+    if (java22Enabled) {
+        dependsOn(java22.classesTaskName)
+        javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+        systemProperty("jcsp.test.java22.classes", java22.java.destinationDirectory.get().asFile.absolutePath)
+        jvmArgs("--add-modules=jdk.incubator.vector")
+    }
+}
+
+tasks.check {
+    dependsOn(vectorizedCodecTest)
+}
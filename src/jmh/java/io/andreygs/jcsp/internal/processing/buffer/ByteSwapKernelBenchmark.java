@@ -0,0 +1,166 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link VectorByteSwapKernel} with bulk view buffer copy, which {@link PrimitiveArrayAccess} uses without
+ * the kernel, on arrays written to and read from buffer of non-native byte order. Booleans are compared with scalar
+ * loop, since there is no view buffer for them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteSwapKernelBenchmark
+{
+    private static final ByteOrder SWAPPED_ORDER =
+        ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+    @Param({ "16", "256", "4096" })
+    private int length;
+
+    @Param({ "true", "false" })
+    private boolean direct;
+
+    private int[] ints;
+
+    private long[] longs;
+
+    private boolean[] booleans;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp()
+    {
+        ints = new int[length];
+        longs = new long[length];
+        booleans = new boolean[length];
+        for (int i = 0; i < length; ++i)
+        {
+            ints[i] = i * 0x01020304;
+            longs[i] = i * 0x0102030405060708L;
+            booleans[i] = (i & 1) == 0;
+        }
+        int capacity = length * Long.BYTES;
+        buffer = (direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity)).order(SWAPPED_ORDER);
+    }
+
+    @Benchmark
+    public ByteBuffer putIntView()
+    {
+        buffer.clear();
+        buffer.asIntBuffer().put(ints, 0, length);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer putIntVector()
+    {
+        buffer.clear();
+        int swapped = VectorByteSwapKernel.put(buffer, ints, 0, length);
+        buffer.position(swapped * Integer.BYTES);
+        buffer.asIntBuffer().put(ints, swapped, length - swapped);
+        return buffer;
+    }
+
+    @Benchmark
+    public int[] getIntView()
+    {
+        buffer.clear();
+        buffer.asIntBuffer().get(ints, 0, length);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] getIntVector()
+    {
+        buffer.clear();
+        int swapped = VectorByteSwapKernel.get(buffer, ints, 0, length);
+        buffer.position(swapped * Integer.BYTES);
+        buffer.asIntBuffer().get(ints, swapped, length - swapped);
+        return ints;
+    }
+
+    @Benchmark
+    public ByteBuffer putLongView()
+    {
+        buffer.clear();
+        buffer.asLongBuffer().put(longs, 0, length);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer putLongVector()
+    {
+        buffer.clear();
+        int swapped = VectorByteSwapKernel.put(buffer, longs, 0, length);
+        buffer.position(swapped * Long.BYTES);
+        buffer.asLongBuffer().put(longs, swapped, length - swapped);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer putBooleanScalar()
+    {
+        buffer.clear();
+        for (int i = 0; i < length; ++i)
+        {
+            buffer.put(i, booleans[i] ? (byte) 1 : (byte) 0);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer putBooleanVector()
+    {
+        buffer.clear();
+        int converted = VectorByteSwapKernel.put(buffer, booleans, 0, length);
+        for (int i = converted; i < length; ++i)
+        {
+            buffer.put(i, booleans[i] ? (byte) 1 : (byte) 0);
+        }
+        return buffer;
+    }
+}
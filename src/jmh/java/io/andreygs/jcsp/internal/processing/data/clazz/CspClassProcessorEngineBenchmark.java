@@ -0,0 +1,251 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExtension;
+import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
+import io.andreygs.jcsp.api.protocol.utils.CspInterfaceVersionUtils;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.bytecode.CspHiddenClassSerializationProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.factory.CspDataSerializationProcessorFactoryProducer;
+import io.andreygs.jcsp.internal.processing.data.factory.ICspDataSerializationProcessorFactory;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.type.factory.CspTypeProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.type.factory.CspTypeSerializationProcessorProviderFactory;
+import io.andreygs.jcsp.internal.protocol.message.context.factory.CspMessageContextFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares engines of generated struct serialization processors: reflective loop over fields, list of lambdas of
+ * {@link CspClassSerializationProcessorGenerator}, opcode program of
+ * {@link CspOpcodeClassSerializationProcessorGenerator} and hidden class of
+ * {@link CspHiddenClassSerializationProcessorGenerator}.
+ * <p>
+ * Every invocation serializes batch of structs to fresh buffer, so cost of buffer is shared by all engines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CspClassProcessorEngineBenchmark
+{
+    @Param({ "1", "64" })
+    private int batchSize;
+
+    @Param({ "false", "true" })
+    private boolean sizeOfIntegersMayBeNotEqual;
+
+    private Struct[] structs;
+
+    private ISerializationBufferConfig bufferConfig;
+
+    private ICspDataSerializationProcessorFactory dataProcessorFactory;
+
+    private ICspMessageContext messageContext;
+
+    private ICspDataMessageContextExtension dataMessageContextExtension;
+
+    private Field[] fields;
+
+    private ICspClassSerializationProcessor<Object> lambdaListProcessor;
+
+    private ICspClassSerializationProcessor<Object> opcodeProcessor;
+
+    private ICspClassSerializationProcessor<Object> hiddenClassProcessor;
+
+    @Setup
+    public void setUp()
+    {
+        structs = new Struct[batchSize];
+        for (int i = 0; i < batchSize; ++i)
+        {
+            structs[i] = new Struct(i);
+        }
+        bufferConfig = new SerializationBufferConfigFactory().provideDefault();
+        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> typeProcessorRegistry =
+            new CspTypeProcessorRegistryFactory<ICspTypeSerializationProcessor>().create();
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> classProcessorRegistry =
+            new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+        dataProcessorFactory = new CspDataSerializationProcessorFactoryProducer().produce(classProcessorRegistry,
+            typeProcessorRegistry, null);
+        CspMessageContextFactory messageContextFactory = new CspMessageContextFactory();
+        messageContext = messageContextFactory.createCspMessageContext(CspProtocolVersion.CSP_VERSION_2, false,
+            false, false);
+        dataMessageContextExtension = messageContextFactory.createCspDataMessageContextExtension(Struct.class,
+            CspInterfaceVersionUtils.DEFAULT_CSP_INTERFACE_VERSION, false, sizeOfIntegersMayBeNotEqual, false,
+            false, false, false);
+
+        List<Field> cspFields = CspAnnotationUtils.resolveCspFields(Struct.class);
+        cspFields.forEach(field -> field.setAccessible(true));
+        fields = cspFields.toArray(new Field[0]);
+
+        ICspTypeProcessorProvider<ICspTypeSerializationProcessor> typeProcessorProvider =
+            new CspTypeSerializationProcessorProviderFactory().create(typeProcessorRegistry);
+        CspClassSerializationProcessorGenerator lambdaListGenerator =
+            new CspClassSerializationProcessorGenerator(classProcessorRegistry, typeProcessorProvider);
+        lambdaListProcessor = cast(lambdaListGenerator.generate(Struct.class));
+        opcodeProcessor = cast(new CspOpcodeClassSerializationProcessorGenerator(classProcessorRegistry,
+            lambdaListGenerator).generate(Struct.class));
+        hiddenClassProcessor = cast(new CspHiddenClassSerializationProcessorGenerator(classProcessorRegistry,
+            lambdaListGenerator).generate(Struct.class));
+    }
+
+    @Benchmark
+    public SerializationBuffer reflective() throws IllegalAccessException
+    {
+        SerializationBuffer buffer = new SerializationBuffer(bufferConfig);
+        ICspDataSerializationProcessor dataProcessor = createDataProcessor(buffer);
+        for (Struct struct : structs)
+        {
+            for (Field field : fields)
+            {
+                Class<?> type = field.getType();
+                if (type == int.class)
+                {
+                    dataProcessor.serializeInt(field.getInt(struct));
+                }
+                else if (type == long.class)
+                {
+                    dataProcessor.serializeLong(field.getLong(struct));
+                }
+                else if (type == double.class)
+                {
+                    dataProcessor.serializeDouble(field.getDouble(struct));
+                }
+                else if (type == short.class)
+                {
+                    dataProcessor.serializeShort(field.getShort(struct));
+                }
+                else
+                {
+                    dataProcessor.serialize(field.getBoolean(struct));
+                }
+            }
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public SerializationBuffer lambdaList()
+    {
+        return serialize(lambdaListProcessor);
+    }
+
+    @Benchmark
+    public SerializationBuffer opcode()
+    {
+        return serialize(opcodeProcessor);
+    }
+
+    @Benchmark
+    public SerializationBuffer hiddenClass()
+    {
+        return serialize(hiddenClassProcessor);
+    }
+
+    private SerializationBuffer serialize(ICspClassSerializationProcessor<Object> processor)
+    {
+        SerializationBuffer buffer = new SerializationBuffer(bufferConfig);
+        ICspDataSerializationProcessor dataProcessor = createDataProcessor(buffer);
+        for (Struct struct : structs)
+        {
+            processor.serialize(struct, dataProcessor);
+        }
+        return buffer;
+    }
+
+    private ICspDataSerializationProcessor createDataProcessor(SerializationBuffer buffer)
+    {
+        return dataProcessorFactory.create(buffer, messageContext, dataMessageContextExtension);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ICspClassSerializationProcessor<Object> cast(ICspClassSerializationProcessor<?> processor)
+    {
+        return (ICspClassSerializationProcessor<Object>) processor;
+    }
+
+    @CspCreateProcessor
+    public static class Struct
+    {
+        @CspField(0)
+        private int id;
+        @CspField(1)
+        private long timestamp;
+        @CspField(2)
+        private double price;
+        @CspField(3)
+        private int quantity;
+        @CspField(4)
+        private short flags;
+        @CspField(5)
+        private boolean active;
+        @CspField(6)
+        private long sequence;
+        @CspField(7)
+        private double weight;
+
+        Struct(int seed)
+        {
+            id = seed;
+            timestamp = seed * 1_000L;
+            price = seed * 0.25;
+            quantity = seed * 3;
+            flags = (short) seed;
+            active = (seed & 1) == 0;
+            sequence = -seed;
+            weight = seed * 1.5;
+        }
+    }
+}
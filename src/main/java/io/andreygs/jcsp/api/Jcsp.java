@@ -25,14 +25,31 @@
 
 package io.andreygs.jcsp.api;
 
+import io.andreygs.jcsp.api.controller.ICspDeserializationSession;
 import io.andreygs.jcsp.api.controller.ICspSerializationSession;
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
+import io.andreygs.jcsp.api.processing.buffer.IAdaptiveBufferPolicyEntry;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.IOffHeapMemoryMetrics;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferPoolMetrics;
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
 import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
 import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
+import io.andreygs.jcsp.internal.controller.factory.ICspDeserializationSessionFactory;
+import io.andreygs.jcsp.internal.controller.factory.ICspSerializationSessionConfigFactory;
 import io.andreygs.jcsp.internal.controller.factory.ICspSerializationSessionFactory;
 import io.andreygs.jcsp.internal.infrastructure.service.JcspServiceProvider;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBufferPool;
+import io.andreygs.jcsp.internal.processing.data.string.factory.IStringDedupConfigFactory;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+
 /**
  * TODO: place description here
  */
@@ -54,4 +71,70 @@ public class Jcsp
                                   .provide(ICspSerializationSessionFactory.class)
                                   .create(bufferConfig, commonMessageConfig, dataMessageConfig);
     }
+
+    public static ICspSerializationSession createSerializationSession(ICspSerializationSessionConfig sessionConfig)
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(ICspSerializationSessionFactory.class)
+                                  .create(sessionConfig);
+    }
+
+    public static ICspSerializationSessionConfig createSerializationSessionConfig(
+        @Nullable ISerializationBufferConfig bufferConfig,
+        @Nullable ICspMessageConfig commonMessageConfig,
+        @Nullable ICspDataMessageConfigExtension dataMessageConfig,
+        @Nullable IMemoryBudgetConfig memoryBudgetConfig,
+        @Nullable ICspClassProcessorTieringConfig classProcessorTieringConfig)
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(ICspSerializationSessionConfigFactory.class)
+                                  .create(bufferConfig, commonMessageConfig, dataMessageConfig, memoryBudgetConfig,
+                                      classProcessorTieringConfig);
+    }
+
+    public static ICspDeserializationSession createDefaultDeserializationSession()
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(ICspDeserializationSessionFactory.class)
+                                  .create();
+    }
+
+    public static ICspDeserializationSession createDeserializationSession(
+        @Nullable IStringDedupConfig stringDedupConfig)
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(ICspDeserializationSessionFactory.class)
+                                  .create(stringDedupConfig);
+    }
+
+    public static IStringDedupConfig createStringDedupConfig(
+        @Nullable StringDedupScope scope,
+        @Nullable Integer maxEntries,
+        @Nullable Integer maxEncodedLength,
+        @Nullable StringDedupEvictionPolicy evictionPolicy)
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(IStringDedupConfigFactory.class)
+                                  .create(scope, maxEntries, maxEncodedLength, evictionPolicy);
+    }
+
+    public static ISerializationBufferPoolMetrics getSerializationBufferPoolMetrics()
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(ISerializationBufferPool.class)
+                                  .getMetrics();
+    }
+
+    public static IOffHeapMemoryMetrics getOffHeapMemoryMetrics()
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(IOffHeapMemoryMetrics.class);
+    }
+
+    public static Map<Class<?>, IAdaptiveBufferPolicyEntry> getAdaptiveBufferPolicyTable()
+    {
+        return JcspServiceProvider.getInstance()
+                                  .provide(IAdaptiveBufferPolicy.class)
+                                  .exportTable();
+    }
 }
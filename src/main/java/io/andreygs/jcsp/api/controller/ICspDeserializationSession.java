@@ -0,0 +1,96 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.controller;
+
+import io.andreygs.jcsp.api.processing.data.ICspResumableDeserializer;
+import io.andreygs.jcsp.api.protocol.CspDataFlag;
+
+import java.nio.ByteOrder;
+
+/**
+ * Session of CSP messages deserialization.
+ * <p>
+ * All implementations of current interface must be thread-safe.
+ */
+public interface ICspDeserializationSession
+{
+    /**
+     * Creates non-blocking deserializer of big-endian struct, which is fed with input in arbitrary parts, e.g. as it
+     * is read from channel registered in {@link java.nio.channels.Selector}.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param clazz Class of struct.
+     * @return created deserializer. It is not thread-safe.
+     * @param <T> type of struct.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException if struct has fields which can't be read
+     * resumably.
+     */
+    default <T> ICspResumableDeserializer<T> createResumableDeserializer(T target, Class<T> clazz)
+    {
+        return createResumableDeserializer(target, clazz, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates non-blocking deserializer of struct, which is fed with input in arbitrary parts, e.g. as it is read
+     * from channel registered in {@link java.nio.channels.Selector}.
+     *
+     * @apiNote
+     * Currently only structs consisting of primitive, primitive array and string fields are supported.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param clazz Class of struct.
+     * @param byteOrder Byte order of input.
+     * @return created deserializer. It is not thread-safe.
+     * @param <T> type of struct.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException if struct has fields which can't be read
+     * resumably.
+     */
+    default <T> ICspResumableDeserializer<T> createResumableDeserializer(T target, Class<T> clazz,
+        ByteOrder byteOrder)
+    {
+        return createResumableDeserializer(target, clazz, byteOrder, false);
+    }
+
+    /**
+     * Creates non-blocking deserializer of struct, which is fed with input in arbitrary parts, e.g. as it is read
+     * from channel registered in {@link java.nio.channels.Selector}.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param clazz Class of struct.
+     * @param byteOrder Byte order of input.
+     * @param sizeOfIntegersMayBeNotEqual Whether input was written with
+     *                                    {@link CspDataFlag#SIZE_OF_INTEGERS_MAY_BE_NOT_EQUAL}. If so, then input
+     *                                    with sizes of integers not equal to sizes of field types is rejected with
+     *                                    {@link io.andreygs.jcsp.api.protocol.CspStatus#ERROR_IN_STRUCT_FORMAT}.
+     * @return created deserializer. It is not thread-safe.
+     * @param <T> type of struct.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException if struct has fields which can't be read
+     * resumably.
+     */
+    <T> ICspResumableDeserializer<T> createResumableDeserializer(T target, Class<T> clazz, ByteOrder byteOrder,
+        boolean sizeOfIntegersMayBeNotEqual);
+}
@@ -25,6 +25,8 @@
 
 package io.andreygs.jcsp.api.controller;
 
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetMetrics;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringMetrics;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
 import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
 import io.andreygs.jcsp.api.processing.data.type.CspTypeToken;
@@ -35,7 +37,10 @@ import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.OutputStream;
 import java.lang.reflect.AnnotatedType;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -149,4 +154,122 @@ public interface ICspSerializationSession
     <T extends ICspVersionable> ICspDataMessage<T> serializeData(ICspVersionable struct, Class<T> clazz,
         @Nullable ISerializationBufferConfig customBufferConfig, @Nullable ICspMessageConfig customMessageConfig,
         @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension);
+
+    /**
+     * Serializes CSP data message streaming it to channel while it is encoded.
+     * <p>
+     * Unlike {@link #serializeData(ICspVersionable, Class)} message is never fully materialized in memory: it is
+     * written to channel by fixed-size windows, so memory per in-flight message is bounded by one window.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param channel Blocking channel to write message to. It is not closed.
+     * @return number of bytes written to channel.
+     * @throws java.io.UncheckedIOException if message cannot be written to channel.
+     */
+    long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz, WritableByteChannel channel);
+
+    /**
+     * Serializes CSP data message streaming it to channel while it is encoded.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param channel Blocking channel to write message to. It is not closed.
+     * @param customBufferConfig Config of buffer. If null, session one is used.
+     * @param customMessageConfig Config of message common context. If null, session one is used.
+     * @param customDataMessageConfigExtension Config of message data context. If null, session one is used.
+     * @return number of bytes written to channel.
+     * @throws java.io.UncheckedIOException if message cannot be written to channel.
+     * @see #serializeData(ICspVersionable, Class, WritableByteChannel)
+     */
+    long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz, WritableByteChannel channel,
+        @Nullable ISerializationBufferConfig customBufferConfig, @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension);
+
+    /**
+     * Serializes CSP data message streaming it to output stream while it is encoded.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param outputStream Stream to write message to. It is not closed.
+     * @return number of bytes written to stream.
+     * @throws java.io.UncheckedIOException if message cannot be written to stream.
+     * @see #serializeData(ICspVersionable, Class, WritableByteChannel)
+     */
+    long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz, OutputStream outputStream);
+
+    /**
+     * Serializes CSP data message straight into memory-mapped file.
+     * <p>
+     * Unlike {@link #serializeData(ICspVersionable, Class)} message is never fully materialized in memory: only one
+     * window of file is mapped at a time, so very large messages don't require heap or native memory of their size.
+     * File is kept after returned message is closed.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param file File to write message to. It is created if it does not exist and truncated otherwise.
+     * @return serialized message backed by file.
+     * @throws java.io.UncheckedIOException if file cannot be written.
+     */
+    <T extends ICspVersionable> ICspDataMessage<T> serializeData(ICspVersionable struct, Class<T> clazz, Path file);
+
+    /**
+     * Serializes CSP data message straight into memory-mapped file.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param file File to write message to. It is created if it does not exist and truncated otherwise.
+     * @param customBufferConfig Config of buffer, which initial capacity and resize strategy define sizes of mapped
+     *                           windows. If null, session one is used.
+     * @param customMessageConfig Config of message common context. If null, session one is used.
+     * @param customDataMessageConfigExtension Config of message data context. If null, session one is used.
+     * @return serialized message backed by file.
+     * @throws java.io.UncheckedIOException if file cannot be written.
+     * @see #serializeData(ICspVersionable, Class, Path)
+     */
+    <T extends ICspVersionable> ICspDataMessage<T> serializeData(ICspVersionable struct, Class<T> clazz, Path file,
+        @Nullable ISerializationBufferConfig customBufferConfig, @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension);
+
+    /**
+     * Computes exact size of CSP data message which would be produced by {@link #serializeData(ICspVersionable, Class)}
+     * without writing it.
+     * <p>
+     * May be used for flow control and batching decisions.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @return size of serialized message in bytes.
+     */
+    long computeSerializedSize(ICspVersionable struct, Class<? extends ICspVersionable> clazz);
+
+    /**
+     * Computes exact size of CSP data message which would be produced by
+     * {@link #serializeData(ICspVersionable, Class, ISerializationBufferConfig, ICspMessageConfig,
+     * ICspDataMessageConfigExtension)} without writing it.
+     *
+     * @param struct Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param customMessageConfig Config of message common context. If null, session one is used.
+     * @param customDataMessageConfigExtension Config of message data context. If null, session one is used.
+     * @return size of serialized message in bytes.
+     */
+    long computeSerializedSize(ICspVersionable struct, Class<? extends ICspVersionable> clazz,
+        @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension);
+
+    /**
+     * Gets counters of session memory budget, which limits total capacity of buffers held by messages of this
+     * session.
+     *
+     * @return memory budget metrics.
+     */
+    IMemoryBudgetMetrics getMemoryBudgetMetrics();
+
+    /**
+     * Gets counters of tier transitions of class processors generated by this session.
+     *
+     * @return class processor tiering metrics.
+     */
+    ICspClassProcessorTieringMetrics getClassProcessorTieringMetrics();
 }
@@ -0,0 +1,81 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.controller;
+
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
+import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
+
+/**
+ * Configuration of {@link ICspSerializationSession}, which gathers default configs of its messages and configs of
+ * resources shared by them.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ *
+ * @implSpec
+ * <b>External implementations are discouraged unless strictly necessary. Implementations MUST adhere to the
+ * immutability, self-validation contract and thread-safety.</b>
+ */
+public interface ICspSerializationSessionConfig
+{
+    /**
+     * Gets default buffer config of session.
+     *
+     * @return buffer config.
+     */
+    ISerializationBufferConfig getBufferConfig();
+
+    /**
+     * Gets default message config of session.
+     *
+     * @return message config.
+     */
+    ICspMessageConfig getMessageConfig();
+
+    /**
+     * Gets default data message config of session.
+     *
+     * @return data message config.
+     */
+    ICspDataMessageConfigExtension getDataMessageConfigExtension();
+
+    /**
+     * Gets memory budget, which limits buffers of session.
+     *
+     * @return memory budget config.
+     */
+    IMemoryBudgetConfig getMemoryBudgetConfig();
+
+    /**
+     * Gets tiering of generated class processors of session.
+     *
+     * @return class processor tiering config.
+     */
+    ICspClassProcessorTieringConfig getClassProcessorTieringConfig();
+}
@@ -46,5 +46,26 @@ public enum AllocationType
     /**
      * Buffer allocated in native memory.
      */
-    DIRECT
+    DIRECT,
+
+    /**
+     * Buffer allocated in native memory segment owned by arena.
+     * <p>
+     * Unlike {@link #DIRECT} the memory is freed deterministically when buffer is released (e.g. when message is
+     * closed), not when garbage collector reclaims it.
+     *
+     * @apiNote
+     * Requires Java 22 or later at runtime. On earlier versions creating of such buffer fails with
+     * {@link UnsupportedOperationException}.
+     */
+    ARENA,
+
+    /**
+     * Buffer allocated either in heap or in native memory, depending on sizes of previously serialized messages of the
+     * same struct class and on where the message is written to.
+     * <p>
+     * Initial capacity and growth of such buffers are also learned per struct class. Learned values can be inspected
+     * with {@link io.andreygs.jcsp.api.Jcsp#getAdaptiveBufferPolicyTable()}.
+     */
+    ADAPTIVE
 }
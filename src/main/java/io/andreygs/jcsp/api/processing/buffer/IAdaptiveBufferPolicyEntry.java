@@ -0,0 +1,71 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+/**
+ * Read-only snapshot of buffer sizing learned by adaptive buffer policy for one struct class.
+ *
+ * @apiNote
+ * Sizes are estimated from decaying histogram of encoded message sizes, so recent messages have more weight than old
+ * ones. Estimates are rounded up to histogram bucket bounds.
+ */
+public interface IAdaptiveBufferPolicyEntry
+{
+    /**
+     * Gets number of observed messages.
+     *
+     * @return number of observed messages.
+     */
+    long getSampleCount();
+
+    /**
+     * Gets estimated median of encoded message size.
+     *
+     * @return median size in bytes.
+     */
+    long getMedianSize();
+
+    /**
+     * Gets initial capacity of buffer, which is estimated 95th percentile of encoded message size.
+     *
+     * @return initial capacity in bytes.
+     */
+    long getInitialCapacity();
+
+    /**
+     * Gets capacity buffer is grown to at first expansion, which is estimated 99th percentile of encoded message size.
+     *
+     * @return growth target in bytes.
+     */
+    long getGrowthTarget();
+
+    /**
+     * Gets allocation type chosen for messages written to memory.
+     *
+     * @return allocation type, either {@link AllocationType#HEAP} or {@link AllocationType#DIRECT}.
+     */
+    AllocationType getAllocationType();
+}
@@ -0,0 +1,71 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of memory budget of serialization session, which limits total capacity of buffers held by messages
+ * that are being serialized or not released yet.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ *
+ * @implSpec
+ * <b>External implementations are discouraged unless strictly necessary. Implementations MUST adhere to the
+ * immutability, self-validation contract and thread-safety.</b>
+ */
+public interface IMemoryBudgetConfig
+{
+    /**
+     * Gets maximum total capacity of buffers held at once.
+     *
+     * @return budget in bytes. Always positive.
+     */
+    long getBudgetBytes();
+
+    /**
+     * Gets behaviour when budget is exhausted.
+     *
+     * @return budget policy.
+     */
+    MemoryBudgetPolicy getPolicy();
+
+    /**
+     * Gets maximum time to wait for memory with {@link MemoryBudgetPolicy#BLOCK} policy.
+     *
+     * @return block timeout. Always not negative.
+     */
+    Duration getBlockTimeout();
+
+    /**
+     * Gets directory of temporary files with {@link MemoryBudgetPolicy#SPILL_TO_FILE} policy.
+     *
+     * @return spill directory.
+     */
+    Path getSpillDirectory();
+}
@@ -0,0 +1,71 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+/**
+ * Read-only view of serialization session memory budget counters.
+ *
+ * @apiNote
+ * Thread-safe. Values are monotonic (except reserved bytes and waiting count) and may be slightly stale under
+ * concurrent use.
+ */
+public interface IMemoryBudgetMetrics
+{
+    /**
+     * Gets maximum total capacity of buffers held at once.
+     *
+     * @return budget in bytes.
+     */
+    long getBudgetBytes();
+
+    /**
+     * Gets total capacity of buffers currently held.
+     *
+     * @return amount of reserved bytes.
+     */
+    long getReservedBytes();
+
+    /**
+     * Gets number of allocations currently waiting for memory.
+     *
+     * @return number of waiting allocations.
+     */
+    int getWaitingCount();
+
+    /**
+     * Gets number of allocations that failed because budget was exhausted.
+     *
+     * @return number of rejected allocations.
+     */
+    long getRejectedCount();
+
+    /**
+     * Gets number of messages written to temporary files because budget was exhausted.
+     *
+     * @return number of spilled messages.
+     */
+    long getSpilledCount();
+}
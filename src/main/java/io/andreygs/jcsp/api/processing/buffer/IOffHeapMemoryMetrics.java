@@ -0,0 +1,58 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+/**
+ * Read-only view of process-wide counters of off-heap memory allocated by the library for direct buffers.
+ *
+ * @apiNote
+ * Thread-safe. Values may be slightly stale under concurrent use. Memory of buffers that were not released is
+ * accounted until they are reclaimed by garbage collector.
+ */
+public interface IOffHeapMemoryMetrics
+{
+    /**
+     * Gets amount of off-heap memory currently allocated, including buffers retained in pools for reuse.
+     *
+     * @return amount of reserved bytes.
+     */
+    long getReservedBytes();
+
+    /**
+     * Gets amount of off-heap memory currently held by buffers that are in use, i.e. reserved memory except buffers
+     * retained in pools.
+     *
+     * @return amount of bytes in use.
+     */
+    long getInUseBytes();
+
+    /**
+     * Gets the highest amount of reserved off-heap memory observed since start of the process.
+     *
+     * @return peak amount of reserved bytes.
+     */
+    long getPeakReservedBytes();
+}
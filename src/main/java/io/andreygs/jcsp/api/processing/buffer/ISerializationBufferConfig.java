@@ -59,4 +59,47 @@ public interface ISerializationBufferConfig
      * @return strategy of buffer resizing.
      */
     IBufferResizeStrategy getResizeStrategy();
+
+    /**
+     * Gets maximum amount of bytes that buffer pool may keep in its shared free lists after buffers, created with this
+     * configuration, are released.
+     * <p>
+     * Zero value means that released buffers are never retained in shared pool.
+     *
+     * @return maximum amount of retained bytes. Always not negative.
+     */
+    long getMaxRetainedBytes();
+
+    /**
+     * Gets whether buffer that was expanded over its initial capacity should be dropped on release instead of being
+     * returned to the pool.
+     * <p>
+     * Enabling this prevents rare oversized messages from pinning large buffers in the pool.
+     *
+     * @return true if expanded buffers should not be retained on release.
+     */
+    boolean isShrinkOnRelease();
+
+    /**
+     * Gets minimal size of byte array or {@link java.nio.ByteBuffer} field payload which is embedded into message by
+     * reference instead of being copied to buffer.
+     * <p>
+     * Message with referenced payloads is a scatter list, which is intended to be emitted with gathering writes.
+     * Referenced payloads must not be modified until message is written out or closed. Zero value means that payloads
+     * are always copied.
+     *
+     * @return zero-copy threshold in bytes. Always not negative.
+     */
+    int getZeroCopyThreshold();
+
+    /**
+     * Gets size of chunks of segmented buffer.
+     * <p>
+     * Segmented buffer never copies already written data when it grows: new chunk is appended instead. Committed
+     * message consists of several buffers, which are intended to be emitted with gathering writes. Zero value means
+     * that buffer is contiguous.
+     *
+     * @return segment size in bytes. Always not negative.
+     */
+    int getSegmentSize();
 }
@@ -0,0 +1,65 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+/**
+ * Read-only view of serialization buffer pool counters.
+ *
+ * @apiNote
+ * Thread-safe. Values are monotonic (except retained bytes) and may be slightly stale under concurrent use.
+ */
+public interface ISerializationBufferPoolMetrics
+{
+    /**
+     * Gets number of buffer acquisitions that were served by already allocated buffer.
+     *
+     * @return number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Gets number of buffer acquisitions that required new allocation.
+     *
+     * @return number of misses.
+     */
+    long getMissCount();
+
+    /**
+     * Gets number of pooled buffers that became unreachable without being released.
+     * <p>
+     * Usually it means that {@link io.andreygs.jcsp.api.protocol.message.ICspDataMessage} was not closed.
+     *
+     * @return number of leaks.
+     */
+    long getLeakCount();
+
+    /**
+     * Gets amount of bytes currently retained in shared pool free lists.
+     *
+     * @return amount of retained bytes.
+     */
+    long getRetainedBytes();
+}
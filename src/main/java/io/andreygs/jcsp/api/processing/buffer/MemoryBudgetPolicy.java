@@ -0,0 +1,54 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.api.processing.buffer;
+
+/**
+ * Behaviour of serialization session when its memory budget is exhausted.
+ *
+ * @see IMemoryBudgetConfig
+ */
+public enum MemoryBudgetPolicy
+{
+    /**
+     * Allocation waits until other buffers are released, but not longer than
+     * {@link IMemoryBudgetConfig#getBlockTimeout()}. When time is out, allocation fails with
+     * {@link io.andreygs.jcsp.api.protocol.CspStatus#NO_MEMORY}.
+     */
+    BLOCK,
+
+    /**
+     * Allocation fails immediately with {@link io.andreygs.jcsp.api.protocol.CspStatus#NO_MEMORY}.
+     */
+    FAIL_FAST,
+
+    /**
+     * Message which initial buffer doesn't fit the budget is written to memory-mapped temporary file in
+     * {@link IMemoryBudgetConfig#getSpillDirectory()} instead. File is deleted when message is released.
+     * <p>
+     * Growth of buffer that is already in memory can't be moved to file, so it fails as with {@link #FAIL_FAST}.
+     */
+    SPILL_TO_FILE
+}
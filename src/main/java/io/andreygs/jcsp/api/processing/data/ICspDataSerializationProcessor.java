@@ -33,6 +33,7 @@ import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcesso
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AnnotatedType;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Map;
@@ -149,6 +150,31 @@ public interface ICspDataSerializationProcessor
      */
     void serialize(byte @Nullable [] value, boolean reference, boolean fixedSize);
 
+    /**
+     * Serializes remaining bytes of {@link ByteBuffer} field, not as a reference, but as an embedded structure with
+     * fixed size dictated by CSP interface.
+     * <p>
+     * Does the same thing as a call {@link #serialize(ByteBuffer, boolean, boolean)}
+     * with false reference and true fixedSize arguments.
+     *
+     * @param value Value to serialize. Its position is not changed.
+     */
+    void serialize(ByteBuffer value);
+
+    /**
+     * Serializes remaining bytes of {@link ByteBuffer} field. On the wire it is the same as byte[] field.
+     * <p>
+     * Large values may be embedded into message by reference instead of being copied, see
+     * {@link io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig#getZeroCopyThreshold()}.
+     *
+     * @param value     Value to serialize. Its position is not changed.
+     * @param reference Should field value be threatened as reference (CSP pointer).
+     * @param fixedSize If true, then it counts that this buffer has fixed size by its CSP Interface definition. So no
+     *                  length should be written and false otherwise.
+     * @throws CspRuntimeException if reference equal true and {@link CspDataFlag#ALLOW_UNMANAGED_POINTERS} not set.
+     */
+    void serialize(@Nullable ByteBuffer value, boolean reference, boolean fixedSize);
+
     /**
      * Serializes short[] field, not as a reference, but as an embedded structure with fixed size dictated
      * by CSP interface.
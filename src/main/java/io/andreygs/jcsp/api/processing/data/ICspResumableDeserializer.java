@@ -0,0 +1,87 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.processing.data;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Non-blocking deserializer which accepts input in arbitrary parts, e.g. as it is read from channel registered in
+ * {@link java.nio.channels.Selector}.
+ * <p>
+ * When input is exhausted, deserializer saves its progress, so next {@link #feed(ByteBuffer)} resumes from exactly
+ * that point without re-reading earlier fields.
+ *
+ * @apiNote
+ * Not thread-safe.
+ *
+ * @param <T> Type of deserialized object.
+ */
+public interface ICspResumableDeserializer<T>
+{
+    /**
+     * Feeds next part of input and reads as much of message as possible.
+     * <p>
+     * Bytes following the end of message are left unread and may be obtained with {@link #getUnreadInput()}.
+     *
+     * @param input Next part of input. All its remaining bytes are consumed.
+     * @return {@link DeserializationOutcome#COMPLETED} if whole message is read, otherwise
+     * {@link DeserializationOutcome#NEED_MORE_DATA}.
+     */
+    DeserializationOutcome feed(ByteBuffer input);
+
+    /**
+     * Gets number of bytes that are required to read next field.
+     * <p>
+     * It is an exact lower bound: feeding fewer bytes will not make any progress beyond current field, but fields
+     * after it may require more.
+     *
+     * @return number of required bytes or 0 if deserialization is completed or not started yet.
+     */
+    long getRequiredBytes();
+
+    /**
+     * Checks whether whole message is read.
+     *
+     * @return true if deserialization is completed.
+     */
+    boolean isCompleted();
+
+    /**
+     * Gets deserialized object.
+     *
+     * @return deserialized object.
+     * @throws IllegalStateException if deserialization is not completed.
+     */
+    T getResult();
+
+    /**
+     * Gets input bytes that are fed but not read.
+     *
+     * @return read-only view of unread input.
+     */
+    ByteBuffer getUnreadInput();
+}
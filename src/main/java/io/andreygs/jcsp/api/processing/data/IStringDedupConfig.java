@@ -0,0 +1,72 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.processing.data;
+
+/**
+ * Configuration of string deduplication cache, which is used on deserialization of strings annotated with
+ * {@link io.andreygs.jcsp.api.annotation.protocol.CspStringDedup}.
+ * <p>
+ * Cache is keyed on encoded octets and charset of string, so string is decoded only on cache miss.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ *
+ * @implSpec
+ * <b>External implementations are discouraged unless strictly necessary. Implementations MUST adhere to the
+ * immutability, self-validation contract and thread-safety.</b>
+ */
+public interface IStringDedupConfig
+{
+    /**
+     * Gets lifetime of cache.
+     *
+     * @return scope of cache.
+     */
+    StringDedupScope getScope();
+
+    /**
+     * Gets maximum number of strings held by cache.
+     *
+     * @return maximum number of entries. Always positive.
+     */
+    int getMaxEntries();
+
+    /**
+     * Gets maximum number of octets of encoded string, which is deduplicated. Longer strings are always decoded
+     * to new instances and are not cached.
+     *
+     * @return maximum encoded length. Always positive.
+     */
+    int getMaxEncodedLength();
+
+    /**
+     * Gets entry which is evicted from full cache.
+     *
+     * @return eviction policy.
+     */
+    StringDedupEvictionPolicy getEvictionPolicy();
+}
@@ -0,0 +1,57 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.processing.data.clazz;
+
+import java.util.Map;
+
+/**
+ * Index of class processors generated at compile time.
+ * <p>
+ * Implementations are generated by annotation processor for {@link
+ * io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor} structs and are registered as
+ * {@link java.util.ServiceLoader} providers, so their processors are registered when session is created, without
+ * reflection on structs and without runtime generation.
+ * <p>
+ * Annotation processor is shipped as separate jar with {@code processor} classifier, which should be added to
+ * annotation processor path only (e.g. {@code annotationProcessor("io.andreygs:jcsp:<version>:processor")}).
+ */
+public interface ICspClassProcessorIndex
+{
+    /**
+     * Gets serialization processors.
+     *
+     * @return struct class - processor pairs.
+     */
+    Map<Class<?>, ICspClassSerializationProcessor<?>> getSerializationProcessors();
+
+    /**
+     * Gets deserialization processors.
+     *
+     * @return struct class - processor pairs.
+     */
+    Map<Class<?>, ICspClassDeserializationProcessor<?>> getDeserializationProcessors();
+}
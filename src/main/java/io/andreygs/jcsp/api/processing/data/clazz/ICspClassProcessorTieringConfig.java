@@ -0,0 +1,59 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.processing.data.clazz;
+
+/**
+ * Configuration of tiered execution of generated class processors.
+ * <p>
+ * Struct that has no registered processor is first processed by interpreter tier, which is cheap to create but
+ * slow. When struct was used {@link #getCompileThreshold()} times, optimized processor is generated and replaces
+ * interpreter one in registry.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ *
+ * @implSpec
+ * <b>External implementations are discouraged unless strictly necessary. Implementations MUST adhere to the
+ * immutability, self-validation contract and thread-safety.</b>
+ */
+public interface ICspClassProcessorTieringConfig
+{
+    /**
+     * Gets number of struct uses in interpreter tier, after which optimized processor is generated.
+     *
+     * @return compile threshold. Zero means that optimized processor is generated at first use and interpreter tier
+     * is not used. Always not negative.
+     */
+    int getCompileThreshold();
+
+    /**
+     * Gets whether optimized processors are generated in background thread.
+     *
+     * @return true if generation runs in background thread and false if it runs in thread that reached threshold.
+     */
+    boolean isBackgroundCompilation();
+}
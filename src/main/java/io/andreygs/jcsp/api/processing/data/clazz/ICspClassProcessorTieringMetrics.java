@@ -0,0 +1,74 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.api.processing.data.clazz;
+
+/**
+ * Read-only view of tier transitions of generated class processors.
+ *
+ * @apiNote
+ * Thread-safe. Values are monotonic (except pending compilations) and may be slightly stale under concurrent use.
+ *
+ * @see ICspClassProcessorTieringConfig
+ */
+public interface ICspClassProcessorTieringMetrics
+{
+    /**
+     * Gets number of structs that started in interpreter tier.
+     *
+     * @return number of interpreted structs.
+     */
+    long getInterpretedCount();
+
+    /**
+     * Gets number of optimized processor generations that were requested but not finished yet.
+     *
+     * @return number of pending compilations.
+     */
+    long getPendingCompilationCount();
+
+    /**
+     * Gets number of structs that were moved from interpreter to optimized tier.
+     *
+     * @return number of compiled structs.
+     */
+    long getCompiledCount();
+
+    /**
+     * Gets number of optimized processor generations that failed. Such structs stay in interpreter tier.
+     *
+     * @return number of failed compilations.
+     */
+    long getFailedCompilationCount();
+
+    /**
+     * Gets number of optimized processor generations that were discarded, because processor of struct was replaced
+     * meanwhile (e.g. by explicit registration).
+     *
+     * @return number of discarded compilations.
+     */
+    long getDiscardedCompilationCount();
+}
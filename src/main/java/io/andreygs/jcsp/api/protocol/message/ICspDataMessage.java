@@ -31,9 +31,22 @@ import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExten
 /**
  * TODO: place description here
  */
-public interface ICspDataMessage<T extends ICspVersionable> extends ICspMessage
+public interface ICspDataMessage<T extends ICspVersionable> extends ICspMessage, AutoCloseable
 {
     T getStruct();
 
     ICspDataMessageContextExtension getMessageDataContext();
+
+    /**
+     * Gives memory of message buffer back to the library, so that it can be reused by next serializations.
+     * <p>
+     * Buffer returned by {@link #getBuffer()} must not be used after message is closed. Repeated calls have no
+     * effect.
+     *
+     * @apiNote
+     * Not closed messages do not cause memory leak, but their buffers are not recycled and counted as leaks in
+     * {@link io.andreygs.jcsp.api.processing.buffer.ISerializationBufferPoolMetrics#getLeakCount()}.
+     */
+    @Override
+    void close();
 }
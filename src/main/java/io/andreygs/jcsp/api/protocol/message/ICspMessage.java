@@ -36,5 +36,13 @@ public interface ICspMessage
 
     ByteBuffer getBuffer();
 
+    /**
+     * Gets serialized message as sequence of buffers without copying, suitable for gathering writes.
+     *
+     * @return buffers holding serialized message in order.
+     * @see java.nio.channels.GatheringByteChannel#write(ByteBuffer[])
+     */
+    ByteBuffer[] getBuffers();
+
     ICspMessageContext getMessageContext();
 }
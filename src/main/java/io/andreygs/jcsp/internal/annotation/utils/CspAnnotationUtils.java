@@ -32,12 +32,16 @@ import io.andreygs.jcsp.api.annotation.protocol.CspImplementationClass;
 import io.andreygs.jcsp.api.annotation.protocol.CspOverrideProcessorClass;
 import io.andreygs.jcsp.api.annotation.protocol.CspReference;
 import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -71,6 +75,20 @@ public class CspAnnotationUtils
         return cspFieldSequence.map(CspField::value);
     }
 
+    /**
+     * Resolves fields of class that are serialized with CSP.
+     *
+     * @param clazz Class which declared fields should be resolved. Inherited fields are not included.
+     * @return fields annotated with {@link CspField} in order of their sequence numbers.
+     */
+    public static List<Field> resolveCspFields(Class<?> clazz)
+    {
+        return Arrays.stream(clazz.getDeclaredFields())
+                     .filter(field -> resolveCspFieldSequence(field).isPresent())
+                     .sorted(Comparator.comparingInt(field -> resolveCspFieldSequence(field).orElseThrow()))
+                     .toList();
+    }
+
     /**
      * Resolves fixed array size.
      * <p>
@@ -142,4 +160,17 @@ public class CspAnnotationUtils
         Optional<CspString> cspStringOpt = Optional.ofNullable(annotatedType.getDeclaredAnnotation(CspString.class));
         return cspStringOpt.map(cspString -> Charset.forName(cspString.value()));
     }
+
+    /**
+     * Checks whether type is annotated with {@link CspStringDedup}.
+     * <p>
+     * Class of annotatedType should be the {@link String}, but method does not check this fact.
+     *
+     * @param annotatedType Type ({@link String} is expected) possibly annotated with {@link CspStringDedup}.
+     * @return true if type is annotated with {@link CspStringDedup} and false otherwise.
+     */
+    public static boolean isCspStringDedup(AnnotatedType annotatedType)
+    {
+        return annotatedType.getDeclaredAnnotation(CspStringDedup.class) != null;
+    }
 }
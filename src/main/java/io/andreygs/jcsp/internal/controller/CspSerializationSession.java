@@ -26,6 +26,8 @@
 package io.andreygs.jcsp.internal.controller;
 
 import io.andreygs.jcsp.api.controller.ICspSerializationSession;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetMetrics;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringMetrics;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
 import io.andreygs.jcsp.api.protocol.message.ICspDataMessage;
 import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
@@ -38,7 +40,11 @@ import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.OutputStream;
 import java.lang.reflect.AnnotatedType;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 
@@ -53,6 +59,8 @@ public class CspSerializationSession implements ICspSerializationSession
     private final ICspMessageConfig messageConfig;
     private final ICspDataMessageConfigExtension dataMessageConfigExtension;
     private final ICspSerializationWorkflow serializationWorkflow;
+    private final IMemoryBudgetMetrics memoryBudgetMetrics;
+    private final ICspClassProcessorTieringMetrics classProcessorTieringMetrics;
 
     public CspSerializationSession(
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> classProcessorRegistry,
@@ -60,7 +68,9 @@ public class CspSerializationSession implements ICspSerializationSession
         ISerializationBufferConfig bufferConfig,
         ICspMessageConfig messageConfig,
         ICspDataMessageConfigExtension dataMessageConfigExtension,
-        ICspSerializationWorkflow serializationWorkflow)
+        ICspSerializationWorkflow serializationWorkflow,
+        IMemoryBudgetMetrics memoryBudgetMetrics,
+        ICspClassProcessorTieringMetrics classProcessorTieringMetrics)
     {
         this.serializationWorkflow = Objects.requireNonNull(serializationWorkflow);
         this.classProcessorRegistry = Objects.requireNonNull(classProcessorRegistry);
@@ -68,7 +78,8 @@ public class CspSerializationSession implements ICspSerializationSession
         this.bufferConfig = Objects.requireNonNull(bufferConfig);
         this.messageConfig = Objects.requireNonNull(messageConfig);
         this.dataMessageConfigExtension = Objects.requireNonNull(dataMessageConfigExtension);
-
+        this.memoryBudgetMetrics = Objects.requireNonNull(memoryBudgetMetrics);
+        this.classProcessorTieringMetrics = Objects.requireNonNull(classProcessorTieringMetrics);
     }
 
     @Override
@@ -100,4 +111,82 @@ public class CspSerializationSession implements ICspSerializationSession
             customMessageConfig != null ? customMessageConfig : messageConfig,
             customDataMessageConfigExtension != null ? customDataMessageConfigExtension : dataMessageConfigExtension);
     }
+
+    @Override
+    public long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz,
+        WritableByteChannel channel)
+    {
+        return serializationWorkflow.serializeDataMessage(Objects.requireNonNull(struct), Objects.requireNonNull(clazz),
+            Objects.requireNonNull(channel), bufferConfig, messageConfig, dataMessageConfigExtension);
+    }
+
+    @Override
+    public long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz,
+        WritableByteChannel channel, @Nullable ISerializationBufferConfig customBufferConfig,
+        @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension)
+    {
+        return serializationWorkflow.serializeDataMessage(Objects.requireNonNull(struct), Objects.requireNonNull(clazz),
+            Objects.requireNonNull(channel),
+            customBufferConfig != null ? customBufferConfig : bufferConfig,
+            customMessageConfig != null ? customMessageConfig : messageConfig,
+            customDataMessageConfigExtension != null ? customDataMessageConfigExtension : dataMessageConfigExtension);
+    }
+
+    @Override
+    public long serializeData(ICspVersionable struct, Class<? extends ICspVersionable> clazz,
+        OutputStream outputStream)
+    {
+        return serializeData(struct, clazz, Channels.newChannel(Objects.requireNonNull(outputStream)));
+    }
+
+    @Override
+    public <T extends ICspVersionable> ICspDataMessage<T> serializeData(ICspVersionable struct, Class<T> clazz,
+        Path file)
+    {
+        return serializationWorkflow.serializeDataMessage(Objects.requireNonNull(struct), Objects.requireNonNull(clazz),
+            Objects.requireNonNull(file), bufferConfig, messageConfig, dataMessageConfigExtension);
+    }
+
+    @Override
+    public <T extends ICspVersionable> ICspDataMessage<T> serializeData(ICspVersionable struct, Class<T> clazz,
+        Path file, @Nullable ISerializationBufferConfig customBufferConfig,
+        @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension)
+    {
+        return serializationWorkflow.serializeDataMessage(Objects.requireNonNull(struct), Objects.requireNonNull(clazz),
+            Objects.requireNonNull(file),
+            customBufferConfig != null ? customBufferConfig : bufferConfig,
+            customMessageConfig != null ? customMessageConfig : messageConfig,
+            customDataMessageConfigExtension != null ? customDataMessageConfigExtension : dataMessageConfigExtension);
+    }
+
+    @Override
+    public long computeSerializedSize(ICspVersionable struct, Class<? extends ICspVersionable> clazz)
+    {
+        return serializationWorkflow.computeSerializedSize(Objects.requireNonNull(struct),
+            Objects.requireNonNull(clazz), messageConfig, dataMessageConfigExtension);
+    }
+
+    @Override
+    public long computeSerializedSize(ICspVersionable struct, Class<? extends ICspVersionable> clazz,
+        @Nullable ICspMessageConfig customMessageConfig,
+        @Nullable ICspDataMessageConfigExtension customDataMessageConfigExtension)
+    {
+        return serializationWorkflow.computeSerializedSize(Objects.requireNonNull(struct),
+            Objects.requireNonNull(clazz), customMessageConfig != null ? customMessageConfig : messageConfig,
+            customDataMessageConfigExtension != null ? customDataMessageConfigExtension : dataMessageConfigExtension);
+    }
+
+    @Override
+    public IMemoryBudgetMetrics getMemoryBudgetMetrics()
+    {
+        return memoryBudgetMetrics;
+    }
+
+    @Override
+    public ICspClassProcessorTieringMetrics getClassProcessorTieringMetrics()
+    {
+        return classProcessorTieringMetrics;
+    }
 }
@@ -0,0 +1,100 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.controller;
+
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
+import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
+
+import java.util.Objects;
+
+/**
+ * Serialization session configuration defined by constructor arguments.
+ */
+public class CspSerializationSessionConfig
+    implements ICspSerializationSessionConfig
+{
+    private final ISerializationBufferConfig bufferConfig;
+    private final ICspMessageConfig messageConfig;
+    private final ICspDataMessageConfigExtension dataMessageConfigExtension;
+    private final IMemoryBudgetConfig memoryBudgetConfig;
+    private final ICspClassProcessorTieringConfig classProcessorTieringConfig;
+
+    /**
+     * Constructs an instance.
+     * <p>
+     * Public visibility is intended for factory usage and unit-testing of this class only.
+     *
+     * @param bufferConfig Default buffer config of session.
+     * @param messageConfig Default message config of session.
+     * @param dataMessageConfigExtension Default data message config of session.
+     * @param memoryBudgetConfig Memory budget of session.
+     * @param classProcessorTieringConfig Tiering of generated class processors.
+     */
+    public CspSerializationSessionConfig(ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension, IMemoryBudgetConfig memoryBudgetConfig,
+        ICspClassProcessorTieringConfig classProcessorTieringConfig)
+    {
+        this.bufferConfig = Objects.requireNonNull(bufferConfig);
+        this.messageConfig = Objects.requireNonNull(messageConfig);
+        this.dataMessageConfigExtension = Objects.requireNonNull(dataMessageConfigExtension);
+        this.memoryBudgetConfig = Objects.requireNonNull(memoryBudgetConfig);
+        this.classProcessorTieringConfig = Objects.requireNonNull(classProcessorTieringConfig);
+    }
+
+    @Override
+    public ISerializationBufferConfig getBufferConfig()
+    {
+        return bufferConfig;
+    }
+
+    @Override
+    public ICspMessageConfig getMessageConfig()
+    {
+        return messageConfig;
+    }
+
+    @Override
+    public ICspDataMessageConfigExtension getDataMessageConfigExtension()
+    {
+        return dataMessageConfigExtension;
+    }
+
+    @Override
+    public IMemoryBudgetConfig getMemoryBudgetConfig()
+    {
+        return memoryBudgetConfig;
+    }
+
+    @Override
+    public ICspClassProcessorTieringConfig getClassProcessorTieringConfig()
+    {
+        return classProcessorTieringConfig;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.controller.ICspDeserializationSession;
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
+import io.andreygs.jcsp.internal.controller.CspDeserializationSession;
+import io.andreygs.jcsp.internal.processing.buffer.factory.DeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IDeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.ICspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.string.factory.IStringDedupConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.string.factory.StringDedupConfigFactory;
+import io.andreygs.jcsp.internal.processing.factory.CspDeserializationWorkflowFactory;
+import io.andreygs.jcsp.internal.processing.factory.ICspDeserializationWorkflowFactory;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Stateless factory for creating {@link ICspDeserializationSession} instances.
+ */
+public class CspDeserializationSessionFactory
+    implements ICspDeserializationSessionFactory
+{
+    private static final ICspClassProcessorRegistryFactory<ICspClassDeserializationProcessor<?>>
+        DEFAULT_CSP_CLASS_PROCESSOR_REGISTRY_FACTORY = new CspClassProcessorRegistryFactory<>();
+    private static final IDeserializationBufferFactory DEFAULT_DESERIALIZATION_BUFFER_FACTORY =
+        new DeserializationBufferFactory();
+    private static final IStringDedupConfigFactory DEFAULT_STRING_DEDUP_CONFIG_FACTORY =
+        new StringDedupConfigFactory();
+    private static final ICspDeserializationWorkflowFactory DEFAULT_CSP_DESERIALIZATION_WORKFLOW_FACTORY =
+        new CspDeserializationWorkflowFactory();
+
+    @Override
+    public ICspDeserializationSession create(@Nullable IStringDedupConfig stringDedupConfig)
+    {
+        ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> cspClassProcessorRegistry =
+            DEFAULT_CSP_CLASS_PROCESSOR_REGISTRY_FACTORY.create();
+        cspClassProcessorRegistry.registerIndexed(CspClassProcessorIndexes.get(),
+            ICspClassProcessorIndex::getDeserializationProcessors);
+        return new CspDeserializationSession(DEFAULT_CSP_DESERIALIZATION_WORKFLOW_FACTORY.create(
+            cspClassProcessorRegistry, DEFAULT_DESERIALIZATION_BUFFER_FACTORY,
+            stringDedupConfig == null ? DEFAULT_STRING_DEDUP_CONFIG_FACTORY.provideDefault() : stringDedupConfig));
+    }
+}
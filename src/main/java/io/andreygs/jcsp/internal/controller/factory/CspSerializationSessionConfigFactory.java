@@ -0,0 +1,92 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
+import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
+import io.andreygs.jcsp.internal.controller.CspSerializationSessionConfig;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IMemoryBudgetConfigFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MemoryBudgetConfigFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorTieringConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.ICspClassProcessorTieringConfigFactory;
+import io.andreygs.jcsp.internal.protocol.message.config.factory.CspMessageConfigFactory;
+import io.andreygs.jcsp.internal.protocol.message.config.factory.ICspMessageConfigFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for creating {@link ICspSerializationSessionConfig} instances.
+ * <p>
+ * Omitted configs are taken from defaults of their own factories.
+ */
+public class CspSerializationSessionConfigFactory implements ICspSerializationSessionConfigFactory
+{
+    private static final ISerializationBufferConfigFactory DEFAULT_SERIALIZATION_BUFFER_CONFIG_FACTORY =
+        new SerializationBufferConfigFactory();
+    private static final ICspMessageConfigFactory DEFAULT_CSP_MESSAGE_CONFIG_FACTORY =
+        new CspMessageConfigFactory();
+    private static final IMemoryBudgetConfigFactory DEFAULT_MEMORY_BUDGET_CONFIG_FACTORY =
+        new MemoryBudgetConfigFactory();
+    private static final ICspClassProcessorTieringConfigFactory DEFAULT_CSP_CLASS_PROCESSOR_TIERING_CONFIG_FACTORY =
+        new CspClassProcessorTieringConfigFactory();
+
+    /**
+     * Default immutable cached instance of {@link ICspSerializationSessionConfig}.
+     */
+    private static final ICspSerializationSessionConfig DEFAULT_SERIALIZATION_SESSION_CONFIG =
+        new CspSerializationSessionConfigFactory().create(null, null, null, null, null);
+
+    @Override
+    public ICspSerializationSessionConfig create(@Nullable ISerializationBufferConfig bufferConfig,
+        @Nullable ICspMessageConfig messageConfig, @Nullable ICspDataMessageConfigExtension dataMessageConfigExtension,
+        @Nullable IMemoryBudgetConfig memoryBudgetConfig,
+        @Nullable ICspClassProcessorTieringConfig classProcessorTieringConfig)
+    {
+        return new CspSerializationSessionConfig(
+            bufferConfig == null ? DEFAULT_SERIALIZATION_BUFFER_CONFIG_FACTORY.provideDefault() : bufferConfig,
+            messageConfig == null
+            ? DEFAULT_CSP_MESSAGE_CONFIG_FACTORY.createCspMessageCommonConfig(null, null)
+            : messageConfig,
+            dataMessageConfigExtension == null
+            ? DEFAULT_CSP_MESSAGE_CONFIG_FACTORY.createCspDataMessageConfigExtension(null, null)
+            : dataMessageConfigExtension,
+            memoryBudgetConfig == null ? DEFAULT_MEMORY_BUDGET_CONFIG_FACTORY.provideDefault() : memoryBudgetConfig,
+            classProcessorTieringConfig == null
+            ? DEFAULT_CSP_CLASS_PROCESSOR_TIERING_CONFIG_FACTORY.provideDefault()
+            : classProcessorTieringConfig);
+    }
+
+    @Override
+    public ICspSerializationSessionConfig provideDefault()
+    {
+        return DEFAULT_SERIALIZATION_SESSION_CONFIG;
+    }
+}
@@ -26,15 +26,25 @@
 package io.andreygs.jcsp.internal.controller.factory;
 
 import io.andreygs.jcsp.api.controller.ICspSerializationSession;
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
-import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.annotation.JcspInject;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.BudgetedByteBufferAllocator;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBufferPool;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryGovernor;
+import io.andreygs.jcsp.internal.processing.buffer.factory.BudgetedSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ScatterListSerializationBufferFactory;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
 import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
-import io.andreygs.jcsp.internal.protocol.message.config.factory.ICspMessageConfigFactory;
 import io.andreygs.jcsp.internal.controller.CspSerializationSession;
 import io.andreygs.jcsp.internal.processing.ICspSerializationWorkflow;
-import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
 import io.andreygs.jcsp.internal.processing.data.clazz.factory.ICspClassProcessorRegistryFactory;
@@ -43,20 +53,19 @@ import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProce
 import io.andreygs.jcsp.internal.processing.data.type.factory.CspTypeProcessorRegistryFactory;
 import io.andreygs.jcsp.internal.processing.data.type.factory.ICspTypeProcessorRegistryFactory;
 import io.andreygs.jcsp.internal.processing.factory.ICspSerializationWorkflowFactory;
-import io.andreygs.jcsp.internal.protocol.message.config.factory.CspMessageConfigFactory;
 import io.andreygs.jcsp.internal.processing.factory.CspSerializationWorkflowFactory;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+
 /**
  * TODO: place description here
  */
 public class CspSerializationSessionFactory
     implements ICspSerializationSessionFactory
 {
-    private static final ISerializationBufferConfigFactory DEFAULT_SERIALIZATION_BUFFER_CONFIG_FACTORY =
-        new SerializationBufferConfigFactory();
-    private static final ICspMessageConfigFactory DEFAULT_CSP_MESSAGE_CONFIG_FACTORY =
-        new CspMessageConfigFactory();
+    private static final ICspSerializationSessionConfigFactory DEFAULT_CSP_SERIALIZATION_SESSION_CONFIG_FACTORY =
+        new CspSerializationSessionConfigFactory();
     private static final ICspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>
         DEFAULT_CSP_CLASS_PROCESSOR_REGISTRY_FACTORY = new CspClassProcessorRegistryFactory<>();
     private static final ICspTypeProcessorRegistryFactory<ICspTypeSerializationProcessor>
@@ -64,22 +73,51 @@ public class CspSerializationSessionFactory
     private static final ICspSerializationWorkflowFactory DEFAULT_CSP_SERIALIZATION_WORKFLOW_FACTORY =
         new CspSerializationWorkflowFactory();
 
+    private final ISerializationBufferPool serializationBufferPool;
+    private final IAdaptiveBufferPolicy adaptiveBufferPolicy;
+
+    @JcspInject
+    public CspSerializationSessionFactory(@JcspInject ISerializationBufferPool serializationBufferPool,
+        @JcspInject IAdaptiveBufferPolicy adaptiveBufferPolicy)
+    {
+        this.serializationBufferPool = Objects.requireNonNull(serializationBufferPool);
+        this.adaptiveBufferPolicy = Objects.requireNonNull(adaptiveBufferPolicy);
+    }
+
     @Override
     public ICspSerializationSession create(
         @Nullable ISerializationBufferConfig bufferConfig,
         @Nullable ICspMessageConfig messageConfig,
         @Nullable ICspDataMessageConfigExtension dataMessageConfigExtension)
     {
+        return create(DEFAULT_CSP_SERIALIZATION_SESSION_CONFIG_FACTORY.create(bufferConfig, messageConfig,
+            dataMessageConfigExtension, null, null));
+    }
+
+    @Override
+    public ICspSerializationSession create(ICspSerializationSessionConfig sessionConfig)
+    {
+        MemoryGovernor memoryGovernor = new MemoryGovernor(sessionConfig.getMemoryBudgetConfig());
+        ISerializationBufferFactory serializationBufferFactory = new ScatterListSerializationBufferFactory(
+            new BudgetedSerializationBufferFactory(serializationBufferPool, memoryGovernor));
+        IChannelSerializationBufferFactory channelSerializationBufferFactory =
+            new ChannelSerializationBufferFactory(new BudgetedByteBufferAllocator(serializationBufferPool,
+                memoryGovernor));
         ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry =
             DEFAULT_CSP_TYPE_PROCESSOR_REGISTRY_FACTORY.create();
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry =
             DEFAULT_CSP_CLASS_PROCESSOR_REGISTRY_FACTORY.create();
+        cspClassProcessorRegistry.registerIndexed(CspClassProcessorIndexes.get(),
+            ICspClassProcessorIndex::getSerializationProcessors);
+        CspClassProcessorTiering cspClassProcessorTiering =
+            new CspClassProcessorTiering(sessionConfig.getClassProcessorTieringConfig());
         ICspSerializationWorkflow cspSerializationWorkflow =
-            DEFAULT_CSP_SERIALIZATION_WORKFLOW_FACTORY.create(cspClassProcessorRegistry, cspTypeProcessorRegistry);
+            DEFAULT_CSP_SERIALIZATION_WORKFLOW_FACTORY.create(cspClassProcessorRegistry, cspTypeProcessorRegistry,
+                serializationBufferFactory, adaptiveBufferPolicy, channelSerializationBufferFactory,
+                cspClassProcessorTiering);
         return new CspSerializationSession(cspClassProcessorRegistry, cspTypeProcessorRegistry,
-            bufferConfig == null ? DEFAULT_SERIALIZATION_BUFFER_CONFIG_FACTORY.provideDefault() : bufferConfig,
-            messageConfig == null ? DEFAULT_CSP_MESSAGE_CONFIG_FACTORY.createCspMessageCommonConfig(null, null) : messageConfig,
-            dataMessageConfigExtension == null ? DEFAULT_CSP_MESSAGE_CONFIG_FACTORY.createCspDataMessageConfigExtension(null, null) : dataMessageConfigExtension,
-            cspSerializationWorkflow);
+            sessionConfig.getBufferConfig(), sessionConfig.getMessageConfig(),
+            sessionConfig.getDataMessageConfigExtension(), cspSerializationWorkflow, memoryGovernor,
+            cspClassProcessorTiering);
     }
 }
@@ -0,0 +1,64 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
+import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for creating {@link ICspSerializationSessionConfig} instances.
+ */
+public interface ICspSerializationSessionConfigFactory
+{
+    /**
+     * Creates {@link ICspSerializationSessionConfig} instance.
+     *
+     * @param bufferConfig Default buffer config of session. If null, then default value will be used.
+     * @param messageConfig Default message config of session. If null, then default value will be used.
+     * @param dataMessageConfigExtension Default data message config of session. If null, then default value will be
+     *                                   used.
+     * @param memoryBudgetConfig Memory budget of session. If null, then memory is not limited.
+     * @param classProcessorTieringConfig Tiering of generated class processors. If null, then default value will be
+     *                                    used.
+     * @return created instance.
+     */
+    ICspSerializationSessionConfig create(@Nullable ISerializationBufferConfig bufferConfig,
+        @Nullable ICspMessageConfig messageConfig, @Nullable ICspDataMessageConfigExtension dataMessageConfigExtension,
+        @Nullable IMemoryBudgetConfig memoryBudgetConfig,
+        @Nullable ICspClassProcessorTieringConfig classProcessorTieringConfig);
+
+    /**
+     * Provides default config, where all parameters will have default values.
+     *
+     * @return provided instance.
+     */
+    ICspSerializationSessionConfig provideDefault();
+}
@@ -26,6 +26,7 @@
 package io.andreygs.jcsp.internal.controller.factory;
 
 import io.andreygs.jcsp.api.controller.ICspSerializationSession;
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
 import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
 import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
@@ -40,4 +41,13 @@ public interface ICspSerializationSessionFactory
         @Nullable ISerializationBufferConfig bufferConfig,
         @Nullable ICspMessageConfig messageConfig,
         @Nullable ICspDataMessageConfigExtension dataMessageConfigExtension);
+
+    /**
+     * Creates session defined by config, e.g. which buffers are limited by memory budget and generated class
+     * processors are tiered.
+     *
+     * @param sessionConfig Config of session.
+     * @return created session.
+     */
+    ICspSerializationSession create(ICspSerializationSessionConfig sessionConfig);
 }
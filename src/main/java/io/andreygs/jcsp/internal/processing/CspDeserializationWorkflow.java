@@ -0,0 +1,191 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.data.ICspResumableDeserializer;
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IDeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupCache;
+import io.andreygs.jcsp.internal.processing.resumable.CspResumableDeserializer;
+import io.andreygs.jcsp.internal.processing.resumable.IResumableDeserializationStep;
+import io.andreygs.jcsp.internal.processing.resumable.ResumableDeserializationSteps;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of {@link ICspDeserializationWorkflow}.
+ */
+public final class CspDeserializationWorkflow
+    implements ICspDeserializationWorkflow
+{
+    private static final ByteBuffer EMPTY_INPUT = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    private final ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> cspClassProcessorRegistry;
+    private final IDeserializationBufferFactory deserializationBufferFactory;
+    private final IStringDedupConfig stringDedupConfig;
+    private final @Nullable StringDedupCache sessionStringDedupCache;
+
+    /**
+     * Resumable deserialization steps by struct class. Steps are stateless, so they are shared by all deserializers.
+     */
+    private final Map<Class<?>, List<? extends IResumableDeserializationStep<?>>> resumableStepsCache =
+        new ConcurrentHashMap<>();
+    /**
+     * Resumable deserialization steps by struct class for input with sizes of integers that may be not equal.
+     */
+    private final Map<Class<?>, List<? extends IResumableDeserializationStep<?>>> integerSizeResumableStepsCache =
+        new ConcurrentHashMap<>();
+
+    public CspDeserializationWorkflow(
+        ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> cspClassProcessorRegistry,
+        IDeserializationBufferFactory deserializationBufferFactory,
+        IStringDedupConfig stringDedupConfig)
+    {
+        this.cspClassProcessorRegistry = Objects.requireNonNull(cspClassProcessorRegistry);
+        this.deserializationBufferFactory = Objects.requireNonNull(deserializationBufferFactory);
+        this.stringDedupConfig = Objects.requireNonNull(stringDedupConfig);
+        sessionStringDedupCache = stringDedupConfig.getScope() == StringDedupScope.SESSION
+                                  ? new StringDedupCache(stringDedupConfig)
+                                  : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Root-struct is created with its no-arg constructor and is filled by the same steps as resumable deserializer
+     * uses. Input is taken from buffer exactly as steps require it, so nothing past the message is consumed.
+     * Strings annotated with {@link CspStringDedup} are taken from string deduplication cache of configured scope.
+     */
+    @Override
+    public <T extends ICspVersionable> T deserializeDataMessage(IDeserializationBuffer buffer, Class<T> clazz,
+        boolean sizeOfIntegersMayBeNotEqual)
+    {
+        CspResumableDeserializer<T> deserializer = new CspResumableDeserializer<>(createStruct(clazz),
+            provideResumableSteps(clazz, sizeOfIntegersMayBeNotEqual), buffer.getBuffer().order(),
+            provideStringDedupCache());
+        deserializer.feed(EMPTY_INPUT);
+        while (!deserializer.isCompleted())
+        {
+            deserializer.feed(buffer.readSlice(Math.toIntExact(deserializer.getRequiredBytes())));
+        }
+        return deserializer.getResult();
+    }
+
+    @Override
+    public <T extends ICspVersionable> T deserializeDataMessage(Path file, long position, long size,
+        Class<T> clazz)
+    {
+        IDeserializationBuffer buffer = deserializationBufferFactory.create(file, position, size);
+        try
+        {
+            return deserializeDataMessage(buffer, clazz);
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public <T extends ICspVersionable> T deserializeDataMessage(ReadableByteChannel channel, Class<T> clazz)
+    {
+        IDeserializationBuffer buffer = deserializationBufferFactory.create(channel);
+        try
+        {
+            return deserializeDataMessage(buffer, clazz);
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public <T> ICspResumableDeserializer<T> createResumableDeserializer(T target, Class<T> clazz,
+        ByteOrder byteOrder, boolean sizeOfIntegersMayBeNotEqual)
+    {
+        Objects.requireNonNull(target);
+        return new CspResumableDeserializer<>(target,
+            provideResumableSteps(Objects.requireNonNull(clazz), sizeOfIntegersMayBeNotEqual),
+            Objects.requireNonNull(byteOrder), provideStringDedupCache());
+    }
+
+    private <T> List<IResumableDeserializationStep<T>> provideResumableSteps(Class<T> clazz,
+        boolean sizeOfIntegersMayBeNotEqual)
+    {
+        Map<Class<?>, List<? extends IResumableDeserializationStep<?>>> stepsCache =
+            sizeOfIntegersMayBeNotEqual ? integerSizeResumableStepsCache : resumableStepsCache;
+        @SuppressWarnings("unchecked")
+        List<IResumableDeserializationStep<T>> steps = (List<IResumableDeserializationStep<T>>)
+            stepsCache.computeIfAbsent(clazz, key -> ResumableDeserializationSteps.createStructSteps(
+                CspStructFieldPlan.resolve(key, cspClassProcessorRegistry), sizeOfIntegersMayBeNotEqual));
+        return steps;
+    }
+
+    private static <T> T createStruct(Class<T> clazz)
+    {
+        try
+        {
+            Constructor<T> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER,
+                "Struct " + clazz.getName() + " can't be created with no-arg constructor", e);
+        }
+    }
+
+    /**
+     * Provides string deduplication cache for message: the session one or new one, depending on configured scope.
+     *
+     * @return string deduplication cache.
+     */
+    private StringDedupCache provideStringDedupCache()
+    {
+        return sessionStringDedupCache != null ? sessionStringDedupCache : new StringDedupCache(stringDedupConfig);
+    }
+}
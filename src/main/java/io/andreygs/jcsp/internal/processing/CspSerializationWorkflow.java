@@ -30,27 +30,62 @@ import io.andreygs.jcsp.api.protocol.message.ICspDataMessage;
 import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtension;
 import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
 import io.andreygs.jcsp.internal.protocol.message.context.factory.ICspMessageContextFactory;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExtension;
+import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.internal.processing.buffer.BufferSinkType;
+import io.andreygs.jcsp.internal.processing.buffer.ChannelSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
 import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ScatterListSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.SizeCountingSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IMappedFileSerializationBufferFactory;
 import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferFactory;
 import io.andreygs.jcsp.internal.protocol.message.factory.ICspMessageFactory;
 import io.andreygs.jcsp.internal.processing.data.factory.ICspDataSerializationProcessorFactory;
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
 /**
  *
  */
 public final class CspSerializationWorkflow
     implements ICspSerializationWorkflow
 {
+    /**
+     * Upper bound of capacity reserved for expected message size, larger messages will be grown by resize strategy.
+     */
+    private static final int MAX_RESERVED_CAPACITY = Integer.MAX_VALUE - 8;
+
     private final ISerializationBufferFactory cspSerializationBufferFactory;
     private final ICspMessageContextFactory cspMessageContextFactory;
     private final ICspMessageFactory cspMessageFactory;
     private final ICspDataSerializationProcessorFactory cspDataGeneralSerializationProcessorFactory;
+    private final IAdaptiveBufferPolicy adaptiveBufferPolicy;
+    private final IChannelSerializationBufferFactory channelSerializationBufferFactory;
+    private final IMappedFileSerializationBufferFactory mappedFileSerializationBufferFactory;
 
     public CspSerializationWorkflow(ISerializationBufferFactory cspSerializationBufferFactory,
         ICspMessageContextFactory cspMessageContextFactory, ICspMessageFactory cspMessageFactory,
-        ICspDataSerializationProcessorFactory cspDataGeneralSerializationProcessorFactory)
+        ICspDataSerializationProcessorFactory cspDataGeneralSerializationProcessorFactory,
+        IAdaptiveBufferPolicy adaptiveBufferPolicy,
+        IChannelSerializationBufferFactory channelSerializationBufferFactory,
+        IMappedFileSerializationBufferFactory mappedFileSerializationBufferFactory)
     {
+        this.channelSerializationBufferFactory = Objects.requireNonNull(channelSerializationBufferFactory);
+        this.mappedFileSerializationBufferFactory = Objects.requireNonNull(mappedFileSerializationBufferFactory);
+        this.adaptiveBufferPolicy = Objects.requireNonNull(adaptiveBufferPolicy);
         this.cspSerializationBufferFactory = cspSerializationBufferFactory;
         this.cspMessageContextFactory = cspMessageContextFactory;
         this.cspMessageFactory = cspMessageFactory;
@@ -63,8 +98,202 @@ public final class CspSerializationWorkflow
         ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
         ICspDataMessageConfigExtension dataMessageConfigExtension)
     {
-        ISerializationBuffer cspSerializationBuffer =  cspSerializationBufferFactory.create(bufferConfig);
+        ICspMessageContext messageContext = createMessageContext(messageConfig);
+        ICspDataMessageContextExtension dataMessageContextExtension =
+            createDataMessageContextExtension(clazz, dataMessageConfigExtension);
+
+        boolean adaptive = bufferConfig.getAllocationType() == AllocationType.ADAPTIVE;
+        ISerializationBufferConfig effectiveBufferConfig = bufferConfig;
+        long expectedSize = 0;
+        // Segmented buffer grows without copying, so it needs message size only to choose allocation type.
+        if (adaptive || bufferConfig.getSegmentSize() <= 0)
+        {
+            @Nullable ISerializationBufferConfig learnedBufferConfig =
+                adaptiveBufferPolicy.adapt(clazz, bufferConfig, BufferSinkType.MEMORY);
+            if (learnedBufferConfig == null)
+            {
+                expectedSize = computeInlineSize(value, clazz, bufferConfig, messageContext,
+                    dataMessageContextExtension);
+                if (adaptive)
+                {
+                    effectiveBufferConfig = copyBufferConfig(bufferConfig,
+                        adaptiveBufferPolicy.chooseAllocationType(expectedSize, BufferSinkType.MEMORY));
+                }
+            }
+            else if (adaptive)
+            {
+                effectiveBufferConfig = learnedBufferConfig;
+            }
+            else
+            {
+                expectedSize = learnedBufferConfig.getInitialCapacity();
+            }
+        }
+
+        ISerializationBuffer cspSerializationBuffer = cspSerializationBufferFactory.create(effectiveBufferConfig);
+        try
+        {
+            if (expectedSize > effectiveBufferConfig.getInitialCapacity())
+            {
+                // Buffer is created with configured capacity, so pooled size classes and shrinking on release are
+                // kept.
+                cspSerializationBuffer.reserve((int) Math.min(expectedSize, MAX_RESERVED_CAPACITY));
+            }
+            writeDataMessage(cspSerializationBuffer, value, clazz, messageContext, dataMessageContextExtension);
+            cspSerializationBuffer.commitBuffer();
+        }
+        catch (RuntimeException | Error e)
+        {
+            // Buffer is not handed out, so its memory, pooled buffer and reservation of memory budget are given back.
+            cspSerializationBuffer.release();
+            throw e;
+        }
+        adaptiveBufferPolicy.recordSize(clazz, getCommittedSize(cspSerializationBuffer));
+
+        return cspMessageFactory.createCspDataMessage(cspSerializationBuffer, messageContext, clazz.cast(value),
+            dataMessageContextExtension);
+    }
+
+    @Override
+    public long serializeDataMessage(ICspVersionable value, Class<?> clazz, WritableByteChannel channel,
+        ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension)
+    {
+        ICspMessageContext messageContext = createMessageContext(messageConfig);
+        ICspDataMessageContextExtension dataMessageContextExtension =
+            createDataMessageContextExtension(clazz, dataMessageConfigExtension);
+
+        boolean adaptive = bufferConfig.getAllocationType() == AllocationType.ADAPTIVE;
+        ISerializationBufferConfig effectiveBufferConfig = bufferConfig;
+        if (adaptive)
+        {
+            @Nullable ISerializationBufferConfig adaptedBufferConfig =
+                adaptiveBufferPolicy.adapt(clazz, bufferConfig, BufferSinkType.CHANNEL);
+            // Message size is unknown yet, so native memory is used as the cheapest for channel I/O.
+            effectiveBufferConfig = adaptedBufferConfig != null
+                ? adaptedBufferConfig
+                : copyBufferConfig(bufferConfig, AllocationType.DIRECT);
+        }
+
+        ChannelSerializationBuffer channelBuffer =
+            channelSerializationBufferFactory.create(effectiveBufferConfig, channel);
+        try
+        {
+            writeDataMessage(channelBuffer, value, clazz, messageContext, dataMessageContextExtension);
+            channelBuffer.commitBuffer();
+        }
+        finally
+        {
+            channelBuffer.release();
+        }
+        if (adaptive)
+        {
+            adaptiveBufferPolicy.recordSize(clazz, channelBuffer.getFlushedSize());
+        }
+        return channelBuffer.getFlushedSize();
+    }
 
-        return null;
+    @Override
+    public <T extends ICspVersionable> ICspDataMessage<T> serializeDataMessage(ICspVersionable value, Class<T> clazz,
+        Path file, ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension)
+    {
+        ICspMessageContext messageContext = createMessageContext(messageConfig);
+        ICspDataMessageContextExtension dataMessageContextExtension =
+            createDataMessageContextExtension(clazz, dataMessageConfigExtension);
+
+        MappedFileSerializationBuffer mappedFileBuffer =
+            mappedFileSerializationBufferFactory.create(bufferConfig, file);
+        try
+        {
+            writeDataMessage(mappedFileBuffer, value, clazz, messageContext, dataMessageContextExtension);
+            mappedFileBuffer.commitBuffer();
+        }
+        catch (RuntimeException | Error e)
+        {
+            mappedFileBuffer.release();
+            throw e;
+        }
+        return cspMessageFactory.createCspDataMessage(mappedFileBuffer, messageContext, clazz.cast(value),
+            dataMessageContextExtension);
+    }
+
+    @Override
+    public long computeSerializedSize(ICspVersionable value, Class<?> clazz, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension)
+    {
+        SizeCountingSerializationBuffer sizeCountingBuffer = new SizeCountingSerializationBuffer();
+        writeDataMessage(sizeCountingBuffer, value, clazz, createMessageContext(messageConfig),
+            createDataMessageContextExtension(clazz, dataMessageConfigExtension));
+        return sizeCountingBuffer.getSize();
+    }
+
+    /**
+     * Computes size of message part that is written to buffer itself, since payloads embedded by reference do not
+     * occupy it.
+     */
+    private long computeInlineSize(ICspVersionable value, Class<?> clazz, ISerializationBufferConfig bufferConfig,
+        ICspMessageContext messageContext, ICspDataMessageContextExtension dataMessageContextExtension)
+    {
+        SizeCountingSerializationBuffer sizeCountingBuffer = new SizeCountingSerializationBuffer();
+        int zeroCopyThreshold = bufferConfig.getZeroCopyThreshold();
+        writeDataMessage(zeroCopyThreshold > 0
+                         ? new ScatterListSerializationBuffer(sizeCountingBuffer, zeroCopyThreshold)
+                         : sizeCountingBuffer,
+            value, clazz, messageContext, dataMessageContextExtension);
+        return sizeCountingBuffer.getSize();
+    }
+
+    private void writeDataMessage(ISerializationBuffer buffer, ICspVersionable value, Class<?> clazz,
+        ICspMessageContext messageContext, ICspDataMessageContextExtension dataMessageContextExtension)
+    {
+        buffer.applyEndianness(messageContext.isBigEndian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        ICspDataSerializationProcessor dataProcessor = cspDataGeneralSerializationProcessorFactory.create(buffer,
+            messageContext, dataMessageContextExtension);
+        dataProcessor.serialize(value, clazz);
+    }
+
+    private ICspMessageContext createMessageContext(ICspMessageConfig messageConfig)
+    {
+        return cspMessageContextFactory.createCspMessageContext(messageConfig.getCspProtocolVersion(),
+            messageConfig.isBitness32(), messageConfig.isBigEndian(),
+            messageConfig.isBigEndian() != (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN));
+    }
+
+    private ICspDataMessageContextExtension createDataMessageContextExtension(Class<?> clazz,
+        ICspDataMessageConfigExtension dataMessageConfigExtension)
+    {
+        return cspMessageContextFactory.createCspDataMessageContextExtension(clazz,
+            dataMessageConfigExtension.getInterfaceVersion(), dataMessageConfigExtension.isAlignmentMayBeNotEqual(),
+            dataMessageConfigExtension.isSizeOfIntegersMayBeNotEqual(),
+            dataMessageConfigExtension.isAllowUnmanagedPointers(),
+            dataMessageConfigExtension.isCheckRecursivePointers(),
+            dataMessageConfigExtension.isSimplyAssignableTagsOptimizationsAreTurnedOff(),
+            dataMessageConfigExtension.isCheckRecursivePointersWhileMaintainingLinkStructure());
+    }
+
+    /**
+     * Creates copy of buffer config with given allocation type.
+     */
+    private static ISerializationBufferConfig copyBufferConfig(ISerializationBufferConfig bufferConfig,
+        AllocationType allocationType)
+    {
+        return new SerializationBufferConfig(bufferConfig.getInitialCapacity(), allocationType,
+            bufferConfig.getResizeStrategy(), bufferConfig.getMaxRetainedBytes(), bufferConfig.isShrinkOnRelease(),
+            bufferConfig.getZeroCopyThreshold(), bufferConfig.getSegmentSize());
+    }
+
+    private static long getCommittedSize(ISerializationBuffer buffer)
+    {
+        if (buffer instanceof ScatterListSerializationBuffer scatterListBuffer)
+        {
+            return scatterListBuffer.getInlineSize();
+        }
+        long size = 0;
+        for (ByteBuffer byteBuffer : buffer.getBuffers())
+        {
+            size += byteBuffer.remaining();
+        }
+        return size;
     }
 }
@@ -0,0 +1,116 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing;
+
+import io.andreygs.jcsp.api.processing.data.ICspResumableDeserializer;
+import io.andreygs.jcsp.api.protocol.CspDataFlag;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Workflow of CSP message deserialization.
+ * <p>
+ * It reads and checks the message contexts and reads the message bodies.
+ */
+public interface ICspDeserializationWorkflow
+{
+    /**
+     * Deserializes CSP data message written with equal sizes of integers.
+     *
+     * @param buffer Buffer which contains serialized message.
+     * @param clazz Class of root-struct.
+     * @return deserialized root-struct.
+     * @param <T> type of root-struct.
+     */
+    default <T extends ICspVersionable> T deserializeDataMessage(IDeserializationBuffer buffer, Class<T> clazz)
+    {
+        return deserializeDataMessage(buffer, clazz, false);
+    }
+
+    /**
+     * Deserializes CSP data message.
+     *
+     * @param buffer Buffer which contains serialized message.
+     * @param clazz Class of root-struct.
+     * @param sizeOfIntegersMayBeNotEqual Whether message was written with
+     *                                    {@link CspDataFlag#SIZE_OF_INTEGERS_MAY_BE_NOT_EQUAL}.
+     * @return deserialized root-struct.
+     * @param <T> type of root-struct.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException with {@link CspStatus#ERROR_IN_STRUCT_FORMAT}
+     * status if message contains size of integer that differs from size of field type.
+     */
+    <T extends ICspVersionable> T deserializeDataMessage(IDeserializationBuffer buffer, Class<T> clazz,
+        boolean sizeOfIntegersMayBeNotEqual);
+
+    /**
+     * Deserializes CSP data message in place from memory-mapped region of the file.
+     *
+     * @implSpec File is closed before method returns.
+     *
+     * @param file File that contains serialized message.
+     * @param position Position of message in file.
+     * @param size Size of message.
+     * @param clazz Class of root-struct.
+     * @return deserialized root-struct.
+     * @param <T> type of root-struct.
+     * @throws IllegalArgumentException if region is out of file bounds.
+     * @throws java.io.UncheckedIOException if file cannot be opened or mapped.
+     */
+    <T extends ICspVersionable> T deserializeDataMessage(Path file, long position, long size, Class<T> clazz);
+
+    /**
+     * Deserializes CSP data message read from channel through refillable window, so it is decoded with fixed memory
+     * footprint and decoding starts before the whole message arrives.
+     *
+     * @param channel Blocking channel to read message from. It is not closed.
+     * @param clazz Class of root-struct.
+     * @return deserialized root-struct.
+     * @param <T> type of root-struct.
+     * @throws java.io.UncheckedIOException if channel cannot be read.
+     */
+    <T extends ICspVersionable> T deserializeDataMessage(ReadableByteChannel channel, Class<T> clazz);
+
+    /**
+     * Creates non-blocking deserializer of struct, which is fed with input in arbitrary parts.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param clazz Class of struct.
+     * @param byteOrder Byte order of input.
+     * @param sizeOfIntegersMayBeNotEqual Whether input was written with
+     *                                    {@link CspDataFlag#SIZE_OF_INTEGERS_MAY_BE_NOT_EQUAL}.
+     * @return created deserializer.
+     * @param <T> type of struct.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException if struct has fields which can't be read
+     * resumably.
+     */
+    <T> ICspResumableDeserializer<T> createResumableDeserializer(T target, Class<T> clazz, ByteOrder byteOrder,
+        boolean sizeOfIntegersMayBeNotEqual);
+}
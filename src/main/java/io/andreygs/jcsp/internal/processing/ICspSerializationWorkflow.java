@@ -31,6 +31,9 @@ import io.andreygs.jcsp.api.protocol.message.config.ICspDataMessageConfigExtensi
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
 import io.andreygs.jcsp.api.protocol.message.config.ICspMessageConfig;
 
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
 /**
  * Workflow of CSP message serialization.
  * <p>
@@ -40,6 +43,10 @@ public interface ICspSerializationWorkflow
 {
     /**
      * Serializes CSP data message.
+     * <p>
+     * Buffer capacity is reserved for size of message, which is learned from previous messages of the same class or,
+     * until enough of them are observed, computed by additional encoding pass. Segmented buffers grow without copying,
+     * so they are encoded once unless allocation type is adaptive.
      *
      * @param value Root-struct to serialize.
      * @param clazz Class of root-struct.
@@ -52,4 +59,56 @@ public interface ICspSerializationWorkflow
     <T extends ICspVersionable> ICspDataMessage<T> serializeDataMessage(ICspVersionable value, Class<T> clazz,
         ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
         ICspDataMessageConfigExtension dataMessageConfigExtension);
+
+    /**
+     * Serializes CSP data message streaming it to channel while it is encoded.
+     * <p>
+     * Memory used by message is bounded by one window of streaming buffer.
+     *
+     * @param value Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param channel Channel to write message to. It is not closed.
+     * @param bufferConfig Config of buffer which is used to write serialized data on.
+     * @param messageConfig Config of message common context.
+     * @param dataMessageConfigExtension Config of message data context.
+     * @return number of bytes written to channel.
+     * @throws java.io.UncheckedIOException if message cannot be written to channel.
+     */
+    long serializeDataMessage(ICspVersionable value, Class<?> clazz, WritableByteChannel channel,
+        ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension);
+
+    /**
+     * Serializes CSP data message straight into memory-mapped file.
+     * <p>
+     * Message is never fully materialized in heap or in native memory: only one window of file is mapped at a time.
+     * File is kept after returned message is released.
+     *
+     * @param value Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param file File to write message to. It is created if it does not exist and truncated otherwise.
+     * @param bufferConfig Config of buffer, initial capacity and resize strategy define sizes of mapped windows.
+     * @param messageConfig Config of message common context.
+     * @param dataMessageConfigExtension Config of message data context.
+     * @return serialized message backed by file.
+     * @param <T> type of root-struct.
+     * @throws java.io.UncheckedIOException if file cannot be written.
+     */
+    <T extends ICspVersionable> ICspDataMessage<T> serializeDataMessage(ICspVersionable value, Class<T> clazz,
+        Path file, ISerializationBufferConfig bufferConfig, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension);
+
+    /**
+     * Computes exact size of CSP data message without writing it.
+     * <p>
+     * Size is computed by the same class and type processors which are used by serialization.
+     *
+     * @param value Root-struct to serialize.
+     * @param clazz Class of root-struct.
+     * @param messageConfig Config of message common context.
+     * @param dataMessageConfigExtension Config of message data context.
+     * @return size of serialized message in bytes.
+     */
+    long computeSerializedSize(ICspVersionable value, Class<?> clazz, ICspMessageConfig messageConfig,
+        ICspDataMessageConfigExtension dataMessageConfigExtension);
 }
@@ -0,0 +1,252 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IAdaptiveBufferPolicyEntry;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive buffer policy that keeps decaying histogram of encoded message sizes per struct class.
+ *
+ * @implNote
+ * Histogram has four buckets per power of two, so percentile estimates exceed real values by at most 25%. Decay is
+ * implemented by growing weight of every next observation instead of scaling down all buckets, and weights are
+ * renormalized when they become too large.
+ */
+public final class AdaptiveBufferPolicy
+    implements IAdaptiveBufferPolicy
+{
+    /**
+     * Number of observed messages of struct class before learned values are used.
+     */
+    private static final int DEFAULT_MIN_SAMPLE_COUNT = 16;
+    /**
+     * Decay factor applied to weight of previous observations on each new one.
+     */
+    private static final double DEFAULT_DECAY_FACTOR = 0.98;
+    /**
+     * Minimum size of message that is written to channel for which native memory is chosen.
+     */
+    private static final long DEFAULT_CHANNEL_DIRECT_THRESHOLD = 4L * 1024;
+    /**
+     * Minimum size of message kept in memory for which native memory is chosen.
+     */
+    private static final long DEFAULT_MEMORY_DIRECT_THRESHOLD = 1024L * 1024;
+
+    private final ConcurrentHashMap<Class<?>, SizeHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public @Nullable ISerializationBufferConfig adapt(Class<?> structClazz, ISerializationBufferConfig bufferConfig,
+        BufferSinkType sinkType)
+    {
+        SizeHistogram histogram = histograms.get(structClazz);
+        if (histogram == null)
+        {
+            return null;
+        }
+        IAdaptiveBufferPolicyEntry entry = histogram.snapshot(this);
+        if (entry.getSampleCount() < DEFAULT_MIN_SAMPLE_COUNT)
+        {
+            return null;
+        }
+        return new SerializationBufferConfig(toCapacity(entry.getInitialCapacity()),
+            chooseAllocationType(entry.getInitialCapacity(), sinkType),
+            new AdaptiveBufferResizeStrategy(toCapacity(entry.getGrowthTarget()), bufferConfig.getResizeStrategy()),
+            bufferConfig.getMaxRetainedBytes(), bufferConfig.isShrinkOnRelease(),
+            bufferConfig.getZeroCopyThreshold(), bufferConfig.getSegmentSize());
+    }
+
+    @Override
+    public AllocationType chooseAllocationType(long messageSize, BufferSinkType sinkType)
+    {
+        long threshold = sinkType == BufferSinkType.CHANNEL
+                         ? DEFAULT_CHANNEL_DIRECT_THRESHOLD
+                         : DEFAULT_MEMORY_DIRECT_THRESHOLD;
+        return messageSize >= threshold ? AllocationType.DIRECT : AllocationType.HEAP;
+    }
+
+    @Override
+    public void recordSize(Class<?> structClazz, long messageSize)
+    {
+        if (messageSize < 0)
+        {
+            throw new IllegalArgumentException("messageSize < 0");
+        }
+        histograms.computeIfAbsent(structClazz, k -> new SizeHistogram()).record(messageSize);
+    }
+
+    @Override
+    public Map<Class<?>, IAdaptiveBufferPolicyEntry> exportTable()
+    {
+        Map<Class<?>, IAdaptiveBufferPolicyEntry> table = new HashMap<>();
+        histograms.forEach((structClazz, histogram) -> table.put(structClazz, histogram.snapshot(this)));
+        return table;
+    }
+
+    private static int toCapacity(long size)
+    {
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Decaying histogram of message sizes.
+     */
+    private static final class SizeHistogram
+    {
+        private static final int BUCKETS_COUNT = 120;
+        private static final double RENORMALIZATION_THRESHOLD = 1e100;
+
+        private final double[] weights = new double[BUCKETS_COUNT];
+        private double totalWeight;
+        private double nextWeight = 1;
+        private long sampleCount;
+
+        synchronized void record(long size)
+        {
+            weights[bucketOf(size)] += nextWeight;
+            totalWeight += nextWeight;
+            ++sampleCount;
+            nextWeight /= DEFAULT_DECAY_FACTOR;
+            if (nextWeight > RENORMALIZATION_THRESHOLD)
+            {
+                for (int i = 0; i < BUCKETS_COUNT; ++i)
+                {
+                    weights[i] /= nextWeight;
+                }
+                totalWeight /= nextWeight;
+                nextWeight = 1;
+            }
+        }
+
+        synchronized IAdaptiveBufferPolicyEntry snapshot(IAdaptiveBufferPolicy policy)
+        {
+            long initialCapacity = percentile(0.95);
+            return new AdaptiveBufferPolicyEntry(sampleCount, percentile(0.5), initialCapacity, percentile(0.99),
+                policy.chooseAllocationType(initialCapacity, BufferSinkType.MEMORY));
+        }
+
+        private long percentile(double fraction)
+        {
+            double threshold = totalWeight * fraction;
+            double cumulativeWeight = 0;
+            for (int i = 0; i < BUCKETS_COUNT; ++i)
+            {
+                cumulativeWeight += weights[i];
+                if (cumulativeWeight >= threshold && cumulativeWeight > 0)
+                {
+                    return upperBoundOf(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Bucket {@code i < 4} holds size {@code i + 1} (and zero for first one). Next buckets split each
+         * {@code (2^e, 2^(e+1)]} range into four equal parts.
+         */
+        private static int bucketOf(long size)
+        {
+            long value = Math.max(size, 1) - 1;
+            if (value < 4)
+            {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int mantissa = (int) (value >>> (exponent - 2)) & 3;
+            return Math.min(4 * (exponent - 1) + mantissa, BUCKETS_COUNT - 1);
+        }
+
+        private static long upperBoundOf(int bucket)
+        {
+            if (bucket < 4)
+            {
+                return bucket + 1;
+            }
+            int exponent = bucket / 4 + 1;
+            int mantissa = bucket % 4;
+            return (long) (5 + mantissa) << (exponent - 2);
+        }
+    }
+
+    /**
+     * Immutable snapshot of learned values.
+     */
+    private static final class AdaptiveBufferPolicyEntry
+        implements IAdaptiveBufferPolicyEntry
+    {
+        private final long sampleCount;
+        private final long medianSize;
+        private final long initialCapacity;
+        private final long growthTarget;
+        private final AllocationType allocationType;
+
+        AdaptiveBufferPolicyEntry(long sampleCount, long medianSize, long initialCapacity, long growthTarget,
+            AllocationType allocationType)
+        {
+            this.sampleCount = sampleCount;
+            this.medianSize = medianSize;
+            this.initialCapacity = initialCapacity;
+            this.growthTarget = growthTarget;
+            this.allocationType = allocationType;
+        }
+
+        @Override
+        public long getSampleCount()
+        {
+            return sampleCount;
+        }
+
+        @Override
+        public long getMedianSize()
+        {
+            return medianSize;
+        }
+
+        @Override
+        public long getInitialCapacity()
+        {
+            return initialCapacity;
+        }
+
+        @Override
+        public long getGrowthTarget()
+        {
+            return growthTarget;
+        }
+
+        @Override
+        public AllocationType getAllocationType()
+        {
+            return allocationType;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.IBufferResizeStrategy;
+
+import java.util.Objects;
+
+/**
+ * Strategy that grows buffer straight to learned growth target, and delegates to fallback strategy if it is not
+ * enough.
+ */
+public final class AdaptiveBufferResizeStrategy
+    implements IBufferResizeStrategy
+{
+    private final int growthTarget;
+    private final IBufferResizeStrategy fallbackStrategy;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param growthTarget Capacity buffer should be grown to at first. Must not be negative.
+     * @param fallbackStrategy Strategy for sizes bigger than growth target.
+     */
+    public AdaptiveBufferResizeStrategy(int growthTarget, IBufferResizeStrategy fallbackStrategy)
+    {
+        if (growthTarget < 0)
+        {
+            throw new IllegalArgumentException("growthTarget < 0");
+        }
+        this.growthTarget = growthTarget;
+        this.fallbackStrategy = Objects.requireNonNull(fallbackStrategy);
+    }
+
+    @Override
+    public int calculateNewSize(int currentCapacity, int minimumRequiredSize)
+    {
+        if (currentCapacity < 0 || currentCapacity > minimumRequiredSize)
+        {
+            throw new IllegalArgumentException("Current capacity shall not be negative or bigger than minimum "
+                                                   + "required size!");
+        }
+        if (minimumRequiredSize <= growthTarget)
+        {
+            return growthTarget;
+        }
+        return fallbackStrategy.calculateNewSize(currentCapacity, minimumRequiredSize);
+    }
+}
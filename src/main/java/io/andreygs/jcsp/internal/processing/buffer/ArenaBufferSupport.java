@@ -0,0 +1,102 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+
+/**
+ * Entry point to buffers of {@link AllocationType#ARENA} allocation type.
+ *
+ * @implNote
+ * This is the baseline version of the class for runtimes without {@code java.lang.foreign} API, which reports that
+ * arena buffers are not supported. Multi-release jar contains version for Java 22 and later which creates
+ * {@code MemorySegment} backed buffers.
+ */
+public final class ArenaBufferSupport
+{
+    private ArenaBufferSupport()
+    {
+    }
+
+    /**
+     * Gets whether arena buffers are supported by current runtime.
+     *
+     * @return true if arena buffers are supported.
+     */
+    public static boolean isSupported()
+    {
+        return false;
+    }
+
+    /**
+     * Creates serialization buffer which memory is owned by arena.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @return created instance.
+     * @throws UnsupportedOperationException if arena buffers are not supported by current runtime.
+     */
+    public static ISerializationBuffer createSerializationBuffer(ISerializationBufferConfig serializationBufferConfig)
+    {
+        throw createNotSupportedException();
+    }
+
+    /**
+     * Creates serialization buffer which memory is owned by arena and is limited by memory budget.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param memoryGovernor Keeper of memory budget. If null, then memory is not limited.
+     * @return created instance.
+     * @throws UnsupportedOperationException if arena buffers are not supported by current runtime.
+     */
+    public static ISerializationBuffer createSerializationBuffer(ISerializationBufferConfig serializationBufferConfig,
+        @Nullable MemoryGovernor memoryGovernor)
+    {
+        throw createNotSupportedException();
+    }
+
+    /**
+     * Creates deserialization buffer that reads the giving buffer through memory segment view.
+     *
+     * @param byteBuffer Buffer that contains CSP serialized message.
+     * @return created instance.
+     * @throws UnsupportedOperationException if arena buffers are not supported by current runtime.
+     */
+    public static IDeserializationBuffer createDeserializationBuffer(ByteBuffer byteBuffer)
+    {
+        throw createNotSupportedException();
+    }
+
+    private static UnsupportedOperationException createNotSupportedException()
+    {
+        return new UnsupportedOperationException(
+            MessageFormat.format(Messages.ArenaBufferSupport_Arena_buffers_are_not_supported__0, Runtime.version()));
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Allocator that reserves capacity of every allocated buffer against {@link MemoryGovernor} before delegating
+ * allocation, and gives it back when buffer is released.
+ * <p>
+ * Requested capacity is checked against the budget. If delegate returns larger buffer (e.g. rounded to size class),
+ * the excess is accounted too, so reserved amount always equals total capacity of held buffers.
+ */
+public final class BudgetedByteBufferAllocator implements IByteBufferAllocator
+{
+    private final IByteBufferAllocator byteBufferAllocator;
+
+    private final MemoryGovernor memoryGovernor;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param byteBufferAllocator Allocator to delegate to.
+     * @param memoryGovernor Keeper of memory budget.
+     */
+    public BudgetedByteBufferAllocator(IByteBufferAllocator byteBufferAllocator, MemoryGovernor memoryGovernor)
+    {
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.memoryGovernor = Objects.requireNonNull(memoryGovernor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException with
+     * {@link io.andreygs.jcsp.api.protocol.CspStatus#NO_MEMORY} status if capacity can't be reserved.
+     */
+    @Override
+    public ByteBuffer allocate(int capacity, ISerializationBufferConfig serializationBufferConfig)
+    {
+        memoryGovernor.reserve(capacity);
+        ByteBuffer byteBuffer;
+        try
+        {
+            byteBuffer = byteBufferAllocator.allocate(capacity, serializationBufferConfig);
+        }
+        catch (RuntimeException | Error e)
+        {
+            memoryGovernor.release(capacity);
+            throw e;
+        }
+        memoryGovernor.forceReserve(byteBuffer.capacity() - capacity);
+        return byteBuffer;
+    }
+
+    @Override
+    public void release(ByteBuffer byteBuffer, ISerializationBufferConfig serializationBufferConfig)
+    {
+        int capacity = byteBuffer.capacity();
+        byteBufferAllocator.release(byteBuffer, serializationBufferConfig);
+        memoryGovernor.release(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return always true, since reservation of buffer that was not released must be given back.
+     */
+    @Override
+    public boolean isRecycling()
+    {
+        return true;
+    }
+
+    @Override
+    public void recordLeak(int capacity)
+    {
+        memoryGovernor.release(capacity);
+        byteBufferAllocator.recordLeak(capacity);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Vectorized kernel of {@link PrimitiveArrayAccess}, which transfers primitive arrays with byte order conversion and
+ * boolean arrays with conversion to bytes.
+ * <p>
+ * Every method processes leading part of the range starting from current position of buffer, without changing the
+ * position, and returns number of elements it has processed. Remaining elements must be processed by caller.
+ * Room in buffer and range of array are expected to be checked by caller.
+ *
+ * @implNote
+ * This is the baseline version of the class for runtimes without suitable Vector API, which processes nothing, so
+ * that caller falls back to scalar loop. Multi-release jar contains version for Java 22 and later which uses
+ * {@code jdk.incubator.vector} module when it is added to the runtime.
+ */
+final class ByteSwapKernel
+{
+    private ByteSwapKernel()
+    {
+    }
+
+    /**
+     * Gets whether kernel is vectorized in current runtime.
+     *
+     * @return true if kernel is vectorized.
+     */
+    static boolean isVectorized()
+    {
+        return false;
+    }
+
+    static int put(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int put(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        return 0;
+    }
+
+    static int get(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        return 0;
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * Deserialization buffer that reads CSP message from {@link ReadableByteChannel} through small refillable window.
+ * <p>
+ * Each read that crosses window boundary compacts window and refills it from channel, so messages of any size are
+ * decoded with fixed memory footprint, and decoding starts before the last byte of message arrives. Only bytes that
+ * are needed for current value are awaited, primitive values are never split between windows.
+ *
+ * @implNote
+ * Channel is expected to be in blocking mode. It is not closed by the buffer, it is owned by the caller.
+ */
+public final class ChannelDeserializationBuffer implements IDeserializationBuffer
+{
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer window;
+
+    private long consumedSize;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param channel Channel to read message from.
+     * @param allocationType Allocation type of window. {@link AllocationType#DIRECT} is allocated in native memory,
+     *                       others in heap.
+     * @param windowSize Size of window. Must be not less than {@link Long#BYTES}.
+     * @throws IllegalArgumentException if window size is too small.
+     */
+    public ChannelDeserializationBuffer(ReadableByteChannel channel, AllocationType allocationType, int windowSize)
+    {
+        if (windowSize < Long.BYTES)
+        {
+            throw new IllegalArgumentException("windowSize < Long.BYTES");
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.window = allocationType == AllocationType.DIRECT
+                      ? DirectMemoryRegistry.getInstance().allocate(windowSize)
+                      : ByteBuffer.allocate(windowSize);
+        window.flip();
+    }
+
+    /**
+     * Gets current window, which position..limit range holds data already read from channel but not consumed yet.
+     *
+     * @return current window.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        return window;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        window.order(byteOrder);
+    }
+
+    @Override
+    public byte readByte()
+    {
+        ensureWindowReadable(Byte.BYTES);
+        return window.get();
+    }
+
+    @Override
+    public short readShort()
+    {
+        ensureWindowReadable(Short.BYTES);
+        return window.getShort();
+    }
+
+    @Override
+    public int readInt()
+    {
+        ensureWindowReadable(Integer.BYTES);
+        return window.getInt();
+    }
+
+    @Override
+    public long readLong()
+    {
+        ensureWindowReadable(Long.BYTES);
+        return window.getLong();
+    }
+
+    @Override
+    public char readChar()
+    {
+        ensureWindowReadable(Character.BYTES);
+        return window.getChar();
+    }
+
+    @Override
+    public float readFloat()
+    {
+        ensureWindowReadable(Float.BYTES);
+        return window.getFloat();
+    }
+
+    @Override
+    public double readDouble()
+    {
+        ensureWindowReadable(Double.BYTES);
+        return window.getDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Window is refilled once before block, if block fits window. Unchecked reads still check window, which is
+     * refilled when block doesn't fit it.
+     */
+    @Override
+    public void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (length <= window.capacity())
+        {
+            ensureWindowReadable(length);
+        }
+    }
+
+    @Override
+    public void read(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Byte.BYTES);
+            window.get(value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Short.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Integer.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Long.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Character.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Float.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Double.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * Frees memory of direct window immediately, heap window is left to garbage collector. Channel stays open.
+     */
+    @Override
+    public void release()
+    {
+        if (window.isDirect())
+        {
+            DirectMemoryRegistry.getInstance().free(window);
+        }
+    }
+
+    /**
+     * Gets number of bytes consumed from channel by reads.
+     *
+     * @return number of consumed bytes.
+     */
+    public long getConsumedSize()
+    {
+        return consumedSize + window.position();
+    }
+
+    /**
+     * Ensures that at least one element is available in window and calculates how many elements of array part can be
+     * read from it.
+     *
+     * @param elementsLeft Number of array elements that are not read yet. Must be positive.
+     * @param elementSize Size of an element.
+     * @return number of elements to read from window.
+     */
+    private int prepareArrayPart(int elementsLeft, int elementSize)
+    {
+        ensureWindowReadable(elementSize);
+        return Math.min(elementsLeft, window.remaining() / elementSize);
+    }
+
+    /**
+     * Refills window from channel if it has less than {@code requiredSize} bytes remaining.
+     *
+     * @param requiredSize Required amount of bytes.
+     * @throws BufferUnderflowException if channel reached end of stream before required bytes were read.
+     * @throws UncheckedIOException if channel cannot be read.
+     */
+    private void ensureWindowReadable(int requiredSize)
+    {
+        if (window.remaining() >= requiredSize)
+        {
+            return;
+        }
+        consumedSize += window.position();
+        window.compact();
+        try
+        {
+            while (window.position() < requiredSize)
+            {
+                if (channel.read(window) < 0)
+                {
+                    window.flip();
+                    throw new BufferUnderflowException();
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            window.flip();
+            throw new UncheckedIOException(e);
+        }
+        window.flip();
+    }
+}
@@ -0,0 +1,418 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Serialization buffer that streams message to {@link WritableByteChannel} while it is encoded.
+ * <p>
+ * Data is collected in single window of fixed size, which is written to channel each time it becomes full, so memory
+ * per in-flight message is bounded by window size and encoding overlaps with I/O. Primitive values are never split
+ * between windows.
+ *
+ * @implNote
+ * Channel is expected to be in blocking mode. It is not closed by the buffer, it is owned by the caller.
+ */
+public final class ChannelSerializationBuffer implements ISerializationBuffer
+{
+    private final ISerializationBufferConfig serializationBufferConfig;
+
+    private final WritableByteChannel channel;
+
+    private final IByteBufferAllocator byteBufferAllocator;
+
+    private final ByteBuffer window;
+
+    private long flushedSize;
+
+    private boolean released;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param serializationBufferConfig Buffer configuration. Only allocation type is used.
+     * @param channel Channel to write message to.
+     * @param byteBufferAllocator Allocator of window.
+     * @param windowSize Size of window. Must be not less than {@link Long#BYTES}.
+     * @throws IllegalArgumentException if window size is too small.
+     */
+    public ChannelSerializationBuffer(ISerializationBufferConfig serializationBufferConfig,
+        WritableByteChannel channel, IByteBufferAllocator byteBufferAllocator, int windowSize)
+    {
+        if (windowSize < Long.BYTES)
+        {
+            throw new IllegalArgumentException("windowSize < Long.BYTES");
+        }
+        this.serializationBufferConfig = Objects.requireNonNull(serializationBufferConfig);
+        this.channel = Objects.requireNonNull(channel);
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.window = byteBufferAllocator.allocate(windowSize, serializationBufferConfig);
+    }
+
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return window.isDirect() ? AllocationType.DIRECT : AllocationType.HEAP;
+    }
+
+    /**
+     * Gets current window, which holds data not yet written to channel.
+     *
+     * @return current window.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        return window;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        window.order(byteOrder);
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        ensureWindowRemaining(Byte.BYTES);
+        window.put(value);
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        ensureWindowRemaining(Short.BYTES);
+        window.putShort(value);
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        ensureWindowRemaining(Integer.BYTES);
+        window.putInt(value);
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        ensureWindowRemaining(Long.BYTES);
+        window.putLong(value);
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        ensureWindowRemaining(Character.BYTES);
+        window.putChar(value);
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        ensureWindowRemaining(Float.BYTES);
+        window.putFloat(value);
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        ensureWindowRemaining(Double.BYTES);
+        window.putDouble(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Window is flushed once before block, if block fits window. Unchecked writes still check window, which is
+     * flushed when block doesn't fit it.
+     */
+    @Override
+    public void reserve(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (length <= window.capacity())
+        {
+            ensureWindowRemaining(length);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Range which is not less than window is not copied to window: it is written to channel right after window
+     * content.
+     */
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        if (length >= window.capacity())
+        {
+            flush(ByteBuffer.wrap(value, offset, length));
+            return;
+        }
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Byte.BYTES);
+            window.put(value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Value which is not less than window is not copied to window: it is written to channel right after window
+     * content.
+     */
+    @Override
+    public void write(ByteBuffer value)
+    {
+        ByteBuffer source = value.duplicate();
+        if (source.remaining() >= window.capacity())
+        {
+            flush(source);
+            return;
+        }
+        ensureWindowRemaining(source.remaining());
+        window.put(source);
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Short.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Integer.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Long.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Character.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Float.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Double.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * Writes rest of data to channel.
+     *
+     * @throws UncheckedIOException if data cannot be written to channel.
+     */
+    @Override
+    public void commitBuffer()
+    {
+        flush();
+    }
+
+    /**
+     * Gets buffers holding data which was not written to channel yet.
+     * <p>
+     * After {@link #commitBuffer()} all data is in channel, so result is always empty.
+     *
+     * @return empty array.
+     */
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return new ByteBuffer[0];
+    }
+
+    /**
+     * Returns window to allocator. Channel stays open.
+     */
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        byteBufferAllocator.release(window, serializationBufferConfig);
+    }
+
+    /**
+     * Gets number of bytes written to channel.
+     *
+     * @return number of bytes written to channel.
+     */
+    public long getFlushedSize()
+    {
+        return flushedSize;
+    }
+
+    /**
+     * Ensures that at least one element fits current window and calculates how many elements of array part can be
+     * written to it.
+     *
+     * @param elementsLeft Number of array elements that are not written yet. Must be positive.
+     * @param elementSize Size of an element.
+     * @return number of elements to write to current window.
+     */
+    private int prepareArrayPart(int elementsLeft, int elementSize)
+    {
+        ensureWindowRemaining(elementSize);
+        return Math.min(elementsLeft, window.remaining() / elementSize);
+    }
+
+    private void ensureWindowRemaining(int requiredSize)
+    {
+        if (window.remaining() < requiredSize)
+        {
+            flush();
+        }
+    }
+
+    private void flush()
+    {
+        window.flip();
+        try
+        {
+            while (window.hasRemaining())
+            {
+                flushedSize += channel.write(window);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        window.clear();
+    }
+
+    /**
+     * Writes window content followed by payload to channel, with single gathering write if channel supports it.
+     */
+    private void flush(ByteBuffer payload)
+    {
+        window.flip();
+        ByteBuffer[] parts = { window, payload };
+        try
+        {
+            if (channel instanceof GatheringByteChannel gatheringChannel)
+            {
+                while (payload.hasRemaining())
+                {
+                    flushedSize += gatheringChannel.write(parts);
+                }
+            }
+            else
+            {
+                for (ByteBuffer part : parts)
+                {
+                    while (part.hasRemaining())
+                    {
+                        flushedSize += channel.write(part);
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        window.clear();
+    }
+}
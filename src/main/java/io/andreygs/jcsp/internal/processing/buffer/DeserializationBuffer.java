@@ -25,13 +25,18 @@
 
 package io.andreygs.jcsp.internal.processing.buffer;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Objects;
 
 /**
  * This class works as buffer for reading raw data in CSP deserialization process.
  * <p>
- * It is a wrapper over {@link ByteBuffer} optimized for use in CSP deserialization process.
+ * It is a wrapper over {@link ByteBuffer} optimized for use in CSP deserialization process. Slices returned by
+ * {@link #readSlice(int)} are views of wrapped buffer.
  */
 public final class DeserializationBuffer implements IDeserializationBuffer
 {
@@ -40,6 +45,13 @@ public final class DeserializationBuffer implements IDeserializationBuffer
      */
     private final ByteBuffer byteBuffer;
 
+    /**
+     * Tracker of slices, if wrapped buffer must be given back to its owner on release.
+     */
+    private final @Nullable SliceLifetimeTracker sliceLifetimeTracker;
+
+    private boolean released;
+
     /**
      * Constructs CspDeserializationByteBuffer.
      *
@@ -48,6 +60,22 @@ public final class DeserializationBuffer implements IDeserializationBuffer
     public DeserializationBuffer(ByteBuffer byteBuffer)
     {
         this.byteBuffer = byteBuffer;
+        this.sliceLifetimeTracker = null;
+    }
+
+    /**
+     * Constructs CspDeserializationByteBuffer which wrapped buffer is given back to its owner (e.g. pool) when it is
+     * not used anymore.
+     *
+     * @param byteBuffer Buffer that contains CSP serialized message.
+     * @param releaseAction Action giving wrapped buffer back. It is run once, when this buffer is released, unless
+     *                      {@link #readSlice(int)} was called: then memory is shared with returned slices and views
+     *                      derived from them, so it is left to the garbage collector.
+     */
+    public DeserializationBuffer(ByteBuffer byteBuffer, Runnable releaseAction)
+    {
+        this.byteBuffer = Objects.requireNonNull(byteBuffer);
+        this.sliceLifetimeTracker = new SliceLifetimeTracker(releaseAction);
     }
 
     @Override
@@ -105,56 +133,97 @@ public final class DeserializationBuffer implements IDeserializationBuffer
     }
 
     @Override
-    public void read(byte[] value)
+    public void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (byteBuffer.remaining() < length)
+        {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    @Override
+    public void read(byte[] value, int offset, int length)
+    {
+        byteBuffer.get(value, offset, length);
+    }
+
+    @Override
+    public ByteBuffer readSlice(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        ByteBuffer slice = byteBuffer.slice(byteBuffer.position(), length).asReadOnlyBuffer();
+        slice.order(byteBuffer.order());
+        byteBuffer.position(byteBuffer.position() + length);
+        return sliceLifetimeTracker != null ? sliceLifetimeTracker.track(slice) : slice;
+    }
+
+    @Override
+    public void read(boolean[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
+    }
+
+    @Override
+    public void read(short[] value, int offset, int length)
     {
-        byteBuffer.get(value);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(short[] value)
+    public void read(int[] value, int offset, int length)
     {
-        byteBuffer.asShortBuffer().get(value);
-        int readDataSize = value.length * Short.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(int[] value)
+    public void read(long[] value, int offset, int length)
     {
-        byteBuffer.asIntBuffer().get(value);
-        int readDataSize = value.length * Integer.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(long[] value)
+    public void read(char[] value, int offset, int length)
     {
-        byteBuffer.asLongBuffer().get(value);
-        int readDataSize = value.length * Long.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(char[] value)
+    public void read(float[] value, int offset, int length)
     {
-        byteBuffer.asCharBuffer().get(value);
-        int readDataSize = value.length * Character.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(float[] value)
+    public void read(double[] value, int offset, int length)
     {
-        byteBuffer.asFloatBuffer().get(value);
-        int readDataSize = value.length * Float.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void read(double[] value)
+    public void release()
     {
-        byteBuffer.asDoubleBuffer().get(value);
-        int readDataSize = value.length * Double.BYTES;
-        byteBuffer.position(byteBuffer.position() + readDataSize);
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        if (sliceLifetimeTracker != null)
+        {
+            sliceLifetimeTracker.releaseOwner();
+        }
     }
 }
@@ -0,0 +1,270 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.IOffHeapMemoryMetrics;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide source of direct {@link ByteBuffer} instances, which accounts off-heap memory they occupy and frees it
+ * on demand, without waiting for garbage collector.
+ * <p>
+ * Memory of buffer that was not freed explicitly is unaccounted when buffer is reclaimed by garbage collector.
+ *
+ * @implNote
+ * Memory is freed with {@code sun.misc.Unsafe#invokeCleaner}. If it is not accessible, {@link #free(ByteBuffer)}
+ * does nothing and memory is left to garbage collector.
+ */
+public final class DirectMemoryRegistry implements IOffHeapMemoryMetrics
+{
+    private static final DirectMemoryRegistry INSTANCE = new DirectMemoryRegistry();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final @Nullable MethodHandle INVOKE_CLEANER = resolveInvokeCleaner();
+
+    private final Map<BufferKey, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final AtomicLong idleBytes = new AtomicLong();
+    private final AtomicLong peakReservedBytes = new AtomicLong();
+
+    /**
+     * Constructs an instance. Outside of tests {@link #getInstance()} must be used.
+     */
+    DirectMemoryRegistry()
+    {
+    }
+
+    /**
+     * Gets process-wide instance.
+     *
+     * @return process-wide instance.
+     */
+    public static DirectMemoryRegistry getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets whether memory of direct buffers can be freed before garbage collection in current runtime.
+     *
+     * @return true if explicit freeing is supported.
+     */
+    public static boolean isExplicitFreeSupported()
+    {
+        return INVOKE_CLEANER != null;
+    }
+
+    /**
+     * Allocates direct buffer and accounts its memory as used.
+     *
+     * @param capacity Capacity of buffer. Must not be negative.
+     * @return allocated buffer.
+     */
+    public ByteBuffer allocate(int capacity)
+    {
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(capacity);
+        long reserved = reservedBytes.addAndGet(capacity);
+        peakReservedBytes.accumulateAndGet(reserved, Math::max);
+        BufferKey key = new BufferKey(byteBuffer);
+        Reservation reservation = new Reservation(key, capacity);
+        reservations.put(key, reservation);
+        reservation.cleanable = CLEANER.register(byteBuffer, reservation);
+        return byteBuffer;
+    }
+
+    /**
+     * Frees memory of buffer previously returned by {@link #allocate(int)}.
+     * <p>
+     * Buffer and all its views must not be used after this call, which is the caller responsibility. Buffers that
+     * were not allocated by this registry or were already freed are ignored.
+     *
+     * @param byteBuffer Buffer to free.
+     * @return true if memory is freed.
+     */
+    public boolean free(ByteBuffer byteBuffer)
+    {
+        if (INVOKE_CLEANER == null)
+        {
+            return false;
+        }
+        Reservation reservation = reservations.get(new BufferKey(byteBuffer));
+        if (reservation == null)
+        {
+            return false;
+        }
+        reservation.cleanable.clean();
+        try
+        {
+            INVOKE_CLEANER.invokeExact(byteBuffer);
+        }
+        catch (Throwable e)
+        {
+            throw new IllegalStateException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Marks buffer as retained for reuse, so that its memory is not accounted as used.
+     *
+     * @param byteBuffer Buffer previously returned by {@link #allocate(int)}.
+     */
+    public void markIdle(ByteBuffer byteBuffer)
+    {
+        Reservation reservation = reservations.get(new BufferKey(byteBuffer));
+        if (reservation != null && !reservation.idle)
+        {
+            reservation.idle = true;
+            idleBytes.addAndGet(reservation.capacity);
+        }
+    }
+
+    /**
+     * Marks buffer previously marked with {@link #markIdle(ByteBuffer)} as used again.
+     *
+     * @param byteBuffer Buffer previously returned by {@link #allocate(int)}.
+     */
+    public void markInUse(ByteBuffer byteBuffer)
+    {
+        Reservation reservation = reservations.get(new BufferKey(byteBuffer));
+        if (reservation != null && reservation.idle)
+        {
+            reservation.idle = false;
+            idleBytes.addAndGet(-reservation.capacity);
+        }
+    }
+
+    @Override
+    public long getReservedBytes()
+    {
+        return reservedBytes.get();
+    }
+
+    @Override
+    public long getInUseBytes()
+    {
+        return reservedBytes.get() - idleBytes.get();
+    }
+
+    @Override
+    public long getPeakReservedBytes()
+    {
+        return peakReservedBytes.get();
+    }
+
+    private static @Nullable MethodHandle resolveInvokeCleaner()
+    {
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            return MethodHandles.lookup()
+                                .findVirtual(unsafeClass, "invokeCleaner",
+                                    MethodType.methodType(void.class, ByteBuffer.class))
+                                .bindTo(theUnsafeField.get(null));
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Accounting record of single buffer, which is also cleaning action that unaccounts it.
+     * <p>
+     * It must not reference buffer, otherwise buffer never becomes phantom reachable.
+     */
+    private final class Reservation implements Runnable
+    {
+        private final BufferKey key;
+        private final int capacity;
+        private volatile boolean idle;
+        private Cleaner.@Nullable Cleanable cleanable;
+
+        private Reservation(BufferKey key, int capacity)
+        {
+            this.key = key;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void run()
+        {
+            reservations.remove(key);
+            reservedBytes.addAndGet(-capacity);
+            if (idle)
+            {
+                idleBytes.addAndGet(-capacity);
+            }
+        }
+    }
+
+    /**
+     * Identity-based weak key of buffer.
+     */
+    private static final class BufferKey extends WeakReference<ByteBuffer>
+    {
+        private final int hashCode;
+
+        private BufferKey(ByteBuffer byteBuffer)
+        {
+            super(byteBuffer);
+            this.hashCode = System.identityHashCode(byteBuffer);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof BufferKey other))
+            {
+                return false;
+            }
+            ByteBuffer byteBuffer = get();
+            return byteBuffer != null && byteBuffer == other.get();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IAdaptiveBufferPolicyEntry;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Policy that learns encoded message sizes per struct class and adapts buffer configs of
+ * {@link AllocationType#ADAPTIVE} allocation type to them.
+ *
+ * @implSpec
+ * Thread-safe.
+ */
+public interface IAdaptiveBufferPolicy
+{
+    /**
+     * Adapts buffer config to sizes learned for struct class.
+     *
+     * @param structClazz Class of root-struct.
+     * @param bufferConfig Config to adapt.
+     * @param sinkType Destination of message.
+     * @return config with learned initial capacity, growth and allocation type, or null if not enough messages of
+     * struct class were observed yet.
+     */
+    @Nullable ISerializationBufferConfig adapt(Class<?> structClazz, ISerializationBufferConfig bufferConfig,
+        BufferSinkType sinkType);
+
+    /**
+     * Chooses allocation type for message of known size.
+     *
+     * @param messageSize Size of message.
+     * @param sinkType Destination of message.
+     * @return either {@link AllocationType#HEAP} or {@link AllocationType#DIRECT}.
+     */
+    AllocationType chooseAllocationType(long messageSize, BufferSinkType sinkType);
+
+    /**
+     * Records encoded size of message.
+     *
+     * @param structClazz Class of root-struct.
+     * @param messageSize Size of message. Must not be negative.
+     */
+    void recordSize(Class<?> structClazz, long messageSize);
+
+    /**
+     * Exports learned table.
+     *
+     * @return snapshot of learned entries by struct class.
+     */
+    Map<Class<?>, IAdaptiveBufferPolicyEntry> exportTable();
+}
@@ -0,0 +1,74 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Source of {@link ByteBuffer} instances for {@link ISerializationBuffer} implementations.
+ *
+ * @implSpec
+ * Implementations must be thread-safe.
+ */
+public interface IByteBufferAllocator
+{
+    /**
+     * Allocates buffer with at least the giving capacity.
+     * <p>
+     * Returned buffer is cleared and has {@link java.nio.ByteOrder#BIG_ENDIAN} byte order. Buffer is direct only for
+     * {@link io.andreygs.jcsp.api.processing.buffer.AllocationType#DIRECT} allocation type, otherwise it is
+     * allocated in heap.
+     *
+     * @param capacity Minimal required capacity. Must not be negative.
+     * @param serializationBufferConfig Configuration of buffer that requests allocation.
+     * @return allocated buffer.
+     */
+    ByteBuffer allocate(int capacity, ISerializationBufferConfig serializationBufferConfig);
+
+    /**
+     * Gives buffer back to allocator. Caller must not use buffer after this call.
+     *
+     * @param byteBuffer Buffer previously returned by {@link #allocate(int, ISerializationBufferConfig)}.
+     * @param serializationBufferConfig Configuration of buffer that releases allocation.
+     */
+    void release(ByteBuffer byteBuffer, ISerializationBufferConfig serializationBufferConfig);
+
+    /**
+     * Gets whether released buffers are reused, so that owners of not released buffers should be tracked.
+     *
+     * @return true if allocator recycles buffers.
+     */
+    boolean isRecycling();
+
+    /**
+     * Records that buffer obtained from this allocator became unreachable without being released.
+     *
+     * @param capacity Capacity of leaked buffer.
+     */
+    void recordLeak(int capacity);
+}
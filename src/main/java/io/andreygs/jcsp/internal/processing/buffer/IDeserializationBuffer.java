@@ -25,6 +25,9 @@
 
 package io.andreygs.jcsp.internal.processing.buffer;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * Extension of {@link IBuffer} to be used in CSP deserialization process.
  * <p>
@@ -82,52 +85,319 @@ public interface IDeserializationBuffer
      */
     double readDouble();
 
+    /**
+     * Ensures that block of fixed-size values of specified size can be read, so they are read with unchecked reads
+     * ({@link #readByteUnchecked()} and alike) without bounds check per value.
+     * <p>
+     * Block must be read right after this call, and its total size must not exceed checked length.
+     *
+     * @implSpec
+     * Default implementation checks nothing, since default unchecked reads are ordinary reads.
+     *
+     * @param length Size of block in bytes.
+     * @throws IllegalArgumentException if length is negative.
+     * @throws java.nio.BufferUnderflowException if less than length bytes are left in buffer.
+     */
+    default void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+    }
+
+    /**
+     * Reads byte value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readByte()}.
+     *
+     * @return byte value.
+     */
+    default byte readByteUnchecked()
+    {
+        return readByte();
+    }
+
+    /**
+     * Reads short value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readShort()}.
+     *
+     * @return short value.
+     */
+    default short readShortUnchecked()
+    {
+        return readShort();
+    }
+
+    /**
+     * Reads int value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readInt()}.
+     *
+     * @return int value.
+     */
+    default int readIntUnchecked()
+    {
+        return readInt();
+    }
+
+    /**
+     * Reads long value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readLong()}.
+     *
+     * @return long value.
+     */
+    default long readLongUnchecked()
+    {
+        return readLong();
+    }
+
+    /**
+     * Reads char value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readChar()}.
+     *
+     * @return char value.
+     */
+    default char readCharUnchecked()
+    {
+        return readChar();
+    }
+
+    /**
+     * Reads float value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readFloat()}.
+     *
+     * @return float value.
+     */
+    default float readFloatUnchecked()
+    {
+        return readFloat();
+    }
+
+    /**
+     * Reads double value from block checked by {@link #ensureReadable(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #readDouble()}.
+     *
+     * @return double value.
+     */
+    default double readDoubleUnchecked()
+    {
+        return readDouble();
+    }
+
     /**
      * Reads byte array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(byte[] value);
+    default void read(byte[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads byte values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(byte[] value, int offset, int length);
+
+    /**
+     * Reads byte values from buffer as read-only {@link ByteBuffer}, without copying if underlying memory
+     * allows it.
+     * <p>
+     * Slice, which is a view of buffer memory, stays valid after {@link #release()}: memory is not freed or recycled
+     * while slice is reachable. Views derived from slice must not outlive it.
+     *
+     * @implSpec
+     * Default implementation copies values to new array, which is suitable for buffers reusing their memory (e.g.
+     * refillable windows).
+     *
+     * @param length Number of bytes to read. Must not be negative.
+     * @return read-only buffer holding read bytes, which position is 0 and limit is length.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    default ByteBuffer readSlice(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        byte[] value = new byte[length];
+        read(value, 0, length);
+        return ByteBuffer.wrap(value).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads boolean array from buffer, each element from single byte (any non-zero value is true).
+     *
+     * @param value Instance that will be filled with values from buffer.
+     */
+    default void read(boolean[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads boolean values from buffer to range of array, each element from single byte (any non-zero value is true).
+     *
+     * @implSpec
+     * Default implementation reads elements one by one with {@link #readByte()}.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    default void read(boolean[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        for (int i = offset, end = offset + length; i < end; ++i)
+        {
+            value[i] = readByte() != 0;
+        }
+    }
 
     /**
      * Reads short array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(short[] value);
+    default void read(short[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads short values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(short[] value, int offset, int length);
 
     /**
      * Reads int array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(int[] value);
+    default void read(int[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads int values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(int[] value, int offset, int length);
 
     /**
      * Reads long array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(long[] value);
+    default void read(long[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads long values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(long[] value, int offset, int length);
 
     /**
      * Reads char array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(char[] value);
+    default void read(char[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads char values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(char[] value, int offset, int length);
 
     /**
      * Reads float array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(float[] value);
+    default void read(float[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads float values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(float[] value, int offset, int length);
 
     /**
      * Reads double array from buffer.
      *
      * @param value Instance that will be filled with values from buffer.
      */
-    void read(double[] value);
+    default void read(double[] value)
+    {
+        read(value, 0, value.length);
+    }
+
+    /**
+     * Reads double values from buffer to range of array.
+     *
+     * @param value Instance which range will be filled with values from buffer.
+     * @param offset Index of first element to fill.
+     * @param length Number of elements to read.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    void read(double[] value, int offset, int length);
+
+    /**
+     * Frees memory owned by buffer, if any.
+     * <p>
+     * Buffer and any {@link ByteBuffer} previously returned by {@link #getBuffer()} must not be used after
+     * this call, slices returned by {@link #readSlice(int)} are the only exception. Repeated calls have no effect.
+     */
+    void release();
 }
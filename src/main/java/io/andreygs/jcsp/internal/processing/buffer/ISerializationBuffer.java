@@ -27,6 +27,9 @@ package io.andreygs.jcsp.internal.processing.buffer;
 
 import io.andreygs.jcsp.api.processing.buffer.AllocationType;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * Extension of {@link IBuffer} to be used in CSP serialization process.
  * <p>
@@ -98,13 +101,222 @@ public interface ISerializationBuffer
      */
     void writeDouble(double value);
 
+    /**
+     * Reserves space for block of fixed-size values, which then are written with unchecked writes
+     * ({@link #writeByteUnchecked(byte)} and alike) without capacity check per value.
+     * <p>
+     * Block must be written right after reservation, and its total size must not exceed reserved length.
+     *
+     * @implSpec
+     * Default implementation reserves nothing, since default unchecked writes are ordinary writes.
+     *
+     * @param length Size of block in bytes.
+     * @throws IllegalArgumentException if length is negative.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    default void reserve(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+    }
+
+    /**
+     * Writes single byte value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeByte(byte)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeByteUnchecked(byte value)
+    {
+        writeByte(value);
+    }
+
+    /**
+     * Writes single short value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeShort(short)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeShortUnchecked(short value)
+    {
+        writeShort(value);
+    }
+
+    /**
+     * Writes single int value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeInt(int)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeIntUnchecked(int value)
+    {
+        writeInt(value);
+    }
+
+    /**
+     * Writes single long value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeLong(long)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeLongUnchecked(long value)
+    {
+        writeLong(value);
+    }
+
+    /**
+     * Writes single char value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeChar(char)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeCharUnchecked(char value)
+    {
+        writeChar(value);
+    }
+
+    /**
+     * Writes single float value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeFloat(float)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeFloatUnchecked(float value)
+    {
+        writeFloat(value);
+    }
+
+    /**
+     * Writes single double value to space reserved by {@link #reserve(int)}.
+     *
+     * @implSpec
+     * Default implementation is {@link #writeDouble(double)}.
+     *
+     * @param value Value to write.
+     */
+    default void writeDoubleUnchecked(double value)
+    {
+        writeDouble(value);
+    }
+
     /**
      * Writes byte array value to buffer.
      *
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(byte[] value);
+    default void write(byte[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of byte array to buffer.
+     * <p>
+     * Buffer may record range by reference instead of copying it, so range shall not be changed until buffer data is
+     * consumed. Memory which is reused by caller shall be written with {@link #writeCopy(byte[], int, int)}.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(byte[] value, int offset, int length);
+
+    /**
+     * Writes copy of range of byte array to buffer.
+     * <p>
+     * Range is never recorded by reference, so array may be reused as soon as method returns.
+     *
+     * @implSpec
+     * Default implementation is {@link #write(byte[], int, int)}.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    default void writeCopy(byte[] value, int offset, int length)
+    {
+        write(value, offset, length);
+    }
+
+    /**
+     * Writes remaining bytes of byte buffer to buffer.
+     * <p>
+     * Position of value is not changed.
+     *
+     * @implSpec
+     * Default implementation copies bytes with {@link #write(byte[], int, int)}: directly from backing array, if value
+     * has accessible one, and through temporary array of limited size otherwise.
+     *
+     * @param value Value which remaining bytes to write.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    default void write(ByteBuffer value)
+    {
+        if (value.hasArray())
+        {
+            write(value.array(), value.arrayOffset() + value.position(), value.remaining());
+            return;
+        }
+        ByteBuffer source = value.duplicate();
+        byte[] part = new byte[Math.min(source.remaining(), 8192)];
+        while (source.hasRemaining())
+        {
+            int partLength = Math.min(source.remaining(), part.length);
+            source.get(part, 0, partLength);
+            write(part, 0, partLength);
+        }
+    }
+
+    /**
+     * Writes boolean array value to buffer, each element as single byte (1 for true, 0 for false).
+     *
+     * @param value Value to write.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    default void write(boolean[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of boolean array to buffer, each element as single byte (1 for true, 0 for false).
+     *
+     * @implSpec
+     * Default implementation writes elements one by one with {@link #writeByte(byte)}.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    default void write(boolean[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        for (int i = offset, end = offset + length; i < end; ++i)
+        {
+            writeByte(value[i] ? (byte) 1 : (byte) 0);
+        }
+    }
 
     /**
      * Writes short array value to buffer.
@@ -112,7 +324,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(short[] value);
+    default void write(short[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of short array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(short[] value, int offset, int length);
 
     /**
      * Writes int array value to buffer.
@@ -120,7 +346,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(int[] value);
+    default void write(int[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of int array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(int[] value, int offset, int length);
 
     /**
      * Writes long array value to buffer.
@@ -128,7 +368,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(long[] value);
+    default void write(long[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of long array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(long[] value, int offset, int length);
 
     /**
      * Writes char array value to buffer.
@@ -136,7 +390,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(char[] value);
+    default void write(char[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of char array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(char[] value, int offset, int length);
 
     /**
      * Writes float array value to buffer.
@@ -144,7 +412,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(float[] value);
+    default void write(float[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of float array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(float[] value, int offset, int length);
 
     /**
      * Writes double array value to buffer.
@@ -152,7 +434,21 @@ public interface ISerializationBuffer
      * @param value Value to write.
      * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
      */
-    void write(double[] value);
+    default void write(double[] value)
+    {
+        write(value, 0, value.length);
+    }
+
+    /**
+     * Writes range of double array to buffer.
+     *
+     * @param value Array which range to write.
+     * @param offset Index of first element to write.
+     * @param length Number of elements to write.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     * @throws ArithmeticException if buffer capacity needs to be expanded and new size will overflow an int.
+     */
+    void write(double[] value, int offset, int length);
 
     /**
      * Commits buffer, when serialization is completed.
@@ -161,4 +457,23 @@ public interface ISerializationBuffer
      * It must be called only once, after last write operation.
      */
     void commitBuffer();
+
+    /**
+     * Gets committed data as sequence of buffers, suitable for
+     * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+     * <p>
+     * Unlike {@link #getBuffer()} it never copies data. It must be called only after {@link #commitBuffer()}.
+     *
+     * @return buffers holding committed data in order.
+     */
+    ByteBuffer[] getBuffers();
+
+    /**
+     * Gives underlying memory back to allocator it was obtained from.
+     * <p>
+     * Off-heap memory of direct buffers that allocator does not retain for reuse is freed immediately, without
+     * waiting for garbage collector (see {@link DirectMemoryRegistry}). Buffer and any {@link ByteBuffer}
+     * previously returned by {@link #getBuffer()} must not be used after this call. Repeated calls have no effect.
+     */
+    void release();
 }
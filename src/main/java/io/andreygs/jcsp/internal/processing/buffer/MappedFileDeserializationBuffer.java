@@ -0,0 +1,389 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Deserialization buffer that reads CSP message in place from memory-mapped region of a file.
+ * <p>
+ * Region is mapped by windows not larger than maximum window size, so regions (and files) larger than 2 GB are
+ * supported. When current window has not enough bytes for next value, next window is mapped right from the current
+ * read position, so values are never split between windows. Primitive arrays are copied straight from mapping to
+ * destination array.
+ */
+public final class MappedFileDeserializationBuffer implements IDeserializationBuffer
+{
+    private final FileChannel fileChannel;
+
+    private final long regionEnd;
+
+    private final int maxWindowSize;
+
+    private MappedByteBuffer window;
+
+    private long windowOffset;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private boolean released;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param file File that contains CSP serialized message.
+     * @param position Position of message in file. Must not be negative.
+     * @param size Size of message. Must not be negative.
+     * @param maxWindowSize Maximum size of mapped window. Must be positive.
+     * @throws IllegalArgumentException if any argument is out of range or region exceeds file size.
+     * @throws UncheckedIOException if file cannot be opened or mapped.
+     */
+    public MappedFileDeserializationBuffer(Path file, long position, long size, int maxWindowSize)
+    {
+        if (position < 0 || size < 0 || maxWindowSize <= 0)
+        {
+            throw new IllegalArgumentException("position < 0 || size < 0 || maxWindowSize <= 0");
+        }
+        try
+        {
+            this.fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+            if (Math.addExact(position, size) > fileChannel.size())
+            {
+                fileChannel.close();
+                throw new IllegalArgumentException("position + size > file size");
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        this.regionEnd = position + size;
+        this.maxWindowSize = maxWindowSize;
+        this.window = map(position);
+    }
+
+    /**
+     * Gets current mapped window, which position is equal to read cursor.
+     *
+     * @return current mapped window.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        return window;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        window.order(byteOrder);
+    }
+
+    @Override
+    public byte readByte()
+    {
+        ensureWindowRemaining(Byte.BYTES);
+        return window.get();
+    }
+
+    @Override
+    public short readShort()
+    {
+        ensureWindowRemaining(Short.BYTES);
+        return window.getShort();
+    }
+
+    @Override
+    public int readInt()
+    {
+        ensureWindowRemaining(Integer.BYTES);
+        return window.getInt();
+    }
+
+    @Override
+    public long readLong()
+    {
+        ensureWindowRemaining(Long.BYTES);
+        return window.getLong();
+    }
+
+    @Override
+    public char readChar()
+    {
+        ensureWindowRemaining(Character.BYTES);
+        return window.getChar();
+    }
+
+    @Override
+    public float readFloat()
+    {
+        ensureWindowRemaining(Float.BYTES);
+        return window.getFloat();
+    }
+
+    @Override
+    public double readDouble()
+    {
+        ensureWindowRemaining(Double.BYTES);
+        return window.getDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Next window is mapped once before block, if block fits maximum window. Unchecked reads still check window,
+     * which is remapped when block doesn't fit it.
+     */
+    @Override
+    public void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (length <= maxWindowSize)
+        {
+            ensureWindowRemaining(length);
+        }
+        else if (regionEnd - windowOffset - window.position() < length)
+        {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    @Override
+    public void read(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Byte.BYTES);
+            window.get(value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Slice is a view of mapping, if it fits maximum window size. Mapping is kept by slice and is not affected by
+     * {@link #release()}.
+     */
+    @Override
+    public ByteBuffer readSlice(int length)
+    {
+        if (length > maxWindowSize)
+        {
+            return IDeserializationBuffer.super.readSlice(length);
+        }
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        ensureWindowRemaining(length);
+        ByteBuffer slice = window.slice(window.position(), length).asReadOnlyBuffer();
+        slice.order(byteOrder);
+        window.position(window.position() + length);
+        return slice;
+    }
+
+    @Override
+    public void read(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Short.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Integer.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Long.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Character.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Float.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void read(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Double.BYTES);
+            PrimitiveArrayAccess.get(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * Closes file channel.
+     *
+     * @throws UncheckedIOException if file channel cannot be closed.
+     */
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        try
+        {
+            fileChannel.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets current read position in file.
+     *
+     * @return read position.
+     */
+    public long getFilePosition()
+    {
+        return windowOffset + window.position();
+    }
+
+    /**
+     * Ensures that at least one element is available in current window and calculates how many elements of array
+     * part can be read from it.
+     *
+     * @param elementsLeft Number of array elements that are not read yet. Must be positive.
+     * @param elementSize Size of an element.
+     * @return number of elements to read from current window.
+     */
+    private int prepareArrayPart(int elementsLeft, int elementSize)
+    {
+        if (window.remaining() < elementSize)
+        {
+            ensureWindowRemaining(elementSize);
+        }
+        return Math.min(elementsLeft, window.remaining() / elementSize);
+    }
+
+    /**
+     * Maps next window starting from current read position if current one has less than {@code requiredSize} bytes
+     * remaining.
+     *
+     * @param requiredSize Required amount of bytes.
+     * @throws BufferUnderflowException if region has less than {@code requiredSize} bytes remaining.
+     */
+    private void ensureWindowRemaining(int requiredSize)
+    {
+        if (window.remaining() >= requiredSize)
+        {
+            return;
+        }
+        long filePosition = windowOffset + window.position();
+        if (regionEnd - filePosition < requiredSize)
+        {
+            throw new BufferUnderflowException();
+        }
+        window = map(filePosition);
+    }
+
+    private MappedByteBuffer map(long filePosition)
+    {
+        try
+        {
+            MappedByteBuffer newWindow = fileChannel.map(FileChannel.MapMode.READ_ONLY, filePosition,
+                Math.min(maxWindowSize, regionEnd - filePosition));
+            newWindow.order(byteOrder);
+            windowOffset = filePosition;
+            return newWindow;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
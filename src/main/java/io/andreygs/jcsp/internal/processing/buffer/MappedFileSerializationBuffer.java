@@ -0,0 +1,466 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IBufferResizeStrategy;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Serialization buffer that writes data straight into memory-mapped region of a file.
+ * <p>
+ * Only one window of the file is mapped at a time. When current window has no room for next value, the next (larger, up to maximum window size) window is mapped right from the current write position, so
+ * already written data is never copied and memory usage is bounded by maximum window size regardless of message size.
+ * <p>
+ * Initial window size is {@link ISerializationBufferConfig#getInitialCapacity()} (at least one page) and next
+ * window sizes are calculated by {@link ISerializationBufferConfig#getResizeStrategy()}.
+ * <p>
+ * {@link #commitBuffer()} truncates file to written size and syncs it to storage device.
+ *
+ * @implNote Windows are not forced when they are remapped: written pages stay in page cache and are synced to storage
+ * device only once, by {@link #commitBuffer()}. Temporary files (deleted on release) are never synced.
+ */
+public final class MappedFileSerializationBuffer implements ISerializationBuffer
+{
+    /**
+     * Minimal size of mapped window.
+     */
+    private static final int MIN_WINDOW_SIZE = 4096;
+
+    private final FileChannel fileChannel;
+
+    private final IBufferResizeStrategy bufferResizeStrategy;
+
+    private final int maxWindowSize;
+
+    private final boolean syncOnCommit;
+
+    private MappedByteBuffer window;
+
+    private long windowOffset;
+
+    private long size = -1;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private boolean released;
+
+    /**
+     * Constructs an instance. File is created if it does not exist and truncated otherwise.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param file File to write to.
+     * @param maxWindowSize Maximum size of mapped window. Must be at least {@link Long#BYTES}.
+     * @throws IllegalArgumentException if maxWindowSize is less than {@link Long#BYTES}.
+     * @throws UncheckedIOException if file cannot be opened or mapped.
+     */
+    public MappedFileSerializationBuffer(ISerializationBufferConfig serializationBufferConfig, Path file,
+        int maxWindowSize)
+    {
+        this(serializationBufferConfig, file, maxWindowSize, false);
+    }
+
+    /**
+     * Constructs an instance. File is created if it does not exist and truncated otherwise.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param file File to write to.
+     * @param maxWindowSize Maximum size of mapped window. Must be at least {@link Long#BYTES}.
+     * @param deleteOnRelease Whether file should be deleted by {@link #release()}, e.g. when it is temporary.
+     * @throws IllegalArgumentException if maxWindowSize is less than {@link Long#BYTES}.
+     * @throws UncheckedIOException if file cannot be opened or mapped.
+     */
+    public MappedFileSerializationBuffer(ISerializationBufferConfig serializationBufferConfig, Path file,
+        int maxWindowSize, boolean deleteOnRelease)
+    {
+        if (maxWindowSize < Long.BYTES)
+        {
+            throw new IllegalArgumentException("maxWindowSize < Long.BYTES");
+        }
+        this.bufferResizeStrategy = Objects.requireNonNull(serializationBufferConfig.getResizeStrategy());
+        this.maxWindowSize = maxWindowSize;
+        this.syncOnCommit = !deleteOnRelease;
+        try
+        {
+            this.fileChannel = deleteOnRelease
+                               ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+                                   StandardOpenOption.DELETE_ON_CLOSE)
+                               : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        int initialWindowSize = Math.min(Math.max(serializationBufferConfig.getInitialCapacity(), MIN_WINDOW_SIZE),
+            maxWindowSize);
+        this.window = map(0, initialWindowSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return always {@link AllocationType#DIRECT}, since mapped buffers are direct.
+     */
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return AllocationType.DIRECT;
+    }
+
+    /**
+     * Gets committed data as single read-only mapped buffer, or current window if buffer is not committed yet.
+     *
+     * @return buffer.
+     * @throws ArithmeticException if committed data size overflows an int.
+     * @throws UncheckedIOException if file cannot be mapped.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        if (size < 0)
+        {
+            return window;
+        }
+        return mapReadOnly(0, Math.toIntExact(size));
+    }
+
+    /**
+     * Gets committed data as read-only mapped buffers, each of them is not larger than maximum window size.
+     *
+     * @return buffers holding committed data in order.
+     * @throws UncheckedIOException if file cannot be mapped.
+     */
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        int count = (int) ((size + maxWindowSize - 1) / maxWindowSize);
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        for (int i = 0; i < count; ++i)
+        {
+            long offset = (long) i * maxWindowSize;
+            buffers[i] = mapReadOnly(offset, (int) Math.min(maxWindowSize, size - offset));
+        }
+        return buffers;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        window.order(byteOrder);
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        ensureWindowRemaining(Byte.BYTES);
+        window.put(value);
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        ensureWindowRemaining(Short.BYTES);
+        window.putShort(value);
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        ensureWindowRemaining(Integer.BYTES);
+        window.putInt(value);
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        ensureWindowRemaining(Long.BYTES);
+        window.putLong(value);
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        ensureWindowRemaining(Character.BYTES);
+        window.putChar(value);
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        ensureWindowRemaining(Float.BYTES);
+        window.putFloat(value);
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        ensureWindowRemaining(Double.BYTES);
+        window.putDouble(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Next window is mapped once before block, if block fits maximum window. Unchecked writes still check window,
+     * which is remapped when block doesn't fit it.
+     */
+    @Override
+    public void reserve(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (length <= maxWindowSize)
+        {
+            ensureWindowRemaining(length);
+        }
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Byte.BYTES);
+            window.put(value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Short.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Integer.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Long.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Character.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Float.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = prepareArrayPart(end - offset, Double.BYTES);
+            PrimitiveArrayAccess.put(window, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    /**
+     * Commits buffer: truncates file to written size and syncs file to storage device, unless file is temporary.
+     *
+     * @throws UncheckedIOException if file cannot be truncated or synced.
+     */
+    @Override
+    public void commitBuffer()
+    {
+        size = windowOffset + window.position();
+        try
+        {
+            fileChannel.truncate(size);
+            if (syncOnCommit)
+            {
+                window.force();
+                fileChannel.force(true);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes file channel. Written file is kept, unless buffer was constructed to delete it on release.
+     *
+     * @throws UncheckedIOException if file channel cannot be closed.
+     */
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        try
+        {
+            fileChannel.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets current write position in file.
+     *
+     * @return write position.
+     */
+    public long getFilePosition()
+    {
+        return windowOffset + window.position();
+    }
+
+    /**
+     * Ensures that at least one element fits to current window and calculates how many elements of array part can be
+     * written to it.
+     *
+     * @param elementsLeft Number of array elements that are not written yet. Must be positive.
+     * @param elementSize Size of an element.
+     * @return number of elements to write to current window.
+     */
+    private int prepareArrayPart(int elementsLeft, int elementSize)
+    {
+        long bytesLeft = (long) elementsLeft * elementSize;
+        ensureWindowRemaining((int) Math.min(bytesLeft, maxWindowSize - maxWindowSize % elementSize));
+        return Math.min(elementsLeft, window.remaining() / elementSize);
+    }
+
+    /**
+     * Maps next window starting from current write position if current one has less than {@code requiredSize} bytes
+     * remaining.
+     *
+     * @param requiredSize Required amount of bytes. Must not exceed maximum window size.
+     */
+    private void ensureWindowRemaining(int requiredSize)
+    {
+        if (window.remaining() >= requiredSize)
+        {
+            return;
+        }
+        long filePosition = windowOffset + window.position();
+        int windowSize = window.capacity();
+        int newWindowSize = windowSize >= maxWindowSize
+                            ? maxWindowSize
+                            : Math.min(bufferResizeStrategy.calculateNewSize(windowSize,
+                                Math.max(requiredSize, windowSize + 1)), maxWindowSize);
+        window = map(filePosition, newWindowSize);
+        window.order(byteOrder);
+        windowOffset = filePosition;
+    }
+
+    private MappedByteBuffer map(long offset, int windowSize)
+    {
+        try
+        {
+            return fileChannel.map(FileChannel.MapMode.READ_WRITE, offset, windowSize);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer mapReadOnly(long offset, int length)
+    {
+        try
+        {
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(byteOrder);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Memory budget configuration defined by constructor arguments.
+ */
+public class MemoryBudgetConfig
+    implements IMemoryBudgetConfig
+{
+    private final long budgetBytes;
+    private final MemoryBudgetPolicy policy;
+    private final Duration blockTimeout;
+    private final Path spillDirectory;
+
+    /**
+     * Constructs an instance.
+     * <p>
+     * Public visibility is intended for factory usage and unit-testing of this class only.
+     *
+     * @param budgetBytes Maximum total capacity of buffers held at once. Must be positive.
+     * @param policy Behaviour when budget is exhausted.
+     * @param blockTimeout Maximum time to wait for memory. Must not be negative.
+     * @param spillDirectory Directory of temporary files.
+     * @throws IllegalArgumentException if budgetBytes is not positive or blockTimeout is negative.
+     */
+    public MemoryBudgetConfig(long budgetBytes, MemoryBudgetPolicy policy, Duration blockTimeout, Path spillDirectory)
+    {
+        if (budgetBytes <= 0)
+        {
+            throw new IllegalArgumentException("budgetBytes <= 0");
+        }
+        if (blockTimeout.isNegative())
+        {
+            throw new IllegalArgumentException("blockTimeout < 0");
+        }
+        this.budgetBytes = budgetBytes;
+        this.policy = Objects.requireNonNull(policy);
+        this.blockTimeout = blockTimeout;
+        this.spillDirectory = Objects.requireNonNull(spillDirectory);
+    }
+
+    @Override
+    public long getBudgetBytes()
+    {
+        return budgetBytes;
+    }
+
+    @Override
+    public MemoryBudgetPolicy getPolicy()
+    {
+        return policy;
+    }
+
+    @Override
+    public Duration getBlockTimeout()
+    {
+        return blockTimeout;
+    }
+
+    @Override
+    public Path getSpillDirectory()
+    {
+        return spillDirectory;
+    }
+}
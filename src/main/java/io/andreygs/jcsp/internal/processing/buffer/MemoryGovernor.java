@@ -0,0 +1,236 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetMetrics;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeper of memory budget of serialization session.
+ * <p>
+ * Every buffer allocation reserves its capacity against the budget and gives it back on release. Reservation that
+ * doesn't fit is handled according to {@link IMemoryBudgetConfig#getPolicy()}.
+ *
+ * @implNote
+ * Reservations are lock-free while budget is not exhausted, lock is taken only to wait for memory and to wake up
+ * waiting threads.
+ */
+public final class MemoryGovernor implements IMemoryBudgetMetrics
+{
+    private final IMemoryBudgetConfig memoryBudgetConfig;
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final Lock lock = new ReentrantLock();
+    private final Condition memoryReleased = lock.newCondition();
+
+    /**
+     * Constructs an instance.
+     *
+     * @param memoryBudgetConfig Budget configuration.
+     */
+    public MemoryGovernor(IMemoryBudgetConfig memoryBudgetConfig)
+    {
+        this.memoryBudgetConfig = Objects.requireNonNull(memoryBudgetConfig);
+    }
+
+    /**
+     * Gets budget configuration.
+     *
+     * @return budget configuration.
+     */
+    public IMemoryBudgetConfig getMemoryBudgetConfig()
+    {
+        return memoryBudgetConfig;
+    }
+
+    /**
+     * Reserves bytes if they fit the budget.
+     *
+     * @param bytes Amount of bytes to reserve. Must not be negative.
+     * @return true if bytes are reserved.
+     */
+    public boolean tryReserve(long bytes)
+    {
+        long budget = memoryBudgetConfig.getBudgetBytes();
+        long current;
+        do
+        {
+            current = reservedBytes.get();
+            if (bytes > budget - current)
+            {
+                return false;
+            }
+        }
+        while (!reservedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+
+    /**
+     * Reserves bytes according to budget policy.
+     * <p>
+     * With {@link MemoryBudgetPolicy#BLOCK} policy waits until bytes fit the budget, otherwise fails immediately.
+     * Requests exceeding the whole budget fail immediately with any policy.
+     *
+     * @param bytes Amount of bytes to reserve. Must not be negative.
+     * @throws CspRuntimeException with {@link CspStatus#NO_MEMORY} status if bytes can't be reserved.
+     */
+    public void reserve(long bytes)
+    {
+        if (tryReserve(bytes))
+        {
+            return;
+        }
+        if (memoryBudgetConfig.getPolicy() != MemoryBudgetPolicy.BLOCK || bytes > memoryBudgetConfig.getBudgetBytes()
+                || !awaitReservation(bytes))
+        {
+            rejectedCount.increment();
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_MEMORY,
+                MessageFormat.format(Messages.MemoryGovernor_Budget_exhausted__0__1__2, bytes, reservedBytes.get(),
+                    memoryBudgetConfig.getBudgetBytes()));
+        }
+    }
+
+    /**
+     * Reserves bytes regardless of the budget, e.g. to account rounding of capacity already granted.
+     *
+     * @param bytes Amount of bytes to reserve. Must not be negative.
+     */
+    public void forceReserve(long bytes)
+    {
+        reservedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Gives reserved bytes back and wakes up waiting allocations.
+     *
+     * @param bytes Amount of previously reserved bytes.
+     */
+    public void release(long bytes)
+    {
+        reservedBytes.addAndGet(-bytes);
+        if (waitingCount.get() > 0)
+        {
+            lock.lock();
+            try
+            {
+                memoryReleased.signalAll();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Records that message was written to temporary file because budget was exhausted.
+     */
+    public void recordSpill()
+    {
+        spilledCount.increment();
+    }
+
+    @Override
+    public long getBudgetBytes()
+    {
+        return memoryBudgetConfig.getBudgetBytes();
+    }
+
+    @Override
+    public long getReservedBytes()
+    {
+        return reservedBytes.get();
+    }
+
+    @Override
+    public int getWaitingCount()
+    {
+        return waitingCount.get();
+    }
+
+    @Override
+    public long getRejectedCount()
+    {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getSpilledCount()
+    {
+        return spilledCount.sum();
+    }
+
+    /**
+     * Waits until bytes fit the budget, but not longer than block timeout.
+     *
+     * @return true if bytes are reserved.
+     */
+    private boolean awaitReservation(long bytes)
+    {
+        long remainingNanos = memoryBudgetConfig.getBlockTimeout().toNanos();
+        lock.lock();
+        waitingCount.incrementAndGet();
+        try
+        {
+            // Releasing thread signals under the same lock after it has given bytes back, so a release that
+            // happens between failed attempt and await below can't be missed.
+            while (!tryReserve(bytes))
+            {
+                if (remainingNanos <= 0)
+                {
+                    return false;
+                }
+                remainingNanos = memoryReleased.awaitNanos(remainingNanos);
+            }
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        finally
+        {
+            waitingCount.decrementAndGet();
+            lock.unlock();
+        }
+    }
+}
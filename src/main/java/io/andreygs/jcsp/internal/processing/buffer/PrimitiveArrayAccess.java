@@ -0,0 +1,250 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk transfer of primitive arrays to and from {@link ByteBuffer}.
+ * <p>
+ * Elements are transferred by bulk operations of view buffers ({@code ByteBuffer.asIntBuffer().put(int[])} and
+ * alike), which are compiled to memory copy, byte-swapping one when byte order of buffer differs from native one.
+ * <p>
+ * All methods transfer elements starting from current position of buffer and advance it by transferred amount of
+ * bytes. Byte order of buffer is respected. Range of array is expected to be checked by caller.
+ * <p>
+ * When byte order of buffer differs from native one, leading part of array is given to {@link ByteSwapKernel}, and
+ * elements it has not transferred are copied by view buffer.
+ */
+final class PrimitiveArrayAccess
+{
+    private static final ByteOrder NATIVE_ORDER = ByteOrder.nativeOrder();
+
+    private PrimitiveArrayAccess()
+    {
+    }
+
+    static void put(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Short.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Short.BYTES);
+            buffer.asShortBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Short.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Integer.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Integer.BYTES);
+            buffer.asIntBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Integer.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Long.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Long.BYTES);
+            buffer.asLongBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Long.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Character.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Character.BYTES);
+            buffer.asCharBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Character.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Float.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Float.BYTES);
+            buffer.asFloatBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Float.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Double.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.put(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Double.BYTES);
+            buffer.asDoubleBuffer().put(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Double.BYTES);
+    }
+
+    static void put(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        int index = checkPut(buffer, length, Byte.BYTES);
+        int converted = ByteSwapKernel.put(buffer, value, offset, length);
+        index += converted;
+        for (int i = offset + converted, end = offset + length; i < end; ++i, ++index)
+        {
+            buffer.put(index, value[i] ? (byte) 1 : (byte) 0);
+        }
+        buffer.position(index);
+    }
+
+    static void get(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Short.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Short.BYTES);
+            buffer.asShortBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Short.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Integer.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Integer.BYTES);
+            buffer.asIntBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Integer.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Long.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Long.BYTES);
+            buffer.asLongBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Long.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Character.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Character.BYTES);
+            buffer.asCharBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Character.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Float.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Float.BYTES);
+            buffer.asFloatBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Float.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Double.BYTES);
+        int swapped = buffer.order() != NATIVE_ORDER ? ByteSwapKernel.get(buffer, value, offset, length) : 0;
+        if (swapped < length)
+        {
+            buffer.position(index + swapped * Double.BYTES);
+            buffer.asDoubleBuffer().get(value, offset + swapped, length - swapped);
+        }
+        buffer.position(index + length * Double.BYTES);
+    }
+
+    static void get(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        int index = checkGet(buffer, length, Byte.BYTES);
+        int converted = ByteSwapKernel.get(buffer, value, offset, length);
+        index += converted;
+        for (int i = offset + converted, end = offset + length; i < end; ++i, ++index)
+        {
+            value[i] = buffer.get(index) != 0;
+        }
+        buffer.position(index);
+    }
+
+    /**
+     * Checks that buffer has room for elements.
+     *
+     * @return position of buffer.
+     * @throws BufferOverflowException if there is not enough room in buffer.
+     */
+    private static int checkPut(ByteBuffer buffer, int length, int elementSize)
+    {
+        if ((long) length * elementSize > buffer.remaining())
+        {
+            throw new BufferOverflowException();
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Checks that buffer has enough bytes for elements.
+     *
+     * @return position of buffer.
+     * @throws BufferUnderflowException if there are fewer bytes remaining in buffer.
+     */
+    private static int checkGet(ByteBuffer buffer, int length, int elementSize)
+    {
+        if ((long) length * elementSize > buffer.remaining())
+        {
+            throw new BufferUnderflowException();
+        }
+        return buffer.position();
+    }
+}
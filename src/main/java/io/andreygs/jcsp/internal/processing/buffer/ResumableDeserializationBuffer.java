@@ -0,0 +1,215 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Deserialization buffer which is fed by partial input as it arrives, for non-blocking decoding.
+ * <p>
+ * Reads never wait: if buffer has fewer bytes than value needs, {@link java.nio.BufferUnderflowException} is thrown
+ * and nothing is consumed. Callers are expected to check {@link #getAvailable()} first. Consumed bytes are discarded
+ * on next {@link #feed(ByteBuffer)}, so only unread input is kept.
+ */
+public final class ResumableDeserializationBuffer implements IDeserializationBuffer
+{
+    /**
+     * Default initial capacity of internal storage.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private ByteBuffer storage;
+
+    /**
+     * Constructs an instance.
+     */
+    public ResumableDeserializationBuffer()
+    {
+        storage = ByteBuffer.allocate(DEFAULT_INITIAL_CAPACITY);
+        storage.flip();
+    }
+
+    /**
+     * Appends input to unread bytes of buffer.
+     *
+     * @param input Input, all its remaining bytes are consumed.
+     */
+    public void feed(ByteBuffer input)
+    {
+        int required = Math.addExact(storage.remaining(), input.remaining());
+        if (required > storage.capacity())
+        {
+            ByteBuffer newStorage = ByteBuffer.allocate(Math.max(required, storage.capacity() * 2))
+                                              .order(storage.order());
+            newStorage.put(storage);
+            storage = newStorage;
+        }
+        else
+        {
+            storage.compact();
+        }
+        storage.put(input);
+        storage.flip();
+    }
+
+    /**
+     * Gets number of bytes available for reading.
+     *
+     * @return number of available bytes.
+     */
+    public int getAvailable()
+    {
+        return storage.remaining();
+    }
+
+    /**
+     * Gets internal storage, which position..limit range holds unread bytes.
+     *
+     * @return internal storage.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        return storage;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        storage.order(byteOrder);
+    }
+
+    @Override
+    public byte readByte()
+    {
+        return storage.get();
+    }
+
+    @Override
+    public short readShort()
+    {
+        return storage.getShort();
+    }
+
+    @Override
+    public int readInt()
+    {
+        return storage.getInt();
+    }
+
+    @Override
+    public long readLong()
+    {
+        return storage.getLong();
+    }
+
+    @Override
+    public char readChar()
+    {
+        return storage.getChar();
+    }
+
+    @Override
+    public float readFloat()
+    {
+        return storage.getFloat();
+    }
+
+    @Override
+    public double readDouble()
+    {
+        return storage.getDouble();
+    }
+
+    @Override
+    public void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (storage.remaining() < length)
+        {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    @Override
+    public void read(byte[] value, int offset, int length)
+    {
+        storage.get(value, offset, length);
+    }
+
+    @Override
+    public void read(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void read(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void read(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void read(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void read(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void read(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        PrimitiveArrayAccess.get(storage, value, offset, length);
+    }
+
+    @Override
+    public void release()
+    {
+    }
+}
@@ -0,0 +1,428 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serialization buffer that records large byte payloads by reference instead of copying them.
+ * <p>
+ * Byte arrays and {@link ByteBuffer} values which size is not less than zero-copy threshold are kept as views of
+ * caller's memory, all other data is written to inline buffer. Committed message is the scatter list of inline data
+ * parts interleaved with referenced payloads, which is returned by {@link #getBuffers()} and is intended to be
+ * emitted with {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}. {@link #getBuffer()} assembles
+ * contiguous copy of the whole message and should be used only when single {@link ByteBuffer} is really required.
+ *
+ * @apiNote
+ * Referenced arrays and buffers must not be modified until message is written out or released.
+ *
+ * @see ISerializationBufferConfig#getZeroCopyThreshold()
+ */
+public final class ScatterListSerializationBuffer implements ISerializationBuffer
+{
+    private final List<Reference> references = new ArrayList<>();
+
+    private final ISerializationBuffer inlineBuffer;
+
+    private final int zeroCopyThreshold;
+
+    private long inlineSize;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private @Nullable ByteBuffer contiguousBuffer;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param inlineBuffer Buffer for data which is copied. It is released together with this buffer.
+     * @param zeroCopyThreshold Minimal size of byte payload which is recorded by reference. Must be positive.
+     * @throws IllegalArgumentException if zeroCopyThreshold is not positive.
+     */
+    public ScatterListSerializationBuffer(ISerializationBuffer inlineBuffer, int zeroCopyThreshold)
+    {
+        if (zeroCopyThreshold <= 0)
+        {
+            throw new IllegalArgumentException("zeroCopyThreshold <= 0");
+        }
+        this.inlineBuffer = Objects.requireNonNull(inlineBuffer);
+        this.zeroCopyThreshold = zeroCopyThreshold;
+    }
+
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return inlineBuffer.getAllocationType();
+    }
+
+    /**
+     * Gets committed data as single buffer.
+     * <p>
+     * If some payloads were recorded by reference, then contiguous heap copy of message is allocated once and cached.
+     *
+     * @return buffer holding committed data.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        if (references.isEmpty())
+        {
+            return inlineBuffer.getBuffer();
+        }
+        if (contiguousBuffer == null)
+        {
+            ByteBuffer[] parts = getBuffers();
+            int size = 0;
+            for (ByteBuffer part : parts)
+            {
+                size = Math.addExact(size, part.remaining());
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            for (ByteBuffer part : parts)
+            {
+                buffer.put(part);
+            }
+            buffer.flip();
+            buffer.order(byteOrder);
+            contiguousBuffer = buffer;
+        }
+        return contiguousBuffer;
+    }
+
+    /**
+     * Gets committed message as scatter list: parts of inline data interleaved with referenced payloads.
+     *
+     * @return buffers holding committed data in order.
+     */
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        List<ByteBuffer> parts = new ArrayList<>();
+        int referenceIndex = 0;
+        long partOffset = 0;
+        for (ByteBuffer inlinePart : inlineBuffer.getBuffers())
+        {
+            ByteBuffer rest = inlinePart.duplicate().order(inlinePart.order());
+            long partEnd = partOffset + rest.remaining();
+            while (referenceIndex < references.size() && references.get(referenceIndex).inlineOffset <= partEnd)
+            {
+                Reference reference = references.get(referenceIndex++);
+                int headLength = (int) (reference.inlineOffset - partOffset);
+                if (headLength > 0)
+                {
+                    parts.add(rest.slice(rest.position(), headLength).order(rest.order()));
+                    rest.position(rest.position() + headLength);
+                    partOffset += headLength;
+                }
+                parts.add(reference.payload.duplicate());
+            }
+            if (rest.hasRemaining())
+            {
+                parts.add(rest.slice().order(rest.order()));
+            }
+            partOffset = partEnd;
+        }
+        while (referenceIndex < references.size())
+        {
+            parts.add(references.get(referenceIndex++).payload.duplicate());
+        }
+        return parts.toArray(new ByteBuffer[0]);
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        inlineBuffer.applyEndianness(byteOrder);
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        inlineBuffer.writeByte(value);
+        inlineSize += Byte.BYTES;
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        inlineBuffer.writeShort(value);
+        inlineSize += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        inlineBuffer.writeInt(value);
+        inlineSize += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        inlineBuffer.writeLong(value);
+        inlineSize += Long.BYTES;
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        inlineBuffer.writeChar(value);
+        inlineSize += Character.BYTES;
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        inlineBuffer.writeFloat(value);
+        inlineSize += Float.BYTES;
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        inlineBuffer.writeDouble(value);
+        inlineSize += Double.BYTES;
+    }
+
+    @Override
+    public void reserve(int length)
+    {
+        inlineBuffer.reserve(length);
+    }
+
+    @Override
+    public void writeByteUnchecked(byte value)
+    {
+        inlineBuffer.writeByteUnchecked(value);
+        inlineSize += Byte.BYTES;
+    }
+
+    @Override
+    public void writeShortUnchecked(short value)
+    {
+        inlineBuffer.writeShortUnchecked(value);
+        inlineSize += Short.BYTES;
+    }
+
+    @Override
+    public void writeIntUnchecked(int value)
+    {
+        inlineBuffer.writeIntUnchecked(value);
+        inlineSize += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLongUnchecked(long value)
+    {
+        inlineBuffer.writeLongUnchecked(value);
+        inlineSize += Long.BYTES;
+    }
+
+    @Override
+    public void writeCharUnchecked(char value)
+    {
+        inlineBuffer.writeCharUnchecked(value);
+        inlineSize += Character.BYTES;
+    }
+
+    @Override
+    public void writeFloatUnchecked(float value)
+    {
+        inlineBuffer.writeFloatUnchecked(value);
+        inlineSize += Float.BYTES;
+    }
+
+    @Override
+    public void writeDoubleUnchecked(double value)
+    {
+        inlineBuffer.writeDoubleUnchecked(value);
+        inlineSize += Double.BYTES;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Range which length is not less than zero-copy threshold is recorded by reference.
+     */
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        if (length >= zeroCopyThreshold)
+        {
+            addReference(ByteBuffer.wrap(value, offset, length).slice());
+            return;
+        }
+        inlineBuffer.write(value, offset, length);
+        inlineSize += length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Range is copied to inline buffer regardless of zero-copy threshold.
+     */
+    @Override
+    public void writeCopy(byte[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Value which remaining size is not less than zero-copy threshold is recorded by reference.
+     */
+    @Override
+    public void write(ByteBuffer value)
+    {
+        if (value.remaining() >= zeroCopyThreshold)
+        {
+            addReference(value.slice());
+            return;
+        }
+        inlineBuffer.write(value);
+        inlineSize += value.remaining();
+    }
+
+    @Override
+    public void write(boolean[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += length;
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Short.BYTES;
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Integer.BYTES;
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Long.BYTES;
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Character.BYTES;
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Float.BYTES;
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        inlineBuffer.write(value, offset, length);
+        inlineSize += (long) length * Double.BYTES;
+    }
+
+    @Override
+    public void commitBuffer()
+    {
+        inlineBuffer.commitBuffer();
+    }
+
+    /**
+     * Releases inline buffer and drops references to recorded payloads.
+     */
+    @Override
+    public void release()
+    {
+        inlineBuffer.release();
+        references.clear();
+        contiguousBuffer = null;
+    }
+
+    /**
+     * Gets number of bytes written to inline buffer, i.e. size of message without referenced payloads.
+     *
+     * @return number of bytes written to inline buffer.
+     */
+    public long getInlineSize()
+    {
+        return inlineSize;
+    }
+
+    /**
+     * Gets number of payloads recorded by reference.
+     *
+     * @return number of payloads recorded by reference.
+     */
+    public int getReferencesCount()
+    {
+        return references.size();
+    }
+
+    private void addReference(ByteBuffer payload)
+    {
+        references.add(new Reference(inlineSize, payload));
+        contiguousBuffer = null;
+    }
+
+    /**
+     * Payload recorded by reference together with offset in inline data, where it is placed.
+     */
+    private static final class Reference
+    {
+        private final long inlineOffset;
+
+        private final ByteBuffer payload;
+
+        private Reference(long inlineOffset, ByteBuffer payload)
+        {
+            this.inlineOffset = inlineOffset;
+            this.payload = payload;
+        }
+    }
+}
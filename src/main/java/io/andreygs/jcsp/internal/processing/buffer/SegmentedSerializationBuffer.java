@@ -0,0 +1,419 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serialization buffer that stores data in chain of fixed-size chunks.
+ * <p>
+ * Unlike {@link SerializationBuffer} it never copies already written data when more space is required: new chunk is
+ * appended instead. Values that do not fit into the rest of current chunk are split across chunk boundary.
+ * Committed data is intended to be consumed through {@link #getBuffers()}. {@link #getBuffer()} assembles contiguous
+ * copy of all chunks (if there are more than one) and should be used only when single {@link ByteBuffer} is really
+ * required.
+ * <p>
+ * {@link ISerializationBufferConfig#getInitialCapacity()} and {@link ISerializationBufferConfig#getResizeStrategy()}
+ * are not used: all chunks have the same size.
+ */
+public final class SegmentedSerializationBuffer implements ISerializationBuffer
+{
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+
+    private final ISerializationBufferConfig serializationBufferConfig;
+
+    private final IByteBufferAllocator byteBufferAllocator;
+
+    private final int chunkSize;
+
+    /**
+     * Scratch buffer for values that are split across chunk boundary.
+     */
+    private final ByteBuffer spillBuffer = ByteBuffer.allocate(Long.BYTES);
+
+    private ByteBuffer currentChunk;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private @Nullable ByteBuffer contiguousBuffer;
+
+    private boolean released;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param byteBufferAllocator Allocator of chunks.
+     * @param chunkSize Size of each chunk. Must be positive.
+     * @throws IllegalArgumentException if chunkSize is not positive.
+     */
+    public SegmentedSerializationBuffer(ISerializationBufferConfig serializationBufferConfig,
+        IByteBufferAllocator byteBufferAllocator, int chunkSize)
+    {
+        if (chunkSize <= 0)
+        {
+            throw new IllegalArgumentException("chunkSize <= 0");
+        }
+        this.serializationBufferConfig = Objects.requireNonNull(serializationBufferConfig);
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.chunkSize = chunkSize;
+        this.currentChunk = appendChunk();
+    }
+
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return serializationBufferConfig.getAllocationType();
+    }
+
+    /**
+     * Gets committed data as single buffer.
+     * <p>
+     * If data occupies more than one chunk, then contiguous copy is allocated once and cached.
+     *
+     * @return buffer holding committed data.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        if (chunks.size() == 1)
+        {
+            return currentChunk;
+        }
+        if (contiguousBuffer == null)
+        {
+            int size = 0;
+            for (ByteBuffer chunk : chunks)
+            {
+                size = Math.addExact(size, chunk.remaining());
+            }
+            ByteBuffer buffer = byteBufferAllocator.allocate(size, serializationBufferConfig);
+            for (ByteBuffer chunk : chunks)
+            {
+                buffer.put(chunk.duplicate());
+            }
+            buffer.flip();
+            buffer.order(byteOrder);
+            contiguousBuffer = buffer;
+        }
+        return contiguousBuffer;
+    }
+
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return chunks.toArray(new ByteBuffer[0]);
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        spillBuffer.order(byteOrder);
+        for (ByteBuffer chunk : chunks)
+        {
+            chunk.order(byteOrder);
+        }
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        if (!currentChunk.hasRemaining())
+        {
+            currentChunk = appendChunk();
+        }
+        currentChunk.put(value);
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        if (currentChunk.remaining() >= Short.BYTES)
+        {
+            currentChunk.putShort(value);
+        }
+        else
+        {
+            spillBuffer.clear();
+            spillBuffer.putShort(value);
+            spill();
+        }
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        if (currentChunk.remaining() >= Integer.BYTES)
+        {
+            currentChunk.putInt(value);
+        }
+        else
+        {
+            spillBuffer.clear();
+            spillBuffer.putInt(value);
+            spill();
+        }
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        if (currentChunk.remaining() >= Long.BYTES)
+        {
+            currentChunk.putLong(value);
+        }
+        else
+        {
+            spillBuffer.clear();
+            spillBuffer.putLong(value);
+            spill();
+        }
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        if (currentChunk.remaining() >= Character.BYTES)
+        {
+            currentChunk.putChar(value);
+        }
+        else
+        {
+            spillBuffer.clear();
+            spillBuffer.putChar(value);
+            spill();
+        }
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        writeInt(Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            if (!currentChunk.hasRemaining())
+            {
+                currentChunk = appendChunk();
+            }
+            int partLength = Math.min(currentChunk.remaining(), end - offset);
+            currentChunk.put(value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Short.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeShort(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Integer.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeInt(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Long.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeLong(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Character.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeChar(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Float.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeFloat(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int end = offset + length;
+        while (offset < end)
+        {
+            int partLength = Math.min(currentChunk.remaining() / Double.BYTES, end - offset);
+            if (partLength == 0)
+            {
+                writeDouble(value[offset++]);
+                continue;
+            }
+            PrimitiveArrayAccess.put(currentChunk, value, offset, partLength);
+            offset += partLength;
+        }
+    }
+
+    @Override
+    public void commitBuffer()
+    {
+        for (ByteBuffer chunk : chunks)
+        {
+            chunk.flip();
+        }
+    }
+
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        for (ByteBuffer chunk : chunks)
+        {
+            byteBufferAllocator.release(chunk, serializationBufferConfig);
+        }
+        if (contiguousBuffer != null)
+        {
+            byteBufferAllocator.release(contiguousBuffer, serializationBufferConfig);
+        }
+    }
+
+    /**
+     * Gets number of chunks.
+     *
+     * @return number of chunks.
+     */
+    public int getChunksCount()
+    {
+        return chunks.size();
+    }
+
+    /**
+     * Writes content of {@link #spillBuffer} byte by byte, continuing in new chunk when current one is full.
+     */
+    private void spill()
+    {
+        spillBuffer.flip();
+        while (spillBuffer.hasRemaining())
+        {
+            if (!currentChunk.hasRemaining())
+            {
+                currentChunk = appendChunk();
+            }
+            currentChunk.put(spillBuffer.get());
+        }
+    }
+
+    private ByteBuffer appendChunk()
+    {
+        ByteBuffer chunk = byteBufferAllocator.allocate(chunkSize, serializationBufferConfig);
+        // Allocator may give larger buffer (e.g. rounded to size class), but chunk boundaries must be predictable.
+        chunk.limit(chunkSize);
+        chunk.order(byteOrder);
+        chunks.add(chunk);
+        return chunk;
+    }
+}
@@ -29,6 +29,9 @@ import io.andreygs.jcsp.api.processing.buffer.AllocationType;
 import io.andreygs.jcsp.api.processing.buffer.IBufferResizeStrategy;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Objects;
@@ -37,9 +40,14 @@ import java.util.Objects;
  * This class works as buffer for writing raw data in CSP serialization process.
  * <p>
  * It is a wrapper over {@link ByteBuffer} optimized for use in CSP serialization process.
+ * <p>
+ * Underlying buffers are obtained from and given back to {@link IByteBufferAllocator}. When allocator recycles
+ * buffers, instance that became unreachable without {@link #release()} is reported as leak.
  */
 public final class SerializationBuffer implements ISerializationBuffer
 {
+    private static final IByteBufferAllocator DEFAULT_BYTE_BUFFER_ALLOCATOR = new ByteBufferAllocator();
+    private static final Cleaner LEAK_DETECTION_CLEANER = Cleaner.create();
 
     private ByteBuffer byteBuffer;
 
@@ -47,16 +55,51 @@ public final class SerializationBuffer implements ISerializationBuffer
 
     private final IBufferResizeStrategy bufferResizeStrategy;
 
+    private final ISerializationBufferConfig serializationBufferConfig;
+
+    private final IByteBufferAllocator byteBufferAllocator;
+
+    private final @Nullable LeakDetector leakDetector;
+
+    private final Cleaner.@Nullable Cleanable leakDetectorCleanable;
+
+    private boolean released;
+
     /**
-     * Constructs an instance.
+     * Constructs an instance that allocates exactly sized buffers and leaves them to garbage collector.
      *
      * @param serializationBufferConfig Buffer configuration.
      */
     public SerializationBuffer(ISerializationBufferConfig serializationBufferConfig)
     {
+        this(serializationBufferConfig, DEFAULT_BYTE_BUFFER_ALLOCATOR);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param byteBufferAllocator Allocator of underlying buffers.
+     */
+    public SerializationBuffer(ISerializationBufferConfig serializationBufferConfig,
+        IByteBufferAllocator byteBufferAllocator)
+    {
+        this.serializationBufferConfig = serializationBufferConfig;
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
         this.allocationType = serializationBufferConfig.getAllocationType();
         setByteBuffer(serializationBufferConfig.getInitialCapacity());
         this.bufferResizeStrategy = Objects.requireNonNull(serializationBufferConfig.getResizeStrategy());
+        if (byteBufferAllocator.isRecycling())
+        {
+            leakDetector = new LeakDetector(byteBufferAllocator);
+            leakDetector.capacity = byteBuffer.capacity();
+            leakDetectorCleanable = LEAK_DETECTION_CLEANER.register(this, leakDetector);
+        }
+        else
+        {
+            leakDetector = null;
+            leakDetectorCleanable = null;
+        }
     }
 
     @Override
@@ -126,69 +169,133 @@ public final class SerializationBuffer implements ISerializationBuffer
         byteBuffer.putDouble(value);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Buffer is expanded once for whole block, unchecked writes put values to underlying buffer directly.
+     */
     @Override
-    public void write(byte[] value)
+    public void reserve(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        expandBufferIfNeed(length);
+    }
+
+    @Override
+    public void writeByteUnchecked(byte value)
     {
-        expandBufferIfNeed(value.length * Byte.BYTES);
         byteBuffer.put(value);
     }
 
     @Override
-    public void write(short[] value)
+    public void writeShortUnchecked(short value)
+    {
+        byteBuffer.putShort(value);
+    }
+
+    @Override
+    public void writeIntUnchecked(int value)
+    {
+        byteBuffer.putInt(value);
+    }
+
+    @Override
+    public void writeLongUnchecked(long value)
+    {
+        byteBuffer.putLong(value);
+    }
+
+    @Override
+    public void writeCharUnchecked(char value)
+    {
+        byteBuffer.putChar(value);
+    }
+
+    @Override
+    public void writeFloatUnchecked(float value)
     {
-        int addingDataSize = value.length * Short.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asShortBuffer().put(value);
+        byteBuffer.putFloat(value);
+    }
 
-        // We do not need to change limit of buffer every time we write to it.
-        // The only thing that should be updated is the cursor position.
-        // The same applies to other {@code write()} overloads with array parameter.
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+    @Override
+    public void writeDoubleUnchecked(double value)
+    {
+        byteBuffer.putDouble(value);
     }
 
     @Override
-    public void write(int[] value)
+    public void write(byte[] value, int offset, int length)
     {
-        int addingDataSize = value.length * Integer.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asIntBuffer().put(value);
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(length);
+        byteBuffer.put(value, offset, length);
     }
 
     @Override
-    public void write(long[] value)
+    public void write(ByteBuffer value)
     {
-        int addingDataSize = value.length * Long.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asLongBuffer().put(value);
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+        expandBufferIfNeed(value.remaining());
+        byteBuffer.put(value.duplicate());
     }
 
     @Override
-    public void write(char[] value)
+    public void write(boolean[] value, int offset, int length)
     {
-        int addingDataSize = value.length * Character.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asCharBuffer().put(value);
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(length);
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void write(float[] value)
+    public void write(short[] value, int offset, int length)
     {
-        int addingDataSize = value.length * Float.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asFloatBuffer().put(value);
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Short.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
     }
 
     @Override
-    public void write(double[] value)
+    public void write(int[] value, int offset, int length)
     {
-        int addingDataSize = value.length * Double.BYTES;
-        expandBufferIfNeed(addingDataSize);
-        byteBuffer.asDoubleBuffer().put(value);
-        byteBuffer.position(byteBuffer.position() + addingDataSize);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Integer.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Long.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Character.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Float.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(Math.multiplyExact(length, Double.BYTES));
+        PrimitiveArrayAccess.put(byteBuffer, value, offset, length);
     }
 
     @Override
@@ -197,8 +304,30 @@ public final class SerializationBuffer implements ISerializationBuffer
         byteBuffer.flip();
     }
 
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return new ByteBuffer[] { byteBuffer };
+    }
+
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        byteBufferAllocator.release(byteBuffer, serializationBufferConfig);
+        if (leakDetector != null && leakDetectorCleanable != null)
+        {
+            leakDetector.released = true;
+            leakDetectorCleanable.clean();
+        }
+    }
+
     /**
-     * Allocates and sets new ByteBuffer with the giving capacity.
+     * Allocates and sets new ByteBuffer with at least the giving capacity.
      * <p>
      * It is expected that this method is only called from {@link @expandBufferIfNeed}
      * and Constructor (which in turn called from Factory, that filters not applicable values)
@@ -210,13 +339,10 @@ public final class SerializationBuffer implements ISerializationBuffer
      */
     private void setByteBuffer(int capacity)
     {
-        if (allocationType == AllocationType.DIRECT)
-        {
-            byteBuffer = ByteBuffer.allocateDirect(capacity);
-        }
-        else
+        byteBuffer = byteBufferAllocator.allocate(capacity, serializationBufferConfig);
+        if (leakDetector != null)
         {
-            byteBuffer = ByteBuffer.allocate(capacity);
+            leakDetector.capacity = byteBuffer.capacity();
         }
     }
 
@@ -234,8 +360,37 @@ public final class SerializationBuffer implements ISerializationBuffer
             ByteBuffer oldByteBuffer = byteBuffer;
             int newCapacity = bufferResizeStrategy.calculateNewSize(byteBuffer.capacity(), minimumRequiredSize);
             setByteBuffer(newCapacity);
+            byteBuffer.order(oldByteBuffer.order());
             oldByteBuffer.flip();
             byteBuffer.put(oldByteBuffer);
+            byteBufferAllocator.release(oldByteBuffer, serializationBufferConfig);
+        }
+    }
+
+    /**
+     * Cleaning action that reports buffer which was not released to its allocator.
+     * <p>
+     * It must not reference {@link SerializationBuffer} instance, otherwise the instance never becomes phantom
+     * reachable.
+     */
+    private static final class LeakDetector implements Runnable
+    {
+        private final IByteBufferAllocator byteBufferAllocator;
+        private volatile boolean released;
+        private volatile int capacity;
+
+        private LeakDetector(IByteBufferAllocator byteBufferAllocator)
+        {
+            this.byteBufferAllocator = byteBufferAllocator;
+        }
+
+        @Override
+        public void run()
+        {
+            if (!released)
+            {
+                byteBufferAllocator.recordLeak(capacity);
+            }
         }
     }
 }
@@ -40,6 +40,10 @@ public class SerializationBufferConfig
     private final int initialCapacity;
     private final AllocationType allocationType;
     private final IBufferResizeStrategy resizeStrategy;
+    private final long maxRetainedBytes;
+    private final boolean shrinkOnRelease;
+    private final int zeroCopyThreshold;
+    private final int segmentSize;
 
     /**
      * Constructs an instance.
@@ -49,18 +53,79 @@ public class SerializationBufferConfig
      * @param initialCapacity Initial capacity of buffer. Must not be negative.
      * @param allocationType Type of buffer allocation.
      * @param resizeStrategy Strategy of buffer resizing.
-     * @throws IllegalArgumentException if bufferInitialCapacity is negative.
+     * @param maxRetainedBytes Maximum amount of bytes retained by buffer pool. Must not be negative.
+     * @param shrinkOnRelease Whether expanded buffers should be dropped on release.
+     * @throws IllegalArgumentException if bufferInitialCapacity or maxRetainedBytes is negative.
      */
     public SerializationBufferConfig(int initialCapacity, AllocationType allocationType,
-        IBufferResizeStrategy resizeStrategy)
+        IBufferResizeStrategy resizeStrategy, long maxRetainedBytes, boolean shrinkOnRelease)
+    {
+        this(initialCapacity, allocationType, resizeStrategy, maxRetainedBytes, shrinkOnRelease, 0);
+    }
+
+    /**
+     * Constructs an instance.
+     * <p>
+     * Public visibility is intended for factory usage and unit-testing of this class only.
+     *
+     * @param initialCapacity Initial capacity of buffer. Must not be negative.
+     * @param allocationType Type of buffer allocation.
+     * @param resizeStrategy Strategy of buffer resizing.
+     * @param maxRetainedBytes Maximum amount of bytes retained by buffer pool. Must not be negative.
+     * @param shrinkOnRelease Whether expanded buffers should be dropped on release.
+     * @param zeroCopyThreshold Minimal size of byte payload embedded by reference, zero to disable. Must not be
+     *                          negative.
+     * @throws IllegalArgumentException if bufferInitialCapacity, maxRetainedBytes or zeroCopyThreshold is negative.
+     */
+    public SerializationBufferConfig(int initialCapacity, AllocationType allocationType,
+        IBufferResizeStrategy resizeStrategy, long maxRetainedBytes, boolean shrinkOnRelease, int zeroCopyThreshold)
+    {
+        this(initialCapacity, allocationType, resizeStrategy, maxRetainedBytes, shrinkOnRelease, zeroCopyThreshold, 0);
+    }
+
+    /**
+     * Constructs an instance.
+     * <p>
+     * Public visibility is intended for factory usage and unit-testing of this class only.
+     *
+     * @param initialCapacity Initial capacity of buffer. Must not be negative.
+     * @param allocationType Type of buffer allocation.
+     * @param resizeStrategy Strategy of buffer resizing.
+     * @param maxRetainedBytes Maximum amount of bytes retained by buffer pool. Must not be negative.
+     * @param shrinkOnRelease Whether expanded buffers should be dropped on release.
+     * @param zeroCopyThreshold Minimal size of byte payload embedded by reference, zero to disable. Must not be
+     *                          negative.
+     * @param segmentSize Size of chunks of segmented buffer, zero for contiguous buffer. Must not be negative.
+     * @throws IllegalArgumentException if bufferInitialCapacity, maxRetainedBytes, zeroCopyThreshold or segmentSize
+     * is negative.
+     */
+    public SerializationBufferConfig(int initialCapacity, AllocationType allocationType,
+        IBufferResizeStrategy resizeStrategy, long maxRetainedBytes, boolean shrinkOnRelease, int zeroCopyThreshold,
+        int segmentSize)
     {
         if (initialCapacity < 0)
         {
             throw new IllegalArgumentException("bufferInitialCapacity < 0");
         }
+        if (maxRetainedBytes < 0)
+        {
+            throw new IllegalArgumentException("maxRetainedBytes < 0");
+        }
+        if (zeroCopyThreshold < 0)
+        {
+            throw new IllegalArgumentException("zeroCopyThreshold < 0");
+        }
+        if (segmentSize < 0)
+        {
+            throw new IllegalArgumentException("segmentSize < 0");
+        }
         this.initialCapacity = initialCapacity;
         this.allocationType = Objects.requireNonNull(allocationType);
         this.resizeStrategy = Objects.requireNonNull(resizeStrategy);
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.shrinkOnRelease = shrinkOnRelease;
+        this.zeroCopyThreshold = zeroCopyThreshold;
+        this.segmentSize = segmentSize;
     }
 
     @Override
@@ -80,4 +145,28 @@ public class SerializationBufferConfig
     {
         return resizeStrategy;
     }
+
+    @Override
+    public long getMaxRetainedBytes()
+    {
+        return maxRetainedBytes;
+    }
+
+    @Override
+    public boolean isShrinkOnRelease()
+    {
+        return shrinkOnRelease;
+    }
+
+    @Override
+    public int getZeroCopyThreshold()
+    {
+        return zeroCopyThreshold;
+    }
+
+    @Override
+    public int getSegmentSize()
+    {
+        return segmentSize;
+    }
 }
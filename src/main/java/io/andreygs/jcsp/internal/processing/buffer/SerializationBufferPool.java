@@ -0,0 +1,316 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferPoolMetrics;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of {@link ByteBuffer} instances grouped by power-of-two size classes.
+ * <p>
+ * Each thread has small cache of free buffers of small size classes in front of shared free lists. Buffers retained
+ * by both thread caches and shared free lists are bounded by {@link ISerializationBufferConfig#getMaxRetainedBytes()}
+ * of releasing buffer configuration.
+ * <p>
+ * Direct buffers are allocated through {@link DirectMemoryRegistry}. Memory of released direct buffer that is not
+ * retained is freed immediately.
+ *
+ * @implNote
+ * Requests for capacity greater than the largest size class are served by exact allocation and such buffers are
+ * never retained.
+ */
+public final class SerializationBufferPool
+    implements ISerializationBufferPool, ISerializationBufferPoolMetrics
+{
+    /**
+     * Binary logarithm of the smallest size class capacity.
+     */
+    private static final int MIN_SIZE_CLASS_SHIFT = 6;
+    /**
+     * Binary logarithm of the largest size class capacity.
+     */
+    private static final int MAX_SIZE_CLASS_SHIFT = 30;
+    private static final int SIZE_CLASSES_COUNT = MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1;
+    /**
+     * Number of size classes that are cached per thread (up to 64 KiB).
+     */
+    private static final int THREAD_CACHED_SIZE_CLASSES_COUNT = 11;
+    /**
+     * Maximum number of buffers of the same size class and allocation type that thread cache holds.
+     */
+    private static final int THREAD_CACHE_DEPTH = 4;
+    private static final int ALLOCATION_TYPES_COUNT = AllocationType.values().length;
+
+    /**
+     * Shared free lists indexed by allocation type and then by size class.
+     */
+    private final List<Queue<ByteBuffer>> sharedFreeLists =
+        new ArrayList<>(ALLOCATION_TYPES_COUNT * SIZE_CLASSES_COUNT);
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(ThreadCache::new);
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+
+    /**
+     * Constructs an instance.
+     */
+    public SerializationBufferPool()
+    {
+        for (int i = 0; i < ALLOCATION_TYPES_COUNT * SIZE_CLASSES_COUNT; ++i)
+        {
+            sharedFreeLists.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity, ISerializationBufferConfig serializationBufferConfig)
+    {
+        AllocationType allocationType = serializationBufferConfig.getAllocationType() == AllocationType.DIRECT
+                                        ? AllocationType.DIRECT
+                                        : AllocationType.HEAP;
+        int sizeClass = resolveSizeClass(capacity);
+        if (sizeClass < 0)
+        {
+            missCount.increment();
+            return allocateExact(capacity, allocationType);
+        }
+        ByteBuffer byteBuffer = threadCache.get().poll(allocationType, sizeClass);
+        if (byteBuffer == null)
+        {
+            byteBuffer = getSharedFreeList(allocationType, sizeClass).poll();
+        }
+        if (byteBuffer != null)
+        {
+            retainedBytes.addAndGet(-byteBuffer.capacity());
+        }
+        else
+        {
+            missCount.increment();
+            return allocateExact(getSizeClassCapacity(sizeClass), allocationType);
+        }
+        hitCount.increment();
+        if (allocationType == AllocationType.DIRECT)
+        {
+            DirectMemoryRegistry.getInstance().markInUse(byteBuffer);
+        }
+        byteBuffer.clear();
+        byteBuffer.order(ByteOrder.BIG_ENDIAN);
+        return byteBuffer;
+    }
+
+    @Override
+    public void release(ByteBuffer byteBuffer, ISerializationBufferConfig serializationBufferConfig)
+    {
+        if (!byteBuffer.isDirect())
+        {
+            retain(byteBuffer, serializationBufferConfig);
+            return;
+        }
+        // Buffer is marked before it becomes visible to other threads, which may take it for use right away.
+        DirectMemoryRegistry.getInstance().markIdle(byteBuffer);
+        if (!retain(byteBuffer, serializationBufferConfig))
+        {
+            DirectMemoryRegistry.getInstance().free(byteBuffer);
+        }
+    }
+
+    @Override
+    public boolean isRecycling()
+    {
+        return true;
+    }
+
+    @Override
+    public void recordLeak(int capacity)
+    {
+        leakCount.increment();
+    }
+
+    @Override
+    public ISerializationBufferPoolMetrics getMetrics()
+    {
+        return this;
+    }
+
+    @Override
+    public long getHitCount()
+    {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount()
+    {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getLeakCount()
+    {
+        return leakCount.sum();
+    }
+
+    @Override
+    public long getRetainedBytes()
+    {
+        return retainedBytes.get();
+    }
+
+    /**
+     * Puts buffer to thread cache or shared free list if it fits them.
+     *
+     * @return true if buffer is retained.
+     */
+    private boolean retain(ByteBuffer byteBuffer, ISerializationBufferConfig serializationBufferConfig)
+    {
+        int capacity = byteBuffer.capacity();
+        int sizeClass = resolveSizeClass(capacity);
+        if (sizeClass < 0 || getSizeClassCapacity(sizeClass) != capacity)
+        {
+            return false;
+        }
+        if (serializationBufferConfig.isShrinkOnRelease()
+                && sizeClass > resolveSizeClass(serializationBufferConfig.getInitialCapacity()))
+        {
+            return false;
+        }
+        if (!reserveRetainedBytes(capacity, serializationBufferConfig.getMaxRetainedBytes()))
+        {
+            return false;
+        }
+        AllocationType allocationType = byteBuffer.isDirect() ? AllocationType.DIRECT : AllocationType.HEAP;
+        if (!threadCache.get().offer(allocationType, sizeClass, byteBuffer))
+        {
+            getSharedFreeList(allocationType, sizeClass).offer(byteBuffer);
+        }
+        return true;
+    }
+
+    private Queue<ByteBuffer> getSharedFreeList(AllocationType allocationType, int sizeClass)
+    {
+        return sharedFreeLists.get(allocationType.ordinal() * SIZE_CLASSES_COUNT + sizeClass);
+    }
+
+    private boolean reserveRetainedBytes(int capacity, long maxRetainedBytes)
+    {
+        long current;
+        do
+        {
+            current = retainedBytes.get();
+            if (current + capacity > maxRetainedBytes)
+            {
+                return false;
+            }
+        }
+        while (!retainedBytes.compareAndSet(current, current + capacity));
+        return true;
+    }
+
+    /**
+     * Resolves size class that can serve the giving capacity.
+     *
+     * @param capacity Required capacity. Must not be negative.
+     * @return size class index or -1 if capacity exceeds the largest size class.
+     */
+    private static int resolveSizeClass(int capacity)
+    {
+        if (capacity <= 1 << MIN_SIZE_CLASS_SHIFT)
+        {
+            return 0;
+        }
+        int shift = Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+        return shift > MAX_SIZE_CLASS_SHIFT ? -1 : shift - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    private static int getSizeClassCapacity(int sizeClass)
+    {
+        return 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT);
+    }
+
+    private static ByteBuffer allocateExact(int capacity, AllocationType allocationType)
+    {
+        return allocationType == AllocationType.DIRECT
+               ? DirectMemoryRegistry.getInstance().allocate(capacity)
+               : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Per-thread bounded stacks of free buffers of small size classes.
+     */
+    private static final class ThreadCache
+    {
+        private final ByteBuffer[][][] stacks =
+            new ByteBuffer[ALLOCATION_TYPES_COUNT][THREAD_CACHED_SIZE_CLASSES_COUNT][THREAD_CACHE_DEPTH];
+        private final int[][] sizes = new int[ALLOCATION_TYPES_COUNT][THREAD_CACHED_SIZE_CLASSES_COUNT];
+
+        private @Nullable ByteBuffer poll(AllocationType allocationType, int sizeClass)
+        {
+            if (sizeClass >= THREAD_CACHED_SIZE_CLASSES_COUNT)
+            {
+                return null;
+            }
+            int type = allocationType.ordinal();
+            int size = sizes[type][sizeClass];
+            if (size == 0)
+            {
+                return null;
+            }
+            sizes[type][sizeClass] = --size;
+            ByteBuffer byteBuffer = stacks[type][sizeClass][size];
+            stacks[type][sizeClass][size] = null;
+            return byteBuffer;
+        }
+
+        private boolean offer(AllocationType allocationType, int sizeClass, ByteBuffer byteBuffer)
+        {
+            if (sizeClass >= THREAD_CACHED_SIZE_CLASSES_COUNT)
+            {
+                return false;
+            }
+            int type = allocationType.ordinal();
+            int size = sizes[type][sizeClass];
+            if (size == THREAD_CACHE_DEPTH)
+            {
+                return false;
+            }
+            stacks[type][sizeClass][size] = byteBuffer;
+            sizes[type][sizeClass] = size + 1;
+            return true;
+        }
+    }
+}
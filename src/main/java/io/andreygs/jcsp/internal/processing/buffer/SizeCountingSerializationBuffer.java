@@ -0,0 +1,205 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Serialization buffer that stores nothing and only counts written bytes.
+ * <p>
+ * It is used for size-computation pass: the same data processors which write message are run against this buffer,
+ * so resulting size is exactly the size of encoded message.
+ */
+public final class SizeCountingSerializationBuffer implements ISerializationBuffer
+{
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    private long size;
+
+    /**
+     * Gets number of bytes written so far.
+     *
+     * @return number of bytes written.
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Counts bytes without writing them, for data which encoded size is known up front (e.g. strings).
+     *
+     * @param length number of bytes.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    public void skip(long length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        size += length;
+    }
+
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return AllocationType.HEAP;
+    }
+
+    /**
+     * Gets empty read-only buffer.
+     *
+     * @return empty buffer.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        return EMPTY_BUFFER;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        size += Byte.BYTES;
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        size += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        size += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        size += Long.BYTES;
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        size += Character.BYTES;
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        size += Float.BYTES;
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        size += Double.BYTES;
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Byte.BYTES;
+    }
+
+    @Override
+    public void write(ByteBuffer value)
+    {
+        size += value.remaining();
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Short.BYTES;
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Integer.BYTES;
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Long.BYTES;
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Character.BYTES;
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Float.BYTES;
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        size += (long) length * Double.BYTES;
+    }
+
+    @Override
+    public void commitBuffer()
+    {
+    }
+
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return new ByteBuffer[] { EMPTY_BUFFER };
+    }
+
+    @Override
+    public void release()
+    {
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Decides whether memory underlying a deserialization buffer may be given back to its owner on buffer release.
+ * <p>
+ * Slice shares memory with the buffer, and so does every view derived from it (e.g. by {@link ByteBuffer#duplicate()},
+ * {@link ByteBuffer#slice()} or {@link ByteBuffer#asReadOnlyBuffer()}). Such views reference only the root allocation,
+ * which the owner holds as well, so their lifetime cannot be observed. Therefore memory is given back only if no slice
+ * was handed out, otherwise it is left to the garbage collector, which frees it after the last view is unreachable.
+ *
+ * @implNote
+ * Tracking the root allocation by {@link java.lang.ref.Cleaner} is not possible: release action references the root,
+ * so it never becomes phantom reachable.
+ */
+final class SliceLifetimeTracker
+{
+    private final Runnable releaseAction;
+
+    private boolean sliceHandedOut;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param releaseAction Action giving underlying memory back to its owner.
+     */
+    SliceLifetimeTracker(Runnable releaseAction)
+    {
+        this.releaseAction = Objects.requireNonNull(releaseAction);
+    }
+
+    /**
+     * Registers slice, so underlying memory is not given back to its owner.
+     *
+     * @param slice Slice of underlying memory.
+     * @return the same slice.
+     */
+    ByteBuffer track(ByteBuffer slice)
+    {
+        sliceHandedOut = true;
+        return slice;
+    }
+
+    /**
+     * Runs release action, if no slice was handed out. Must be called once, on buffer release.
+     */
+    void releaseOwner()
+    {
+        if (!sliceHandedOut)
+        {
+            releaseAction.run();
+        }
+    }
+}
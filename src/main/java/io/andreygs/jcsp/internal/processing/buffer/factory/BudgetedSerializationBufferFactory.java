@@ -0,0 +1,137 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.processing.buffer.ArenaBufferSupport;
+import io.andreygs.jcsp.internal.processing.buffer.BudgetedByteBufferAllocator;
+import io.andreygs.jcsp.internal.processing.buffer.IByteBufferAllocator;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryGovernor;
+import io.andreygs.jcsp.internal.processing.buffer.SegmentedSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Factory for creating {@link ISerializationBuffer} instances which allocations and growth are limited by
+ * {@link MemoryGovernor}.
+ * <p>
+ * With {@link MemoryBudgetPolicy#SPILL_TO_FILE} policy buffer which initial capacity doesn't fit the budget is
+ * replaced by {@link MappedFileSerializationBuffer} over temporary file, which is deleted on release (on some
+ * platforms it is unlinked right after opening).
+ * <p>
+ * If {@link ISerializationBufferConfig#getSegmentSize()} is positive, then {@link SegmentedSerializationBuffer} is
+ * created, which chunks are allocated within the budget as well. Segments of buffers of {@link AllocationType#ARENA}
+ * allocation type are reserved against the same budget.
+ */
+public final class BudgetedSerializationBufferFactory
+    implements ISerializationBufferFactory
+{
+    /**
+     * Maximum size of mapped window of spilled buffers.
+     */
+    private static final int SPILL_MAX_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final String SPILL_FILE_PREFIX = "jcsp-spill-";
+
+    private final IByteBufferAllocator byteBufferAllocator;
+
+    private final MemoryGovernor memoryGovernor;
+
+    private final ISerializationBufferFactory segmentedSerializationBufferFactory;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param byteBufferAllocator Allocator of underlying buffers, it is wrapped by
+     * {@link BudgetedByteBufferAllocator}.
+     * @param memoryGovernor Keeper of memory budget.
+     */
+    public BudgetedSerializationBufferFactory(IByteBufferAllocator byteBufferAllocator, MemoryGovernor memoryGovernor)
+    {
+        this.memoryGovernor = Objects.requireNonNull(memoryGovernor);
+        this.byteBufferAllocator = new BudgetedByteBufferAllocator(byteBufferAllocator, memoryGovernor);
+        this.segmentedSerializationBufferFactory = new SegmentedSerializationBufferFactory(this.byteBufferAllocator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CspRuntimeException with {@link CspStatus#NO_MEMORY} status if initial capacity can't be reserved and
+     * budget policy is not {@link MemoryBudgetPolicy#SPILL_TO_FILE}.
+     * @throws UncheckedIOException if temporary file can't be created.
+     */
+    @Override
+    public ISerializationBuffer create(ISerializationBufferConfig serializationBufferConfig)
+    {
+        try
+        {
+            if (serializationBufferConfig.getAllocationType() == AllocationType.ARENA)
+            {
+                return ArenaBufferSupport.createSerializationBuffer(serializationBufferConfig, memoryGovernor);
+            }
+            if (serializationBufferConfig.getSegmentSize() > 0)
+            {
+                return segmentedSerializationBufferFactory.create(serializationBufferConfig);
+            }
+            return new SerializationBuffer(serializationBufferConfig, byteBufferAllocator);
+        }
+        catch (CspRuntimeException e)
+        {
+            if (e.getCspStatus() != CspStatus.NO_MEMORY
+                    || memoryGovernor.getMemoryBudgetConfig().getPolicy() != MemoryBudgetPolicy.SPILL_TO_FILE)
+            {
+                throw e;
+            }
+        }
+        memoryGovernor.recordSpill();
+        return new MappedFileSerializationBuffer(serializationBufferConfig, createSpillFile(),
+            SPILL_MAX_WINDOW_SIZE, true);
+    }
+
+    private Path createSpillFile()
+    {
+        try
+        {
+            return Files.createTempFile(memoryGovernor.getMemoryBudgetConfig().getSpillDirectory(),
+                SPILL_FILE_PREFIX, null);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
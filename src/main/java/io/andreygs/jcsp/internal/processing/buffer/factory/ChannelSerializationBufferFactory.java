@@ -0,0 +1,90 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.ChannelSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.IByteBufferAllocator;
+
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Factory for creating {@link ChannelSerializationBuffer} instances.
+ */
+public final class ChannelSerializationBufferFactory
+    implements IChannelSerializationBufferFactory
+{
+    /**
+     * Default size of window, if no explicit value was provided.
+     */
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024;
+
+    private final IByteBufferAllocator byteBufferAllocator;
+    private final int windowSize;
+
+    /**
+     * Constructs an instance with default window size.
+     *
+     * @param byteBufferAllocator Allocator of windows.
+     */
+    public ChannelSerializationBufferFactory(IByteBufferAllocator byteBufferAllocator)
+    {
+        this(byteBufferAllocator, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param byteBufferAllocator Allocator of windows.
+     * @param windowSize Size of window. Must be not less than {@link Long#BYTES}.
+     * @throws IllegalArgumentException if window size is too small.
+     */
+    public ChannelSerializationBufferFactory(IByteBufferAllocator byteBufferAllocator, int windowSize)
+    {
+        if (windowSize < Long.BYTES)
+        {
+            throw new IllegalArgumentException("windowSize < Long.BYTES");
+        }
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public ChannelSerializationBuffer create(ISerializationBufferConfig serializationBufferConfig,
+        WritableByteChannel channel)
+    {
+        return new ChannelSerializationBuffer(serializationBufferConfig, channel, byteBufferAllocator, windowSize);
+    }
+
+    @Override
+    public ChannelSerializationBuffer create(ISerializationBufferConfig serializationBufferConfig, OutputStream outputStream)
+    {
+        return create(serializationBufferConfig, Channels.newChannel(outputStream));
+    }
+}
@@ -25,10 +25,18 @@
 
 package io.andreygs.jcsp.internal.processing.buffer.factory;
 
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.internal.processing.buffer.ArenaBufferSupport;
+import io.andreygs.jcsp.internal.processing.buffer.ChannelDeserializationBuffer;
 import io.andreygs.jcsp.internal.processing.buffer.DeserializationBuffer;
 import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileDeserializationBuffer;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 
 /**
  * Stateless factory for creating {@link IDeserializationBuffer} instances.
@@ -36,9 +44,60 @@ import java.nio.ByteBuffer;
 public final class DeserializationBufferFactory
     implements IDeserializationBufferFactory
 {
+    /**
+     * Default maximum size of mapped window of memory-mapped file buffers.
+     */
+    private static final int DEFAULT_MAX_WINDOW_SIZE = 1024 * 1024 * 1024;
+
+    /**
+     * Default size of refillable window of channel buffers.
+     */
+    private static final int DEFAULT_CHANNEL_WINDOW_SIZE = 64 * 1024;
+
     @Override
     public IDeserializationBuffer create(ByteBuffer byteBuffer)
     {
         return new DeserializationBuffer(byteBuffer);
     }
+
+    @Override
+    public IDeserializationBuffer create(ByteBuffer byteBuffer, Runnable releaseAction)
+    {
+        return new DeserializationBuffer(byteBuffer, releaseAction);
+    }
+
+    @Override
+    public IDeserializationBuffer create(ByteBuffer byteBuffer, AllocationType allocationType)
+    {
+        if (allocationType == AllocationType.ARENA)
+        {
+            return ArenaBufferSupport.createDeserializationBuffer(byteBuffer);
+        }
+        return create(byteBuffer);
+    }
+
+    @Override
+    public IDeserializationBuffer create(Path file, long position, long size)
+    {
+        return new MappedFileDeserializationBuffer(file, position, size, DEFAULT_MAX_WINDOW_SIZE);
+    }
+
+    @Override
+    public IDeserializationBuffer create(ReadableByteChannel channel)
+    {
+        return new ChannelDeserializationBuffer(channel, AllocationType.DIRECT, DEFAULT_CHANNEL_WINDOW_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Window is allocated in heap, because stream is read through intermediate byte array anyway.
+     */
+    @Override
+    public IDeserializationBuffer create(InputStream inputStream)
+    {
+        return new ChannelDeserializationBuffer(Channels.newChannel(inputStream), AllocationType.HEAP,
+            DEFAULT_CHANNEL_WINDOW_SIZE);
+    }
 }
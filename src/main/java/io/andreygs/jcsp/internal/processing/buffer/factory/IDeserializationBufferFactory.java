@@ -25,9 +25,13 @@
 
 package io.andreygs.jcsp.internal.processing.buffer.factory;
 
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
 import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 
 /**
  * Factory for creating {@link IDeserializationBuffer} instance.
@@ -41,4 +45,60 @@ public interface IDeserializationBufferFactory
      * @return created instance.
      */
     IDeserializationBuffer create(ByteBuffer byteBuffer);
+
+    /**
+     * Creates {@link IDeserializationBuffer} with provided ByteBuffer as source of CSP serialized message, which is
+     * given back to its owner (e.g. pool) when it is not used anymore.
+     * <p>
+     * Source buffer is not given back if {@link IDeserializationBuffer#readSlice(int)} was called, so its memory is
+     * not recycled under returned slices and views derived from them. It is left to the garbage collector instead.
+     *
+     * @param byteBuffer Buffer that contains CSP serialized message.
+     * @param releaseAction Action giving source buffer back. It is run at most once, on release.
+     * @return created instance. It must be released to run release action.
+     */
+    IDeserializationBuffer create(ByteBuffer byteBuffer, Runnable releaseAction);
+
+    /**
+     * Creates {@link IDeserializationBuffer} with provided ByteBuffer as source of CSP serialized message, using
+     * access backend of the giving allocation type.
+     *
+     * @param byteBuffer Buffer that contains CSP serialized message.
+     * @param allocationType Allocation type which backend should be used. {@link AllocationType#HEAP} and
+     *                       {@link AllocationType#DIRECT} are equivalent, since buffer is already allocated.
+     * @return created instance.
+     * @throws UnsupportedOperationException if allocation type is not supported by current runtime.
+     */
+    IDeserializationBuffer create(ByteBuffer byteBuffer, AllocationType allocationType);
+
+    /**
+     * Creates {@link IDeserializationBuffer} that reads CSP serialized message in place from memory-mapped region of
+     * the file.
+     *
+     * @param file File that contains CSP serialized message.
+     * @param position Position of message in file. Must not be negative.
+     * @param size Size of message. Must not be negative.
+     * @return created instance. It must be released to close the file.
+     * @throws IllegalArgumentException if region is out of file bounds.
+     * @throws java.io.UncheckedIOException if file cannot be opened or mapped.
+     */
+    IDeserializationBuffer create(Path file, long position, long size);
+
+    /**
+     * Creates {@link IDeserializationBuffer} that reads CSP serialized message from channel through refillable
+     * window.
+     *
+     * @param channel Blocking channel to read message from. It is not closed by buffer.
+     * @return created instance.
+     */
+    IDeserializationBuffer create(ReadableByteChannel channel);
+
+    /**
+     * Creates {@link IDeserializationBuffer} that reads CSP serialized message from input stream through refillable
+     * window.
+     *
+     * @param inputStream Stream to read message from. It is not closed by buffer.
+     * @return created instance.
+     */
+    IDeserializationBuffer create(InputStream inputStream);
 }
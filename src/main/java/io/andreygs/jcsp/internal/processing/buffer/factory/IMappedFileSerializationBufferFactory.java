@@ -0,0 +1,48 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+
+import java.nio.file.Path;
+
+/**
+ * Factory for creating {@link ISerializationBuffer} instances that write message straight into memory-mapped file.
+ */
+public interface IMappedFileSerializationBufferFactory
+{
+    /**
+     * Creates buffer writing to file. File is created if it does not exist and truncated otherwise.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param file File to write message to.
+     * @return created instance.
+     * @throws java.io.UncheckedIOException if file cannot be opened or mapped.
+     */
+    MappedFileSerializationBuffer create(ISerializationBufferConfig serializationBufferConfig, Path file);
+}
@@ -0,0 +1,58 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Factory for creating {@link IMemoryBudgetConfig} instances.
+ */
+public interface IMemoryBudgetConfigFactory
+{
+    /**
+     * Creates {@link IMemoryBudgetConfig} instance.
+     *
+     * @param budgetBytes    Maximum total capacity of buffers held at once. If null, then default value will be used.
+     * @param policy         Behaviour when budget is exhausted. If null, then default value will be used.
+     * @param blockTimeout   Maximum time to wait for memory. If null, then default value will be used.
+     * @param spillDirectory Directory of temporary files. If null, then default value will be used.
+     * @return created instance.
+     */
+    IMemoryBudgetConfig create(@Nullable Long budgetBytes, @Nullable MemoryBudgetPolicy policy,
+        @Nullable Duration blockTimeout, @Nullable Path spillDirectory);
+
+    /**
+     * Provides default config, where all parameters will have default values.
+     *
+     * @return provided instance.
+     */
+    IMemoryBudgetConfig provideDefault();
+}
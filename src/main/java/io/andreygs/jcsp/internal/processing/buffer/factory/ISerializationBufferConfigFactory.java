@@ -42,14 +42,23 @@ public interface ISerializationBufferConfigFactory
      *                              then default value will be used.
      * @param allocationType        Buffer allocation type. If null, then default value will be used.
      * @param bufferResizeStrategy  Strategy of buffer resizing. If null, then default value will be used.
+     * @param maxRetainedBytes      Maximum amount of bytes retained by buffer pool. If null, then default value will be
+     *                              used.
+     * @param shrinkOnRelease       Whether expanded buffers should be dropped on release. If null, then default value
+     *                              will be used.
+     * @param zeroCopyThreshold     Minimal size of byte payload embedded by reference. If null, then default value
+     *                              will be used.
+     * @param segmentSize           Size of chunks of segmented buffer, zero for contiguous buffer. If null, then
+     *                              default value will be used.
      * @return created instance.
      */
     ISerializationBufferConfig create(@Nullable Integer initialBufferCapacity,
-        @Nullable AllocationType allocationType, @Nullable IBufferResizeStrategy bufferResizeStrategy);
+        @Nullable AllocationType allocationType, @Nullable IBufferResizeStrategy bufferResizeStrategy,
+        @Nullable Long maxRetainedBytes, @Nullable Boolean shrinkOnRelease, @Nullable Integer zeroCopyThreshold,
+        @Nullable Integer segmentSize);
 
     /**
-     * Provides default config, where initial capacity, allocation type and buffer resize strategy will have default
-     * values.
+     * Provides default config, where all parameters will have default values.
      *
      * @return provided instance.
      */
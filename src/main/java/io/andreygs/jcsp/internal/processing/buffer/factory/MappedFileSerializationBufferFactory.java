@@ -0,0 +1,74 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+
+import java.nio.file.Path;
+
+/**
+ * Factory for creating {@link MappedFileSerializationBuffer} instances.
+ */
+public final class MappedFileSerializationBufferFactory
+    implements IMappedFileSerializationBufferFactory
+{
+    /**
+     * Default maximum size of mapped window, if no explicit value was provided.
+     */
+    private static final int DEFAULT_MAX_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private final int maxWindowSize;
+
+    /**
+     * Constructs an instance with default maximum window size.
+     */
+    public MappedFileSerializationBufferFactory()
+    {
+        this(DEFAULT_MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param maxWindowSize Maximum size of mapped window. Must be at least {@link Long#BYTES}.
+     * @throws IllegalArgumentException if maxWindowSize is less than {@link Long#BYTES}.
+     */
+    public MappedFileSerializationBufferFactory(int maxWindowSize)
+    {
+        if (maxWindowSize < Long.BYTES)
+        {
+            throw new IllegalArgumentException("maxWindowSize < Long.BYTES");
+        }
+        this.maxWindowSize = maxWindowSize;
+    }
+
+    @Override
+    public MappedFileSerializationBuffer create(ISerializationBufferConfig serializationBufferConfig, Path file)
+    {
+        return new MappedFileSerializationBuffer(serializationBufferConfig, file, maxWindowSize);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryBudgetConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Factory for creating {@link IMemoryBudgetConfig} instances.
+ * <p>
+ * Default config imposes no limit.
+ */
+public class MemoryBudgetConfigFactory implements IMemoryBudgetConfigFactory
+{
+    /**
+     * Default budget, if no explicit value was provided.
+     */
+    private static final long DEFAULT_BUDGET_BYTES = Long.MAX_VALUE;
+
+    /**
+     * Default behaviour when budget is exhausted, if no explicit value was provided.
+     */
+    private static final MemoryBudgetPolicy DEFAULT_POLICY = MemoryBudgetPolicy.BLOCK;
+
+    /**
+     * Default maximum time to wait for memory, if no explicit value was provided.
+     */
+    private static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Default directory of temporary files, if no explicit value was provided.
+     */
+    private static final Path DEFAULT_SPILL_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Default immutable cached instance of {@link IMemoryBudgetConfig}.
+     */
+    private static final IMemoryBudgetConfig DEFAULT_MEMORY_BUDGET_CONFIG =
+        new MemoryBudgetConfig(DEFAULT_BUDGET_BYTES, DEFAULT_POLICY, DEFAULT_BLOCK_TIMEOUT, DEFAULT_SPILL_DIRECTORY);
+
+    @Override
+    public IMemoryBudgetConfig create(@Nullable Long budgetBytes, @Nullable MemoryBudgetPolicy policy,
+        @Nullable Duration blockTimeout, @Nullable Path spillDirectory)
+    {
+        return new MemoryBudgetConfig(
+            budgetBytes == null ? DEFAULT_BUDGET_BYTES : budgetBytes,
+            policy == null ? DEFAULT_POLICY : policy,
+            blockTimeout == null ? DEFAULT_BLOCK_TIMEOUT : blockTimeout,
+            spillDirectory == null ? DEFAULT_SPILL_DIRECTORY : spillDirectory);
+    }
+
+    @Override
+    public IMemoryBudgetConfig provideDefault()
+    {
+        return DEFAULT_MEMORY_BUDGET_CONFIG;
+    }
+}
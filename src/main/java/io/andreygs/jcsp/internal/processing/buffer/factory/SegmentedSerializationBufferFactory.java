@@ -0,0 +1,86 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.IByteBufferAllocator;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SegmentedSerializationBuffer;
+
+import java.util.Objects;
+
+/**
+ * Factory for creating {@link SegmentedSerializationBuffer} instances.
+ * <p>
+ * Chunk size is taken from {@link ISerializationBufferConfig#getSegmentSize()}, and if it is zero, then factory one
+ * is used.
+ */
+public final class SegmentedSerializationBufferFactory
+    implements ISerializationBufferFactory
+{
+    /**
+     * Default size of chunk, if no explicit value was provided neither to factory nor to buffer configuration.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final IByteBufferAllocator byteBufferAllocator;
+    private final int chunkSize;
+
+    /**
+     * Constructs an instance with default chunk size.
+     *
+     * @param byteBufferAllocator Allocator of chunks.
+     */
+    public SegmentedSerializationBufferFactory(IByteBufferAllocator byteBufferAllocator)
+    {
+        this(byteBufferAllocator, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param byteBufferAllocator Allocator of chunks.
+     * @param chunkSize Size of each chunk, if buffer configuration doesn't specify it. Must be positive.
+     * @throws IllegalArgumentException if chunkSize is not positive.
+     */
+    public SegmentedSerializationBufferFactory(IByteBufferAllocator byteBufferAllocator, int chunkSize)
+    {
+        if (chunkSize <= 0)
+        {
+            throw new IllegalArgumentException("chunkSize <= 0");
+        }
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ISerializationBuffer create(ISerializationBufferConfig serializationBufferConfig)
+    {
+        int segmentSize = serializationBufferConfig.getSegmentSize();
+        return new SegmentedSerializationBuffer(serializationBufferConfig, byteBufferAllocator,
+            segmentSize > 0 ? segmentSize : chunkSize);
+    }
+}
@@ -47,20 +47,45 @@ public class SerializationBufferConfigFactory implements ISerializationBufferCon
      * Default immutable cached instance of {@link IBufferResizeStrategy}.
      */
     private static final IBufferResizeStrategy DEFAULT_BUFFER_RESIZE_STRATEGY = new DoublingBufferSizeStrategy();
+    /**
+     * Default maximum amount of bytes retained by buffer pool, if no explicit value was provided.
+     */
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 32L * 1024 * 1024;
+    /**
+     * Default behaviour of expanded buffers on release, if no explicit value was provided.
+     */
+    private static final boolean DEFAULT_SHRINK_ON_RELEASE = false;
+    /**
+     * Default zero-copy threshold, if no explicit value was provided. Payloads are always copied, because referencing
+     * requires caller to keep them unchanged until message is written out.
+     */
+    private static final int DEFAULT_ZERO_COPY_THRESHOLD = 0;
+    /**
+     * Default segment size, if no explicit value was provided. Buffers are contiguous, because most consumers expect
+     * message as single buffer.
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 0;
     /**
      * Default immutable cached instance of {@link ISerializationBufferConfig}.
      */
     private static final ISerializationBufferConfig DEFAULT_BUFFER_CONFIG =
-        new SerializationBufferConfig(DEFAULT_CAPACITY_SIZE, AllocationType.DIRECT, DEFAULT_BUFFER_RESIZE_STRATEGY);
+        new SerializationBufferConfig(DEFAULT_CAPACITY_SIZE, AllocationType.DIRECT, DEFAULT_BUFFER_RESIZE_STRATEGY,
+            DEFAULT_MAX_RETAINED_BYTES, DEFAULT_SHRINK_ON_RELEASE, DEFAULT_ZERO_COPY_THRESHOLD, DEFAULT_SEGMENT_SIZE);
 
     @Override
     public ISerializationBufferConfig create(@Nullable Integer initialBufferCapacity,
-        @Nullable AllocationType allocationType, @Nullable IBufferResizeStrategy bufferResizeStrategy)
+        @Nullable AllocationType allocationType, @Nullable IBufferResizeStrategy bufferResizeStrategy,
+        @Nullable Long maxRetainedBytes, @Nullable Boolean shrinkOnRelease, @Nullable Integer zeroCopyThreshold,
+        @Nullable Integer segmentSize)
     {
         return new SerializationBufferConfig(
             initialBufferCapacity == null ? DEFAULT_CAPACITY_SIZE : initialBufferCapacity,
             allocationType == null ? AllocationType.DIRECT : allocationType,
-            bufferResizeStrategy ==  null ? DEFAULT_BUFFER_RESIZE_STRATEGY : bufferResizeStrategy);
+            bufferResizeStrategy ==  null ? DEFAULT_BUFFER_RESIZE_STRATEGY : bufferResizeStrategy,
+            maxRetainedBytes == null ? DEFAULT_MAX_RETAINED_BYTES : maxRetainedBytes,
+            shrinkOnRelease == null ? DEFAULT_SHRINK_ON_RELEASE : shrinkOnRelease,
+            zeroCopyThreshold == null ? DEFAULT_ZERO_COPY_THRESHOLD : zeroCopyThreshold,
+            segmentSize == null ? DEFAULT_SEGMENT_SIZE : segmentSize);
     }
 
     @Override
@@ -25,7 +25,9 @@
 
 package io.andreygs.jcsp.internal.processing.buffer.factory;
 
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
 import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.ArenaBufferSupport;
 import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
 import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
 
@@ -38,6 +40,10 @@ public final class SerializationBufferFactory
     @Override
     public ISerializationBuffer create(ISerializationBufferConfig serializationBufferConfig)
     {
+        if (serializationBufferConfig.getAllocationType() == AllocationType.ARENA)
+        {
+            return ArenaBufferSupport.createSerializationBuffer(serializationBufferConfig);
+        }
         return new SerializationBuffer(serializationBufferConfig);
     }
 }
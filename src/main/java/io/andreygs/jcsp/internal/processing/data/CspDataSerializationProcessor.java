@@ -29,19 +29,29 @@ import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExtension;
 import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.protocol.CspStatus;
 import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SizeCountingSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspFixedSizeFieldBlock;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspOpcodeProgram;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorDescriptorProvider;
+import io.andreygs.jcsp.internal.processing.data.string.IStringCodec;
+import io.andreygs.jcsp.internal.processing.data.string.StringCodecProvider;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 import io.andreygs.jcsp.api.protocol.CspDataFlag;
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
 import io.andreygs.jcsp.internal.processing.data.type.IGenericTypeVariableProcessorMap;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.AnnotatedType;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
@@ -51,9 +61,10 @@ import java.util.Stack;
  * <p>
  *
  */
-public final class CspDataSerializationProcessor implements ICspDataSerializationProcessor
+public final class CspDataSerializationProcessor implements ICspExtendedDataSerializationProcessor
 {
     private final ISerializationBuffer cspSerializationBuffer;
+    private final @Nullable SizeCountingSerializationBuffer sizeCountingBuffer;
     private final ICspClassProcessorDescriptorProvider<ICspClassSerializationProcessor<?>>
         cspClassProcessorDescriptorProvider;
     private final ICspTypeProcessorProvider<ICspTypeSerializationProcessor> cspTypeProcessorProvider;
@@ -69,11 +80,17 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
         ICspDataMessageContextExtension cspDataMessageContextExtension)
     {
         this.cspSerializationBuffer = Objects.requireNonNull(cspSerializationBuffer);
+        sizeCountingBuffer = cspSerializationBuffer instanceof SizeCountingSerializationBuffer countingBuffer
+                             ? countingBuffer
+                             : null;
         this.cspClassProcessorDescriptorProvider = Objects.requireNonNull(cspClassProcessorDescriptorProvider);
         this.cspTypeProcessorProvider = Objects.requireNonNull(cspTypeProcessorProvider);
         this.cspDataMessageContext = Objects.requireNonNull(cspDataMessageContext);
         this.cspDataMessageContextExtension = Objects.requireNonNull(cspDataMessageContextExtension);
-        referenceMap = cspDataMessageContextExtension.isCheckRecursivePointers() ? new HashMap<Object, Integer>() : null;
+        referenceMap = cspDataMessageContextExtension.isCheckRecursivePointers()
+                       || cspDataMessageContextExtension.isCheckRecursivePointersWhileMaintainingLinkStructure()
+                       ? new IdentityHashMap<Object, Integer>()
+                       : null;
     }
 
     /**
@@ -88,6 +105,7 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(boolean value)
     {
+        cspSerializationBuffer.writeByte(value ? (byte) 1 : (byte) 0);
     }
 
     /**
@@ -110,7 +128,11 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeByte(byte value)
     {
-
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Byte.BYTES);
+        }
+        cspSerializationBuffer.writeByte(value);
     }
 
     /**
@@ -133,7 +155,11 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeShort(short value)
     {
-
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Short.BYTES);
+        }
+        cspSerializationBuffer.writeShort(value);
     }
 
     /**
@@ -156,7 +182,11 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeInt(int value)
     {
-
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Integer.BYTES);
+        }
+        cspSerializationBuffer.writeInt(value);
     }
 
     /**
@@ -179,7 +209,11 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeLong(long value)
     {
-
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Long.BYTES);
+        }
+        cspSerializationBuffer.writeLong(value);
     }
 
     /**
@@ -194,7 +228,7 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeChar(char value)
     {
-
+        cspSerializationBuffer.writeChar(value);
     }
 
     /**
@@ -209,7 +243,7 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeFloat(float value)
     {
-
+        cspSerializationBuffer.writeFloat(value);
     }
 
     /**
@@ -224,13 +258,229 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serializeDouble(double value)
     {
+        cspSerializationBuffer.writeDouble(value);
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Capacity for the whole block is reserved once and fields are written with unchecked writes, so encoding is
+     * the same as if every field was serialized by its own primitive method.
+     */
+    @Override
+    public void serialize(Object value, CspFixedSizeFieldBlock fieldBlock)
+    {
+        boolean sizeOfIntegersMayBeNotEqual = cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual();
+        cspSerializationBuffer.reserve(fieldBlock.getSize(sizeOfIntegersMayBeNotEqual));
+        fieldBlock.write(value, cspSerializationBuffer, sizeOfIntegersMayBeNotEqual);
     }
 
     @Override
-    public void serialize(boolean[] value)
+    public void reserveFixedSize(int size, int sizeWithIntegerSizes)
+    {
+        cspSerializationBuffer.reserve(cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual()
+                                       ? sizeWithIntegerSizes
+                                       : size);
+    }
+
+    @Override
+    public void serializeUnchecked(boolean value)
+    {
+        cspSerializationBuffer.writeByteUnchecked(value ? (byte) 1 : (byte) 0);
+    }
+
+    @Override
+    public void serializeByteUnchecked(byte value)
+    {
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByteUnchecked((byte) Byte.BYTES);
+        }
+        cspSerializationBuffer.writeByteUnchecked(value);
+    }
+
+    @Override
+    public void serializeShortUnchecked(short value)
+    {
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByteUnchecked((byte) Short.BYTES);
+        }
+        cspSerializationBuffer.writeShortUnchecked(value);
+    }
+
+    @Override
+    public void serializeIntUnchecked(int value)
+    {
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByteUnchecked((byte) Integer.BYTES);
+        }
+        cspSerializationBuffer.writeIntUnchecked(value);
+    }
+
+    @Override
+    public void serializeLongUnchecked(long value)
+    {
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByteUnchecked((byte) Long.BYTES);
+        }
+        cspSerializationBuffer.writeLongUnchecked(value);
+    }
+
+    @Override
+    public void serializeCharUnchecked(char value)
+    {
+        cspSerializationBuffer.writeCharUnchecked(value);
+    }
+
+    @Override
+    public void serializeFloatUnchecked(float value)
+    {
+        cspSerializationBuffer.writeFloatUnchecked(value);
+    }
+
+    @Override
+    public void serializeDoubleUnchecked(double value)
+    {
+        cspSerializationBuffer.writeDoubleUnchecked(value);
+    }
+
+    @Override
+    public void serialize(Object value, CspOpcodeProgram program)
+    {
+        program.execute(value, cspSerializationBuffer, cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual(),
+            this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Serialization includes next steps:
+     * <ol>
+     *    <li>Writing pointer mark, the same as {@link #serialize(Object, boolean, Class)} does.</li>
+     *    <li>Serialization of value by processor of its runtime class, while processors of type variables are
+     *    available to processors of its fields.</li>
+     * </ol>
+     */
+    @Override
+    public void serialize(@Nullable Object value, boolean reference,
+        IGenericTypeVariableProcessorMap typeVariableProcessorMap)
+    {
+        Objects.requireNonNull(typeVariableProcessorMap);
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (genericTypeVariableProcessorMapStack == null)
+        {
+            genericTypeVariableProcessorMapStack = new Stack<>();
+        }
+        genericTypeVariableProcessorMapStack.push(typeVariableProcessorMap);
+        try
+        {
+            serializeByClassProcessor(value, value.getClass());
+        }
+        finally
+        {
+            genericTypeVariableProcessorMapStack.pop();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Serialization includes next steps:
+     * <ol>
+     *    <li>Writing pointer mark.</li>
+     *    <li>Writing number of items in 8 octets, if array is not of fixed size.</li>
+     *    <li>Serialization of every item by item type processor.</li>
+     * </ol>
+     */
+    @Override
+    public void serialize(@Nullable Object @Nullable [] value, boolean reference, boolean fixedSize,
+        ICspTypeSerializationProcessor itemTypeProcessor)
+    {
+        Objects.requireNonNull(itemTypeProcessor);
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        for (@Nullable Object item : value)
+        {
+            itemTypeProcessor.serialize(item, this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Serialization includes next steps:
+     * <ol>
+     *    <li>Writing pointer mark.</li>
+     *    <li>Writing number of items in 8 octets.</li>
+     *    <li>Serialization of every item in order of iteration by item type processor.</li>
+     * </ol>
+     */
+    @Override
+    public void serialize(@Nullable Collection<@Nullable Object> value, boolean reference,
+        ICspTypeSerializationProcessor itemTypeProcessor)
     {
+        Objects.requireNonNull(itemTypeProcessor);
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        cspSerializationBuffer.writeLong(value.size());
+        for (@Nullable Object item : value)
+        {
+            itemTypeProcessor.serialize(item, this);
+        }
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Serialization includes next steps:
+     * <ol>
+     *    <li>Writing pointer mark.</li>
+     *    <li>Writing number of entries in 8 octets.</li>
+     *    <li>Serialization of key and then of value of every entry in order of iteration by their type
+     *    processors.</li>
+     * </ol>
+     */
+    @Override
+    public void serialize(@Nullable Map<@Nullable Object, @Nullable Object> value, boolean reference,
+        ICspTypeSerializationProcessor valueTypeProcessor, ICspTypeSerializationProcessor keyTypeProcessor)
+    {
+        Objects.requireNonNull(valueTypeProcessor);
+        Objects.requireNonNull(keyTypeProcessor);
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        cspSerializationBuffer.writeLong(value.size());
+        for (Map.Entry<@Nullable Object, @Nullable Object> entry : value.entrySet())
+        {
+            keyTypeProcessor.serialize(entry.getKey(), this);
+            valueTypeProcessor.serialize(entry.getValue(), this);
+        }
+    }
+
+    @Override
+    public void serialize(boolean[] value)
+    {
+        serialize(value, false, true);
     }
 
     /**
@@ -276,13 +526,21 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(boolean @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(byte[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -335,13 +593,57 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(byte @Nullable [] value, boolean reference, boolean fixedSize)
     {
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Byte.BYTES);
+        }
+        cspSerializationBuffer.write(value);
+    }
+
+    @Override
+    public void serialize(ByteBuffer value)
+    {
+        serialize(value, false, true);
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Serialization includes the same steps as for byte[] (see {@link #serialize(byte[], boolean, boolean)}).
+     * Remaining bytes of value are written with {@link ISerializationBuffer#write(ByteBuffer)}, so buffer may record
+     * them by reference instead of copying.
+     */
+    @Override
+    public void serialize(@Nullable ByteBuffer value, boolean reference, boolean fixedSize)
+    {
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.remaining());
+        }
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Byte.BYTES);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(short[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -394,13 +696,25 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(short @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Short.BYTES);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(int[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -453,13 +767,25 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(int @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Integer.BYTES);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(long[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -512,13 +838,25 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(long @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        if (cspDataMessageContextExtension.isSizeOfIntegersMayBeNotEqual())
+        {
+            cspSerializationBuffer.writeByte((byte) Long.BYTES);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(char[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -563,13 +901,21 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(char @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(float[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -614,13 +960,21 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(float @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(double[] value)
     {
-
+        serialize(value, false, true);
     }
 
     /**
@@ -665,13 +1019,21 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(double @Nullable [] value, boolean reference, boolean fixedSize)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        cspSerializationBuffer.write(value);
     }
 
     @Override
     public void serialize(String value, Charset charset)
     {
-
+        serialize(value, false, charset);
     }
 
     /**
@@ -712,13 +1074,13 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(@Nullable String value, boolean reference, Charset charset)
     {
-
+        serializeString(value, reference, StringCodecProvider.getStringCodec(charset));
     }
 
     @Override
     public <T> void serialize(T value, Class<?> clazz)
     {
-
+        serialize(value, false, clazz);
     }
 
     /**
@@ -782,7 +1144,11 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public <T> void serialize(T value, boolean reference, Class<?> clazz)
     {
-
+        Objects.requireNonNull(clazz);
+        if (serializePointerMark(value, reference))
+        {
+            serializeByClassProcessor(value, clazz);
+        }
     }
 
     @Override
@@ -801,14 +1167,22 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(String[] value, Charset charset)
     {
-
+        serialize(value, false, false, false, charset);
     }
 
     @Override
     public void serialize(@Nullable String @Nullable [] value, boolean reference, boolean fixedSize,
         boolean itemReference, Charset charset)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        if (!fixedSize)
+        {
+            cspSerializationBuffer.writeLong(value.length);
+        }
+        serializeStrings(Arrays.asList(value), itemReference, StringCodecProvider.getStringCodec(charset));
     }
 
     @Override
@@ -827,13 +1201,19 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(Collection<String> value, Charset charset)
     {
-
+        serialize(value, false, false, charset);
     }
 
     @Override
-    public void serialize(@Nullable Collection<@Nullable String> value, boolean reference, boolean itemReference, Charset charset)
+    public void serialize(@Nullable Collection<@Nullable String> value, boolean reference, boolean itemReference,
+        Charset charset)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        cspSerializationBuffer.writeLong(value.size());
+        serializeStrings(value, itemReference, StringCodecProvider.getStringCodec(charset));
     }
 
     @Override
@@ -878,14 +1258,31 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     @Override
     public void serialize(Map<String, String> value, Charset keyCharset, Charset valueCharset)
     {
-
+        serialize(value, false, false, keyCharset, false, valueCharset);
     }
 
     @Override
     public void serialize(@Nullable Map<@Nullable String, @Nullable String> value, boolean reference,
         boolean keyReference, Charset keyCharset, boolean valueAsRefence, Charset valueCharset)
     {
-
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        IStringCodec keyCodec = StringCodecProvider.getStringCodec(keyCharset);
+        IStringCodec valueCodec = StringCodecProvider.getStringCodec(valueCharset);
+        cspSerializationBuffer.writeLong(value.size());
+        if (sizeCountingBuffer != null && !keyReference && !valueAsRefence)
+        {
+            sizeCountingBuffer.skip(measureStrings(value.keySet(), keyCodec)
+                + measureStrings(value.values(), valueCodec));
+            return;
+        }
+        for (Map.Entry<@Nullable String, @Nullable String> entry : value.entrySet())
+        {
+            serializeString(entry.getKey(), keyReference, keyCodec);
+            serializeString(entry.getValue(), valueAsRefence, valueCodec);
+        }
     }
 
     @Override
@@ -893,4 +1290,107 @@ public final class CspDataSerializationProcessor implements ICspDataSerializatio
     {
 
     }
+
+    @SuppressWarnings("unchecked")
+    private <T> void serializeByClassProcessor(T value, Class<?> clazz)
+    {
+        ((ICspClassSerializationProcessor<T>) cspClassProcessorDescriptorProvider.provide(clazz).getClassProcessor())
+            .serialize(value, this);
+    }
+
+    /**
+     * Writes pointer mark of value if it is serialized as reference.
+     * <p>
+     * Without recursive pointers check mark is one octet: 0 for null and 1 otherwise. With the check it is a long:
+     * 0 for null, 1 for the first occurrence of value and ordinal of first occurrence plus 2 for repeated one.
+     *
+     * @param value     value to serialize.
+     * @param reference should value be threatened as reference (CSP pointer).
+     * @return true if value itself shall be written after the mark, false otherwise.
+     * @throws NullPointerException if reference is not set and value is null.
+     * @throws CspRuntimeException if reference is set and {@link CspDataFlag#ALLOW_UNMANAGED_POINTERS} is not set.
+     */
+    @Contract("null, _ -> false")
+    private boolean serializePointerMark(@Nullable Object value, boolean reference)
+    {
+        if (!reference)
+        {
+            Objects.requireNonNull(value);
+            return true;
+        }
+        if (!cspDataMessageContextExtension.isAllowUnmanagedPointers())
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.POINTER_WHEN_NO_ALLOW_UNMANAGED_POINTERS_SET);
+        }
+        if (referenceMap == null)
+        {
+            cspSerializationBuffer.writeByte(value != null ? (byte) 1 : (byte) 0);
+            return value != null;
+        }
+        if (value == null)
+        {
+            cspSerializationBuffer.writeLong(0);
+            return false;
+        }
+        Integer ordinal = referenceMap.get(value);
+        if (ordinal != null)
+        {
+            cspSerializationBuffer.writeLong(ordinal + 2L);
+            return false;
+        }
+        referenceMap.put(value, referenceMap.size());
+        cspSerializationBuffer.writeLong(1);
+        return true;
+    }
+
+    /**
+     * Writes strings, each one as pointer mark (if reference is set), number of octets in selected charset and
+     * octets themselves.
+     * <p>
+     * On size-computation pass nothing is encoded, and if strings are not references, their total size is computed
+     * up front.
+     *
+     * @param values strings to write.
+     * @param reference should strings be threatened as references (CSP pointers).
+     * @param stringCodec codec of selected charset.
+     */
+    private void serializeStrings(Collection<? extends @Nullable String> values, boolean reference,
+        IStringCodec stringCodec)
+    {
+        if (sizeCountingBuffer != null && !reference)
+        {
+            sizeCountingBuffer.skip(measureStrings(values, stringCodec));
+            return;
+        }
+        for (String value : values)
+        {
+            serializeString(value, reference, stringCodec);
+        }
+    }
+
+    private void serializeString(@Nullable String value, boolean reference, IStringCodec stringCodec)
+    {
+        if (!serializePointerMark(value, reference))
+        {
+            return;
+        }
+        long encodedLength = stringCodec.encodedLength(value);
+        if (sizeCountingBuffer != null)
+        {
+            sizeCountingBuffer.skip(Long.BYTES + encodedLength);
+            return;
+        }
+        cspSerializationBuffer.writeLong(encodedLength);
+        stringCodec.encode(value, cspSerializationBuffer);
+    }
+
+    private static long measureStrings(Collection<? extends @Nullable String> values, IStringCodec stringCodec)
+    {
+        long result = 0;
+        for (String value : values)
+        {
+            result += Long.BYTES + stringCodec.encodedLength(Objects.requireNonNull(value));
+        }
+        return result;
+    }
 }
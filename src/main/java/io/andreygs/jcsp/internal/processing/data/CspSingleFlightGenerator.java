@@ -0,0 +1,170 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.data;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates generation of processors, so that each key is generated exactly once at a time.
+ * <p>
+ * The first thread requesting a key becomes its owner and runs generation, other threads join the in-flight
+ * generation instead of repeating it. Thread that is itself inside of some generation never blocks on another
+ * one: it receives placeholder, which resolves to generated value once in-flight generation completes. This way
+ * self-recursive and mutually recursive structs cannot deadlock or overflow the stack.
+ *
+ * @param <K> type of generation key.
+ * @param <V> type of generated value.
+ */
+public final class CspSingleFlightGenerator<K, V>
+{
+    /**
+     * Count of generations current thread is inside of. Shared by all instances, as generation of one kind
+     * of processors may require processors of another kind.
+     */
+    private static final ThreadLocal<int[]> GENERATION_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Map<K, InFlightGeneration<V>> inFlightGenerations = new ConcurrentHashMap<>();
+    private final @Nullable Function<Supplier<V>, V> placeholderFactory;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param placeholderFactory Factory of placeholders, delegating to value of the given supplier. If null,
+     *                           then nested requests join in-flight generation of other threads and recursive
+     *                           requests fail.
+     */
+    public CspSingleFlightGenerator(@Nullable Function<Supplier<V>, V> placeholderFactory)
+    {
+        this.placeholderFactory = placeholderFactory;
+    }
+
+    /**
+     * Generates value for the key, or joins generation already in-flight.
+     *
+     * @param key Generation key.
+     * @param generation Generation to run if there is no in-flight one for the key. It is expected to publish
+     *                   generated value, so that later requests will not reach this method.
+     * @return generated value or placeholder of it.
+     * @throws CspRuntimeException if key is recursively required during its own generation and no placeholder
+     *                             factory is set.
+     * @implNote Exceptions thrown by generation are rethrown in all joined threads.
+     */
+    public V generate(K key, Function<? super K, ? extends V> generation)
+    {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(generation);
+        InFlightGeneration<V> ownGeneration = new InFlightGeneration<>(key);
+        InFlightGeneration<V> inFlightGeneration = inFlightGenerations.putIfAbsent(key, ownGeneration);
+        if (inFlightGeneration != null)
+        {
+            return join(inFlightGeneration);
+        }
+
+        int[] generationDepth = GENERATION_DEPTH.get();
+        generationDepth[0]++;
+        try
+        {
+            V value = generation.apply(key);
+            ownGeneration.future.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e)
+        {
+            ownGeneration.future.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            generationDepth[0]--;
+            inFlightGenerations.remove(key, ownGeneration);
+        }
+    }
+
+    private V join(InFlightGeneration<V> inFlightGeneration)
+    {
+        if (GENERATION_DEPTH.get()[0] == 0 || inFlightGeneration.future.isDone())
+        {
+            return inFlightGeneration.await();
+        }
+        if (placeholderFactory != null)
+        {
+            return placeholderFactory.apply(inFlightGeneration::await);
+        }
+        return inFlightGeneration.await();
+    }
+
+    /**
+     * Generation of one key.
+     */
+    private static final class InFlightGeneration<V>
+    {
+        private final Object key;
+        private final Thread owner = Thread.currentThread();
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private InFlightGeneration(Object key)
+        {
+            this.key = key;
+        }
+
+        private V await()
+        {
+            if (owner == Thread.currentThread() && !future.isDone())
+            {
+                throw CspRuntimeException.createCspRuntimeException(CspStatus.ERROR_IN_STRUCT_FORMAT,
+                    MessageFormat.format(Messages.CspSingleFlightGenerator_Recursive_generation_of__0, key));
+            }
+            try
+            {
+                return future.join();
+            }
+            catch (CompletionException e)
+            {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException)
+                {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error)
+                {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -26,6 +26,8 @@
 package io.andreygs.jcsp.internal.processing.data;
 
 import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspFixedSizeFieldBlock;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspOpcodeProgram;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 import io.andreygs.jcsp.internal.processing.data.type.IGenericTypeVariableProcessorMap;
 import org.jetbrains.annotations.Nullable;
@@ -38,15 +40,143 @@ import java.util.Map;
  */
 public interface ICspExtendedDataSerializationProcessor extends ICspDataSerializationProcessor
 {
+    /**
+     * Gets extended processor of general-purpose one.
+     *
+     * @param processor General-purpose CSP serialization processor.
+     * @return the same processor.
+     * @throws IllegalArgumentException if processor is not extended one.
+     */
+    static ICspExtendedDataSerializationProcessor asExtended(ICspDataSerializationProcessor processor)
+    {
+        if (processor instanceof ICspExtendedDataSerializationProcessor extendedProcessor)
+        {
+            return extendedProcessor;
+        }
+        throw new IllegalArgumentException(
+            Messages.ICspExtendedDataSerializationProcessor_ICspSerializationProcessor_is_invalid);
+    }
+
+    /**
+     * Serializes instance of generic class.
+     *
+     * @param value Value to serialize.
+     * @param reference Should value be threatened as reference (CSP pointer).
+     * @param typeVariableProcessorMap Processors of type variables of value class.
+     */
     void serialize(@Nullable Object value, boolean reference,
         IGenericTypeVariableProcessorMap typeVariableProcessorMap);
 
+    /**
+     * Serializes array which items are serialized by type processor.
+     *
+     * @param value Array to serialize.
+     * @param reference Should array be threatened as reference (CSP pointer).
+     * @param fixedSize Whether array size is fixed by CSP interface, so it is not written.
+     * @param itemTypeProcessor Processor of items.
+     */
     void serialize(@Nullable Object @Nullable [] value, boolean reference, boolean fixedSize,
         ICspTypeSerializationProcessor itemTypeProcessor);
 
+    /**
+     * Serializes collection which items are serialized by type processor.
+     *
+     * @param value Collection to serialize.
+     * @param reference Should collection be threatened as reference (CSP pointer).
+     * @param itemTypeProcessor Processor of items.
+     */
     void serialize(@Nullable Collection<@Nullable Object> value, boolean reference,
         ICspTypeSerializationProcessor itemTypeProcessor);
 
+    /**
+     * Serializes map which keys and values are serialized by type processors.
+     *
+     * @param value Map to serialize.
+     * @param reference Should map be threatened as reference (CSP pointer).
+     * @param valueTypeProcessor Processor of values.
+     * @param keyTypeProcessor Processor of keys.
+     */
     void serialize(@Nullable Map<@Nullable Object, @Nullable Object> value, boolean reference,
         ICspTypeSerializationProcessor valueTypeProcessor, ICspTypeSerializationProcessor keyTypeProcessor);
+
+    /**
+     * Reserves capacity for run of primitive values, which are serialized right after by unchecked methods
+     * ({@link #serializeIntUnchecked(int)} and alike). Encoding of unchecked methods is the same as of checked ones.
+     *
+     * @param size Encoded size of run.
+     * @param sizeWithIntegerSizes Encoded size of run when every integer is preceded by its size.
+     */
+    void reserveFixedSize(int size, int sizeWithIntegerSizes);
+
+    /**
+     * Serializes boolean value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeUnchecked(boolean value);
+
+    /**
+     * Serializes byte value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeByteUnchecked(byte value);
+
+    /**
+     * Serializes short value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeShortUnchecked(short value);
+
+    /**
+     * Serializes int value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeIntUnchecked(int value);
+
+    /**
+     * Serializes long value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeLongUnchecked(long value);
+
+    /**
+     * Serializes char value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeCharUnchecked(char value);
+
+    /**
+     * Serializes float value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeFloatUnchecked(float value);
+
+    /**
+     * Serializes double value to space reserved by {@link #reserveFixedSize(int, int)}.
+     *
+     * @param value Value to serialize.
+     */
+    void serializeDoubleUnchecked(double value);
+
+    /**
+     * Serializes run of primitive fields of struct with single capacity reservation for the whole run.
+     *
+     * @param value Struct which fields are serialized.
+     * @param fieldBlock Fields to serialize.
+     */
+    void serialize(Object value, CspFixedSizeFieldBlock fieldBlock);
+
+    /**
+     * Serializes struct by executing its opcode program.
+     *
+     * @param value Struct to serialize.
+     * @param program Compiled serialization plan of struct.
+     */
+    void serialize(Object value, CspOpcodeProgram program);
 }
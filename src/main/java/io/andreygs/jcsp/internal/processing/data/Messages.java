@@ -33,10 +33,9 @@ import io.andreygs.jcsp.internal.temp.ResourceMessagesLoader;
 @SuppressWarnings("NotNullFieldNotInitialized" /* All strings will be initialized in static initialization block */)
 final class Messages
 {
-    public static String CspClassProcessorDescriptorGenerator_Arrays_not_supported;
-    public static String CspClassProcessorRegistry_Illegal_class;
     public static String DraftInternalCspMessageBodyProcessor_No_Such_Handler_No_class_serialization_processor_for__0;
-    public static String CspClassSerializationProcessorGenerator_ICspSerializationProcessor_is_invalid;
+    public static String CspSingleFlightGenerator_Recursive_generation_of__0;
+    public static String ICspExtendedDataSerializationProcessor_ICspSerializationProcessor_is_invalid;
 
     static
     {
@@ -33,13 +33,23 @@ import io.andreygs.jcsp.api.protocol.CspStatus;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * TODO: place description here
+ * Base of generators that build class processor from {@link CspStructFieldPlan} of struct.
+ * <p>
+ * Superclasses are flattened into the plan, so parent processor is called only if it was registered explicitly.
  */
 abstract class AbstractCspClassProcessorGenerator<P, TP>
     implements ICspClassProcessorGenerator<P>
 {
+    private final ICspClassProcessorRegistry<P> classProcessorRegistry;
+
+    protected AbstractCspClassProcessorGenerator(ICspClassProcessorRegistry<P> classProcessorRegistry)
+    {
+        this.classProcessorRegistry = Objects.requireNonNull(classProcessorRegistry);
+    }
+
     @Override
     public P generate(Class<?> structClazz)
     {
@@ -49,6 +59,7 @@ abstract class AbstractCspClassProcessorGenerator<P, TP>
                 structClazz.getName() + " is not annotated with " + CspCreateProcessor.class.getName());
         }
         List<TP> typeProcessors = new ArrayList<>();
+        produceProxyProcessors(structClazz, typeProcessors);
         return createProcessor(typeProcessors);
     }
 
@@ -56,23 +67,66 @@ abstract class AbstractCspClassProcessorGenerator<P, TP>
 
     protected abstract void addField(Field field, List<TP> typeProcessors);
 
+    /**
+     * Adds processor for run of consecutive fields of primitive types, so that they may be processed at once.
+     *
+     * @param fields Accessible fields in order of serialization. Not empty.
+     * @param typeProcessors Processors list to add to.
+     */
+    protected abstract void addFixedSizeFields(List<Field> fields, List<TP> typeProcessors);
+
     protected abstract P createProcessor(List<TP> typeProcessors);
 
+    /**
+     * Gets registry which explicitly registered processors of superclasses are called instead of flattening.
+     *
+     * @return class processor registry.
+     */
+    protected ICspClassProcessorRegistry<P> getClassProcessorRegistry()
+    {
+        return classProcessorRegistry;
+    }
+
+    /**
+     * Resolves plan of struct against registry of this generator.
+     *
+     * @param structClazz Struct class.
+     * @return resolved plan.
+     */
+    protected CspStructFieldPlan resolveFieldPlan(Class<?> structClazz)
+    {
+        return CspStructFieldPlan.resolve(structClazz, classProcessorRegistry);
+    }
+
     private void produceProxyProcessors(Class<?> clazz, List<TP> typeProcessors)
     {
-        Class<?> parentClazz = clazz.getSuperclass();
-        if (CspAnnotationUtils.isCspCreateProcessor(parentClazz))
+        CspStructFieldPlan fieldPlan = resolveFieldPlan(clazz);
+        Class<?> parentClazz = fieldPlan.getParentClazz();
+        if (parentClazz != null)
         {
             addParentClass(parentClazz, typeProcessors);
         }
-        /*
-        Field[] fields = clazz.getDeclaredFields();
-        Arrays.stream(fields)
-              .filter(field -> field.getAnnotation(CspField.class) != null)
-              .sorted(Comparator.comparingInt(field -> field.getAnnotation(CspField.class).order()))
-              .forEach(field -> {
-                  field.setAccessible(true);
-                  addField(field, callbacks);
-              });*/
+        List<Field> fixedSizeFields = new ArrayList<>();
+        for (Field field : fieldPlan.getFields())
+        {
+            field.setAccessible(true);
+            if (field.getType().isPrimitive())
+            {
+                fixedSizeFields.add(field);
+                continue;
+            }
+            flushFixedSizeFields(fixedSizeFields, typeProcessors);
+            addField(field, typeProcessors);
+        }
+        flushFixedSizeFields(fixedSizeFields, typeProcessors);
+    }
+
+    private void flushFixedSizeFields(List<Field> fixedSizeFields, List<TP> typeProcessors)
+    {
+        if (!fixedSizeFields.isEmpty())
+        {
+            addFixedSizeFields(List.copyOf(fixedSizeFields), typeProcessors);
+            fixedSizeFields.clear();
+        }
     }
 }
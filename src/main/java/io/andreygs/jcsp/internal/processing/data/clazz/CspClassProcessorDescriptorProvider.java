@@ -23,25 +23,65 @@
  * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
  */
 
+
 package io.andreygs.jcsp.internal.processing.data.clazz;
 
+import io.andreygs.jcsp.internal.processing.data.CspSingleFlightGenerator;
+import io.andreygs.jcsp.internal.processing.data.type.ITypeVariableDescriptor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
- * TODO: place description here
+ * Provides class processor descriptors from registry, generating and registering processors of unknown classes.
+ * <p>
+ * If tiering is set, generated processors start in interpreter tier. After struct was provided compile threshold
+ * times, optimized processor is generated and atomically replaces interpreter one in registry. Explicitly registered
+ * processors are never touched.
+ * <p>
+ * Each class is generated only once at a time, concurrent requests of the same class join in-flight generation.
+ * Requests made during generation of another class get lazily resolved descriptor instead, so that recursive structs
+ * cannot deadlock.
  */
 public class CspClassProcessorDescriptorProvider<P>
     implements ICspClassProcessorDescriptorProvider<P>
 {
     private final ICspClassProcessorRegistry<P> cspClassProcessorRegistry;
+    private final ICspClassProcessorGenerator<P> interpreterClassProcessorGenerator;
     private final ICspClassProcessorGenerator<P> cspClassProcessorGenerator;
+    private final @Nullable CspClassProcessorTiering tiering;
+    private final Map<Class<?>, InterpretedClassProcessor<P>> interpretedClassProcessors = new ConcurrentHashMap<>();
+    private final CspSingleFlightGenerator<Class<?>, ICspClassProcessorDescriptor<P>> singleFlightGenerator =
+        new CspSingleFlightGenerator<>(PlaceholderClassProcessorDescriptor::new);
 
     public CspClassProcessorDescriptorProvider(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
         ICspClassProcessorGenerator<P> cspClassProcessorGenerator)
+    {
+        this(cspClassProcessorRegistry, cspClassProcessorGenerator, cspClassProcessorGenerator, null);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param cspClassProcessorRegistry Registry of class processors.
+     * @param interpreterClassProcessorGenerator Generator of interpreter tier processors.
+     * @param cspClassProcessorGenerator Generator of optimized tier processors.
+     * @param tiering Tiering policy. If null, then optimized processors are generated at first use.
+     */
+    public CspClassProcessorDescriptorProvider(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
+        ICspClassProcessorGenerator<P> interpreterClassProcessorGenerator,
+        ICspClassProcessorGenerator<P> cspClassProcessorGenerator,
+        @Nullable CspClassProcessorTiering tiering)
     {
         this.cspClassProcessorRegistry = Objects.requireNonNull(cspClassProcessorRegistry);
+        this.interpreterClassProcessorGenerator = Objects.requireNonNull(interpreterClassProcessorGenerator);
         this.cspClassProcessorGenerator = Objects.requireNonNull(cspClassProcessorGenerator);
+        this.tiering = tiering;
     }
 
     @Override
@@ -49,13 +89,37 @@ public class CspClassProcessorDescriptorProvider<P>
     {
         Optional<ICspClassProcessorDescriptor<P>> classProcessorDescriptor =
             cspClassProcessorRegistry.findClassProcessorDescriptor(clazz);
-        return classProcessorDescriptor.orElse(requireClassProcessorDescriptor(clazz));
+        if (classProcessorDescriptor.isEmpty())
+        {
+            return singleFlightGenerator.generate(clazz, this::requireClassProcessorDescriptor);
+        }
+        if (tiering != null)
+        {
+            countInvocation(clazz, classProcessorDescriptor.get(), tiering);
+        }
+        return classProcessorDescriptor.get();
     }
 
     private ICspClassProcessorDescriptor<P> requireClassProcessorDescriptor(Class<?> clazz)
     {
-        P classProcessor = cspClassProcessorGenerator.generate(clazz);
-        cspClassProcessorRegistry.register(clazz, classProcessor);
+        // generation of the same class may have just finished in another thread
+        Optional<ICspClassProcessorDescriptor<P>> registeredClassProcessorDescriptor =
+            cspClassProcessorRegistry.findClassProcessorDescriptor(clazz);
+        if (registeredClassProcessorDescriptor.isPresent())
+        {
+            return registeredClassProcessorDescriptor.get();
+        }
+        if (tiering == null || tiering.getCompileThreshold() == 0)
+        {
+            cspClassProcessorRegistry.registerGenerated(clazz, cspClassProcessorGenerator.generate(clazz));
+        }
+        else
+        {
+            P classProcessor = interpreterClassProcessorGenerator.generate(clazz);
+            cspClassProcessorRegistry.registerGenerated(clazz, classProcessor);
+            interpretedClassProcessors.put(clazz, new InterpretedClassProcessor<>(classProcessor));
+            tiering.onInterpreted();
+        }
         Optional<ICspClassProcessorDescriptor<P>> classProcessorDescriptor =
             cspClassProcessorRegistry.findClassProcessorDescriptor(clazz);
         if (classProcessorDescriptor.isPresent())
@@ -64,4 +128,71 @@ public class CspClassProcessorDescriptorProvider<P>
         }
         throw new IllegalStateException("No class processor found for " + clazz);
     }
+
+    private void countInvocation(Class<?> clazz, ICspClassProcessorDescriptor<P> classProcessorDescriptor,
+        CspClassProcessorTiering tiering)
+    {
+        InterpretedClassProcessor<P> interpretedClassProcessor = interpretedClassProcessors.get(clazz);
+        if (interpretedClassProcessor == null
+            || interpretedClassProcessor.classProcessor != classProcessorDescriptor.getClassProcessor())
+        {
+            return;
+        }
+        // exact comparison guarantees that only one thread schedules compilation
+        if (interpretedClassProcessor.invocationCount.incrementAndGet() == tiering.getCompileThreshold())
+        {
+            tiering.compile(clazz, () -> compile(clazz, interpretedClassProcessor));
+        }
+    }
+
+    private boolean compile(Class<?> clazz, InterpretedClassProcessor<P> interpretedClassProcessor)
+    {
+        try
+        {
+            return cspClassProcessorRegistry.replace(clazz, interpretedClassProcessor.classProcessor,
+                cspClassProcessorGenerator.generate(clazz));
+        }
+        finally
+        {
+            interpretedClassProcessors.remove(clazz, interpretedClassProcessor);
+        }
+    }
+
+    private static final class InterpretedClassProcessor<P>
+    {
+        private final P classProcessor;
+        private final AtomicInteger invocationCount = new AtomicInteger();
+
+        private InterpretedClassProcessor(P classProcessor)
+        {
+            this.classProcessor = classProcessor;
+        }
+    }
+
+    /**
+     * Descriptor handed out while class processor is still being generated. Resolves to generated descriptor at
+     * first use.
+     */
+    private static final class PlaceholderClassProcessorDescriptor<P>
+        implements ICspClassProcessorDescriptor<P>
+    {
+        private final Supplier<ICspClassProcessorDescriptor<P>> classProcessorDescriptor;
+
+        private PlaceholderClassProcessorDescriptor(Supplier<ICspClassProcessorDescriptor<P>> classProcessorDescriptor)
+        {
+            this.classProcessorDescriptor = classProcessorDescriptor;
+        }
+
+        @Override
+        public P getClassProcessor()
+        {
+            return classProcessorDescriptor.get().getClassProcessor();
+        }
+
+        @Override
+        public Map<String, ITypeVariableDescriptor> getTypeVariableDescriptors()
+        {
+            return classProcessorDescriptor.get().getTypeVariableDescriptors();
+        }
+    }
 }
@@ -25,12 +25,16 @@
 
 package io.andreygs.jcsp.internal.processing.data.clazz;
 
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
+
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Registry for class processors.
@@ -45,6 +49,7 @@ public class CspClassProcessorRegistry<P>
 {
     private final ICspClassProcessorDescriptorGenerator cspClassProcessorDescriptorGenerator;
     private final Map<Class<?>, ICspClassProcessorDescriptor<P>> classProcessorDescriptors = new ConcurrentHashMap<>();
+    private final Set<Class<?>> generatedClasses = ConcurrentHashMap.newKeySet();
 
     /**
      * Constructs an instance.
@@ -65,19 +70,51 @@ public class CspClassProcessorRegistry<P>
     @Override
     public void register(Class<?> clazz, P classProcessor)
     {
-        if (clazz.isPrimitive() || clazz.isArray())
-        {
-            throw new IllegalArgumentException(
-                MessageFormat.format(Messages.CspClassProcessorRegistry_Illegal_type_group__0, clazz.getName()));
-        }
-        if (clazz == String.class || clazz == Collection.class || clazz == Map.class)
+        ICspClassProcessorDescriptor<P> newDescriptor = generateDescriptor(clazz, classProcessor);
+        generatedClasses.remove(clazz);
+        classProcessorDescriptors.put(clazz, newDescriptor);
+        classProcessorDescriptors.keySet().removeIf(registeredClazz -> registeredClazz != clazz
+            && clazz.isAssignableFrom(registeredClazz) && generatedClasses.remove(registeredClazz));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if class processor is primitive, array, String, Collection or Map (its message
+     * will contain name of illegal class), or if {@link ICspClassProcessorDescriptorGenerator} throws it.
+     */
+    @Override
+    public void registerGenerated(Class<?> clazz, P classProcessor)
+    {
+        ICspClassProcessorDescriptor<P> newDescriptor = generateDescriptor(clazz, classProcessor);
+        generatedClasses.add(clazz);
+        classProcessorDescriptors.put(clazz, newDescriptor);
+    }
+
+    @Override
+    public boolean hasExplicitClassProcessor(Class<?> clazz)
+    {
+        return classProcessorDescriptors.containsKey(clazz) && !generatedClasses.contains(clazz);
+    }
+
+    @Override
+    public void registerIndexed(Iterable<? extends ICspClassProcessorIndex> indexes,
+        Function<ICspClassProcessorIndex, Map<Class<?>, P>> processorsSelector)
+    {
+        for (ICspClassProcessorIndex index : indexes)
         {
-            throw new IllegalArgumentException(
-                MessageFormat.format(Messages.CspClassProcessorRegistry_Illegal_class__0, clazz.getName()));
+            processorsSelector.apply(index).forEach(this::register);
         }
+    }
+
+    @Override
+    public boolean replace(Class<?> clazz, P expectedClassProcessor, P classProcessor)
+    {
         ICspClassProcessorDescriptor<P> newDescriptor =
             cspClassProcessorDescriptorGenerator.generate(Objects.requireNonNull(classProcessor), clazz);
-        classProcessorDescriptors.put(clazz, newDescriptor);
+        ICspClassProcessorDescriptor<P> currentDescriptor = classProcessorDescriptors.get(clazz);
+        return currentDescriptor != null && currentDescriptor.getClassProcessor() == expectedClassProcessor
+               && classProcessorDescriptors.replace(clazz, currentDescriptor, newDescriptor);
     }
 
     @Override
@@ -90,5 +127,21 @@ public class CspClassProcessorRegistry<P>
     public void unregister(Class<?> clazz)
     {
         classProcessorDescriptors.remove(clazz);
+        generatedClasses.remove(clazz);
+    }
+
+    private ICspClassProcessorDescriptor<P> generateDescriptor(Class<?> clazz, P classProcessor)
+    {
+        if (clazz.isPrimitive() || clazz.isArray())
+        {
+            throw new IllegalArgumentException(
+                MessageFormat.format(Messages.CspClassProcessorRegistry_Illegal_type_group__0, clazz.getName()));
+        }
+        if (clazz == String.class || clazz == Collection.class || clazz == Map.class)
+        {
+            throw new IllegalArgumentException(
+                MessageFormat.format(Messages.CspClassProcessorRegistry_Illegal_class__0, clazz.getName()));
+        }
+        return cspClassProcessorDescriptorGenerator.generate(Objects.requireNonNull(classProcessor), clazz);
     }
 }
@@ -0,0 +1,185 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringMetrics;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tiering policy of generated class processors with counters of tier transitions.
+ * <p>
+ * Background compilations of all sessions share one daemon thread, unless other executor was provided. Failed
+ * compilations are logged with {@link System.Logger.Level#WARNING} level.
+ *
+ * @apiNote
+ * Thread-safe.
+ */
+public class CspClassProcessorTiering
+    implements ICspClassProcessorTieringMetrics
+{
+    private static final System.Logger LOGGER = System.getLogger(CspClassProcessorTiering.class.getName());
+    private static final ExecutorService DEFAULT_COMPILATION_EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "jcsp-class-processor-compiler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ICspClassProcessorTieringConfig config;
+    private final Executor compilationExecutor;
+    private final AtomicLong interpretedCount = new AtomicLong();
+    private final AtomicLong pendingCompilationCount = new AtomicLong();
+    private final AtomicLong compiledCount = new AtomicLong();
+    private final AtomicLong failedCompilationCount = new AtomicLong();
+    private final AtomicLong discardedCompilationCount = new AtomicLong();
+
+    /**
+     * Constructs an instance, which compiles in background on shared compiler thread.
+     *
+     * @param config Tiering configuration.
+     */
+    public CspClassProcessorTiering(ICspClassProcessorTieringConfig config)
+    {
+        this(config, DEFAULT_COMPILATION_EXECUTOR);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param config Tiering configuration.
+     * @param compilationExecutor Executor of background compilations. Not used if background compilation is off.
+     */
+    public CspClassProcessorTiering(ICspClassProcessorTieringConfig config, Executor compilationExecutor)
+    {
+        this.config = Objects.requireNonNull(config);
+        this.compilationExecutor = Objects.requireNonNull(compilationExecutor);
+    }
+
+    /**
+     * Gets number of struct uses in interpreter tier, after which optimized processor is generated.
+     *
+     * @return compile threshold.
+     */
+    public int getCompileThreshold()
+    {
+        return config.getCompileThreshold();
+    }
+
+    /**
+     * Records that struct started in interpreter tier.
+     */
+    public void onInterpreted()
+    {
+        interpretedCount.incrementAndGet();
+    }
+
+    /**
+     * Runs compilation task either in background or in current thread, depending on configuration.
+     * <p>
+     * Task failure is recorded in metrics and logged, but not propagated.
+     *
+     * @param clazz Class which processor is compiled.
+     * @param compilation Task that generates optimized processor and swaps it in registry. Returns false if processor
+     *                    in registry was changed meanwhile and optimized one was discarded.
+     */
+    public void compile(Class<?> clazz, BooleanSupplier compilation)
+    {
+        Objects.requireNonNull(clazz);
+        Objects.requireNonNull(compilation);
+        pendingCompilationCount.incrementAndGet();
+        Runnable task = () ->
+        {
+            try
+            {
+                if (compilation.getAsBoolean())
+                {
+                    compiledCount.incrementAndGet();
+                }
+                else
+                {
+                    discardedCompilationCount.incrementAndGet();
+                }
+            }
+            catch (RuntimeException | LinkageError e)
+            {
+                failedCompilationCount.incrementAndGet();
+                LOGGER.log(System.Logger.Level.WARNING, MessageFormat.format(
+                    Messages.CspClassProcessorTiering_Compilation_of__0__failed, clazz.getName()), e);
+            }
+            finally
+            {
+                pendingCompilationCount.decrementAndGet();
+            }
+        };
+        if (config.isBackgroundCompilation())
+        {
+            compilationExecutor.execute(task);
+        }
+        else
+        {
+            task.run();
+        }
+    }
+
+    @Override
+    public long getInterpretedCount()
+    {
+        return interpretedCount.get();
+    }
+
+    @Override
+    public long getPendingCompilationCount()
+    {
+        return pendingCompilationCount.get();
+    }
+
+    @Override
+    public long getCompiledCount()
+    {
+        return compiledCount.get();
+    }
+
+    @Override
+    public long getFailedCompilationCount()
+    {
+        return failedCompilationCount.get();
+    }
+
+    @Override
+    public long getDiscardedCompilationCount()
+    {
+        return discardedCompilationCount.get();
+    }
+}
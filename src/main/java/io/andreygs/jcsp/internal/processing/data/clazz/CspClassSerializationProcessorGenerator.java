@@ -25,17 +25,33 @@
 
 package io.andreygs.jcsp.internal.processing.data.clazz;
 
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
 import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
 import io.andreygs.jcsp.internal.processing.data.ICspExtendedDataSerializationProcessor;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * TODO: place description here
+ * Generator of interpreting serialization class processors, that call data processor for every field read by
+ * reflection.
+ * <p>
+ * It is the interpreter tier and the last fallback of other generators, so it supports every field type that they do.
  */
 public final class CspClassSerializationProcessorGenerator
     extends AbstractCspClassProcessorGenerator<ICspClassSerializationProcessor<?>, ICspTypeSerializationProcessor>
@@ -43,8 +59,10 @@ public final class CspClassSerializationProcessorGenerator
     private final ICspTypeProcessorProvider<ICspTypeSerializationProcessor> typeProcessorProvider;
 
     public CspClassSerializationProcessorGenerator(
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> classProcessorRegistry,
         ICspTypeProcessorProvider<ICspTypeSerializationProcessor> typeProcessorProvider)
     {
+        super(classProcessorRegistry);
         this.typeProcessorProvider = typeProcessorProvider;
     }
 
@@ -52,14 +70,37 @@ public final class CspClassSerializationProcessorGenerator
     protected void addParentClass(Class<?> parentClazz, List<ICspTypeSerializationProcessor> typeProcessors)
     {
         // TODO need additional method for generic parent class
+        // only explicitly registered parent processors get here, others are flattened
         typeProcessors.add(
              (value, processor) -> processor.serialize(value, false, parentClazz));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Fields are routed to the same methods of data processor as hidden class and opcode generators use, so output
+     * does not change after tier-up: strings with {@code CspString} charset, {@link ByteBuffer}s, arrays of
+     * primitives and of strings, collections of strings, maps of strings to strings and structs of declared field
+     * type.
+     *
+     * @throws CspRuntimeException with status {@link CspStatus#ERROR_IN_STRUCT_FORMAT} if type of field is not
+     * supported.
+     */
     @Override
     protected void addField(Field field, List<ICspTypeSerializationProcessor> typeProcessors)
     {
-        // TODO
+        ICspTypeSerializationProcessor fieldProcessor = createFieldProcessor(field);
+        typeProcessors.add(
+            (value, processor) -> fieldProcessor.serialize(getFieldValue(field, value), processor));
+    }
+
+    @Override
+    protected void addFixedSizeFields(List<Field> fields, List<ICspTypeSerializationProcessor> typeProcessors)
+    {
+        CspFixedSizeFieldBlock fieldBlock = new CspFixedSizeFieldBlock(fields);
+        typeProcessors.add(
+            (value, processor) -> processor.serialize(Objects.requireNonNull(value), fieldBlock));
     }
 
     @Override
@@ -68,6 +109,136 @@ public final class CspClassSerializationProcessorGenerator
         return new AutoGeneratedClassSerializationProcessor<Object>(typeProcessors);
     }
 
+    private static ICspTypeSerializationProcessor createFieldProcessor(Field field)
+    {
+        Class<?> type = field.getType();
+        AnnotatedType annotatedType = field.getAnnotatedType();
+        boolean reference = CspAnnotationUtils.isCspReference(annotatedType);
+        boolean fixedSize = CspAnnotationUtils.resolveCspFixedArraySize(annotatedType).isPresent();
+        if (annotatedType instanceof AnnotatedParameterizedType annotatedParameterizedType)
+        {
+            return createGenericFieldProcessor(field, annotatedParameterizedType, reference);
+        }
+        if (field.getGenericType() != type)
+        {
+            throw createUnsupportedFieldException(field);
+        }
+        if (type == String.class)
+        {
+            Charset charset = requireCharset(field, annotatedType);
+            return (value, processor) -> processor.serialize((String) value, reference, charset);
+        }
+        if (type == ByteBuffer.class)
+        {
+            return (value, processor) -> processor.serialize((ByteBuffer) value, reference, fixedSize);
+        }
+        if (type.isArray())
+        {
+            return createArrayFieldProcessor(field, (AnnotatedArrayType) annotatedType, reference, fixedSize);
+        }
+        return (value, processor) -> processor.serialize(value, reference, type);
+    }
+
+    private static ICspTypeSerializationProcessor createArrayFieldProcessor(Field field,
+        AnnotatedArrayType annotatedArrayType, boolean reference, boolean fixedSize)
+    {
+        Class<?> componentType = field.getType().getComponentType();
+        if (componentType == boolean.class)
+        {
+            return (value, processor) -> processor.serialize((boolean[]) value, reference, fixedSize);
+        }
+        else if (componentType == byte.class)
+        {
+            return (value, processor) -> processor.serialize((byte[]) value, reference, fixedSize);
+        }
+        else if (componentType == short.class)
+        {
+            return (value, processor) -> processor.serialize((short[]) value, reference, fixedSize);
+        }
+        else if (componentType == int.class)
+        {
+            return (value, processor) -> processor.serialize((int[]) value, reference, fixedSize);
+        }
+        else if (componentType == long.class)
+        {
+            return (value, processor) -> processor.serialize((long[]) value, reference, fixedSize);
+        }
+        else if (componentType == char.class)
+        {
+            return (value, processor) -> processor.serialize((char[]) value, reference, fixedSize);
+        }
+        else if (componentType == float.class)
+        {
+            return (value, processor) -> processor.serialize((float[]) value, reference, fixedSize);
+        }
+        else if (componentType == double.class)
+        {
+            return (value, processor) -> processor.serialize((double[]) value, reference, fixedSize);
+        }
+        else if (componentType == String.class)
+        {
+            AnnotatedType componentAnnotatedType = annotatedArrayType.getAnnotatedGenericComponentType();
+            boolean itemReference = CspAnnotationUtils.isCspReference(componentAnnotatedType);
+            Charset charset = requireCharset(field, componentAnnotatedType);
+            return (value, processor) -> processor.serialize((String[]) value, reference, fixedSize, itemReference,
+                charset);
+        }
+        throw createUnsupportedFieldException(field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ICspTypeSerializationProcessor createGenericFieldProcessor(Field field,
+        AnnotatedParameterizedType annotatedParameterizedType, boolean reference)
+    {
+        Class<?> type = field.getType();
+        AnnotatedType[] typeArguments = annotatedParameterizedType.getAnnotatedActualTypeArguments();
+        if (Collection.class.isAssignableFrom(type) && typeArguments.length == 1
+            && typeArguments[0].getType() == String.class)
+        {
+            boolean itemReference = CspAnnotationUtils.isCspReference(typeArguments[0]);
+            Charset charset = requireCharset(field, typeArguments[0]);
+            return (value, processor) -> processor.serialize((Collection<@Nullable String>) value, reference,
+                itemReference, charset);
+        }
+        if (Map.class.isAssignableFrom(type) && typeArguments.length == 2
+            && typeArguments[0].getType() == String.class && typeArguments[1].getType() == String.class)
+        {
+            boolean keyReference = CspAnnotationUtils.isCspReference(typeArguments[0]);
+            Charset keyCharset = requireCharset(field, typeArguments[0]);
+            boolean valueReference = CspAnnotationUtils.isCspReference(typeArguments[1]);
+            Charset valueCharset = requireCharset(field, typeArguments[1]);
+            return (value, processor) -> processor.serialize((Map<@Nullable String, @Nullable String>) value,
+                reference, keyReference, keyCharset, valueReference, valueCharset);
+        }
+        throw createUnsupportedFieldException(field);
+    }
+
+    private static Charset requireCharset(Field field, AnnotatedType annotatedType)
+    {
+        return CspAnnotationUtils.resolveCspStringCharset(annotatedType)
+                                 .orElseThrow(() -> createUnsupportedFieldException(field));
+    }
+
+    private static CspRuntimeException createUnsupportedFieldException(Field field)
+    {
+        String fieldName = field.getDeclaringClass().getName() + "." + field.getName();
+        return CspRuntimeException.createCspRuntimeException(CspStatus.ERROR_IN_STRUCT_FORMAT, MessageFormat.format(
+            Messages.CspClassSerializationProcessorGenerator_Field__0__of_type__1__is_not_supported, fieldName,
+            field.getGenericType().getTypeName()));
+    }
+
+    private static @Nullable Object getFieldValue(Field field, @Nullable Object value)
+    {
+        try
+        {
+            return field.get(Objects.requireNonNull(value));
+        }
+        catch (IllegalAccessException e)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER, e);
+        }
+    }
+
     private static class AutoGeneratedClassSerializationProcessor<T>
         implements ICspClassSerializationProcessor<T>
     {
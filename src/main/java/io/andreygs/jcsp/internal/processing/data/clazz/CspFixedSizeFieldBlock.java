@@ -0,0 +1,369 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Run of consecutive struct fields of primitive types, which are serialized with single capacity reservation
+ * ({@link ISerializationBuffer#reserve(int)}) followed by unchecked writes.
+ * <p>
+ * Encoded size of block depends only on field types and on whether
+ * {@link io.andreygs.jcsp.api.protocol.CspDataFlag#SIZE_OF_INTEGERS_MAY_BE_NOT_EQUAL} is set (then every integer
+ * is preceded by its size in one octet), so both variants are computed once.
+ *
+ * @implNote
+ * Writer of every field is chosen by its type once in constructor and reads field through getter handle of exact
+ * type, so writing does neither reflective access checks nor boxing nor dispatch on field type.
+ */
+public final class CspFixedSizeFieldBlock
+{
+    private final AbstractFieldWriter[] fieldWriters;
+    private final int size;
+    private final int sizeWithIntegerSizes;
+
+    /**
+     * Constructor.
+     *
+     * @param fields Fields in order of serialization. They must be accessible.
+     * @throws IllegalArgumentException if fields is empty or some field is not of primitive type or is not
+     *                                  accessible.
+     */
+    public CspFixedSizeFieldBlock(List<Field> fields)
+    {
+        if (fields.isEmpty())
+        {
+            throw new IllegalArgumentException("fields is empty");
+        }
+        fieldWriters = new AbstractFieldWriter[fields.size()];
+        int blockSize = 0;
+        int blockSizeWithIntegerSizes = 0;
+        for (int i = 0; i < fieldWriters.length; ++i)
+        {
+            Field field = Objects.requireNonNull(fields.get(i));
+            Class<?> type = field.getType();
+            if (!type.isPrimitive())
+            {
+                throw new IllegalArgumentException(field.getName() + " is not of primitive type");
+            }
+            fieldWriters[i] = createFieldWriter(field);
+            blockSize += getEncodedSize(type, false);
+            blockSizeWithIntegerSizes += getEncodedSize(type, true);
+        }
+        size = blockSize;
+        sizeWithIntegerSizes = blockSizeWithIntegerSizes;
+    }
+
+    /**
+     * Gets number of fields in block.
+     *
+     * @return number of fields.
+     */
+    public int getFieldCount()
+    {
+        return fieldWriters.length;
+    }
+
+    /**
+     * Gets encoded size of block.
+     *
+     * @param sizeOfIntegersMayBeNotEqual Whether every integer is preceded by its size.
+     * @return size in bytes.
+     */
+    public int getSize(boolean sizeOfIntegersMayBeNotEqual)
+    {
+        return sizeOfIntegersMayBeNotEqual ? sizeWithIntegerSizes : size;
+    }
+
+    /**
+     * Gets encoded size of value of primitive type.
+     *
+     * @param type Primitive type.
+     * @param sizeOfIntegersMayBeNotEqual Whether every integer is preceded by its size.
+     * @return size in bytes.
+     * @throws IllegalArgumentException if type is not primitive one or is void.
+     */
+    public static int getEncodedSize(Class<?> type, boolean sizeOfIntegersMayBeNotEqual)
+    {
+        if (type == long.class)
+        {
+            return sizeOfIntegersMayBeNotEqual ? 1 + Long.BYTES : Long.BYTES;
+        }
+        if (type == int.class)
+        {
+            return sizeOfIntegersMayBeNotEqual ? 1 + Integer.BYTES : Integer.BYTES;
+        }
+        if (type == short.class)
+        {
+            return sizeOfIntegersMayBeNotEqual ? 1 + Short.BYTES : Short.BYTES;
+        }
+        if (type == byte.class)
+        {
+            return sizeOfIntegersMayBeNotEqual ? 1 + Byte.BYTES : Byte.BYTES;
+        }
+        if (type == double.class)
+        {
+            return Double.BYTES;
+        }
+        if (type == float.class)
+        {
+            return Float.BYTES;
+        }
+        if (type == char.class)
+        {
+            return Character.BYTES;
+        }
+        if (type == boolean.class)
+        {
+            return 1;
+        }
+        throw new IllegalArgumentException(type.getName() + " is not primitive type");
+    }
+
+    /**
+     * Writes fields of struct to buffer with unchecked writes. Space of {@link #getSize(boolean)} bytes must be
+     * reserved by caller.
+     *
+     * @param value Struct which fields are written.
+     * @param buffer Buffer to write to.
+     * @param sizeOfIntegersMayBeNotEqual Whether every integer is preceded by its size.
+     */
+    public void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual)
+    {
+        Objects.requireNonNull(value);
+        try
+        {
+            for (AbstractFieldWriter fieldWriter : fieldWriters)
+            {
+                fieldWriter.write(value, buffer, sizeOfIntegersMayBeNotEqual);
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static AbstractFieldWriter createFieldWriter(Field field)
+    {
+        Class<?> type = field.getType();
+        MethodHandle getter;
+        try
+        {
+            getter = MethodHandles.lookup().unreflectGetter(field)
+                                  .asType(MethodType.methodType(type, Object.class));
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalArgumentException(field.getName() + " is not accessible", e);
+        }
+        if (type == boolean.class)
+        {
+            return new BooleanFieldWriter(getter);
+        }
+        if (type == byte.class)
+        {
+            return new ByteFieldWriter(getter);
+        }
+        if (type == short.class)
+        {
+            return new ShortFieldWriter(getter);
+        }
+        if (type == int.class)
+        {
+            return new IntFieldWriter(getter);
+        }
+        if (type == long.class)
+        {
+            return new LongFieldWriter(getter);
+        }
+        if (type == char.class)
+        {
+            return new CharFieldWriter(getter);
+        }
+        if (type == float.class)
+        {
+            return new FloatFieldWriter(getter);
+        }
+        return new DoubleFieldWriter(getter);
+    }
+
+    /**
+     * Writer of single field, which getter has type {@code (Object)T}, where T is type of field.
+     */
+    private abstract static class AbstractFieldWriter
+    {
+        protected final MethodHandle getter;
+
+        protected AbstractFieldWriter(MethodHandle getter)
+        {
+            this.getter = getter;
+        }
+
+        abstract void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual)
+            throws Throwable;
+    }
+
+    private static final class BooleanFieldWriter extends AbstractFieldWriter
+    {
+        BooleanFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            buffer.writeByteUnchecked((boolean) getter.invokeExact(value) ? (byte) 1 : (byte) 0);
+        }
+    }
+
+    private static final class ByteFieldWriter extends AbstractFieldWriter
+    {
+        ByteFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            if (sizeOfIntegersMayBeNotEqual)
+            {
+                buffer.writeByteUnchecked((byte) Byte.BYTES);
+            }
+            buffer.writeByteUnchecked((byte) getter.invokeExact(value));
+        }
+    }
+
+    private static final class ShortFieldWriter extends AbstractFieldWriter
+    {
+        ShortFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            if (sizeOfIntegersMayBeNotEqual)
+            {
+                buffer.writeByteUnchecked((byte) Short.BYTES);
+            }
+            buffer.writeShortUnchecked((short) getter.invokeExact(value));
+        }
+    }
+
+    private static final class IntFieldWriter extends AbstractFieldWriter
+    {
+        IntFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            if (sizeOfIntegersMayBeNotEqual)
+            {
+                buffer.writeByteUnchecked((byte) Integer.BYTES);
+            }
+            buffer.writeIntUnchecked((int) getter.invokeExact(value));
+        }
+    }
+
+    private static final class LongFieldWriter extends AbstractFieldWriter
+    {
+        LongFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            if (sizeOfIntegersMayBeNotEqual)
+            {
+                buffer.writeByteUnchecked((byte) Long.BYTES);
+            }
+            buffer.writeLongUnchecked((long) getter.invokeExact(value));
+        }
+    }
+
+    private static final class CharFieldWriter extends AbstractFieldWriter
+    {
+        CharFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            buffer.writeCharUnchecked((char) getter.invokeExact(value));
+        }
+    }
+
+    private static final class FloatFieldWriter extends AbstractFieldWriter
+    {
+        FloatFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            buffer.writeFloatUnchecked((float) getter.invokeExact(value));
+        }
+    }
+
+    private static final class DoubleFieldWriter extends AbstractFieldWriter
+    {
+        DoubleFieldWriter(MethodHandle getter)
+        {
+            super(getter);
+        }
+
+        @Override
+        void write(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual) throws Throwable
+        {
+            buffer.writeDoubleUnchecked((double) getter.invokeExact(value));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.data.ICspExtendedDataSerializationProcessor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Generator of {@link ICspClassSerializationProcessor} that executes {@link CspOpcodeProgram} of struct.
+ * <p>
+ * Needs no class definition at runtime, so it is the fastest engine for environments that forbid it, and it also
+ * serves structs which types cannot be referenced by hidden class.
+ * <p>
+ * Structs with fields of generic or array types, strings without {@code CspString} charset, fields of other types
+ * than {@link ByteBuffer} and structs, or fields that are declared in packages not open to this library, are passed to
+ * fallback generator.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ */
+public final class CspOpcodeClassSerializationProcessorGenerator
+    extends AbstractCspClassProcessorGenerator<ICspClassSerializationProcessor<?>, Consumer<CspOpcodeProgram.Builder>>
+{
+    private final ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> fallbackGenerator;
+
+    /**
+     * Constructor.
+     *
+     * @param classProcessorRegistry Registry which explicitly registered processors of superclasses are called
+     *                               instead of flattening.
+     * @param fallbackGenerator Generator for structs that are not supported by this one.
+     */
+    public CspOpcodeClassSerializationProcessorGenerator(
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> classProcessorRegistry,
+        ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> fallbackGenerator)
+    {
+        super(classProcessorRegistry);
+        this.fallbackGenerator = Objects.requireNonNull(fallbackGenerator);
+    }
+
+    @Override
+    public ICspClassSerializationProcessor<?> generate(Class<?> structClazz)
+    {
+        for (Field field : resolveFieldPlan(structClazz).getFields())
+        {
+            if (!isSupportedFieldType(field) || !isAccessible(field.getDeclaringClass()))
+            {
+                return fallbackGenerator.generate(structClazz);
+            }
+        }
+        return super.generate(structClazz);
+    }
+
+    /**
+     * Checks whether field is primitive, string with charset, {@link ByteBuffer} or struct.
+     */
+    private boolean isSupportedFieldType(Field field)
+    {
+        Class<?> type = field.getType();
+        if (type.isPrimitive() || type == ByteBuffer.class)
+        {
+            return true;
+        }
+        if (type.isArray() || field.getGenericType() != type)
+        {
+            return false;
+        }
+        if (type == String.class)
+        {
+            return CspAnnotationUtils.resolveCspStringCharset(field.getAnnotatedType()).isPresent();
+        }
+        return CspAnnotationUtils.isCspCreateProcessor(type)
+            || getClassProcessorRegistry().findClassProcessorDescriptor(type).isPresent();
+    }
+
+    /**
+     * Checks whether getters of fields declared in class can be looked up by this library.
+     */
+    private static boolean isAccessible(Class<?> declaringClazz)
+    {
+        try
+        {
+            MethodHandles.privateLookupIn(declaringClazz, MethodHandles.lookup());
+            return true;
+        }
+        catch (IllegalAccessException | SecurityException e)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    protected void addParentClass(Class<?> parentClazz, List<Consumer<CspOpcodeProgram.Builder>> typeProcessors)
+    {
+        typeProcessors.add(builder -> builder.addParentClass(parentClazz));
+    }
+
+    @Override
+    protected void addField(Field field, List<Consumer<CspOpcodeProgram.Builder>> typeProcessors)
+    {
+        typeProcessors.add(builder -> builder.addField(field));
+    }
+
+    @Override
+    protected void addFixedSizeFields(List<Field> fields, List<Consumer<CspOpcodeProgram.Builder>> typeProcessors)
+    {
+        typeProcessors.add(builder -> builder.addFixedSizeFields(fields));
+    }
+
+    @Override
+    protected ICspClassSerializationProcessor<?> createProcessor(
+        List<Consumer<CspOpcodeProgram.Builder>> typeProcessors)
+    {
+        CspOpcodeProgram.Builder builder = new CspOpcodeProgram.Builder();
+        typeProcessors.forEach(typeProcessor -> typeProcessor.accept(builder));
+        try
+        {
+            return new AutoGeneratedClassSerializationProcessor<Object>(builder.build());
+        }
+        catch (IllegalAccessException e)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER, e);
+        }
+    }
+
+    private static class AutoGeneratedClassSerializationProcessor<T>
+        implements ICspClassSerializationProcessor<T>
+    {
+        private final CspOpcodeProgram program;
+
+        public AutoGeneratedClassSerializationProcessor(CspOpcodeProgram program)
+        {
+            this.program = program;
+        }
+
+        @Override
+        public void serialize(T value, ICspDataSerializationProcessor processor)
+        {
+            if (processor instanceof ICspExtendedDataSerializationProcessor extendedProcessor)
+            {
+                extendedProcessor.serialize(Objects.requireNonNull(value), program);
+            }
+            else
+            {
+                throw new IllegalArgumentException(
+                    Messages.CspClassSerializationProcessorGenerator_ICspSerializationProcessor_is_invalid);
+            }
+        }
+    }
+}
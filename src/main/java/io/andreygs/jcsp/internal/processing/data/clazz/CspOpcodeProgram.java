@@ -0,0 +1,350 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serialization plan of struct compiled to flat program of opcodes, that is executed by single switch loop.
+ * <p>
+ * Every instruction is one {@code int}: opcode in low byte and index of operand in the rest bits. Operands are kept in
+ * tables: getter of field with its serialization attributes, {@link Class} of parent struct or capacity to reserve
+ * before run of primitive fields. Primitive fields are always preceded by reservation of their run, so they are
+ * written unchecked.
+ * <p>
+ * Getters are adapted to exact type of field, so values are read by {@link MethodHandle#invokeExact} without boxing.
+ * Strings and {@link ByteBuffer}s are routed to their own methods of data processor, other fields are serialized as
+ * structs of declared field type.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ */
+public final class CspOpcodeProgram
+{
+    private static final int OP_RESERVE = 0;
+    private static final int OP_BOOLEAN = 1;
+    private static final int OP_BYTE = 2;
+    private static final int OP_SHORT = 3;
+    private static final int OP_INT = 4;
+    private static final int OP_LONG = 5;
+    private static final int OP_CHAR = 6;
+    private static final int OP_FLOAT = 7;
+    private static final int OP_DOUBLE = 8;
+    private static final int OP_STRING = 9;
+    private static final int OP_BYTE_BUFFER = 10;
+    private static final int OP_OBJECT = 11;
+    private static final int OP_PARENT = 12;
+
+    private static final int OPCODE_BITS = 8;
+    private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+    private final int[] code;
+    /**
+     * Getters of fields of type {@code (Object)T}, where {@code T} is type of field, or {@code Object} for structs.
+     */
+    private final MethodHandle[] getters;
+    private final Class<?>[] fieldClasses;
+    private final boolean[] references;
+    private final boolean[] fixedSizes;
+    /**
+     * Charsets of string fields, other elements are null.
+     */
+    private final @Nullable Charset[] charsets;
+    private final Class<?>[] classes;
+    /**
+     * Capacity of every run of primitive fields: low half is size without and high half is size with sizes of
+     * integers.
+     */
+    private final long[] reservations;
+
+    private CspOpcodeProgram(int[] code, MethodHandle[] getters, Class<?>[] fieldClasses, boolean[] references,
+        boolean[] fixedSizes, @Nullable Charset[] charsets, Class<?>[] classes, long[] reservations)
+    {
+        this.code = code;
+        this.getters = getters;
+        this.fieldClasses = fieldClasses;
+        this.references = references;
+        this.fixedSizes = fixedSizes;
+        this.charsets = charsets;
+        this.classes = classes;
+        this.reservations = reservations;
+    }
+
+    /**
+     * Gets number of instructions of program.
+     *
+     * @return number of instructions.
+     */
+    public int getInstructionCount()
+    {
+        return code.length;
+    }
+
+    /**
+     * Serializes struct by executing program.
+     *
+     * @param value Struct to serialize.
+     * @param buffer Buffer to write primitive fields to.
+     * @param sizeOfIntegersMayBeNotEqual Whether every integer is preceded by its size.
+     * @param processor Processor of parent struct and fields of non-primitive types.
+     */
+    public void execute(Object value, ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual,
+        ICspDataSerializationProcessor processor)
+    {
+        try
+        {
+            for (int instruction : code)
+            {
+                execute(instruction, value, buffer, sizeOfIntegersMayBeNotEqual, processor);
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void execute(int instruction, Object value, ISerializationBuffer buffer,
+        boolean sizeOfIntegersMayBeNotEqual, ICspDataSerializationProcessor processor) throws Throwable
+    {
+        int operand = instruction >>> OPCODE_BITS;
+        switch (instruction & OPCODE_MASK)
+        {
+            case OP_RESERVE:
+                long reservation = reservations[operand];
+                buffer.reserve(sizeOfIntegersMayBeNotEqual ? (int) (reservation >>> Integer.SIZE) : (int) reservation);
+                break;
+            case OP_BOOLEAN:
+                buffer.writeByteUnchecked((boolean) getters[operand].invokeExact(value) ? (byte) 1 : (byte) 0);
+                break;
+            case OP_BYTE:
+                if (sizeOfIntegersMayBeNotEqual)
+                {
+                    buffer.writeByteUnchecked((byte) Byte.BYTES);
+                }
+                buffer.writeByteUnchecked((byte) getters[operand].invokeExact(value));
+                break;
+            case OP_SHORT:
+                if (sizeOfIntegersMayBeNotEqual)
+                {
+                    buffer.writeByteUnchecked((byte) Short.BYTES);
+                }
+                buffer.writeShortUnchecked((short) getters[operand].invokeExact(value));
+                break;
+            case OP_INT:
+                if (sizeOfIntegersMayBeNotEqual)
+                {
+                    buffer.writeByteUnchecked((byte) Integer.BYTES);
+                }
+                buffer.writeIntUnchecked((int) getters[operand].invokeExact(value));
+                break;
+            case OP_LONG:
+                if (sizeOfIntegersMayBeNotEqual)
+                {
+                    buffer.writeByteUnchecked((byte) Long.BYTES);
+                }
+                buffer.writeLongUnchecked((long) getters[operand].invokeExact(value));
+                break;
+            case OP_CHAR:
+                buffer.writeCharUnchecked((char) getters[operand].invokeExact(value));
+                break;
+            case OP_FLOAT:
+                buffer.writeFloatUnchecked((float) getters[operand].invokeExact(value));
+                break;
+            case OP_DOUBLE:
+                buffer.writeDoubleUnchecked((double) getters[operand].invokeExact(value));
+                break;
+            case OP_STRING:
+                processor.serialize((String) getters[operand].invokeExact(value), references[operand],
+                    charsets[operand]);
+                break;
+            case OP_BYTE_BUFFER:
+                processor.serialize((ByteBuffer) getters[operand].invokeExact(value), references[operand],
+                    fixedSizes[operand]);
+                break;
+            case OP_OBJECT:
+                processor.serialize((Object) getters[operand].invokeExact(value), references[operand],
+                    fieldClasses[operand]);
+                break;
+            case OP_PARENT:
+                processor.serialize(value, false, classes[operand]);
+                break;
+            default:
+                throw new IllegalStateException("Unknown opcode " + (instruction & OPCODE_MASK));
+        }
+    }
+
+    /**
+     * Builder of {@link CspOpcodeProgram}, that appends instructions in order of serialization.
+     */
+    static final class Builder
+    {
+        private final List<Integer> code = new ArrayList<>();
+        private final List<Field> fields = new ArrayList<>();
+        private final List<Class<?>> classes = new ArrayList<>();
+        private final List<Long> reservations = new ArrayList<>();
+
+        /**
+         * Appends serialization of parent struct.
+         *
+         * @param parentClazz Parent struct class.
+         */
+        void addParentClass(Class<?> parentClazz)
+        {
+            classes.add(Objects.requireNonNull(parentClazz));
+            code.add(instruction(OP_PARENT, classes.size() - 1));
+        }
+
+        /**
+         * Appends reservation of capacity for run of primitive fields and serialization of every field of run.
+         *
+         * @param fixedSizeFields Fields of primitive types in order of serialization.
+         */
+        void addFixedSizeFields(List<Field> fixedSizeFields)
+        {
+            CspFixedSizeFieldBlock fieldBlock = new CspFixedSizeFieldBlock(fixedSizeFields);
+            reservations.add(((long) fieldBlock.getSize(true) << Integer.SIZE) | fieldBlock.getSize(false));
+            code.add(instruction(OP_RESERVE, reservations.size() - 1));
+            for (Field field : fixedSizeFields)
+            {
+                addField(field, getPrimitiveOpcode(field.getType()));
+            }
+        }
+
+        /**
+         * Appends serialization of field of non-primitive type: string with {@code CspString} charset,
+         * {@link ByteBuffer} or struct of declared field type.
+         *
+         * @param field Field of non-primitive type.
+         */
+        void addField(Field field)
+        {
+            Class<?> type = field.getType();
+            addField(field, type == String.class ? OP_STRING : type == ByteBuffer.class ? OP_BYTE_BUFFER : OP_OBJECT);
+        }
+
+        /**
+         * Builds program of appended instructions.
+         *
+         * @return built program.
+         * @throws IllegalAccessException if package of class that declares some field is not open to this library.
+         */
+        CspOpcodeProgram build() throws IllegalAccessException
+        {
+            int fieldCount = fields.size();
+            MethodHandle[] getters = new MethodHandle[fieldCount];
+            Class<?>[] fieldClasses = new Class<?>[fieldCount];
+            boolean[] references = new boolean[fieldCount];
+            boolean[] fixedSizes = new boolean[fieldCount];
+            @Nullable Charset[] charsets = new Charset[fieldCount];
+            for (int i = 0; i < fieldCount; ++i)
+            {
+                Field field = fields.get(i);
+                Class<?> type = field.getType();
+                AnnotatedType annotatedType = field.getAnnotatedType();
+                Class<?> getterType = type.isPrimitive() || type == String.class || type == ByteBuffer.class
+                                      ? type : Object.class;
+                getters[i] = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                                          .unreflectGetter(field)
+                                          .asType(MethodType.methodType(getterType, Object.class));
+                fieldClasses[i] = type;
+                references[i] = CspAnnotationUtils.isCspReference(annotatedType);
+                fixedSizes[i] = CspAnnotationUtils.resolveCspFixedArraySize(annotatedType).isPresent();
+                if (type == String.class)
+                {
+                    charsets[i] = CspAnnotationUtils.resolveCspStringCharset(annotatedType).orElseThrow(
+                        () -> new IllegalArgumentException(field.getName() + " has no CspString charset"));
+                }
+            }
+            return new CspOpcodeProgram(code.stream().mapToInt(Integer::intValue).toArray(), getters, fieldClasses,
+                references, fixedSizes, charsets, classes.toArray(new Class<?>[0]),
+                reservations.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        private void addField(Field field, int opcode)
+        {
+            fields.add(Objects.requireNonNull(field));
+            code.add(instruction(opcode, fields.size() - 1));
+        }
+
+        private static int instruction(int opcode, int operand)
+        {
+            return (operand << OPCODE_BITS) | opcode;
+        }
+
+        private static int getPrimitiveOpcode(Class<?> type)
+        {
+            if (type == boolean.class)
+            {
+                return OP_BOOLEAN;
+            }
+            if (type == byte.class)
+            {
+                return OP_BYTE;
+            }
+            if (type == short.class)
+            {
+                return OP_SHORT;
+            }
+            if (type == int.class)
+            {
+                return OP_INT;
+            }
+            if (type == long.class)
+            {
+                return OP_LONG;
+            }
+            if (type == char.class)
+            {
+                return OP_CHAR;
+            }
+            if (type == float.class)
+            {
+                return OP_FLOAT;
+            }
+            return OP_DOUBLE;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Serialization plan of struct with its {@link CspCreateProcessor} superclasses flattened into single sequence of
+ * fields, so that generated processor handles whole inheritance chain in one pass.
+ * <p>
+ * Flattening stops at the first superclass which processor was registered explicitly: such processor is an override
+ * and must be called as is.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ */
+public final class CspStructFieldPlan
+{
+    private final @Nullable Class<?> parentClazz;
+    private final List<Field> fields;
+
+    private CspStructFieldPlan(@Nullable Class<?> parentClazz, List<Field> fields)
+    {
+        this.parentClazz = parentClazz;
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Resolves plan of struct.
+     *
+     * @param structClazz Struct class.
+     * @param registry Registry which explicitly registered processors stop flattening.
+     * @return resolved plan.
+     */
+    public static CspStructFieldPlan resolve(Class<?> structClazz, ICspClassProcessorRegistry<?> registry)
+    {
+        Deque<Class<?>> flattenedClasses = new ArrayDeque<>();
+        flattenedClasses.addFirst(structClazz);
+        Class<?> parentClazz = structClazz.getSuperclass();
+        while (parentClazz != null && CspAnnotationUtils.isCspCreateProcessor(parentClazz)
+            && !registry.hasExplicitClassProcessor(parentClazz))
+        {
+            flattenedClasses.addFirst(parentClazz);
+            parentClazz = parentClazz.getSuperclass();
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> flattenedClazz : flattenedClasses)
+        {
+            fields.addAll(CspAnnotationUtils.resolveCspFields(flattenedClazz));
+        }
+        return new CspStructFieldPlan(
+            parentClazz != null && CspAnnotationUtils.isCspCreateProcessor(parentClazz) ? parentClazz : null, fields);
+    }
+
+    /**
+     * Gets superclass which explicitly registered processor must be called before fields of plan.
+     *
+     * @return parent class or null if whole inheritance chain is flattened.
+     */
+    public @Nullable Class<?> getParentClazz()
+    {
+        return parentClazz;
+    }
+
+    /**
+     * Gets fields of struct and of its flattened superclasses, from the topmost superclass to struct itself, each
+     * class in order of sequence numbers.
+     *
+     * @return fields in order of serialization.
+     */
+    public List<Field> getFields()
+    {
+        return fields;
+    }
+}
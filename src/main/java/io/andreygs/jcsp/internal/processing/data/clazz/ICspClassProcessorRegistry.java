@@ -25,9 +25,12 @@
 
 package io.andreygs.jcsp.internal.processing.data.clazz;
 
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
+
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Registry for class processors.
@@ -47,6 +50,8 @@ public interface ICspClassProcessorRegistry<P>
      * Registers processor for ordinary and generic (non-primitive, non-array) type for later use.
      * <p>
      * If class processor already have been registered, then new processor will override previous registration.
+     * Generated processors of subclasses are unregistered too, as they may have inlined previous processing of
+     * this class.
      * But if you want to have both processors (by one for different cases, for example) you should create new registry,
      * fill it with all necessary processors including current one and use different registries in requisite scenarios.
      * <p>
@@ -59,6 +64,47 @@ public interface ICspClassProcessorRegistry<P>
      */
     void register(Class<?> clazz, P classProcessor);
 
+    /**
+     * Registers processor generated by library for class.
+     * <p>
+     * Unlike {@link #register(Class, Object)}, such registration is not an override: it doesn't invalidate generated
+     * processors of subclasses and is not reported by {@link #hasExplicitClassProcessor(Class)}.
+     *
+     * @param clazz Class that processor should handle.
+     * @param classProcessor Generated class processor.
+     * @throws IllegalArgumentException if class processor cannot be registered.
+     */
+    void registerGenerated(Class<?> clazz, P classProcessor);
+
+    /**
+     * Checks whether processor of class was registered explicitly, not generated by library.
+     *
+     * @param clazz Class to check.
+     * @return true if class has explicitly registered processor.
+     */
+    boolean hasExplicitClassProcessor(Class<?> clazz);
+
+    /**
+     * Registers processors of compile-time indexes, as if {@link #register(Class, Object)} was called for each of them.
+     *
+     * @param indexes Indexes of generated processors.
+     * @param processorsSelector Selects processors of this registry kind from index.
+     * @throws IllegalArgumentException if some class processor cannot be registered.
+     */
+    void registerIndexed(Iterable<? extends ICspClassProcessorIndex> indexes,
+        Function<ICspClassProcessorIndex, Map<Class<?>, P>> processorsSelector);
+
+    /**
+     * Atomically replaces registered processor of class, if it is still the expected one.
+     *
+     * @param clazz Class that processor should handle.
+     * @param expectedClassProcessor Processor that must be registered for class now.
+     * @param classProcessor New class processor.
+     * @return true if processor was replaced and false if class has no processor or it is not the expected one.
+     * @throws IllegalArgumentException if class processor cannot be registered.
+     */
+    boolean replace(Class<?> clazz, P expectedClassProcessor, P classProcessor);
+
     /**
      * Finds processor descriptor for chosen class.
      *
@@ -37,6 +37,8 @@ final class Messages
     public static String CspClassProcessorDescriptorGenerator_Descriptor_for_class__0__cannot_be_generated;
     public static String CspClassProcessorRegistry_Illegal_class__0;
     public static String CspClassProcessorRegistry_Illegal_type_group__0;
+    public static String CspClassProcessorTiering_Compilation_of__0__failed;
+    public static String CspClassSerializationProcessorGenerator_Field__0__of_type__1__is_not_supported;
     public static String CspClassSerializationProcessorGenerator_ICspSerializationProcessor_is_invalid;
 
     static
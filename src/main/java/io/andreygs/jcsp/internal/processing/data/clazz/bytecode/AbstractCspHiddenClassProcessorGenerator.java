@@ -0,0 +1,295 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Generator of class processors, that emits one hidden class per struct.
+ * <p>
+ * Generated class is defined as nestmate of struct, so it reads and writes fields (including private ones) directly,
+ * and its only method calls data processor for every field in order, without loops and lambdas. So JIT sees one
+ * monomorphic method per struct that can be inlined.
+ *
+ * @implNote
+ * Fields of superclasses are flattened into generated method by {@link CspStructFieldPlan}, so they must be
+ * accessible from package of struct.
+ * <p>
+ * Structs which shape is not supported by concrete generator, or which package is not open to this library, or for
+ * which runtime refuses to define class, are passed to fallback generator.
+ *
+ * @param <P> type of class processor.
+ */
+abstract class AbstractCspHiddenClassProcessorGenerator<P> implements ICspClassProcessorGenerator<P>
+{
+    /**
+     * Number of local variable slots of generated method: this, value, data processor and value casted to struct.
+     */
+    protected static final int MAX_LOCALS = 4;
+
+    private final ICspClassProcessorRegistry<P> classProcessorRegistry;
+    private final ICspClassProcessorGenerator<P> fallbackGenerator;
+
+    protected AbstractCspHiddenClassProcessorGenerator(ICspClassProcessorRegistry<P> classProcessorRegistry,
+        ICspClassProcessorGenerator<P> fallbackGenerator)
+    {
+        this.classProcessorRegistry = Objects.requireNonNull(classProcessorRegistry);
+        this.fallbackGenerator = Objects.requireNonNull(fallbackGenerator);
+    }
+
+    @Override
+    public P generate(Class<?> structClazz)
+    {
+        if (!CspAnnotationUtils.isCspCreateProcessor(structClazz))
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER,
+                structClazz.getName() + " is not annotated with " + CspCreateProcessor.class.getName());
+        }
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(structClazz, classProcessorRegistry);
+        if (!isSupported(structClazz, fieldPlan) || !areFieldsAccessible(structClazz, fieldPlan))
+        {
+            return fallbackGenerator.generate(structClazz);
+        }
+        MethodHandles.Lookup structLookup = resolveStructLookup(structClazz);
+        if (structLookup == null)
+        {
+            return fallbackGenerator.generate(structClazz);
+        }
+        ClassFileBuilder classFileBuilder =
+            new ClassFileBuilder(internalName(structClazz) + getClassNameSuffix(), internalName(getProcessorClass()));
+        classFileBuilder.addDefaultConstructor();
+        addProcessMethod(classFileBuilder, structClazz, fieldPlan);
+        try
+        {
+            return defineProcessor(structLookup, classFileBuilder.toByteArray());
+        }
+        catch (SecurityException | UnsupportedOperationException e)
+        {
+            // runtime policy forbids class definition
+            return fallbackGenerator.generate(structClazz);
+        }
+    }
+
+    /**
+     * Gets registry which explicitly registered processors of superclasses are called instead of flattening.
+     *
+     * @return class processor registry.
+     */
+    protected ICspClassProcessorRegistry<P> getClassProcessorRegistry()
+    {
+        return classProcessorRegistry;
+    }
+
+    /**
+     * Gets interface that generated class implements.
+     *
+     * @return processor interface.
+     */
+    protected abstract Class<?> getProcessorClass();
+
+    /**
+     * Gets suffix that is appended to struct name to get name of generated class.
+     *
+     * @return class name suffix.
+     */
+    protected abstract String getClassNameSuffix();
+
+    /**
+     * Checks whether generated class can process struct.
+     *
+     * @param structClazz Struct class.
+     * @param fieldPlan Plan of struct with flattened superclasses.
+     * @return true if struct is supported, false if it should be passed to fallback generator.
+     */
+    protected abstract boolean isSupported(Class<?> structClazz, CspStructFieldPlan fieldPlan);
+
+    /**
+     * Adds the only method of processor interface to generated class.
+     *
+     * @param classFileBuilder Builder of generated class.
+     * @param structClazz Struct class.
+     * @param fieldPlan Plan of struct with flattened superclasses.
+     */
+    protected abstract void addProcessMethod(ClassFileBuilder classFileBuilder, Class<?> structClazz,
+        CspStructFieldPlan fieldPlan);
+
+    /**
+     * Checks whether class may be referenced from generated class, which resides in package of struct.
+     */
+    protected static boolean isAccessible(Class<?> clazz, Class<?> structClazz)
+    {
+        if (clazz.isPrimitive())
+        {
+            return true;
+        }
+        if (clazz.getClassLoader() == structClazz.getClassLoader()
+            && clazz.getPackageName().equals(structClazz.getPackageName()))
+        {
+            return true;
+        }
+        return Modifier.isPublic(clazz.getModifiers())
+            && clazz.getModule().isExported(clazz.getPackageName(), structClazz.getModule());
+    }
+
+    /**
+     * Exports package of class to module of struct, so generated class may refer to class even if package is
+     * internal one of this library.
+     *
+     * @param clazz Public class of this library.
+     * @param structClazz Struct class.
+     */
+    protected static void exportTo(Class<?> clazz, Class<?> structClazz)
+    {
+        Module module = clazz.getModule();
+        Module structModule = structClazz.getModule();
+        if (!module.isExported(clazz.getPackageName(), structModule))
+        {
+            module.addExports(clazz.getPackageName(), structModule);
+        }
+    }
+
+    protected static String internalName(Class<?> clazz)
+    {
+        return clazz.getName().replace('.', '/');
+    }
+
+    protected static String descriptor(Class<?> clazz)
+    {
+        if (clazz == boolean.class)
+        {
+            return "Z";
+        }
+        if (clazz == byte.class)
+        {
+            return "B";
+        }
+        if (clazz == short.class)
+        {
+            return "S";
+        }
+        if (clazz == int.class)
+        {
+            return "I";
+        }
+        if (clazz == long.class)
+        {
+            return "J";
+        }
+        if (clazz == char.class)
+        {
+            return "C";
+        }
+        if (clazz == float.class)
+        {
+            return "F";
+        }
+        if (clazz == double.class)
+        {
+            return "D";
+        }
+        if (clazz.isArray())
+        {
+            return internalName(clazz);
+        }
+        return "L" + internalName(clazz) + ";";
+    }
+
+    /**
+     * Gets number of operand stack slots value of type takes.
+     */
+    protected static int slotSize(Class<?> clazz)
+    {
+        return clazz == long.class || clazz == double.class ? 2 : 1;
+    }
+
+    /**
+     * Checks that fields of flattened superclasses may be accessed by nestmate of struct: they must not be private
+     * and must be declared in the same runtime package.
+     */
+    private static boolean areFieldsAccessible(Class<?> structClazz, CspStructFieldPlan fieldPlan)
+    {
+        for (Field field : fieldPlan.getFields())
+        {
+            Class<?> declaringClazz = field.getDeclaringClass();
+            if (declaringClazz != structClazz && (Modifier.isPrivate(field.getModifiers())
+                || declaringClazz.getClassLoader() != structClazz.getClassLoader()
+                || !declaringClazz.getPackageName().equals(structClazz.getPackageName())))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static MethodHandles.Lookup resolveStructLookup(Class<?> structClazz)
+    {
+        MethodHandles.Lookup structLookup;
+        try
+        {
+            structLookup = MethodHandles.privateLookupIn(structClazz, MethodHandles.lookup());
+        }
+        catch (IllegalAccessException | SecurityException e)
+        {
+            return null;
+        }
+        return structLookup.hasFullPrivilegeAccess() ? structLookup : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P defineProcessor(MethodHandles.Lookup structLookup, byte[] classFile)
+    {
+        try
+        {
+            MethodHandles.Lookup processorLookup =
+                structLookup.defineHiddenClass(classFile, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return (P) processorLookup.findConstructor(processorLookup.lookupClass(),
+                MethodType.methodType(void.class)).invoke();
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal class file writer for generated processors.
+ * <p>
+ * It supports only what processors need: constant pool with class, member reference and name-and-type entries,
+ * methods with straight-line code (no branches, so no StackMapTable is required) and no fields.
+ *
+ * @apiNote
+ * Not thread-safe.
+ */
+final class ClassFileBuilder
+{
+    static final int ALOAD_0 = 0x2a;
+    static final int ALOAD_1 = 0x2b;
+    static final int ALOAD_2 = 0x2c;
+    static final int ALOAD_3 = 0x2d;
+    static final int ASTORE_2 = 0x4d;
+    static final int ASTORE_3 = 0x4e;
+    static final int ICONST_0 = 0x03;
+    static final int ICONST_1 = 0x04;
+    static final int LDC_W = 0x13;
+    static final int CHECKCAST = 0xc0;
+    static final int GETSTATIC = 0xb2;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int RETURN = 0xb1;
+    static final int ARETURN = 0xb0;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int JAVA_17_VERSION = 61;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+    private final Map<String, Integer> constantIndexes = new HashMap<>();
+    private final List<byte[]> methods = new ArrayList<>();
+    private final int thisClassIndex;
+    private final int superClassIndex;
+    private final int interfaceIndex;
+    private int constantCount = 1;
+
+    /**
+     * Constructor.
+     *
+     * @param internalName Internal name of class (e.g. {@code a/b/C}).
+     * @param interfaceInternalName Internal name of the only implemented interface.
+     */
+    ClassFileBuilder(String internalName, String interfaceInternalName)
+    {
+        thisClassIndex = classConstant(internalName);
+        superClassIndex = classConstant("java/lang/Object");
+        interfaceIndex = classConstant(interfaceInternalName);
+    }
+
+    /**
+     * Adds class constant.
+     *
+     * @param internalName Internal name of class.
+     * @return index in constant pool.
+     */
+    int classConstant(String internalName)
+    {
+        return constant(CONSTANT_CLASS + ":" + internalName, out -> {
+            int nameIndex = utf8Constant(internalName);
+            out.writeByte(CONSTANT_CLASS);
+            out.writeShort(nameIndex);
+        });
+    }
+
+    /**
+     * Adds integer constant.
+     *
+     * @param value Constant value.
+     * @return index in constant pool.
+     */
+    int integerConstant(int value)
+    {
+        return constant(CONSTANT_INTEGER + ":" + value, out -> {
+            out.writeByte(CONSTANT_INTEGER);
+            out.writeInt(value);
+        });
+    }
+
+    /**
+     * Adds field reference constant.
+     *
+     * @return index in constant pool.
+     */
+    int fieldConstant(String ownerInternalName, String name, String descriptor)
+    {
+        return memberConstant(CONSTANT_FIELDREF, ownerInternalName, name, descriptor);
+    }
+
+    /**
+     * Adds interface method reference constant.
+     *
+     * @return index in constant pool.
+     */
+    int interfaceMethodConstant(String ownerInternalName, String name, String descriptor)
+    {
+        return memberConstant(CONSTANT_INTERFACE_METHODREF, ownerInternalName, name, descriptor);
+    }
+
+    /**
+     * Adds public constructor without parameters, which only calls {@code Object.<init>}.
+     */
+    void addDefaultConstructor()
+    {
+        CodeBuilder code = new CodeBuilder();
+        code.op(ALOAD_0);
+        code.op(INVOKESPECIAL).u2(memberConstant(CONSTANT_METHODREF, "java/lang/Object", "<init>", "()V"));
+        code.op(RETURN);
+        addMethod("<init>", "()V", 1, 1, code);
+    }
+
+    /**
+     * Adds public method.
+     *
+     * @param name Method name.
+     * @param descriptor Method descriptor.
+     * @param maxStack Maximum depth of operand stack.
+     * @param maxLocals Number of local variable slots including parameters.
+     * @param code Method code.
+     */
+    void addMethod(String name, String descriptor, int maxStack, int maxLocals, CodeBuilder code)
+    {
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+        int codeIndex = utf8Constant("Code");
+        byte[] codeBytes = code.toByteArray();
+        methods.add(write(out -> {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.writeShort(codeIndex);
+            out.writeInt(2 + 2 + 4 + codeBytes.length + 2 + 2);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(codeBytes.length);
+            out.write(codeBytes);
+            out.writeShort(0);
+            out.writeShort(0);
+        }));
+    }
+
+    /**
+     * Builds class file.
+     *
+     * @return class file bytes.
+     */
+    byte[] toByteArray()
+    {
+        byte[] constants = constantPoolBytes.toByteArray();
+        return write(out -> {
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(JAVA_17_VERSION);
+            out.writeShort(constantCount);
+            out.write(constants);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+            out.writeShort(thisClassIndex);
+            out.writeShort(superClassIndex);
+            out.writeShort(1);
+            out.writeShort(interfaceIndex);
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (byte[] method : methods)
+            {
+                out.write(method);
+            }
+            out.writeShort(0);
+        });
+    }
+
+    private int memberConstant(int tag, String ownerInternalName, String name, String descriptor)
+    {
+        return constant(tag + ":" + ownerInternalName + "." + name + ":" + descriptor, out -> {
+            int ownerIndex = classConstant(ownerInternalName);
+            int nameAndTypeIndex = nameAndTypeConstant(name, descriptor);
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    private int nameAndTypeConstant(String name, String descriptor)
+    {
+        return constant(CONSTANT_NAME_AND_TYPE + ":" + name + ":" + descriptor, out -> {
+            int nameIndex = utf8Constant(name);
+            int descriptorIndex = utf8Constant(descriptor);
+            out.writeByte(CONSTANT_NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+    }
+
+    private int utf8Constant(String value)
+    {
+        return constant(CONSTANT_UTF8 + ":" + value, out -> {
+            out.writeByte(CONSTANT_UTF8);
+            out.writeUTF(value);
+        });
+    }
+
+    /**
+     * Adds constant once. Constants it refers to are added by writer before its own bytes are written, so they get
+     * lower indexes.
+     */
+    private int constant(String key, IClassFileWriter writer)
+    {
+        Integer index = constantIndexes.get(key);
+        if (index != null)
+        {
+            return index;
+        }
+        byte[] bytes = write(writer);
+        constantPoolBytes.writeBytes(bytes);
+        index = constantCount++;
+        constantIndexes.put(key, index);
+        return index;
+    }
+
+    private static byte[] write(IClassFileWriter writer)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            writer.write(new DataOutputStream(bytes));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private interface IClassFileWriter
+    {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Builder of method code.
+     */
+    static final class CodeBuilder
+    {
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+
+        CodeBuilder op(int opcode)
+        {
+            code.write(opcode);
+            return this;
+        }
+
+        CodeBuilder u1(int value)
+        {
+            code.write(value);
+            return this;
+        }
+
+        CodeBuilder u2(int value)
+        {
+            code.write(value >>> 8);
+            code.write(value);
+            return this;
+        }
+
+        byte[] toByteArray()
+        {
+            return code.toByteArray();
+        }
+    }
+}
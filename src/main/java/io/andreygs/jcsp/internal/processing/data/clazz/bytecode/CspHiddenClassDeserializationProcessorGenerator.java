@@ -0,0 +1,134 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import io.andreygs.jcsp.api.processing.data.ICspDataDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Generator of {@link ICspClassDeserializationProcessor} as hidden class.
+ * <p>
+ * Generated {@code deserialize} assigns every field with result of primitive method of
+ * {@link ICspDataDeserializationProcessor} (e.g. {@link ICspDataDeserializationProcessor#deserialize(int)}) and
+ * returns passed struct.
+ * <p>
+ * Only structs with non-final fields of primitive types and without explicitly registered parent struct processor
+ * are supported (other parents are flattened), the rest are passed to fallback generator:
+ * {@link ICspDataDeserializationProcessor} has no per-class method for parent struct, and final fields may not be
+ * assigned outside of constructor.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ */
+public final class CspHiddenClassDeserializationProcessorGenerator
+    extends AbstractCspHiddenClassProcessorGenerator<ICspClassDeserializationProcessor<?>>
+{
+    private static final String DATA_PROCESSOR_INTERNAL_NAME = internalName(ICspDataDeserializationProcessor.class);
+    private static final String DESERIALIZE_METHOD_DESCRIPTOR =
+        "(Ljava/lang/Object;" + descriptor(ICspDataDeserializationProcessor.class) + ")Ljava/lang/Object;";
+    private static final int MAX_STACK = 4;
+
+    /**
+     * Constructor.
+     *
+     * @param classProcessorRegistry Registry which explicitly registered processors of superclasses stop flattening.
+     * @param fallbackGenerator Generator for structs that are not supported by this one.
+     */
+    public CspHiddenClassDeserializationProcessorGenerator(
+        ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> classProcessorRegistry,
+        ICspClassProcessorGenerator<ICspClassDeserializationProcessor<?>> fallbackGenerator)
+    {
+        super(classProcessorRegistry, fallbackGenerator);
+    }
+
+    @Override
+    protected Class<?> getProcessorClass()
+    {
+        return ICspClassDeserializationProcessor.class;
+    }
+
+    @Override
+    protected String getClassNameSuffix()
+    {
+        return "$$CspDeserializationProcessor";
+    }
+
+    @Override
+    protected boolean isSupported(Class<?> structClazz, CspStructFieldPlan fieldPlan)
+    {
+        if (fieldPlan.getParentClazz() != null)
+        {
+            return false;
+        }
+        for (Field field : fieldPlan.getFields())
+        {
+            if (!field.getType().isPrimitive() || Modifier.isFinal(field.getModifiers()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void addProcessMethod(ClassFileBuilder classFileBuilder, Class<?> structClazz,
+        CspStructFieldPlan fieldPlan)
+    {
+        String structInternalName = internalName(structClazz);
+
+        ClassFileBuilder.CodeBuilder code = new ClassFileBuilder.CodeBuilder();
+        code.op(ClassFileBuilder.ALOAD_1);
+        code.op(ClassFileBuilder.CHECKCAST).u2(classFileBuilder.classConstant(structInternalName));
+        code.op(ClassFileBuilder.ASTORE_3);
+
+        for (Field field : fieldPlan.getFields())
+        {
+            Class<?> type = field.getType();
+            String typeDescriptor = descriptor(type);
+            int fieldIndex = classFileBuilder.fieldConstant(internalName(field.getDeclaringClass()), field.getName(),
+                typeDescriptor);
+            int methodIndex = classFileBuilder.interfaceMethodConstant(DATA_PROCESSOR_INTERNAL_NAME, "deserialize",
+                "(" + typeDescriptor + ")" + typeDescriptor);
+            code.op(ClassFileBuilder.ALOAD_3);
+            code.op(ClassFileBuilder.ALOAD_2);
+            code.op(ClassFileBuilder.ALOAD_3);
+            code.op(ClassFileBuilder.GETFIELD).u2(fieldIndex);
+            code.op(ClassFileBuilder.INVOKEINTERFACE).u2(methodIndex).u1(1 + slotSize(type)).u1(0);
+            code.op(ClassFileBuilder.PUTFIELD).u2(fieldIndex);
+        }
+        code.op(ClassFileBuilder.ALOAD_3);
+        code.op(ClassFileBuilder.ARETURN);
+
+        classFileBuilder.addMethod("deserialize", DESERIALIZE_METHOD_DESCRIPTOR, MAX_STACK, MAX_LOCALS, code);
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.data.ICspExtendedDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspFixedSizeFieldBlock;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generator of {@link ICspClassSerializationProcessor} as hidden class.
+ * <p>
+ * Generated {@code serialize} reserves capacity for every run of consecutive fields of primitive types once by
+ * {@link ICspExtendedDataSerializationProcessor#reserveFixedSize(int, int)} and then calls unchecked primitive methods
+ * (e.g. {@link ICspExtendedDataSerializationProcessor#serializeIntUnchecked(int)}) for fields of run. String
+ * fields are serialized by {@link ICspDataSerializationProcessor#serialize(String, boolean, Charset)},
+ * {@link ByteBuffer} fields by {@link ICspDataSerializationProcessor#serialize(ByteBuffer, boolean, boolean)}, and
+ * explicitly registered parent struct and struct fields by
+ * {@link ICspDataSerializationProcessor#serialize(Object, boolean, Class)}.
+ * <p>
+ * Data processor must be {@link ICspExtendedDataSerializationProcessor}, otherwise generated processor throws
+ * {@link IllegalArgumentException}.
+ * <p>
+ * Structs with fields of generic or array types, strings without {@link StandardCharsets standard} charset or fields
+ * of other types (e.g. boxed primitives or collections) are passed to fallback generator.
+ *
+ * @apiNote
+ * Immutable. Thread-safe.
+ */
+public final class CspHiddenClassSerializationProcessorGenerator
+    extends AbstractCspHiddenClassProcessorGenerator<ICspClassSerializationProcessor<?>>
+{
+    private static final String DATA_PROCESSOR_INTERNAL_NAME = internalName(ICspDataSerializationProcessor.class);
+    private static final String EXTENDED_DATA_PROCESSOR_INTERNAL_NAME =
+        internalName(ICspExtendedDataSerializationProcessor.class);
+    private static final String AS_EXTENDED_DESCRIPTOR = "(" + descriptor(ICspDataSerializationProcessor.class) + ")"
+        + descriptor(ICspExtendedDataSerializationProcessor.class);
+    private static final String SERIALIZE_METHOD_DESCRIPTOR =
+        "(Ljava/lang/Object;" + descriptor(ICspDataSerializationProcessor.class) + ")V";
+    private static final String SERIALIZE_OBJECT_DESCRIPTOR = "(Ljava/lang/Object;ZLjava/lang/Class;)V";
+    private static final String SERIALIZE_STRING_DESCRIPTOR = "(Ljava/lang/String;ZLjava/nio/charset/Charset;)V";
+    private static final String SERIALIZE_BYTE_BUFFER_DESCRIPTOR = "(Ljava/nio/ByteBuffer;ZZ)V";
+    /**
+     * Charsets of string fields that generated class gets from static fields of {@link StandardCharsets}.
+     */
+    private static final Map<Charset, String> STANDARD_CHARSET_FIELDS = Map.of(
+        StandardCharsets.US_ASCII, "US_ASCII",
+        StandardCharsets.ISO_8859_1, "ISO_8859_1",
+        StandardCharsets.UTF_8, "UTF_8",
+        StandardCharsets.UTF_16BE, "UTF_16BE",
+        StandardCharsets.UTF_16LE, "UTF_16LE",
+        StandardCharsets.UTF_16, "UTF_16");
+    private static final int MAX_STACK = 4;
+
+    /**
+     * Constructor.
+     *
+     * @param classProcessorRegistry Registry which explicitly registered processors of superclasses are called
+     *                               instead of flattening.
+     * @param fallbackGenerator Generator for structs that are not supported by this one.
+     */
+    public CspHiddenClassSerializationProcessorGenerator(
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> classProcessorRegistry,
+        ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> fallbackGenerator)
+    {
+        super(classProcessorRegistry, fallbackGenerator);
+    }
+
+    @Override
+    protected Class<?> getProcessorClass()
+    {
+        return ICspClassSerializationProcessor.class;
+    }
+
+    @Override
+    protected String getClassNameSuffix()
+    {
+        return "$$CspSerializationProcessor";
+    }
+
+    @Override
+    protected boolean isSupported(Class<?> structClazz, CspStructFieldPlan fieldPlan)
+    {
+        Class<?> parentClazz = fieldPlan.getParentClazz();
+        if (parentClazz != null && !isAccessible(parentClazz, structClazz))
+        {
+            return false;
+        }
+        for (Field field : fieldPlan.getFields())
+        {
+            Class<?> type = field.getType();
+            if (type.isPrimitive())
+            {
+                continue;
+            }
+            if (type.isArray() || field.getGenericType() != type || !isAccessible(type, structClazz)
+                || !isSupportedFieldType(field))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether non-primitive field is string of standard charset, {@link ByteBuffer} or struct.
+     */
+    private boolean isSupportedFieldType(Field field)
+    {
+        Class<?> type = field.getType();
+        if (type == String.class)
+        {
+            return CspAnnotationUtils.resolveCspStringCharset(field.getAnnotatedType())
+                                     .map(STANDARD_CHARSET_FIELDS::containsKey)
+                                     .orElse(false);
+        }
+        if (type == ByteBuffer.class)
+        {
+            return true;
+        }
+        return CspAnnotationUtils.isCspCreateProcessor(type)
+            || getClassProcessorRegistry().findClassProcessorDescriptor(type).isPresent();
+    }
+
+    @Override
+    protected void addProcessMethod(ClassFileBuilder classFileBuilder, Class<?> structClazz,
+        CspStructFieldPlan fieldPlan)
+    {
+        String structInternalName = internalName(structClazz);
+        int serializeObjectIndex = classFileBuilder.interfaceMethodConstant(DATA_PROCESSOR_INTERNAL_NAME,
+            "serialize", SERIALIZE_OBJECT_DESCRIPTOR);
+
+        exportTo(ICspExtendedDataSerializationProcessor.class, structClazz);
+
+        ClassFileBuilder.CodeBuilder code = new ClassFileBuilder.CodeBuilder();
+        code.op(ClassFileBuilder.ALOAD_1);
+        code.op(ClassFileBuilder.CHECKCAST).u2(classFileBuilder.classConstant(structInternalName));
+        code.op(ClassFileBuilder.ASTORE_3);
+        code.op(ClassFileBuilder.ALOAD_2);
+        code.op(ClassFileBuilder.INVOKESTATIC).u2(classFileBuilder.interfaceMethodConstant(
+            EXTENDED_DATA_PROCESSOR_INTERNAL_NAME, "asExtended", AS_EXTENDED_DESCRIPTOR));
+        code.op(ClassFileBuilder.ASTORE_2);
+
+        Class<?> parentClazz = fieldPlan.getParentClazz();
+        if (parentClazz != null)
+        {
+            code.op(ClassFileBuilder.ALOAD_2);
+            code.op(ClassFileBuilder.ALOAD_3);
+            code.op(ClassFileBuilder.ICONST_0);
+            code.op(ClassFileBuilder.LDC_W).u2(classFileBuilder.classConstant(internalName(parentClazz)));
+            code.op(ClassFileBuilder.INVOKEINTERFACE).u2(serializeObjectIndex).u1(4).u1(0);
+        }
+
+        List<Field> fields = fieldPlan.getFields();
+        for (int i = 0; i < fields.size(); ++i)
+        {
+            Field field = fields.get(i);
+            Class<?> type = field.getType();
+            if (type.isPrimitive())
+            {
+                int runEnd = i;
+                while (runEnd < fields.size() && fields.get(runEnd).getType().isPrimitive())
+                {
+                    ++runEnd;
+                }
+                addFixedSizeFields(classFileBuilder, code, fields.subList(i, runEnd));
+                i = runEnd - 1;
+                continue;
+            }
+            addField(classFileBuilder, code, field);
+        }
+        code.op(ClassFileBuilder.RETURN);
+
+        classFileBuilder.addMethod("serialize", SERIALIZE_METHOD_DESCRIPTOR, MAX_STACK, MAX_LOCALS, code);
+    }
+
+    /**
+     * Adds reservation of capacity for whole run of primitive fields, followed by unchecked serialization of every
+     * field of run.
+     */
+    private static void addFixedSizeFields(ClassFileBuilder classFileBuilder, ClassFileBuilder.CodeBuilder code,
+        List<Field> fields)
+    {
+        int size = 0;
+        int sizeWithIntegerSizes = 0;
+        for (Field field : fields)
+        {
+            size += CspFixedSizeFieldBlock.getEncodedSize(field.getType(), false);
+            sizeWithIntegerSizes += CspFixedSizeFieldBlock.getEncodedSize(field.getType(), true);
+        }
+        code.op(ClassFileBuilder.ALOAD_2);
+        code.op(ClassFileBuilder.LDC_W).u2(classFileBuilder.integerConstant(size));
+        code.op(ClassFileBuilder.LDC_W).u2(classFileBuilder.integerConstant(sizeWithIntegerSizes));
+        code.op(ClassFileBuilder.INVOKEINTERFACE).u2(classFileBuilder.interfaceMethodConstant(
+            EXTENDED_DATA_PROCESSOR_INTERNAL_NAME, "reserveFixedSize", "(II)V")).u1(3).u1(0);
+
+        for (Field field : fields)
+        {
+            Class<?> type = field.getType();
+            addLoadField(classFileBuilder, code, field);
+            int methodIndex = classFileBuilder.interfaceMethodConstant(EXTENDED_DATA_PROCESSOR_INTERNAL_NAME,
+                getSerializeMethodName(type) + "Unchecked", "(" + descriptor(type) + ")V");
+            code.op(ClassFileBuilder.INVOKEINTERFACE).u2(methodIndex).u1(1 + slotSize(type)).u1(0);
+        }
+    }
+
+    /**
+     * Adds serialization of field of non-primitive type, which is supported by {@link #isSupportedFieldType(Field)}.
+     */
+    private static void addField(ClassFileBuilder classFileBuilder, ClassFileBuilder.CodeBuilder code, Field field)
+    {
+        Class<?> type = field.getType();
+        AnnotatedType annotatedType = field.getAnnotatedType();
+        addLoadField(classFileBuilder, code, field);
+        code.op(booleanConstant(CspAnnotationUtils.isCspReference(annotatedType)));
+        String methodDescriptor;
+        if (type == String.class)
+        {
+            Charset charset = CspAnnotationUtils.resolveCspStringCharset(annotatedType).orElseThrow();
+            code.op(ClassFileBuilder.GETSTATIC).u2(classFileBuilder.fieldConstant(
+                internalName(StandardCharsets.class), STANDARD_CHARSET_FIELDS.get(charset), descriptor(Charset.class)));
+            methodDescriptor = SERIALIZE_STRING_DESCRIPTOR;
+        }
+        else if (type == ByteBuffer.class)
+        {
+            code.op(booleanConstant(CspAnnotationUtils.resolveCspFixedArraySize(annotatedType).isPresent()));
+            methodDescriptor = SERIALIZE_BYTE_BUFFER_DESCRIPTOR;
+        }
+        else
+        {
+            code.op(ClassFileBuilder.LDC_W).u2(classFileBuilder.classConstant(internalName(type)));
+            methodDescriptor = SERIALIZE_OBJECT_DESCRIPTOR;
+        }
+        code.op(ClassFileBuilder.INVOKEINTERFACE).u2(classFileBuilder.interfaceMethodConstant(
+            DATA_PROCESSOR_INTERNAL_NAME, "serialize", methodDescriptor)).u1(4).u1(0);
+    }
+
+    /**
+     * Pushes data processor and value of field of struct to operand stack.
+     */
+    private static void addLoadField(ClassFileBuilder classFileBuilder, ClassFileBuilder.CodeBuilder code,
+        Field field)
+    {
+        code.op(ClassFileBuilder.ALOAD_2);
+        code.op(ClassFileBuilder.ALOAD_3);
+        code.op(ClassFileBuilder.GETFIELD).u2(classFileBuilder.fieldConstant(
+            internalName(field.getDeclaringClass()), field.getName(), descriptor(field.getType())));
+    }
+
+    private static int booleanConstant(boolean value)
+    {
+        return value ? ClassFileBuilder.ICONST_1 : ClassFileBuilder.ICONST_0;
+    }
+
+    private static String getSerializeMethodName(Class<?> type)
+    {
+        if (type == boolean.class)
+        {
+            return "serialize";
+        }
+        if (type == byte.class)
+        {
+            return "serializeByte";
+        }
+        if (type == short.class)
+        {
+            return "serializeShort";
+        }
+        if (type == int.class)
+        {
+            return "serializeInt";
+        }
+        if (type == long.class)
+        {
+            return "serializeLong";
+        }
+        if (type == char.class)
+        {
+            return "serializeChar";
+        }
+        if (type == float.class)
+        {
+            return "serializeFloat";
+        }
+        return "serializeDouble";
+    }
+}
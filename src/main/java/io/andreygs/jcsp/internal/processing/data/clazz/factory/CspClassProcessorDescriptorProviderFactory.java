@@ -26,9 +26,11 @@
 package io.andreygs.jcsp.internal.processing.data.clazz.factory;
 
 import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorDescriptorProvider;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorDescriptorProvider;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -42,4 +44,12 @@ public class CspClassProcessorDescriptorProviderFactory<P>
     {
         return new CspClassProcessorDescriptorProvider<>(registry, generator);
     }
+
+    @Override
+    public ICspClassProcessorDescriptorProvider<P> create(ICspClassProcessorRegistry<P> registry,
+        ICspClassProcessorGenerator<P> interpreterGenerator, ICspClassProcessorGenerator<P> generator,
+        @Nullable CspClassProcessorTiering tiering)
+    {
+        return new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, generator, tiering);
+    }
 }
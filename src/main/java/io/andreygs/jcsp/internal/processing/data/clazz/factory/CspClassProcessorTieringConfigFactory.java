@@ -0,0 +1,68 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.factory;
+
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTieringConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for creating {@link ICspClassProcessorTieringConfig} instances.
+ */
+public class CspClassProcessorTieringConfigFactory implements ICspClassProcessorTieringConfigFactory
+{
+    /**
+     * Default number of struct uses in interpreter tier, if no explicit value was provided.
+     */
+    private static final int DEFAULT_COMPILE_THRESHOLD = 100;
+
+    /**
+     * Default place of optimized processor generation, if no explicit value was provided.
+     */
+    private static final boolean DEFAULT_BACKGROUND_COMPILATION = true;
+
+    /**
+     * Default immutable cached instance of {@link ICspClassProcessorTieringConfig}.
+     */
+    private static final ICspClassProcessorTieringConfig DEFAULT_CLASS_PROCESSOR_TIERING_CONFIG =
+        new CspClassProcessorTieringConfig(DEFAULT_COMPILE_THRESHOLD, DEFAULT_BACKGROUND_COMPILATION);
+
+    @Override
+    public ICspClassProcessorTieringConfig create(@Nullable Integer compileThreshold,
+        @Nullable Boolean backgroundCompilation)
+    {
+        return new CspClassProcessorTieringConfig(
+            compileThreshold == null ? DEFAULT_COMPILE_THRESHOLD : compileThreshold,
+            backgroundCompilation == null ? DEFAULT_BACKGROUND_COMPILATION : backgroundCompilation);
+    }
+
+    @Override
+    public ICspClassProcessorTieringConfig provideDefault()
+    {
+        return DEFAULT_CLASS_PROCESSOR_TIERING_CONFIG;
+    }
+}
@@ -27,20 +27,40 @@ package io.andreygs.jcsp.internal.processing.data.clazz.factory;
 
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import io.andreygs.jcsp.internal.processing.data.clazz.CspClassSerializationProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspOpcodeClassSerializationProcessorGenerator;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.clazz.bytecode.CspHiddenClassSerializationProcessorGenerator;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 
 /**
- * TODO: place description here
+ * Factory of serialization class processor generator.
+ *
+ * @implNote
+ * Processors are generated as hidden classes; structs which are not supported by bytecode generator, or which cannot
+ * have classes defined for them, are served by {@link CspOpcodeClassSerializationProcessorGenerator} and then by
+ * {@link CspClassSerializationProcessorGenerator}. The last one serializes every field the others do, and fails
+ * generation of structs with fields it cannot serialize instead of skipping them.
  */
 public class CspClassSerializationProcessorGeneratorFactory
     implements ICspClassProcessorGeneratorFactory<ICspClassSerializationProcessor<?>, ICspTypeSerializationProcessor>
 {
     @Override
     public ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> create(
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
         ICspTypeProcessorProvider<ICspTypeSerializationProcessor> cspTypeProcessorProvider)
     {
-        return new CspClassSerializationProcessorGenerator(cspTypeProcessorProvider);
+        return new CspHiddenClassSerializationProcessorGenerator(cspClassProcessorRegistry,
+            new CspOpcodeClassSerializationProcessorGenerator(cspClassProcessorRegistry,
+                new CspClassSerializationProcessorGenerator(cspClassProcessorRegistry, cspTypeProcessorProvider)));
+    }
+
+    @Override
+    public ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> createInterpreter(
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
+        ICspTypeProcessorProvider<ICspTypeSerializationProcessor> cspTypeProcessorProvider)
+    {
+        return new CspClassSerializationProcessorGenerator(cspClassProcessorRegistry, cspTypeProcessorProvider);
     }
 }
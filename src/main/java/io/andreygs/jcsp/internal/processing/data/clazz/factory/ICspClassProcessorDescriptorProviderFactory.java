@@ -25,9 +25,11 @@
 
 package io.andreygs.jcsp.internal.processing.data.clazz.factory;
 
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorDescriptorProvider;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -36,4 +38,18 @@ public interface ICspClassProcessorDescriptorProviderFactory<P>
 {
     ICspClassProcessorDescriptorProvider<P> create(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
         ICspClassProcessorGenerator<P> cspClassProcessorGenerator);
+
+    /**
+     * Creates provider with tiered execution of generated processors.
+     *
+     * @param cspClassProcessorRegistry Registry of class processors.
+     * @param interpreterClassProcessorGenerator Generator of interpreter tier processors.
+     * @param cspClassProcessorGenerator Generator of optimized tier processors.
+     * @param tiering Tiering policy. If null, then optimized processors are generated at first use.
+     * @return created provider.
+     */
+    ICspClassProcessorDescriptorProvider<P> create(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
+        ICspClassProcessorGenerator<P> interpreterClassProcessorGenerator,
+        ICspClassProcessorGenerator<P> cspClassProcessorGenerator,
+        @Nullable CspClassProcessorTiering tiering);
 }
@@ -26,6 +26,7 @@
 package io.andreygs.jcsp.internal.processing.data.clazz.factory;
 
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
 
 /**
@@ -33,5 +34,18 @@ import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
  */
 public interface ICspClassProcessorGeneratorFactory<P, TP>
 {
-    ICspClassProcessorGenerator<P> create(ICspTypeProcessorProvider<TP> cspTypeProcessorProvider);
+    ICspClassProcessorGenerator<P> create(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
+        ICspTypeProcessorProvider<TP> cspTypeProcessorProvider);
+
+    /**
+     * Creates generator of interpreter tier processors, which are cheap to create but slower than ones of
+     * {@link #create(ICspClassProcessorRegistry, ICspTypeProcessorProvider)}.
+     *
+     * @param cspClassProcessorRegistry Registry which explicitly registered processors of superclasses are called
+     *                                  instead of flattening.
+     * @param cspTypeProcessorProvider Provider of type processors.
+     * @return created generator.
+     */
+    ICspClassProcessorGenerator<P> createInterpreter(ICspClassProcessorRegistry<P> cspClassProcessorRegistry,
+        ICspTypeProcessorProvider<TP> cspTypeProcessorProvider);
 }
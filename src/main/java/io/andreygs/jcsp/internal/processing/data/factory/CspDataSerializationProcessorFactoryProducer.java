@@ -26,6 +26,7 @@
 package io.andreygs.jcsp.internal.processing.data.factory;
 
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorDescriptorProvider;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
@@ -38,6 +39,7 @@ import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 import io.andreygs.jcsp.internal.processing.data.type.factory.CspTypeSerializationProcessorProviderFactory;
 import io.andreygs.jcsp.internal.processing.data.type.factory.ICspTypeProcessorProviderFactory;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -54,15 +56,20 @@ public class CspDataSerializationProcessorFactoryProducer implements ICspDataSer
     @Override
     public ICspDataSerializationProcessorFactory produce(
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
-        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry)
+        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry,
+        @Nullable CspClassProcessorTiering cspClassProcessorTiering)
     {
         ICspTypeProcessorProvider<ICspTypeSerializationProcessor> cspTypeProcessorProvider =
             DEFAULT_CSP_TYPE_PROCESSOR_PROVIDER_FACTORY.create(cspTypeProcessorRegistry);
         ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> cspClassProcessorGenerator =
-            DEFAULT_CSP_CLASS_PROCESSOR_GENERATOR_FACTORY.create(cspTypeProcessorProvider);
+            DEFAULT_CSP_CLASS_PROCESSOR_GENERATOR_FACTORY.create(cspClassProcessorRegistry,
+                cspTypeProcessorProvider);
+        ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> interpreterClassProcessorGenerator =
+            DEFAULT_CSP_CLASS_PROCESSOR_GENERATOR_FACTORY.createInterpreter(cspClassProcessorRegistry,
+                cspTypeProcessorProvider);
         ICspClassProcessorDescriptorProvider<ICspClassSerializationProcessor<?>> cspClassProcessorDescriptorProvider =
             DEFAULT_CSP_CLASS_PROCESSOR_DESCRIPTOR_PROVIDER_FACTORY.create(cspClassProcessorRegistry,
-                cspClassProcessorGenerator);
+                interpreterClassProcessorGenerator, cspClassProcessorGenerator, cspClassProcessorTiering);
         return new CspDataSerializationProcessorFactory(cspClassProcessorDescriptorProvider, cspTypeProcessorProvider);
     }
 }
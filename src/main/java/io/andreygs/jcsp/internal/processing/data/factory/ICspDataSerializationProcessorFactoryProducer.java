@@ -26,9 +26,11 @@
 package io.andreygs.jcsp.internal.processing.data.factory;
 
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -37,5 +39,6 @@ public interface ICspDataSerializationProcessorFactoryProducer
 {
     ICspDataSerializationProcessorFactory produce(
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
-        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry);
+        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry,
+        @Nullable CspClassProcessorTiering cspClassProcessorTiering);
 }
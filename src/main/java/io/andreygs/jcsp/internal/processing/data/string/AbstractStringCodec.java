@@ -0,0 +1,94 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Base of string codecs.
+ *
+ * @implSpec
+ * {@link #decode(IDeserializationBuffer, int)} reads octets to scratch memory (or, if they do not fit, to array
+ * of exact size) and gives them to {@link #decode(byte[], int, int)}, which by default is
+ * {@link String#String(byte[], int, int, Charset)} with its intrinsic fast paths for standard charsets (e.g. Latin-1
+ * octets are copied directly to compact string).
+ */
+abstract class AbstractStringCodec implements IStringCodec
+{
+    private final Charset charset;
+
+    protected AbstractStringCodec(Charset charset)
+    {
+        this.charset = Objects.requireNonNull(charset);
+    }
+
+    @Override
+    public Charset getCharset()
+    {
+        return charset;
+    }
+
+    @Override
+    public String decode(IDeserializationBuffer buffer, int length)
+    {
+        checkLength(length);
+        byte[] bytes = length <= StringCodecScratch.BYTES_CAPACITY
+                       ? StringCodecScratch.get().bytes
+                       : new byte[length];
+        buffer.read(bytes, 0, length);
+        return decode(bytes, 0, length);
+    }
+
+    @Override
+    public String decode(byte[] bytes, int offset, int length)
+    {
+        return new String(bytes, offset, length, charset);
+    }
+
+    /**
+     * Gets number of characters, which is taken to next chunk.
+     *
+     * @param begin index of first character of chunk.
+     * @param length length of string.
+     * @return number of characters in chunk.
+     */
+    protected static int chunkLength(int begin, int length)
+    {
+        return Math.min(length - begin, StringCodecScratch.CHARS_CAPACITY);
+    }
+
+    protected static void checkLength(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+    }
+}
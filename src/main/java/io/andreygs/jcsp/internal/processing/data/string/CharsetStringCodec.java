@@ -0,0 +1,162 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Codec of any charset, which has no fast path.
+ *
+ * @implNote
+ * Uses {@link CharsetEncoder} and {@link CharsetDecoder}, which are created once per thread and reset before every
+ * use, over scratch memory. Measuring of string encodes it without writing, since length of encoded string is not
+ * known otherwise.
+ */
+final class CharsetStringCodec extends AbstractStringCodec
+{
+    private final ThreadLocal<CharsetEncoder> encoder;
+    private final ThreadLocal<CharsetDecoder> decoder;
+
+    CharsetStringCodec(Charset charset)
+    {
+        super(charset);
+        encoder = ThreadLocal.withInitial(() -> charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        decoder = ThreadLocal.withInitial(() -> charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    @Override
+    public long encodedLength(String value)
+    {
+        return transcode(value, null);
+    }
+
+    @Override
+    public void encode(String value, ISerializationBuffer buffer)
+    {
+        transcode(value, buffer);
+    }
+
+    @Override
+    public String decode(IDeserializationBuffer buffer, int length)
+    {
+        checkLength(length);
+        CharsetDecoder charsetDecoder = decoder.get().reset();
+        StringCodecScratch scratch = StringCodecScratch.get();
+        ByteBuffer in = scratch.byteBuffer.clear();
+        CharBuffer out = scratch.charBuffer.clear();
+        @Nullable StringBuilder result = null;
+        for (int remaining = length; ; )
+        {
+            int count = Math.min(remaining, in.remaining());
+            buffer.read(scratch.bytes, in.position(), count);
+            in.position(in.position() + count).flip();
+            remaining -= count;
+            boolean endOfInput = remaining == 0;
+            while (charsetDecoder.decode(in, out, endOfInput).isOverflow())
+            {
+                result = drain(out, result);
+            }
+            in.compact();
+            if (endOfInput)
+            {
+                break;
+            }
+        }
+        while (charsetDecoder.flush(out).isOverflow())
+        {
+            result = drain(out, result);
+        }
+        if (result == null)
+        {
+            return new String(scratch.chars, 0, out.position());
+        }
+        return drain(out, result).toString();
+    }
+
+    private long transcode(String value, @Nullable ISerializationBuffer buffer)
+    {
+        CharsetEncoder charsetEncoder = encoder.get().reset();
+        StringCodecScratch scratch = StringCodecScratch.get();
+        CharBuffer in = scratch.charBuffer.clear();
+        ByteBuffer out = scratch.byteBuffer.clear();
+        long result = 0;
+        for (int begin = 0, length = value.length(); ; )
+        {
+            int count = Math.min(length - begin, in.remaining());
+            value.getChars(begin, begin + count, scratch.chars, in.position());
+            in.position(in.position() + count).flip();
+            begin += count;
+            boolean endOfInput = begin == length;
+            while (charsetEncoder.encode(in, out, endOfInput).isOverflow())
+            {
+                result += drain(out, scratch.bytes, buffer);
+            }
+            in.compact();
+            if (endOfInput)
+            {
+                break;
+            }
+        }
+        while (charsetEncoder.flush(out).isOverflow())
+        {
+            result += drain(out, scratch.bytes, buffer);
+        }
+        return result + drain(out, scratch.bytes, buffer);
+    }
+
+    private static int drain(ByteBuffer out, byte[] bytes, @Nullable ISerializationBuffer buffer)
+    {
+        int count = out.position();
+        if (buffer != null)
+        {
+            buffer.writeCopy(bytes, 0, count);
+        }
+        out.clear();
+        return count;
+    }
+
+    private static StringBuilder drain(CharBuffer out, @Nullable StringBuilder result)
+    {
+        StringBuilder builder = result != null ? result : new StringBuilder();
+        builder.append(out.array(), 0, out.position());
+        out.clear();
+        return builder;
+    }
+}
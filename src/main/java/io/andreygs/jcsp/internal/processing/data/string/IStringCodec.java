@@ -0,0 +1,90 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+
+import java.nio.charset.Charset;
+
+/**
+ * Codec of strings in specific {@link Charset}, which transfers characters directly to and from CSP buffers.
+ * <p>
+ * Unlike {@link String#getBytes(Charset)} it does not allocate intermediate array for every string: characters are
+ * transcoded in chunks through reusable per-thread scratch memory.
+ * <p>
+ * Instances are thread-safe and are obtained with {@link StringCodecProvider#getStringCodec(Charset)}.
+ */
+public interface IStringCodec
+{
+    /**
+     * Gets charset of codec.
+     *
+     * @return charset.
+     */
+    Charset getCharset();
+
+    /**
+     * Computes number of octets, which value occupies when encoded.
+     *
+     * @param value value to measure.
+     * @return number of octets {@link #encode(String, ISerializationBuffer)} writes for value.
+     */
+    long encodedLength(String value);
+
+    /**
+     * Writes encoded value to buffer.
+     * <p>
+     * Unmappable and malformed characters are replaced the same way {@link String#getBytes(Charset)} does, unless
+     * implementation states otherwise.
+     *
+     * @param value value to encode.
+     * @param buffer buffer to write to.
+     */
+    void encode(String value, ISerializationBuffer buffer);
+
+    /**
+     * Reads and decodes string of specified number of octets from buffer.
+     *
+     * @param buffer buffer to read from.
+     * @param length number of octets to read.
+     * @return decoded string.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    String decode(IDeserializationBuffer buffer, int length);
+
+    /**
+     * Decodes string from range of array.
+     *
+     * @param bytes encoded octets.
+     * @param offset offset of first octet.
+     * @param length number of octets.
+     * @return decoded string, the same as {@link #decode(IDeserializationBuffer, int)} returns for these octets.
+     * @throws IndexOutOfBoundsException if range is out of array bounds.
+     */
+    String decode(byte[] bytes, int offset, int length);
+}
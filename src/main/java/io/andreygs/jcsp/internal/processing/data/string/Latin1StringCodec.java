@@ -0,0 +1,107 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+
+import java.nio.charset.Charset;
+
+/**
+ * Codec of single-octet charsets, which map characters to octets of equal value: US-ASCII and ISO-8859-1.
+ *
+ * @implNote
+ * Characters are checked to be mappable four at a time with single mask over packed long value (SWAR), and then
+ * narrowed to octets. Every unmappable character, including each half of surrogate pair, is replaced with
+ * {@code '?'}, so number of octets is always equal to length of string.
+ */
+final class Latin1StringCodec extends AbstractStringCodec
+{
+    private static final byte REPLACEMENT = '?';
+
+    private final char maxChar;
+    private final long unmappableMask;
+
+    /**
+     * Constructor.
+     *
+     * @param charset charset of codec.
+     * @param maxChar the biggest mappable character, either {@code 0x7F} or {@code 0xFF}.
+     */
+    Latin1StringCodec(Charset charset, char maxChar)
+    {
+        super(charset);
+        this.maxChar = maxChar;
+        long charMask = ~maxChar & 0xFFFFL;
+        unmappableMask = charMask | charMask << 16 | charMask << 32 | charMask << 48;
+    }
+
+    @Override
+    public long encodedLength(String value)
+    {
+        return value.length();
+    }
+
+    @Override
+    public void encode(String value, ISerializationBuffer buffer)
+    {
+        StringCodecScratch scratch = StringCodecScratch.get();
+        char[] chars = scratch.chars;
+        byte[] bytes = scratch.bytes;
+        for (int begin = 0, length = value.length(); begin < length; )
+        {
+            int count = chunkLength(begin, length);
+            value.getChars(begin, begin + count, chars, 0);
+            int i = 0;
+            for (int swarEnd = count & ~3; i < swarEnd; i += 4)
+            {
+                if ((StringCodecScratch.pack(chars, i) & unmappableMask) == 0)
+                {
+                    bytes[i] = (byte) chars[i];
+                    bytes[i + 1] = (byte) chars[i + 1];
+                    bytes[i + 2] = (byte) chars[i + 2];
+                    bytes[i + 3] = (byte) chars[i + 3];
+                }
+                else
+                {
+                    narrow(chars, bytes, i, i + 4);
+                }
+            }
+            narrow(chars, bytes, i, count);
+            buffer.writeCopy(bytes, 0, count);
+            begin += count;
+        }
+    }
+
+    private void narrow(char[] chars, byte[] bytes, int from, int to)
+    {
+        for (int i = from; i < to; ++i)
+        {
+            char c = chars[i];
+            bytes[i] = c <= maxChar ? (byte) c : REPLACEMENT;
+        }
+    }
+}
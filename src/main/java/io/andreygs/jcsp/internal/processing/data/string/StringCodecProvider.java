@@ -0,0 +1,85 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provider of cached {@link IStringCodec}s.
+ * <p>
+ * US-ASCII, ISO-8859-1, UTF-8, UTF-16BE and UTF-16LE have dedicated fast-path codecs, any other charset is served
+ * by {@link java.nio.charset.CharsetEncoder}/{@link java.nio.charset.CharsetDecoder} based one.
+ */
+public final class StringCodecProvider
+{
+    private static final Map<Charset, IStringCodec> STRING_CODECS = new ConcurrentHashMap<>();
+
+    private StringCodecProvider()
+    {
+    }
+
+    /**
+     * Gets codec of charset.
+     *
+     * @param charset charset of codec.
+     * @return codec, the same instance for the same charset.
+     */
+    public static IStringCodec getStringCodec(Charset charset)
+    {
+        return STRING_CODECS.computeIfAbsent(Objects.requireNonNull(charset), StringCodecProvider::createStringCodec);
+    }
+
+    private static IStringCodec createStringCodec(Charset charset)
+    {
+        if (charset.equals(StandardCharsets.US_ASCII))
+        {
+            return new Latin1StringCodec(charset, (char) 0x7F);
+        }
+        if (charset.equals(StandardCharsets.ISO_8859_1))
+        {
+            return new Latin1StringCodec(charset, (char) 0xFF);
+        }
+        if (charset.equals(StandardCharsets.UTF_8))
+        {
+            return new Utf8StringCodec();
+        }
+        if (charset.equals(StandardCharsets.UTF_16BE))
+        {
+            return new Utf16StringCodec(charset, ByteOrder.BIG_ENDIAN);
+        }
+        if (charset.equals(StandardCharsets.UTF_16LE))
+        {
+            return new Utf16StringCodec(charset, ByteOrder.LITTLE_ENDIAN);
+        }
+        return new CharsetStringCodec(charset);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Per-thread scratch memory, through which string codecs transfer characters in chunks.
+ * <p>
+ * Codecs never call foreign code while using scratch memory, so it cannot be reentered.
+ */
+final class StringCodecScratch
+{
+    /**
+     * Number of characters transcoded at once.
+     */
+    static final int CHARS_CAPACITY = 2048;
+
+    /**
+     * Number of octets in scratch memory, which is enough for chunk of characters in any fast-path charset.
+     */
+    static final int BYTES_CAPACITY = CHARS_CAPACITY * 3;
+
+    private static final ThreadLocal<StringCodecScratch> SCRATCH = ThreadLocal.withInitial(StringCodecScratch::new);
+
+    final char[] chars = new char[CHARS_CAPACITY];
+    final byte[] bytes = new byte[BYTES_CAPACITY];
+    final CharBuffer charBuffer = CharBuffer.wrap(chars);
+    final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+    private StringCodecScratch()
+    {
+    }
+
+    /**
+     * Gets scratch memory of current thread.
+     *
+     * @return scratch memory.
+     */
+    static StringCodecScratch get()
+    {
+        return SCRATCH.get();
+    }
+
+    /**
+     * Packs four characters to single long value, so they can be tested with one mask (SWAR).
+     *
+     * @param chars characters.
+     * @param index index of first character.
+     * @return packed characters.
+     */
+    static long pack(char[] chars, int index)
+    {
+        return chars[index] | (long) chars[index + 1] << 16 | (long) chars[index + 2] << 32
+            | (long) chars[index + 3] << 48;
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of decoded strings, which makes equal encoded strings to be deserialized to the same instance.
+ * <p>
+ * Cache is keyed on encoded octets and charset: octets are read to scratch memory and looked up without decoding,
+ * so string is decoded (and its octets are copied to key) only on cache miss.
+ * <p>
+ * Strings longer than {@link IStringDedupConfig#getMaxEncodedLength()} or than scratch memory are decoded directly
+ * and are not cached.
+ *
+ * @apiNote
+ * Cache of {@link StringDedupScope#SESSION} scope is thread-safe, cache of {@link StringDedupScope#MESSAGE} scope
+ * must be used by single thread.
+ */
+public final class StringDedupCache
+{
+    private final int maxEncodedLength;
+    private final boolean synchronizedAccess;
+    private final Map<Key, String> entries;
+    private final Key probe = new Key();
+
+    /**
+     * Constructor.
+     *
+     * @param stringDedupConfig Configuration of cache.
+     */
+    public StringDedupCache(IStringDedupConfig stringDedupConfig)
+    {
+        int maxEntries = stringDedupConfig.getMaxEntries();
+        maxEncodedLength = Math.min(stringDedupConfig.getMaxEncodedLength(), StringCodecScratch.BYTES_CAPACITY);
+        synchronizedAccess = stringDedupConfig.getScope() == StringDedupScope.SESSION;
+        boolean accessOrder = stringDedupConfig.getEvictionPolicy() == StringDedupEvictionPolicy.LRU;
+        entries = new LinkedHashMap<>(16, 0.75F, accessOrder)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Reads and decodes string of specified number of octets from buffer, returning cached instance if equal string
+     * was decoded before.
+     *
+     * @param buffer buffer to read from.
+     * @param length number of octets to read.
+     * @param stringCodec codec of string charset.
+     * @return decoded string.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    public String decode(IDeserializationBuffer buffer, int length, IStringCodec stringCodec)
+    {
+        if (length > maxEncodedLength)
+        {
+            return stringCodec.decode(buffer, length);
+        }
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        byte[] bytes = StringCodecScratch.get().bytes;
+        buffer.read(bytes, 0, length);
+        if (!synchronizedAccess)
+        {
+            return lookup(bytes, length, stringCodec);
+        }
+        synchronized (entries)
+        {
+            return lookup(bytes, length, stringCodec);
+        }
+    }
+
+    /**
+     * Gets number of cached strings.
+     *
+     * @return number of entries.
+     */
+    public int size()
+    {
+        if (!synchronizedAccess)
+        {
+            return entries.size();
+        }
+        synchronized (entries)
+        {
+            return entries.size();
+        }
+    }
+
+    private String lookup(byte[] bytes, int length, IStringCodec stringCodec)
+    {
+        Charset charset = stringCodec.getCharset();
+        probe.set(charset, bytes, length);
+        try
+        {
+            String value = entries.get(probe);
+            if (value == null)
+            {
+                value = stringCodec.decode(bytes, 0, length);
+                entries.put(new Key(charset, Arrays.copyOf(bytes, length), length), value);
+            }
+            return value;
+        }
+        finally
+        {
+            probe.clear();
+        }
+    }
+
+    /**
+     * Encoded string with its charset. Mutable instance is used as probe for lookup without copying of octets.
+     */
+    private static final class Key
+    {
+        private static final byte[] EMPTY_BYTES = new byte[0];
+
+        private @Nullable Charset charset;
+        private byte[] bytes;
+        private int length;
+        private int hash;
+
+        Key()
+        {
+            bytes = EMPTY_BYTES;
+        }
+
+        Key(Charset charset, byte[] bytes, int length)
+        {
+            set(charset, bytes, length);
+        }
+
+        void set(Charset charset, byte[] bytes, int length)
+        {
+            this.charset = charset;
+            this.bytes = bytes;
+            this.length = length;
+            int result = charset.hashCode();
+            for (int i = 0; i < length; ++i)
+            {
+                result = 31 * result + bytes[i];
+            }
+            hash = result;
+        }
+
+        void clear()
+        {
+            charset = null;
+            bytes = EMPTY_BYTES;
+            length = 0;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o)
+        {
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && Objects.equals(charset, key.charset)
+                && Arrays.equals(bytes, 0, length, key.bytes, 0, key.length);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
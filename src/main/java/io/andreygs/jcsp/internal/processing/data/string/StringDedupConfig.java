@@ -0,0 +1,97 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+
+import java.util.Objects;
+
+/**
+ * String deduplication cache configuration defined by constructor arguments.
+ */
+public class StringDedupConfig
+    implements IStringDedupConfig
+{
+    private final StringDedupScope scope;
+    private final int maxEntries;
+    private final int maxEncodedLength;
+    private final StringDedupEvictionPolicy evictionPolicy;
+
+    /**
+     * Constructs an instance.
+     * <p>
+     * Public visibility is intended for factory usage and unit-testing of this class only.
+     *
+     * @param scope Lifetime of cache.
+     * @param maxEntries Maximum number of strings held by cache. Must be positive.
+     * @param maxEncodedLength Maximum number of octets of encoded string, which is deduplicated. Must be positive.
+     * @param evictionPolicy Entry which is evicted from full cache.
+     * @throws IllegalArgumentException if maxEntries or maxEncodedLength is not positive.
+     */
+    public StringDedupConfig(StringDedupScope scope, int maxEntries, int maxEncodedLength,
+        StringDedupEvictionPolicy evictionPolicy)
+    {
+        if (maxEntries <= 0)
+        {
+            throw new IllegalArgumentException("maxEntries <= 0");
+        }
+        if (maxEncodedLength <= 0)
+        {
+            throw new IllegalArgumentException("maxEncodedLength <= 0");
+        }
+        this.scope = Objects.requireNonNull(scope);
+        this.maxEntries = maxEntries;
+        this.maxEncodedLength = maxEncodedLength;
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+    }
+
+    @Override
+    public StringDedupScope getScope()
+    {
+        return scope;
+    }
+
+    @Override
+    public int getMaxEntries()
+    {
+        return maxEntries;
+    }
+
+    @Override
+    public int getMaxEncodedLength()
+    {
+        return maxEncodedLength;
+    }
+
+    @Override
+    public StringDedupEvictionPolicy getEvictionPolicy()
+    {
+        return evictionPolicy;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Codec of UTF-16 charsets with explicit byte order and without byte order mark: UTF-16BE and UTF-16LE.
+ *
+ * @implNote
+ * Characters are copied as is with {@link VarHandle} byte array view of charset byte order, independently of byte
+ * order of CSP buffer. Unpaired surrogates are transferred as is too, so unlike {@link String#getBytes(Charset)}
+ * round trip is lossless for any string. Trailing odd octet is decoded as replacement character U+FFFD.
+ */
+final class Utf16StringCodec extends AbstractStringCodec
+{
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final VarHandle charHandle;
+
+    Utf16StringCodec(Charset charset, ByteOrder byteOrder)
+    {
+        super(charset);
+        charHandle = MethodHandles.byteArrayViewVarHandle(char[].class, byteOrder);
+    }
+
+    @Override
+    public long encodedLength(String value)
+    {
+        return (long) value.length() * Character.BYTES;
+    }
+
+    @Override
+    public void encode(String value, ISerializationBuffer buffer)
+    {
+        StringCodecScratch scratch = StringCodecScratch.get();
+        char[] chars = scratch.chars;
+        byte[] bytes = scratch.bytes;
+        for (int begin = 0, length = value.length(); begin < length; )
+        {
+            int count = chunkLength(begin, length);
+            value.getChars(begin, begin + count, chars, 0);
+            for (int i = 0; i < count; ++i)
+            {
+                charHandle.set(bytes, i * Character.BYTES, chars[i]);
+            }
+            buffer.writeCopy(bytes, 0, count * Character.BYTES);
+            begin += count;
+        }
+    }
+
+    @Override
+    public String decode(IDeserializationBuffer buffer, int length)
+    {
+        checkLength(length);
+        int charsLength = length / Character.BYTES;
+        boolean oddLength = length % Character.BYTES != 0;
+        StringCodecScratch scratch = StringCodecScratch.get();
+        char[] result = charsLength < StringCodecScratch.CHARS_CAPACITY
+                        ? scratch.chars
+                        : new char[charsLength + 1];
+        byte[] bytes = scratch.bytes;
+        for (int begin = 0; begin < charsLength; )
+        {
+            int count = chunkLength(begin, charsLength);
+            buffer.read(bytes, 0, count * Character.BYTES);
+            for (int i = 0; i < count; ++i)
+            {
+                result[begin + i] = (char) charHandle.get(bytes, i * Character.BYTES);
+            }
+            begin += count;
+        }
+        if (oddLength)
+        {
+            buffer.readByte();
+            result[charsLength++] = REPLACEMENT;
+        }
+        return new String(result, 0, charsLength);
+    }
+
+    @Override
+    public String decode(byte[] bytes, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int charsLength = length / Character.BYTES;
+        char[] result = charsLength < StringCodecScratch.CHARS_CAPACITY
+                        ? StringCodecScratch.get().chars
+                        : new char[charsLength + 1];
+        for (int i = 0; i < charsLength; ++i)
+        {
+            result[i] = (char) charHandle.get(bytes, offset + i * Character.BYTES);
+        }
+        if (length % Character.BYTES != 0)
+        {
+            result[charsLength++] = REPLACEMENT;
+        }
+        return new String(result, 0, charsLength);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codec of UTF-8 charset.
+ *
+ * @implNote
+ * Runs of ASCII characters are detected four at a time with single mask over packed long value (SWAR) and copied
+ * as is, other characters are encoded by hand. Unpaired surrogate is replaced with {@code '?'}, as
+ * {@link String#getBytes(java.nio.charset.Charset)} does. Chunks are never split inside of surrogate pair.
+ */
+final class Utf8StringCodec extends AbstractStringCodec
+{
+    private static final long NON_ASCII_MASK = 0xFF80FF80FF80FF80L;
+    private static final byte REPLACEMENT = '?';
+
+    Utf8StringCodec()
+    {
+        super(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long encodedLength(String value)
+    {
+        long result = 0;
+        for (int i = 0, length = value.length(); i < length; ++i)
+        {
+            char c = value.charAt(i);
+            if (c < 0x80)
+            {
+                result += 1;
+            }
+            else if (c < 0x800)
+            {
+                result += 2;
+            }
+            else if (!Character.isSurrogate(c))
+            {
+                result += 3;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                result += 4;
+                ++i;
+            }
+            else
+            {
+                result += 1;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void encode(String value, ISerializationBuffer buffer)
+    {
+        StringCodecScratch scratch = StringCodecScratch.get();
+        char[] chars = scratch.chars;
+        for (int begin = 0, length = value.length(); begin < length; )
+        {
+            int count = chunkLength(begin, length);
+            if (begin + count < length && Character.isHighSurrogate(value.charAt(begin + count - 1)))
+            {
+                --count;
+            }
+            value.getChars(begin, begin + count, chars, 0);
+            buffer.writeCopy(scratch.bytes, 0, encodeChunk(chars, count, scratch.bytes));
+            begin += count;
+        }
+    }
+
+    private static int encodeChunk(char[] chars, int count, byte[] bytes)
+    {
+        int position = 0;
+        int i = 0;
+        while (i < count)
+        {
+            if (i + 4 <= count && (StringCodecScratch.pack(chars, i) & NON_ASCII_MASK) == 0)
+            {
+                bytes[position] = (byte) chars[i];
+                bytes[position + 1] = (byte) chars[i + 1];
+                bytes[position + 2] = (byte) chars[i + 2];
+                bytes[position + 3] = (byte) chars[i + 3];
+                position += 4;
+                i += 4;
+                continue;
+            }
+
+            char c = chars[i++];
+            if (c < 0x80)
+            {
+                bytes[position++] = (byte) c;
+            }
+            else if (c < 0x800)
+            {
+                bytes[position++] = (byte) (0xC0 | c >> 6);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            }
+            else if (!Character.isSurrogate(c))
+            {
+                bytes[position++] = (byte) (0xE0 | c >> 12);
+                bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            }
+            else if (Character.isHighSurrogate(c) && i < count && Character.isLowSurrogate(chars[i]))
+            {
+                int codePoint = Character.toCodePoint(c, chars[i++]);
+                bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+            }
+            else
+            {
+                bytes[position++] = REPLACEMENT;
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string.factory;
+
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for creating {@link IStringDedupConfig} instances.
+ */
+public interface IStringDedupConfigFactory
+{
+    /**
+     * Creates {@link IStringDedupConfig} instance.
+     *
+     * @param scope            Lifetime of cache. If null, then default value will be used.
+     * @param maxEntries       Maximum number of strings held by cache. If null, then default value will be used.
+     * @param maxEncodedLength Maximum number of octets of encoded string, which is deduplicated. If null, then default
+     *                         value will be used.
+     * @param evictionPolicy   Entry which is evicted from full cache. If null, then default value will be used.
+     * @return created instance.
+     */
+    IStringDedupConfig create(@Nullable StringDedupScope scope, @Nullable Integer maxEntries,
+        @Nullable Integer maxEncodedLength, @Nullable StringDedupEvictionPolicy evictionPolicy);
+
+    /**
+     * Provides default config, where all parameters will have default values.
+     *
+     * @return provided instance.
+     */
+    IStringDedupConfig provideDefault();
+}
@@ -0,0 +1,82 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string.factory;
+
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for creating {@link IStringDedupConfig} instances.
+ */
+public class StringDedupConfigFactory implements IStringDedupConfigFactory
+{
+    /**
+     * Default lifetime of cache, if no explicit value was provided.
+     */
+    private static final StringDedupScope DEFAULT_SCOPE = StringDedupScope.MESSAGE;
+
+    /**
+     * Default maximum number of strings held by cache, if no explicit value was provided.
+     */
+    private static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * Default maximum number of octets of deduplicated string, if no explicit value was provided.
+     */
+    private static final int DEFAULT_MAX_ENCODED_LENGTH = 64;
+
+    /**
+     * Default eviction policy, if no explicit value was provided.
+     */
+    private static final StringDedupEvictionPolicy DEFAULT_EVICTION_POLICY = StringDedupEvictionPolicy.LRU;
+
+    /**
+     * Default immutable cached instance of {@link IStringDedupConfig}.
+     */
+    private static final IStringDedupConfig DEFAULT_STRING_DEDUP_CONFIG = new StringDedupConfig(DEFAULT_SCOPE,
+        DEFAULT_MAX_ENTRIES, DEFAULT_MAX_ENCODED_LENGTH, DEFAULT_EVICTION_POLICY);
+
+    @Override
+    public IStringDedupConfig create(@Nullable StringDedupScope scope, @Nullable Integer maxEntries,
+        @Nullable Integer maxEncodedLength, @Nullable StringDedupEvictionPolicy evictionPolicy)
+    {
+        return new StringDedupConfig(
+            scope == null ? DEFAULT_SCOPE : scope,
+            maxEntries == null ? DEFAULT_MAX_ENTRIES : maxEntries,
+            maxEncodedLength == null ? DEFAULT_MAX_ENCODED_LENGTH : maxEncodedLength,
+            evictionPolicy == null ? DEFAULT_EVICTION_POLICY : evictionPolicy);
+    }
+
+    @Override
+    public IStringDedupConfig provideDefault()
+    {
+        return DEFAULT_STRING_DEDUP_CONFIG;
+    }
+}
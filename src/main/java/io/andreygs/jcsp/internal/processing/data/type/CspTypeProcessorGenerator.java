@@ -39,6 +39,7 @@ import java.lang.reflect.AnnotatedWildcardType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
 import java.util.Collection;
@@ -105,6 +106,10 @@ public class CspTypeProcessorGenerator<P> implements ICspTypeProcessorGenerator<
         {
             return createStringProcessor(annotatedType);
         }
+        else if (ByteBuffer.class.isAssignableFrom(declaredClazz))
+        {
+            return createByteBufferProcessor(annotatedType);
+        }
         else
         {
             return createOrdinaryClassProcessor(annotatedType, declaredClazz, overrideWithUpperBound);
@@ -297,6 +302,13 @@ public class CspTypeProcessorGenerator<P> implements ICspTypeProcessorGenerator<
         return typeProcessorFactory.createStringProcessor(reference, charset);
     }
 
+    private P createByteBufferProcessor(AnnotatedType annotatedType)
+    {
+        boolean reference = CspAnnotationUtils.isCspReference(annotatedType);
+        boolean fixedSize = CspAnnotationUtils.resolveCspFixedArraySize(annotatedType).isPresent();
+        return typeProcessorFactory.createByteBufferProcessor(reference, fixedSize);
+    }
+
     private P createOrdinaryClassProcessor(AnnotatedType annotatedType, Class<?> declaredClazz,
         boolean overrideWithUpperBound)
     {
@@ -25,9 +25,14 @@
 
 package io.andreygs.jcsp.internal.processing.data.type;
 
+import io.andreygs.jcsp.internal.processing.data.CspSingleFlightGenerator;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.AnnotatedType;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Provider for type processors.
@@ -35,6 +40,9 @@ import java.util.Optional;
  * First, tries to find and return already registered type processor from {@link ICspTypeProcessorRegistry}, and if
  * there is no such generates a new one with help of {@link ICspTypeProcessorGenerator}, then registers it in registry
  * and returns it.
+ * <p>
+ * Each type is generated only once at a time, concurrent requests of the same type join in-flight generation. Nested
+ * requests made during generation get placeholders instead, if placeholder factory is set.
  *
  * @param <P> type of type processor: {@link ICspTypeSerializationProcessor} or {@link ICspTypeDeserializationProcessor}.
  */
@@ -42,6 +50,7 @@ public class CspTypeProcessorProvider<P> implements ICspTypeProcessorProvider<P>
 {
     private final ICspTypeProcessorRegistry<P> cspTypeProcessorRegistry;
     private final ICspTypeProcessorGenerator<P> cspTypeProcessorGenerator;
+    private final CspSingleFlightGenerator<AnnotatedType, P> singleFlightGenerator;
 
     /**
      * Constructs an instance.
@@ -51,9 +60,24 @@ public class CspTypeProcessorProvider<P> implements ICspTypeProcessorProvider<P>
      */
     public CspTypeProcessorProvider(ICspTypeProcessorRegistry<P> cspTypeProcessorRegistry,
         ICspTypeProcessorGenerator<P> cspTypeProcessorGenerator)
+    {
+        this(cspTypeProcessorRegistry, cspTypeProcessorGenerator, null);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param cspTypeProcessorRegistry Registry for type processor.
+     * @param cspTypeProcessorGenerator Generator of type processor.
+     * @param placeholderFactory Factory of type processors delegating to type processor of the given supplier.
+     *                           If null, then recursive requests of type during its own generation fail.
+     */
+    public CspTypeProcessorProvider(ICspTypeProcessorRegistry<P> cspTypeProcessorRegistry,
+        ICspTypeProcessorGenerator<P> cspTypeProcessorGenerator, @Nullable Function<Supplier<P>, P> placeholderFactory)
     {
         this.cspTypeProcessorRegistry = Objects.requireNonNull(cspTypeProcessorRegistry);
         this.cspTypeProcessorGenerator = Objects.requireNonNull(cspTypeProcessorGenerator);
+        this.singleFlightGenerator = new CspSingleFlightGenerator<>(placeholderFactory);
     }
 
     /**
@@ -65,19 +89,29 @@ public class CspTypeProcessorProvider<P> implements ICspTypeProcessorProvider<P>
     public P provide(AnnotatedType annotatedType)
     {
         Optional<P> typeProcessor = cspTypeProcessorRegistry.find(Objects.requireNonNull(annotatedType));
-        return typeProcessor.orElse(requireTypeProcessor(annotatedType));
+        if (typeProcessor.isPresent())
+        {
+            return typeProcessor.get();
+        }
+        return singleFlightGenerator.generate(annotatedType, this::requireTypeProcessor);
     }
 
     /**
      * Requires type processor.
      * <p>
-     * Generates new type processor, registers it and returns generated one.
+     * Generates new type processor, registers it and returns generated one. If type processor was registered by
+     * generation just finished in another thread, then registered one is returned.
      *
      * @param annotatedType Type whose processor need to generate.
      * @return generated type processor.
      */
     private P requireTypeProcessor(AnnotatedType annotatedType)
     {
+        Optional<P> registeredTypeProcessor = cspTypeProcessorRegistry.find(annotatedType);
+        if (registeredTypeProcessor.isPresent())
+        {
+            return registeredTypeProcessor.get();
+        }
         P typeProcessor = cspTypeProcessorGenerator.generate(annotatedType);
         cspTypeProcessorRegistry.register(annotatedType, typeProcessor);
         return typeProcessor;
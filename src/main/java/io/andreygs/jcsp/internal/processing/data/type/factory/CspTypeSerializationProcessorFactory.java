@@ -28,6 +28,7 @@ package io.andreygs.jcsp.internal.processing.data.type.factory;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -91,6 +92,13 @@ public class CspTypeSerializationProcessorFactory
         return null;
     }
 
+    @Override
+    public ICspTypeSerializationProcessor createByteBufferProcessor(boolean reference, boolean fixedSize)
+    {
+        return (value, extendedDataProcessor) ->
+            extendedDataProcessor.serialize((ByteBuffer) value, reference, fixedSize);
+    }
+
     @Override
     public ICspTypeSerializationProcessor createOrdinaryClassProcessor(Class<?> clazz, boolean reference,
         @Nullable Class<?> implementationClazz)
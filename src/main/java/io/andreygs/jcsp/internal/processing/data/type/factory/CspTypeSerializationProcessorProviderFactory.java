@@ -35,6 +35,7 @@ import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProce
  * Factory for creating {@link ICspTypeProcessorProvider} instances for serialization processors.
  * <p>
  * Uses default cached {@link ICspTypeProcessorGenerator} instance for serialization processors to create a generator.
+ * Processors requested during their own generation are substituted by delegating placeholders.
  */
 public class CspTypeSerializationProcessorProviderFactory
     implements ICspTypeProcessorProviderFactory<ICspTypeSerializationProcessor>
@@ -46,6 +47,8 @@ public class CspTypeSerializationProcessorProviderFactory
     public ICspTypeProcessorProvider<ICspTypeSerializationProcessor> create(
         ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> registry)
     {
-        return new CspTypeProcessorProvider<>(registry, DEFAULT_CSP_TYPE_PROCESSOR_GENERATOR);
+        return new CspTypeProcessorProvider<>(registry, DEFAULT_CSP_TYPE_PROCESSOR_GENERATOR,
+            typeProcessor -> (value, extendedDataProcessor) -> typeProcessor.get().serialize(value,
+                extendedDataProcessor));
     }
 }
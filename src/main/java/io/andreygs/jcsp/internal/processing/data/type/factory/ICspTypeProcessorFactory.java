@@ -53,6 +53,8 @@ public interface ICspTypeProcessorFactory<P>
 
     P createStringProcessor(boolean reference, Charset charset);
 
+    P createByteBufferProcessor(boolean reference, boolean fixedSize);
+
     P createOrdinaryClassProcessor(Class<?> clazz, boolean reference, @Nullable Class<?> implementationClazz);
 
     P createStringCollectionProcessor(boolean reference, boolean elementReference, Charset elementCharset);
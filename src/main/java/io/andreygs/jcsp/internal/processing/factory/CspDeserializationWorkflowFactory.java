@@ -0,0 +1,51 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.factory;
+
+import io.andreygs.jcsp.api.processing.data.IStringDedupConfig;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.internal.processing.CspDeserializationWorkflow;
+import io.andreygs.jcsp.internal.processing.ICspDeserializationWorkflow;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IDeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+
+/**
+ * Stateless factory for creating {@link ICspDeserializationWorkflow} instances.
+ */
+public final class CspDeserializationWorkflowFactory
+    implements ICspDeserializationWorkflowFactory
+{
+    @Override
+    public ICspDeserializationWorkflow create(
+        ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> cspClassProcessorRegistry,
+        IDeserializationBufferFactory deserializationBufferFactory,
+        IStringDedupConfig stringDedupConfig)
+    {
+        return new CspDeserializationWorkflow(cspClassProcessorRegistry, deserializationBufferFactory,
+            stringDedupConfig);
+    }
+}
@@ -27,8 +27,12 @@ package io.andreygs.jcsp.internal.processing.factory;
 
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import io.andreygs.jcsp.internal.protocol.message.context.factory.ICspMessageContextFactory;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IMappedFileSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MappedFileSerializationBufferFactory;
 import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferFactory;
-import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.factory.CspDataSerializationProcessorFactoryProducer;
 import io.andreygs.jcsp.internal.processing.data.factory.ICspDataSerializationProcessorFactoryProducer;
@@ -39,6 +43,7 @@ import io.andreygs.jcsp.internal.protocol.message.factory.CspMessageFactory;
 import io.andreygs.jcsp.internal.processing.ICspSerializationWorkflow;
 import io.andreygs.jcsp.internal.processing.CspSerializationWorkflow;
 import io.andreygs.jcsp.internal.protocol.message.factory.ICspMessageFactory;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -46,24 +51,31 @@ import io.andreygs.jcsp.internal.protocol.message.factory.ICspMessageFactory;
 public final class CspSerializationWorkflowFactory
     implements ICspSerializationWorkflowFactory
 {
-    private static final ISerializationBufferFactory DEFAULT_SERIALIZATION_BUFFER_FACTORY =
-        new SerializationBufferFactory();
     private static final ICspMessageContextFactory DEFAULT_CSP_MESSAGE_CONTEXT_FACTORY =
         new CspMessageContextFactory();
     private static final ICspMessageFactory DEFAULT_CSP_MESSAGE_FACTORY = new CspMessageFactory();
     private static final ICspDataSerializationProcessorFactoryProducer
         DEFAULT_CSP_DATA_SERIALIZATION_PROCESSOR_FACTORY_PRODUCER = new CspDataSerializationProcessorFactoryProducer();
+    private static final IMappedFileSerializationBufferFactory DEFAULT_MAPPED_FILE_SERIALIZATION_BUFFER_FACTORY =
+        new MappedFileSerializationBufferFactory();
 
     @Override
     public ICspSerializationWorkflow create(
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
-        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry)
+        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry,
+        ISerializationBufferFactory serializationBufferFactory,
+        IAdaptiveBufferPolicy adaptiveBufferPolicy,
+        IChannelSerializationBufferFactory channelSerializationBufferFactory,
+        @Nullable CspClassProcessorTiering cspClassProcessorTiering)
     {
         return new CspSerializationWorkflow(
-            DEFAULT_SERIALIZATION_BUFFER_FACTORY,
+            serializationBufferFactory,
             DEFAULT_CSP_MESSAGE_CONTEXT_FACTORY,
             DEFAULT_CSP_MESSAGE_FACTORY,
             DEFAULT_CSP_DATA_SERIALIZATION_PROCESSOR_FACTORY_PRODUCER.produce(cspClassProcessorRegistry,
-                cspTypeProcessorRegistry));
+                cspTypeProcessorRegistry, cspClassProcessorTiering),
+            adaptiveBufferPolicy,
+            channelSerializationBufferFactory,
+            DEFAULT_MAPPED_FILE_SERIALIZATION_BUFFER_FACTORY);
     }
 }
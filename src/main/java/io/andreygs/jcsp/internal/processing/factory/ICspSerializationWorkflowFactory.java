@@ -27,11 +27,16 @@ package io.andreygs.jcsp.internal.processing.factory;
 
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import io.andreygs.jcsp.internal.processing.ICspSerializationWorkflow;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.factory.IChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferFactory;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorDescriptorProvider;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorTiering;
 import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorRegistry;
 import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * TODO: place description here
@@ -40,5 +45,9 @@ public interface ICspSerializationWorkflowFactory
 {
     ICspSerializationWorkflow create(
         ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> cspClassProcessorRegistry,
-        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry);
+        ICspTypeProcessorRegistry<ICspTypeSerializationProcessor> cspTypeProcessorRegistry,
+        ISerializationBufferFactory serializationBufferFactory,
+        IAdaptiveBufferPolicy adaptiveBufferPolicy,
+        IChannelSerializationBufferFactory channelSerializationBufferFactory,
+        @Nullable CspClassProcessorTiering cspClassProcessorTiering);
 }
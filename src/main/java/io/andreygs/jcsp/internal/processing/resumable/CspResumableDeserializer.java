@@ -0,0 +1,151 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.api.processing.data.DeserializationOutcome;
+import io.andreygs.jcsp.api.processing.data.ICspResumableDeserializer;
+import io.andreygs.jcsp.internal.processing.buffer.ResumableDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link ICspResumableDeserializer} described by ordered list of
+ * {@link IResumableDeserializationStep}. When input is exhausted, deserializer stops at current step and saves its
+ * progress in {@link ResumableStepState}.
+ *
+ * @implNote Generated class processors read data in single pass and can't be suspended in the middle of a message,
+ * that's why resumable deserialization uses explicit step list, which is built from the same struct field plan (see
+ * {@link ResumableDeserializationSteps#createStructSteps}).
+ *
+ * @param <T> Type of deserialized object.
+ */
+public final class CspResumableDeserializer<T>
+    implements ICspResumableDeserializer<T>
+{
+    private final ResumableDeserializationBuffer buffer = new ResumableDeserializationBuffer();
+
+    private final ResumableStepState state;
+
+    private final T target;
+
+    private final List<IResumableDeserializationStep<T>> steps;
+
+    private int currentStep;
+
+    private long requiredBytes;
+
+    /**
+     * Constructs an instance with big-endian byte order.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param steps Deserialization steps.
+     */
+    public CspResumableDeserializer(T target, List<IResumableDeserializationStep<T>> steps)
+    {
+        this(target, steps, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param steps Deserialization steps.
+     * @param byteOrder Byte order of input.
+     */
+    public CspResumableDeserializer(T target, List<IResumableDeserializationStep<T>> steps, ByteOrder byteOrder)
+    {
+        this(target, steps, byteOrder, null);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param target Object to fill with deserialized data.
+     * @param steps Deserialization steps.
+     * @param byteOrder Byte order of input.
+     * @param stringDedupCache Cache deduplicating strings of fields annotated with {@link CspStringDedup} or null
+     *                         if strings are not deduplicated.
+     */
+    public CspResumableDeserializer(T target, List<IResumableDeserializationStep<T>> steps, ByteOrder byteOrder,
+        @Nullable StringDedupCache stringDedupCache)
+    {
+        this.target = Objects.requireNonNull(target);
+        this.steps = List.copyOf(steps);
+        buffer.applyEndianness(Objects.requireNonNull(byteOrder));
+        state = new ResumableStepState(stringDedupCache);
+    }
+
+    @Override
+    public DeserializationOutcome feed(ByteBuffer input)
+    {
+        buffer.feed(input);
+        while (currentStep < steps.size())
+        {
+            requiredBytes = steps.get(currentStep).execute(buffer, target, state);
+            if (requiredBytes > 0)
+            {
+                return DeserializationOutcome.NEED_MORE_DATA;
+            }
+            state.reset();
+            ++currentStep;
+        }
+        return DeserializationOutcome.COMPLETED;
+    }
+
+    @Override
+    public long getRequiredBytes()
+    {
+        return isCompleted() ? 0 : requiredBytes;
+    }
+
+    @Override
+    public boolean isCompleted()
+    {
+        return currentStep == steps.size();
+    }
+
+    @Override
+    public T getResult()
+    {
+        if (!isCompleted())
+        {
+            throw new IllegalStateException("Deserialization is not completed");
+        }
+        return target;
+    }
+
+    @Override
+    public ByteBuffer getUnreadInput()
+    {
+        return buffer.getBuffer().asReadOnlyBuffer();
+    }
+}
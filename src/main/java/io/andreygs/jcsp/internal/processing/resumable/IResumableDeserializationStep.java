@@ -0,0 +1,50 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.internal.processing.buffer.ResumableDeserializationBuffer;
+
+/**
+ * Single step of resumable deserialization, e.g. reading of one field.
+ * <p>
+ * Step may be executed several times when input arrives in parts, therefore any progress it makes before input is
+ * exhausted must be kept in {@link ResumableStepState} rather than in local variables.
+ *
+ * @param <T> Type of deserialized object.
+ */
+@FunctionalInterface
+public interface IResumableDeserializationStep<T>
+{
+    /**
+     * Executes step with data that is currently available in buffer.
+     *
+     * @param buffer Buffer to read from.
+     * @param target Object that is being deserialized.
+     * @param state State of this step, saved between executions.
+     * @return 0 if step is complete, otherwise number of bytes that are still required to complete it.
+     */
+    long execute(ResumableDeserializationBuffer buffer, T target, ResumableStepState state);
+}
@@ -0,0 +1,638 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.protocol.CspDataFlag;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.annotation.utils.CspAnnotationUtils;
+import io.andreygs.jcsp.internal.processing.buffer.ResumableDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.string.IStringCodec;
+import io.andreygs.jcsp.internal.processing.data.string.StringCodecProvider;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupCache;
+import io.andreygs.jcsp.internal.processing.data.type.utils.CspTypeUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Factory of common {@link IResumableDeserializationStep} implementations.
+ * <p>
+ * Scalar steps read nothing until whole value is available. Array steps read as many whole elements as available
+ * and continue from saved offset on next execution, so already read elements are never read again.
+ */
+public final class ResumableDeserializationSteps
+{
+    /**
+     * Maximum length of array which may be allocated.
+     */
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private ResumableDeserializationSteps()
+    {
+    }
+
+    /**
+     * Creates steps of struct by its field plan, the same that generated class processors follow, for input written
+     * with equal sizes of integers.
+     *
+     * @param fieldPlan Plan of struct.
+     * @param <T> Type of struct.
+     * @return created steps in order of serialization.
+     * @throws CspRuntimeException if struct is not supported (see {@link #createStructSteps(CspStructFieldPlan,
+     * boolean)}).
+     */
+    public static <T> List<IResumableDeserializationStep<T>> createStructSteps(CspStructFieldPlan fieldPlan)
+    {
+        return createStructSteps(fieldPlan, false);
+    }
+
+    /**
+     * Creates steps of struct by its field plan, the same that generated class processors follow.
+     * <p>
+     * Every field is read as it is written by data serialization processor for non-reference field: primitive value
+     * as is, primitive array as number of elements in long format (unless array has fixed size) followed by elements
+     * and string as number of octets in long format followed by octets. If sizes of integers may be not equal, then
+     * every integer value and integer array elements are preceded by octet with size of integer.
+     *
+     * @param fieldPlan Plan of struct.
+     * @param sizeOfIntegersMayBeNotEqual Whether input was written with
+     *                                    {@link CspDataFlag#SIZE_OF_INTEGERS_MAY_BE_NOT_EQUAL}.
+     * @param <T> Type of struct.
+     * @return created steps in order of serialization. Steps throw {@link CspRuntimeException} with
+     * {@link CspStatus#ERROR_IN_STRUCT_FORMAT} status if input contains size of integer that differs from size of
+     * field type.
+     * @throws CspRuntimeException if plan contains parent struct with explicitly registered processor or field that
+     * is final, reference or is neither of primitive, primitive array nor {@link String} type.
+     */
+    public static <T> List<IResumableDeserializationStep<T>> createStructSteps(CspStructFieldPlan fieldPlan,
+        boolean sizeOfIntegersMayBeNotEqual)
+    {
+        Class<?> parentClazz = fieldPlan.getParentClazz();
+        if (parentClazz != null)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER,
+                "Resumable deserialization does not support explicitly registered processor of "
+                    + parentClazz.getName());
+        }
+        List<IResumableDeserializationStep<T>> steps = new ArrayList<>(fieldPlan.getFields().size());
+        for (Field field : fieldPlan.getFields())
+        {
+            steps.add(createFieldStep(field, sizeOfIntegersMayBeNotEqual));
+        }
+        return steps;
+    }
+
+    /**
+     * Creates step reading byte value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readByte(ObjIntConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Byte.BYTES)
+            {
+                return Byte.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readByte());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading short value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readShort(ObjIntConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Short.BYTES)
+            {
+                return Short.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readShort());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading int value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readInt(ObjIntConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Integer.BYTES)
+            {
+                return Integer.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readInt());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading char value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readChar(ObjIntConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Character.BYTES)
+            {
+                return Character.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readChar());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading long value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readLong(ObjLongConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Long.BYTES)
+            {
+                return Long.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readLong());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading float value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readFloat(ObjDoubleConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Float.BYTES)
+            {
+                return Float.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readFloat());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading double value.
+     *
+     * @param setter Consumer of read value.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readDouble(ObjDoubleConsumer<T> setter)
+    {
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Double.BYTES)
+            {
+                return Double.BYTES - buffer.getAvailable();
+            }
+            setter.accept(target, buffer.readDouble());
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading string as number of octets in long format followed by octets themselves.
+     * <p>
+     * String is decoded only when all its octets are available.
+     *
+     * @param charset Charset of string.
+     * @param dedup Whether string shall be taken from {@link ResumableStepState#getStringDedupCache()}, if there is
+     *              one.
+     * @param setter Consumer of read string.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readString(Charset charset, boolean dedup,
+        BiConsumer<T, String> setter)
+    {
+        IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+        Objects.requireNonNull(setter);
+        return (buffer, target, state) ->
+        {
+            Integer length = (Integer) state.getPartialValue();
+            if (length == null)
+            {
+                if (buffer.getAvailable() < Long.BYTES)
+                {
+                    return Long.BYTES - buffer.getAvailable();
+                }
+                length = readLength(buffer);
+                state.setPartialValue(length);
+            }
+            if (buffer.getAvailable() < length)
+            {
+                return length - buffer.getAvailable();
+            }
+            StringDedupCache stringDedupCache = dedup ? state.getStringDedupCache() : null;
+            setter.accept(target, stringDedupCache != null
+                                  ? stringDedupCache.decode(buffer, length, stringCodec)
+                                  : stringCodec.decode(buffer, length));
+            return 0;
+        };
+    }
+
+    /**
+     * Creates step reading byte array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readByteArray(ToIntFunction<T> length,
+        BiConsumer<T, byte[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, byte[].class, byte[]::new, Byte.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading short array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readShortArray(ToIntFunction<T> length,
+        BiConsumer<T, short[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, short[].class, short[]::new, Short.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading int array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readIntArray(ToIntFunction<T> length,
+        BiConsumer<T, int[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, int[].class, int[]::new, Integer.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading long array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readLongArray(ToIntFunction<T> length,
+        BiConsumer<T, long[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, long[].class, long[]::new, Long.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading char array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readCharArray(ToIntFunction<T> length,
+        BiConsumer<T, char[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, char[].class, char[]::new, Character.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading float array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readFloatArray(ToIntFunction<T> length,
+        BiConsumer<T, float[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, float[].class, float[]::new, Float.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    /**
+     * Creates step reading double array.
+     *
+     * @param length Function giving array length, usually from field read by one of previous steps.
+     * @param setter Consumer of read array.
+     * @param <T> Type of deserialized object.
+     * @return created step.
+     */
+    public static <T> IResumableDeserializationStep<T> readDoubleArray(ToIntFunction<T> length,
+        BiConsumer<T, double[]> setter)
+    {
+        return readArray(Objects.requireNonNull(length), setter, double[].class, double[]::new, Double.BYTES,
+            false, ResumableDeserializationBuffer::read);
+    }
+
+    private static <T> IResumableDeserializationStep<T> createFieldStep(Field field,
+        boolean sizeOfIntegersMayBeNotEqual)
+    {
+        Class<?> type = field.getType();
+        if (Modifier.isFinal(field.getModifiers()) || !type.isPrimitive() && type != String.class
+            && !(type.isArray() && type.getComponentType().isPrimitive())
+            || CspAnnotationUtils.isCspReference(field.getAnnotatedType()))
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER,
+                "Resumable deserialization does not support field " + field);
+        }
+        field.setAccessible(true);
+        if (type == String.class)
+        {
+            Charset charset = CspAnnotationUtils.resolveCspStringCharset(field.getAnnotatedType()).orElse(null);
+            CspTypeUtils.requireStringCharset(charset);
+            return readString(charset, CspAnnotationUtils.isCspStringDedup(field.getAnnotatedType()),
+                (target, value) -> setField(field, target, value));
+        }
+        Integer fixedSize = CspAnnotationUtils.resolveCspFixedArraySize(field.getAnnotatedType()).orElse(null);
+        @Nullable ToIntFunction<T> length = fixedSize == null ? null : target -> fixedSize;
+        if (type == boolean.class)
+        {
+            return readByte((target, value) -> setField(field, target, value != 0));
+        }
+        else if (type == byte.class)
+        {
+            return readIntegerSize(Byte.BYTES, sizeOfIntegersMayBeNotEqual,
+                readByte((target, value) -> setField(field, target, (byte) value)));
+        }
+        else if (type == short.class)
+        {
+            return readIntegerSize(Short.BYTES, sizeOfIntegersMayBeNotEqual,
+                readShort((target, value) -> setField(field, target, (short) value)));
+        }
+        else if (type == int.class)
+        {
+            return readIntegerSize(Integer.BYTES, sizeOfIntegersMayBeNotEqual,
+                readInt((target, value) -> setField(field, target, value)));
+        }
+        else if (type == long.class)
+        {
+            return readIntegerSize(Long.BYTES, sizeOfIntegersMayBeNotEqual,
+                readLong((target, value) -> setField(field, target, value)));
+        }
+        else if (type == char.class)
+        {
+            return readChar((target, value) -> setField(field, target, (char) value));
+        }
+        else if (type == float.class)
+        {
+            return readFloat((target, value) -> setField(field, target, (float) value));
+        }
+        else if (type == double.class)
+        {
+            return readDouble((target, value) -> setField(field, target, value));
+        }
+        else if (type == boolean[].class)
+        {
+            return readArray(length, (T target, boolean[] value) -> setField(field, target, value), boolean[].class,
+                boolean[]::new, Byte.BYTES, false, ResumableDeserializationSteps::readBooleans);
+        }
+        else if (type == byte[].class)
+        {
+            return readArray(length, (T target, byte[] value) -> setField(field, target, value), byte[].class,
+                byte[]::new, Byte.BYTES, sizeOfIntegersMayBeNotEqual, ResumableDeserializationBuffer::read);
+        }
+        else if (type == short[].class)
+        {
+            return readArray(length, (T target, short[] value) -> setField(field, target, value), short[].class,
+                short[]::new, Short.BYTES, sizeOfIntegersMayBeNotEqual, ResumableDeserializationBuffer::read);
+        }
+        else if (type == int[].class)
+        {
+            return readArray(length, (T target, int[] value) -> setField(field, target, value), int[].class,
+                int[]::new, Integer.BYTES, sizeOfIntegersMayBeNotEqual, ResumableDeserializationBuffer::read);
+        }
+        else if (type == long[].class)
+        {
+            return readArray(length, (T target, long[] value) -> setField(field, target, value), long[].class,
+                long[]::new, Long.BYTES, sizeOfIntegersMayBeNotEqual, ResumableDeserializationBuffer::read);
+        }
+        else if (type == char[].class)
+        {
+            return readArray(length, (T target, char[] value) -> setField(field, target, value), char[].class,
+                char[]::new, Character.BYTES, false, ResumableDeserializationBuffer::read);
+        }
+        else if (type == float[].class)
+        {
+            return readArray(length, (T target, float[] value) -> setField(field, target, value), float[].class,
+                float[]::new, Float.BYTES, false, ResumableDeserializationBuffer::read);
+        }
+        else
+        {
+            return readArray(length, (T target, double[] value) -> setField(field, target, value), double[].class,
+                double[]::new, Double.BYTES, false, ResumableDeserializationBuffer::read);
+        }
+    }
+
+    /**
+     * Wraps step reading integer value, so that octet with size of integer is read and checked right before value,
+     * if sizes of integers may be not equal.
+     */
+    private static <T> IResumableDeserializationStep<T> readIntegerSize(int size,
+        boolean sizeOfIntegersMayBeNotEqual, IResumableDeserializationStep<T> valueStep)
+    {
+        if (!sizeOfIntegersMayBeNotEqual)
+        {
+            return valueStep;
+        }
+        return (buffer, target, state) ->
+        {
+            if (buffer.getAvailable() < Byte.BYTES + size)
+            {
+                return Byte.BYTES + size - buffer.getAvailable();
+            }
+            requireIntegerSize(buffer.readByte(), size);
+            return valueStep.execute(buffer, target, state);
+        };
+    }
+
+    /**
+     * Creates step reading array of primitive type.
+     *
+     * @param length Function giving array length or null if length is read from input as long value right before
+     *               elements.
+     * @param setter Consumer of read array.
+     * @param arrayClazz Class of array.
+     * @param arrayFactory Factory of array of given length.
+     * @param elementSize Size of array element.
+     * @param integerSize Whether elements are preceded by octet with size of integer.
+     * @param partReader Reader of array part from buffer.
+     * @param <T> Type of deserialized object.
+     * @param <A> Type of array.
+     * @return created step.
+     */
+    private static <T, A> IResumableDeserializationStep<T> readArray(@Nullable ToIntFunction<T> length,
+        BiConsumer<T, A> setter, Class<A> arrayClazz, IntFunction<A> arrayFactory, int elementSize,
+        boolean integerSize, IArrayPartReader<A> partReader)
+    {
+        Objects.requireNonNull(setter);
+        int prefixSize = (length != null ? 0 : Long.BYTES) + (integerSize ? Byte.BYTES : 0);
+        return (buffer, target, state) ->
+        {
+            A value = arrayClazz.cast(state.getPartialValue());
+            if (value == null)
+            {
+                if (buffer.getAvailable() < prefixSize)
+                {
+                    return prefixSize - buffer.getAvailable();
+                }
+                value = arrayFactory.apply(length != null ? length.applyAsInt(target) : readLength(buffer));
+                if (integerSize)
+                {
+                    requireIntegerSize(buffer.readByte(), elementSize);
+                }
+                state.setPartialValue(value);
+            }
+            int arrayLength = Array.getLength(value);
+            int offset = state.getOffset();
+            int partLength = Math.min(buffer.getAvailable() / elementSize, arrayLength - offset);
+            partReader.read(buffer, value, offset, partLength);
+            offset += partLength;
+            state.setOffset(offset);
+            if (offset < arrayLength)
+            {
+                return (long) (arrayLength - offset) * elementSize - buffer.getAvailable();
+            }
+            setter.accept(target, value);
+            return 0;
+        };
+    }
+
+    private static int readLength(ResumableDeserializationBuffer buffer)
+    {
+        long length = buffer.readLong();
+        if (length < 0 || length > MAX_ARRAY_LENGTH)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.ERROR_IN_STRUCT_FORMAT,
+                "Length is out of range: " + length);
+        }
+        return (int) length;
+    }
+
+    private static void requireIntegerSize(byte size, int expectedSize)
+    {
+        if (size != expectedSize)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.ERROR_IN_STRUCT_FORMAT,
+                "Size of integer " + size + " is not equal to " + expectedSize);
+        }
+    }
+
+    private static void readBooleans(ResumableDeserializationBuffer buffer, boolean[] value, int offset, int length)
+    {
+        for (int i = offset; i < offset + length; ++i)
+        {
+            value[i] = buffer.readByte() != 0;
+        }
+    }
+
+    private static void setField(Field field, Object target, Object value)
+    {
+        try
+        {
+            field.set(target, value);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw CspRuntimeException.createCspRuntimeException(CspStatus.NO_SUCH_HANDLER, e);
+        }
+    }
+
+    /**
+     * Reader of array part, e.g. {@link ResumableDeserializationBuffer#read(int[], int, int)}.
+     *
+     * @param <A> Type of array.
+     */
+    @FunctionalInterface
+    private interface IArrayPartReader<A>
+    {
+        void read(ResumableDeserializationBuffer buffer, A value, int offset, int length);
+    }
+}
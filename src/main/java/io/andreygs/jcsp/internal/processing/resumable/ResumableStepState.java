@@ -0,0 +1,121 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Progress of currently executed {@link IResumableDeserializationStep}.
+ * <p>
+ * Reset by {@link CspResumableDeserializer} before each step is started.
+ */
+public final class ResumableStepState
+{
+    private final @Nullable StringDedupCache stringDedupCache;
+
+    private @Nullable Object partialValue;
+
+    private int offset;
+
+    /**
+     * Constructs an instance without string deduplication.
+     */
+    public ResumableStepState()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param stringDedupCache Cache deduplicating strings of fields annotated with {@link CspStringDedup} or null
+     *                         if strings are not deduplicated.
+     */
+    public ResumableStepState(@Nullable StringDedupCache stringDedupCache)
+    {
+        this.stringDedupCache = stringDedupCache;
+    }
+
+    /**
+     * Gets cache deduplicating strings of fields annotated with {@link CspStringDedup}.
+     * <p>
+     * Cache is kept across steps.
+     *
+     * @return string deduplication cache or null if strings are not deduplicated.
+     */
+    public @Nullable StringDedupCache getStringDedupCache()
+    {
+        return stringDedupCache;
+    }
+
+    /**
+     * Gets value that is partially read, e.g. array being filled.
+     *
+     * @return partially read value or null if step is not started yet.
+     */
+    public @Nullable Object getPartialValue()
+    {
+        return partialValue;
+    }
+
+    /**
+     * Sets value that is partially read.
+     *
+     * @param partialValue Partially read value.
+     */
+    public void setPartialValue(@Nullable Object partialValue)
+    {
+        this.partialValue = partialValue;
+    }
+
+    /**
+     * Gets number of elements of partial value that are already read.
+     *
+     * @return number of read elements.
+     */
+    public int getOffset()
+    {
+        return offset;
+    }
+
+    /**
+     * Sets number of elements of partial value that are already read.
+     *
+     * @param offset Number of read elements.
+     */
+    public void setOffset(int offset)
+    {
+        this.offset = offset;
+    }
+
+    void reset()
+    {
+        partialValue = null;
+        offset = 0;
+    }
+}
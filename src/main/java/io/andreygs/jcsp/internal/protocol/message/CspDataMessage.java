@@ -30,6 +30,7 @@ import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExten
 import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
 import io.andreygs.jcsp.api.protocol.CspMessageType;
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
 
 import java.nio.ByteBuffer;
 import java.util.Objects;
@@ -40,12 +41,12 @@ import java.util.Objects;
 public final class CspDataMessage<T extends ICspVersionable>
     implements ICspDataMessage<T>
 {
-    private final ByteBuffer buffer;
+    private final ISerializationBuffer buffer;
     private final ICspMessageContext messageContext;
     private final T struct;
     private final ICspDataMessageContextExtension dataDataMessageContextExtension;
 
-    public CspDataMessage(ByteBuffer buffer,
+    public CspDataMessage(ISerializationBuffer buffer,
         ICspMessageContext messageContext, T struct, ICspDataMessageContextExtension dataDataMessageContextExtension)
     {
         this.buffer = Objects.requireNonNull(buffer);
@@ -64,7 +65,13 @@ public final class CspDataMessage<T extends ICspVersionable>
     @Override
     public ByteBuffer getBuffer()
     {
-        return buffer;
+        return buffer.getBuffer();
+    }
+
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return buffer.getBuffers();
     }
 
     @Override
@@ -84,4 +91,10 @@ public final class CspDataMessage<T extends ICspVersionable>
     {
         return dataDataMessageContextExtension;
     }
+
+    @Override
+    public void close()
+    {
+        buffer.release();
+    }
 }
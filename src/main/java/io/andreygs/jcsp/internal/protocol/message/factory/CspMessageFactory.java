@@ -30,8 +30,7 @@ import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExten
 import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
 import io.andreygs.jcsp.internal.protocol.message.CspDataMessage;
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
-
-import java.nio.ByteBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
 
 /**
  *
@@ -40,7 +39,7 @@ public final class CspMessageFactory
     implements ICspMessageFactory
 {
     @Override
-    public <T extends ICspVersionable> ICspDataMessage<T> createCspDataMessage(ByteBuffer buffer,
+    public <T extends ICspVersionable> ICspDataMessage<T> createCspDataMessage(ISerializationBuffer buffer,
         ICspMessageContext messageContext, T struct, ICspDataMessageContextExtension dataMessageContextExtension)
     {
         return new CspDataMessage<>(buffer, messageContext, struct, dataMessageContextExtension);
@@ -29,14 +29,13 @@ import io.andreygs.jcsp.api.protocol.message.ICspDataMessage;
 import io.andreygs.jcsp.api.protocol.message.context.ICspDataMessageContextExtension;
 import io.andreygs.jcsp.api.protocol.message.context.ICspMessageContext;
 import io.andreygs.jcsp.api.protocol.ICspVersionable;
-
-import java.nio.ByteBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
 
 /**
  * Factory for creation CSP messages.
  */
 public interface ICspMessageFactory
 {
-    <T extends ICspVersionable> ICspDataMessage<T> createCspDataMessage(ByteBuffer buffer,
+    <T extends ICspVersionable> ICspDataMessage<T> createCspDataMessage(ISerializationBuffer buffer,
         ICspMessageContext messageContext, T struct, ICspDataMessageContextExtension dataMessageContextExtension);
 }
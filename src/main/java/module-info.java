@@ -27,6 +27,7 @@
 module io.andreygs.jcsp.base {
     requires static org.jetbrains.annotations;
     requires java.xml;
+    requires jdk.unsupported;
 
     exports io.andreygs.jcsp.api.controller;
     exports io.andreygs.jcsp.api.exception;
@@ -39,4 +40,6 @@ module io.andreygs.jcsp.base {
     exports io.andreygs.jcsp.api.protocol.message.config;
     exports io.andreygs.jcsp.api.protocol.message.context;
     exports io.andreygs.jcsp.api.protocol.utils;
+
+    uses io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
 }
@@ -0,0 +1,94 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+
+/**
+ * Entry point to buffers of {@link AllocationType#ARENA} allocation type.
+ *
+ * @implNote
+ * This is the Java 22 version of the class, which creates {@link MemorySegment} backed buffers.
+ */
+public final class ArenaBufferSupport
+{
+    private ArenaBufferSupport()
+    {
+    }
+
+    /**
+     * Gets whether arena buffers are supported by current runtime.
+     *
+     * @return true if arena buffers are supported.
+     */
+    public static boolean isSupported()
+    {
+        return true;
+    }
+
+    /**
+     * Creates serialization buffer which memory is owned by shared arena, so that buffer can be released from any
+     * thread.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @return created instance.
+     */
+    public static ISerializationBuffer createSerializationBuffer(ISerializationBufferConfig serializationBufferConfig)
+    {
+        return new ArenaSerializationBuffer(serializationBufferConfig, false);
+    }
+
+    /**
+     * Creates serialization buffer which memory is owned by shared arena and is limited by memory budget.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param memoryGovernor Keeper of memory budget. If null, then memory is not limited.
+     * @return created instance.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException with
+     * {@link io.andreygs.jcsp.api.protocol.CspStatus#NO_MEMORY} status if initial capacity can't be reserved.
+     */
+    public static ISerializationBuffer createSerializationBuffer(ISerializationBufferConfig serializationBufferConfig,
+        @Nullable MemoryGovernor memoryGovernor)
+    {
+        return new ArenaSerializationBuffer(serializationBufferConfig, false, memoryGovernor);
+    }
+
+    /**
+     * Creates deserialization buffer that reads the giving buffer through memory segment view.
+     *
+     * @param byteBuffer Buffer that contains CSP serialized message.
+     * @return created instance.
+     */
+    public static IDeserializationBuffer createDeserializationBuffer(ByteBuffer byteBuffer)
+    {
+        return new ArenaDeserializationBuffer(MemorySegment.ofBuffer(byteBuffer), null);
+    }
+}
@@ -0,0 +1,266 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Deserialization buffer that reads CSP message from {@link MemorySegment}.
+ * <p>
+ * If buffer owns {@link Arena} of the segment, the arena is closed on {@link #release()}.
+ */
+public final class ArenaDeserializationBuffer implements IDeserializationBuffer
+{
+    private final MemorySegment segment;
+
+    private final @Nullable Arena arena;
+
+    private long position;
+
+    private boolean released;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private ValueLayout.OfShort shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfInt intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfLong longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfChar charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfFloat floatLayout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfDouble doubleLayout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(byteOrder);
+
+    /**
+     * Constructs an instance.
+     *
+     * @param segment Segment that contains CSP serialized message.
+     * @param arena Arena that owns segment and should be closed on release, or null if segment is not owned.
+     */
+    public ArenaDeserializationBuffer(MemorySegment segment, @Nullable Arena arena)
+    {
+        this.segment = segment;
+        this.arena = arena;
+    }
+
+    /**
+     * Gets view of underlying segment, which position is equal to read cursor.
+     *
+     * @return view of underlying segment.
+     * @throws UnsupportedOperationException if segment is larger than {@link Integer#MAX_VALUE}.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        ByteBuffer view = segment.asByteBuffer().order(byteOrder);
+        view.position(Math.toIntExact(position));
+        return view;
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(byteOrder);
+        intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(byteOrder);
+        longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+        charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(byteOrder);
+        floatLayout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(byteOrder);
+        doubleLayout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(byteOrder);
+    }
+
+    @Override
+    public byte readByte()
+    {
+        byte value = segment.get(ValueLayout.JAVA_BYTE, position);
+        position += Byte.BYTES;
+        return value;
+    }
+
+    @Override
+    public short readShort()
+    {
+        short value = segment.get(shortLayout, position);
+        position += Short.BYTES;
+        return value;
+    }
+
+    @Override
+    public int readInt()
+    {
+        int value = segment.get(intLayout, position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    @Override
+    public long readLong()
+    {
+        long value = segment.get(longLayout, position);
+        position += Long.BYTES;
+        return value;
+    }
+
+    @Override
+    public char readChar()
+    {
+        char value = segment.get(charLayout, position);
+        position += Character.BYTES;
+        return value;
+    }
+
+    @Override
+    public float readFloat()
+    {
+        float value = segment.get(floatLayout, position);
+        position += Float.BYTES;
+        return value;
+    }
+
+    @Override
+    public double readDouble()
+    {
+        double value = segment.get(doubleLayout, position);
+        position += Double.BYTES;
+        return value;
+    }
+
+    @Override
+    public void ensureReadable(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        if (segment.byteSize() - position < length)
+        {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    @Override
+    public void read(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position, value, offset, length);
+        position += length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Slice is a view of segment, unless buffer owns arena of the segment: arena is closed on {@link #release()}, so
+     * bytes are copied.
+     */
+    @Override
+    public ByteBuffer readSlice(int length)
+    {
+        if (arena != null)
+        {
+            return IDeserializationBuffer.super.readSlice(length);
+        }
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        ByteBuffer slice = segment.asSlice(position, length).asByteBuffer().asReadOnlyBuffer();
+        slice.order(byteOrder);
+        position += length;
+        return slice;
+    }
+
+    @Override
+    public void read(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, shortLayout, position, value, offset, length);
+        position += (long) length * Short.BYTES;
+    }
+
+    @Override
+    public void read(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, intLayout, position, value, offset, length);
+        position += (long) length * Integer.BYTES;
+    }
+
+    @Override
+    public void read(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, longLayout, position, value, offset, length);
+        position += (long) length * Long.BYTES;
+    }
+
+    @Override
+    public void read(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, charLayout, position, value, offset, length);
+        position += (long) length * Character.BYTES;
+    }
+
+    @Override
+    public void read(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, floatLayout, position, value, offset, length);
+        position += (long) length * Float.BYTES;
+    }
+
+    @Override
+    public void read(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        MemorySegment.copy(segment, doubleLayout, position, value, offset, length);
+        position += (long) length * Double.BYTES;
+    }
+
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        if (arena != null)
+        {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IBufferResizeStrategy;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Serialization buffer which memory is {@link MemorySegment} owned by {@link Arena}.
+ * <p>
+ * Memory is freed deterministically: replaced segment is freed right after expansion and current one is freed on
+ * {@link #release()}.
+ * <p>
+ * If {@link MemoryGovernor} is given, size of every segment is reserved against the budget before allocation and
+ * given back when segment is freed.
+ */
+public final class ArenaSerializationBuffer implements ISerializationBuffer
+{
+    private final IBufferResizeStrategy bufferResizeStrategy;
+
+    private final boolean confined;
+
+    private final @Nullable MemoryGovernor memoryGovernor;
+
+    private Arena arena;
+
+    private MemorySegment segment;
+
+    private int position;
+
+    private boolean committed;
+
+    private boolean released;
+
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    private ValueLayout.OfShort shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfInt intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfLong longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfChar charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfFloat floatLayout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(byteOrder);
+
+    private ValueLayout.OfDouble doubleLayout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(byteOrder);
+
+    /**
+     * Constructs an instance.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param confined Whether confined arena should be used. Confined buffer can be written and released only by
+     *                 thread that created it, otherwise shared arena is used.
+     */
+    public ArenaSerializationBuffer(ISerializationBufferConfig serializationBufferConfig, boolean confined)
+    {
+        this(serializationBufferConfig, confined, null);
+    }
+
+    /**
+     * Constructs an instance which segments are limited by memory budget.
+     *
+     * @param serializationBufferConfig Buffer configuration.
+     * @param confined Whether confined arena should be used. Confined buffer can be written and released only by
+     *                 thread that created it, otherwise shared arena is used.
+     * @param memoryGovernor Keeper of memory budget. If null, then memory is not limited.
+     * @throws io.andreygs.jcsp.api.exception.CspRuntimeException with
+     * {@link io.andreygs.jcsp.api.protocol.CspStatus#NO_MEMORY} status if initial capacity can't be reserved.
+     */
+    public ArenaSerializationBuffer(ISerializationBufferConfig serializationBufferConfig, boolean confined,
+        @Nullable MemoryGovernor memoryGovernor)
+    {
+        this.bufferResizeStrategy = Objects.requireNonNull(serializationBufferConfig.getResizeStrategy());
+        this.confined = confined;
+        this.memoryGovernor = memoryGovernor;
+        this.arena = createArena();
+        this.segment = allocateSegment(arena, serializationBufferConfig.getInitialCapacity());
+    }
+
+    @Override
+    public AllocationType getAllocationType()
+    {
+        return AllocationType.ARENA;
+    }
+
+    /**
+     * Gets view of underlying segment.
+     * <p>
+     * Before {@link #commitBuffer()} view position is equal to write cursor, after it the view contains committed
+     * data. The view becomes invalid after expansion or {@link #release()}.
+     *
+     * @return view of underlying segment.
+     */
+    @Override
+    public ByteBuffer getBuffer()
+    {
+        ByteBuffer view = segment.asByteBuffer().order(byteOrder);
+        if (committed)
+        {
+            view.limit(position);
+        }
+        else
+        {
+            view.position(position);
+        }
+        return view;
+    }
+
+    @Override
+    public ByteBuffer[] getBuffers()
+    {
+        return new ByteBuffer[] { getBuffer() };
+    }
+
+    @Override
+    public void applyEndianness(ByteOrder byteOrder)
+    {
+        this.byteOrder = byteOrder;
+        shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(byteOrder);
+        intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(byteOrder);
+        longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+        charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(byteOrder);
+        floatLayout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(byteOrder);
+        doubleLayout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(byteOrder);
+    }
+
+    @Override
+    public void writeByte(byte value)
+    {
+        expandBufferIfNeed(Byte.BYTES);
+        segment.set(ValueLayout.JAVA_BYTE, position, value);
+        position += Byte.BYTES;
+    }
+
+    @Override
+    public void writeShort(short value)
+    {
+        expandBufferIfNeed(Short.BYTES);
+        segment.set(shortLayout, position, value);
+        position += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(int value)
+    {
+        expandBufferIfNeed(Integer.BYTES);
+        segment.set(intLayout, position, value);
+        position += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        expandBufferIfNeed(Long.BYTES);
+        segment.set(longLayout, position, value);
+        position += Long.BYTES;
+    }
+
+    @Override
+    public void writeChar(char value)
+    {
+        expandBufferIfNeed(Character.BYTES);
+        segment.set(charLayout, position, value);
+        position += Character.BYTES;
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        expandBufferIfNeed(Float.BYTES);
+        segment.set(floatLayout, position, value);
+        position += Float.BYTES;
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        expandBufferIfNeed(Double.BYTES);
+        segment.set(doubleLayout, position, value);
+        position += Double.BYTES;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote
+     * Segment is expanded once for whole block, unchecked writes set values to segment directly.
+     */
+    @Override
+    public void reserve(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length < 0");
+        }
+        expandBufferIfNeed(length);
+    }
+
+    @Override
+    public void writeByteUnchecked(byte value)
+    {
+        segment.set(ValueLayout.JAVA_BYTE, position, value);
+        position += Byte.BYTES;
+    }
+
+    @Override
+    public void writeShortUnchecked(short value)
+    {
+        segment.set(shortLayout, position, value);
+        position += Short.BYTES;
+    }
+
+    @Override
+    public void writeIntUnchecked(int value)
+    {
+        segment.set(intLayout, position, value);
+        position += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLongUnchecked(long value)
+    {
+        segment.set(longLayout, position, value);
+        position += Long.BYTES;
+    }
+
+    @Override
+    public void writeCharUnchecked(char value)
+    {
+        segment.set(charLayout, position, value);
+        position += Character.BYTES;
+    }
+
+    @Override
+    public void writeFloatUnchecked(float value)
+    {
+        segment.set(floatLayout, position, value);
+        position += Float.BYTES;
+    }
+
+    @Override
+    public void writeDoubleUnchecked(double value)
+    {
+        segment.set(doubleLayout, position, value);
+        position += Double.BYTES;
+    }
+
+    @Override
+    public void write(byte[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        expandBufferIfNeed(length);
+        MemorySegment.copy(value, offset, segment, ValueLayout.JAVA_BYTE, position, length);
+        position += length;
+    }
+
+    @Override
+    public void write(short[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Short.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, shortLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void write(int[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Integer.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, intLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void write(long[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Long.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, longLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Character.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, charLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void write(float[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Float.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, floatLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void write(double[] value, int offset, int length)
+    {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        int addingDataSize = Math.multiplyExact(length, Double.BYTES);
+        expandBufferIfNeed(addingDataSize);
+        MemorySegment.copy(value, offset, segment, doubleLayout, position, length);
+        position += addingDataSize;
+    }
+
+    @Override
+    public void commitBuffer()
+    {
+        committed = true;
+    }
+
+    @Override
+    public void release()
+    {
+        if (released)
+        {
+            return;
+        }
+        released = true;
+        arena.close();
+        releaseSegment(segment);
+    }
+
+    private Arena createArena()
+    {
+        return confined ? Arena.ofConfined() : Arena.ofShared();
+    }
+
+    private MemorySegment allocateSegment(Arena owner, int capacity)
+    {
+        boolean reserved = false;
+        try
+        {
+            if (memoryGovernor != null)
+            {
+                memoryGovernor.reserve(capacity);
+                reserved = true;
+            }
+            return owner.allocate(capacity, Long.BYTES);
+        }
+        catch (RuntimeException | Error e)
+        {
+            if (reserved)
+            {
+                memoryGovernor.release(capacity);
+            }
+            owner.close();
+            throw e;
+        }
+    }
+
+    private void releaseSegment(MemorySegment freedSegment)
+    {
+        if (memoryGovernor != null)
+        {
+            memoryGovernor.release(freedSegment.byteSize());
+        }
+    }
+
+    /**
+     * Expands buffer if current allocated size is not enough to write {@code addingDataSize}.
+     * <p>
+     * New segment is allocated in new arena and arena of old segment is closed right after copying.
+     *
+     * @param addingDataSize Size of data that should be written to buffer. Must be positive.
+     * @throws ArithmeticException if new buffer capacity size will overflow an int.
+     */
+    private void expandBufferIfNeed(int addingDataSize)
+    {
+        int minimumRequiredSize = Math.addExact(position, addingDataSize);
+        int capacity = (int) segment.byteSize();
+        if (minimumRequiredSize > capacity)
+        {
+            int newCapacity = bufferResizeStrategy.calculateNewSize(capacity, minimumRequiredSize);
+            Arena newArena = createArena();
+            MemorySegment newSegment = allocateSegment(newArena, newCapacity);
+            MemorySegment.copy(segment, 0, newSegment, 0, position);
+            arena.close();
+            releaseSegment(segment);
+            arena = newArena;
+            segment = newSegment;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * Vectorized kernel of {@link PrimitiveArrayAccess}, which transfers primitive arrays with byte order conversion and
+ * boolean arrays with conversion to bytes.
+ * <p>
+ * Every method processes leading part of the range starting from current position of buffer, without changing the
+ * position, and returns number of elements it has processed. Remaining elements must be processed by caller.
+ * Room in buffer and range of array are expected to be checked by caller.
+ *
+ * @implNote
+ * This is the Java 22 version of the class. It delegates to {@link VectorByteSwapKernel} when
+ * {@code jdk.incubator.vector} module is present in boot layer (e.g. JVM is started with
+ * {@code --add-modules jdk.incubator.vector}) and preferred vector shape is at least 128 bits wide. Otherwise it
+ * processes nothing, so that caller falls back to scalar loop.
+ * <p>
+ * Library module does not require incubator module, so when it is loaded as named module, readability of
+ * {@code jdk.incubator.vector} is added at runtime before {@link VectorByteSwapKernel} is touched.
+ */
+final class ByteSwapKernel
+{
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    private static final boolean VECTORIZED = resolveVectorized();
+
+    private ByteSwapKernel()
+    {
+    }
+
+    /**
+     * Gets whether kernel is vectorized in current runtime.
+     *
+     * @return true if kernel is vectorized.
+     */
+    static boolean isVectorized()
+    {
+        return VECTORIZED;
+    }
+
+    private static boolean resolveVectorized()
+    {
+        Optional<Module> vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE_NAME);
+        if (vectorModule.isEmpty())
+        {
+            return false;
+        }
+        ByteSwapKernel.class.getModule().addReads(vectorModule.get());
+        try
+        {
+            return VectorByteSwapKernel.isEfficient();
+        }
+        catch (LinkageError e)
+        {
+            return false;
+        }
+    }
+
+    static int put(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int put(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.put(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+
+    static int get(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        return VECTORIZED ? VectorByteSwapKernel.get(buffer, value, offset, length) : 0;
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link ByteSwapKernel} implementation on top of incubating Vector API.
+ * <p>
+ * Vectors are loaded from and stored to buffer in its byte order, which is compiled to vector load or store followed
+ * or preceded by byte shuffle. Only whole vectors are processed, the tail is left to caller.
+ *
+ * @implNote Must be loaded only when {@code jdk.incubator.vector} module is present in boot layer.
+ */
+final class VectorByteSwapKernel
+{
+    /**
+     * Minimal width of preferred vector shape at which vectorized transfer is beneficial.
+     */
+    private static final int MIN_VECTOR_BIT_SIZE = 128;
+
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorByteSwapKernel()
+    {
+    }
+
+    static boolean isEfficient()
+    {
+        return BYTE_SPECIES.vectorBitSize() >= MIN_VECTOR_BIT_SIZE;
+    }
+
+    static int put(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + SHORT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += SHORT_SPECIES.length(), segmentOffset += SHORT_SPECIES.vectorByteSize())
+        {
+            ShortVector.fromArray(SHORT_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + INT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += INT_SPECIES.length(), segmentOffset += INT_SPECIES.vectorByteSize())
+        {
+            IntVector.fromArray(INT_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + LONG_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += LONG_SPECIES.length(), segmentOffset += LONG_SPECIES.vectorByteSize())
+        {
+            LongVector.fromArray(LONG_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + SHORT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += SHORT_SPECIES.length(), segmentOffset += SHORT_SPECIES.vectorByteSize())
+        {
+            ShortVector.fromCharArray(SHORT_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + FLOAT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += FLOAT_SPECIES.length(), segmentOffset += FLOAT_SPECIES.vectorByteSize())
+        {
+            FloatVector.fromArray(FLOAT_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + DOUBLE_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += DOUBLE_SPECIES.length(), segmentOffset += DOUBLE_SPECIES.vectorByteSize())
+        {
+            DoubleVector.fromArray(DOUBLE_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int put(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + BYTE_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += BYTE_SPECIES.length(), segmentOffset += BYTE_SPECIES.length())
+        {
+            ByteVector.fromBooleanArray(BYTE_SPECIES, value, i).intoMemorySegment(segment, segmentOffset, byteOrder);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, short[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + SHORT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += SHORT_SPECIES.length(), segmentOffset += SHORT_SPECIES.vectorByteSize())
+        {
+            ShortVector.fromMemorySegment(SHORT_SPECIES, segment, segmentOffset, byteOrder).intoArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, int[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + INT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += INT_SPECIES.length(), segmentOffset += INT_SPECIES.vectorByteSize())
+        {
+            IntVector.fromMemorySegment(INT_SPECIES, segment, segmentOffset, byteOrder).intoArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, long[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + LONG_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += LONG_SPECIES.length(), segmentOffset += LONG_SPECIES.vectorByteSize())
+        {
+            LongVector.fromMemorySegment(LONG_SPECIES, segment, segmentOffset, byteOrder).intoArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, char[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + SHORT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += SHORT_SPECIES.length(), segmentOffset += SHORT_SPECIES.vectorByteSize())
+        {
+            ShortVector.fromMemorySegment(SHORT_SPECIES, segment, segmentOffset, byteOrder).intoCharArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, float[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + FLOAT_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += FLOAT_SPECIES.length(), segmentOffset += FLOAT_SPECIES.vectorByteSize())
+        {
+            FloatVector.fromMemorySegment(FLOAT_SPECIES, segment, segmentOffset, byteOrder).intoArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, double[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + DOUBLE_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += DOUBLE_SPECIES.length(), segmentOffset += DOUBLE_SPECIES.vectorByteSize())
+        {
+            DoubleVector.fromMemorySegment(DOUBLE_SPECIES, segment, segmentOffset, byteOrder).intoArray(value, i);
+        }
+        return end - offset;
+    }
+
+    static int get(ByteBuffer buffer, boolean[] value, int offset, int length)
+    {
+        MemorySegment segment = MemorySegment.ofBuffer(buffer);
+        ByteOrder byteOrder = buffer.order();
+        int end = offset + BYTE_SPECIES.loopBound(length);
+        long segmentOffset = 0;
+        for (int i = offset; i < end; i += BYTE_SPECIES.length(), segmentOffset += BYTE_SPECIES.length())
+        {
+            ByteVector.fromMemorySegment(BYTE_SPECIES, segment, segmentOffset, byteOrder)
+                      .compare(VectorOperators.NE, (byte) 0)
+                      .intoArray(value, i);
+        }
+        return end - offset;
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.annotation.processor;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates class processors of {@link CspCreateProcessor} structs at compile time.
+ * <p>
+ * For every supported struct {@code p.S} it generates {@code p.S_CspSerializationProcessor} and, if struct has only
+ * non-final primitive fields and no parent struct, {@code p.S_CspDeserializationProcessor}. Processors of every
+ * package are listed in generated {@link ICspClassProcessorIndex} of that package, which is registered as service
+ * provider and picked up by class processor registry when session is created. Structs that cannot be processed
+ * without reflection are reported with note and are left to runtime generation.
+ *
+ * @implNote
+ * Index is generated per package, because generated code may reference package-private structs only from their
+ * own package. Services file is written once, when processing is over, so processor is aggregating for incremental
+ * compilation.
+ * <p>
+ * All annotations of CSP protocol are claimed, since no other processor consumes them, so javac does not warn that
+ * no processor claimed them.
+ */
+public final class CspClassProcessorAnnotationProcessor extends AbstractProcessor
+{
+    private static final String INDEX_CLASS_NAME = "CspGeneratedClassProcessorIndex";
+    private static final String SERVICES_FILE = "META-INF/services/" + ICspClassProcessorIndex.class.getName();
+
+    private final Set<String> indexClassNames = new TreeSet<>();
+    private int round;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes()
+    {
+        return Set.of(CspCreateProcessor.class.getPackageName() + ".*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        ++round;
+        if (roundEnv.processingOver())
+        {
+            writeServicesFile();
+            return false;
+        }
+        Map<String, List<CspStructProcessorSources>> packageStructs = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(CspCreateProcessor.class))
+        {
+            if (element.getKind() != ElementKind.CLASS)
+            {
+                continue;
+            }
+            TypeElement struct = (TypeElement) element;
+            CspStructProcessorSources sources;
+            try
+            {
+                sources = new CspStructProcessorSources(processingEnv.getElementUtils(),
+                    processingEnv.getTypeUtils(), struct);
+            }
+            catch (IllegalArgumentException e)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), struct);
+                continue;
+            }
+            String reason = sources.getSerializationUnsupportedReason();
+            if (reason != null)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Processors of " + struct.getQualifiedName() + " will be generated at runtime: " + reason, struct);
+                continue;
+            }
+            writeSource(sources.getSerializationProcessorName(), sources.generateSerializationProcessor(), struct);
+            if (sources.getDeserializationUnsupportedReason() == null)
+            {
+                writeSource(sources.getDeserializationProcessorName(), sources.generateDeserializationProcessor(),
+                    struct);
+            }
+            packageStructs.computeIfAbsent(sources.getPackageName(), key -> new ArrayList<>()).add(sources);
+        }
+        packageStructs.forEach(this::writeIndex);
+        return true;
+    }
+
+    private void writeIndex(String packageName, List<CspStructProcessorSources> structs)
+    {
+        String simpleName = round == 1 ? INDEX_CLASS_NAME : INDEX_CLASS_NAME + "_" + round;
+        String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        StringBuilder serializationEntries = new StringBuilder();
+        StringBuilder deserializationEntries = new StringBuilder();
+        for (CspStructProcessorSources sources : structs)
+        {
+            appendEntry(serializationEntries, sources.getStructClassLiteral(), sources.getSerializationProcessorName());
+            if (sources.getDeserializationUnsupportedReason() == null)
+            {
+                appendEntry(deserializationEntries, sources.getStructClassLiteral(),
+                    sources.getDeserializationProcessorName());
+            }
+        }
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+        {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("// Generated by ").append(CspClassProcessorAnnotationProcessor.class.getName())
+              .append(". Do not edit.\n")
+              .append("public final class ").append(simpleName).append(" implements ")
+              .append(ICspClassProcessorIndex.class.getName()).append("\n{\n")
+              .append("    @Override\n")
+              .append("    public java.util.Map<Class<?>, ")
+              .append("io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor<?>> ")
+              .append("getSerializationProcessors()\n")
+              .append("    {\n")
+              .append("        return java.util.Map.ofEntries(").append(serializationEntries).append(");\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public java.util.Map<Class<?>, ")
+              .append("io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor<?>> ")
+              .append("getDeserializationProcessors()\n")
+              .append("    {\n")
+              .append("        return java.util.Map.ofEntries(").append(deserializationEntries).append(");\n")
+              .append("    }\n}\n");
+        writeSource(className, source.toString(),
+            structs.stream().map(CspStructProcessorSources::getStruct).toArray(Element[]::new));
+        indexClassNames.add(className);
+    }
+
+    private static void appendEntry(StringBuilder entries, String key, String processorName)
+    {
+        entries.append(entries.length() == 0 ? "\n            " : ",\n            ")
+               .append("java.util.Map.entry(").append(key).append(", new ").append(processorName).append("())");
+    }
+
+    private void writeSource(String className, String source, Element... originatingElements)
+    {
+        Filer filer = processingEnv.getFiler();
+        try
+        {
+            JavaFileObject file = filer.createSourceFile(className, originatingElements);
+            try (Writer writer = file.openWriter())
+            {
+                writer.write(source);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeServicesFile()
+    {
+        if (indexClassNames.isEmpty())
+        {
+            return;
+        }
+        try
+        {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                SERVICES_FILE);
+            try (Writer writer = file.openWriter())
+            {
+                for (String indexClassName : indexClassNames)
+                {
+                    writer.write(indexClassName);
+                    writer.write('\n');
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,472 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.annotation.processor;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspReference;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sources of class processors of one {@link CspCreateProcessor} struct.
+ * <p>
+ * Generated processors access fields directly, so struct, its fields and all referenced classes must be accessible
+ * from struct package. Structs that do not satisfy it (e.g. with private fields) or that have fields which cannot be
+ * expressed without reflection (generic fields, arrays of objects) are left to runtime generation: for them
+ * {@link #getSerializationUnsupportedReason()} is not null.
+ */
+final class CspStructProcessorSources
+{
+    private static final String SERIALIZATION_PROCESSOR_SUFFIX = "_CspSerializationProcessor";
+    private static final String DESERIALIZATION_PROCESSOR_SUFFIX = "_CspDeserializationProcessor";
+    private static final String SERIALIZATION_PROCESSOR_INTERFACE =
+        "io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor";
+    private static final String DESERIALIZATION_PROCESSOR_INTERFACE =
+        "io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor";
+    private static final String SERIALIZATION_DATA_PROCESSOR =
+        "io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor";
+    private static final String DESERIALIZATION_DATA_PROCESSOR =
+        "io.andreygs.jcsp.api.processing.data.ICspDataDeserializationProcessor";
+    private static final String INDENT = "    ";
+
+    private final Types types;
+    private final TypeElement struct;
+    private final String packageName;
+    private final String structName;
+    private final String processorBaseName;
+    private final List<String> constants = new ArrayList<>();
+    private final List<String> serializationStatements = new ArrayList<>();
+    private final List<String> deserializationStatements = new ArrayList<>();
+    private @Nullable String serializationUnsupportedReason;
+    private @Nullable String deserializationUnsupportedReason;
+
+    /**
+     * Constructor. Analyzes struct.
+     *
+     * @param elements Elements utility of processing environment.
+     * @param types Types utility of processing environment.
+     * @param struct Struct annotated with {@link CspCreateProcessor}.
+     * @throws IllegalArgumentException if {@link CspString} of some field names unsupported charset.
+     */
+    CspStructProcessorSources(Elements elements, Types types, TypeElement struct)
+    {
+        this.types = types;
+        this.struct = struct;
+        packageName = elements.getPackageOf(struct).getQualifiedName().toString();
+        structName = struct.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(struct).toString();
+        processorBaseName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            .replace('$', '_');
+        analyze();
+    }
+
+    String getPackageName()
+    {
+        return packageName;
+    }
+
+    TypeElement getStruct()
+    {
+        return struct;
+    }
+
+    /**
+     * Gets class literal of struct.
+     *
+     * @return struct class literal.
+     */
+    String getStructClassLiteral()
+    {
+        return structName + ".class";
+    }
+
+    String getSerializationProcessorName()
+    {
+        return qualify(processorBaseName + SERIALIZATION_PROCESSOR_SUFFIX);
+    }
+
+    String getDeserializationProcessorName()
+    {
+        return qualify(processorBaseName + DESERIALIZATION_PROCESSOR_SUFFIX);
+    }
+
+    /**
+     * Gets reason why serialization processor cannot be generated.
+     *
+     * @return reason or null if processor can be generated.
+     */
+    @Nullable String getSerializationUnsupportedReason()
+    {
+        return serializationUnsupportedReason;
+    }
+
+    /**
+     * Gets reason why deserialization processor cannot be generated.
+     *
+     * @return reason or null if processor can be generated.
+     */
+    @Nullable String getDeserializationUnsupportedReason()
+    {
+        return serializationUnsupportedReason != null
+               ? serializationUnsupportedReason
+               : deserializationUnsupportedReason;
+    }
+
+    /**
+     * Generates source of serialization processor.
+     *
+     * @return source of compilation unit.
+     */
+    String generateSerializationProcessor()
+    {
+        StringBuilder source = startCompilationUnit(processorBaseName + SERIALIZATION_PROCESSOR_SUFFIX,
+            SERIALIZATION_PROCESSOR_INTERFACE);
+        for (String constant : constants)
+        {
+            source.append(INDENT).append(constant).append('\n');
+        }
+        if (!constants.isEmpty())
+        {
+            source.append('\n');
+        }
+        source.append(INDENT).append("@Override\n")
+              .append(INDENT).append("public void serialize(").append(structName).append(" value, ")
+              .append(SERIALIZATION_DATA_PROCESSOR).append(" dataProcessor)\n")
+              .append(INDENT).append("{\n");
+        appendStatements(source, serializationStatements);
+        source.append(INDENT).append("}\n}\n");
+        return source.toString();
+    }
+
+    /**
+     * Generates source of deserialization processor.
+     *
+     * @return source of compilation unit.
+     */
+    String generateDeserializationProcessor()
+    {
+        StringBuilder source = startCompilationUnit(processorBaseName + DESERIALIZATION_PROCESSOR_SUFFIX,
+            DESERIALIZATION_PROCESSOR_INTERFACE);
+        source.append(INDENT).append("@Override\n")
+              .append(INDENT).append("public ").append(structName).append(" deserialize(").append(structName)
+              .append(" value, ").append(DESERIALIZATION_DATA_PROCESSOR).append(" dataProcessor)\n")
+              .append(INDENT).append("{\n");
+        appendStatements(source, deserializationStatements);
+        source.append(INDENT).append(INDENT).append("return value;\n")
+              .append(INDENT).append("}\n}\n");
+        return source.toString();
+    }
+
+    private void analyze()
+    {
+        if (!struct.getTypeParameters().isEmpty())
+        {
+            serializationUnsupportedReason = "struct is generic";
+            return;
+        }
+        if (struct.getNestingKind() == NestingKind.LOCAL || struct.getNestingKind() == NestingKind.ANONYMOUS
+            || !isAccessible(struct))
+        {
+            serializationUnsupportedReason = "struct is not accessible from its package";
+            return;
+        }
+
+        TypeMirror superclass = struct.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED
+            && types.asElement(superclass).getAnnotation(CspCreateProcessor.class) != null)
+        {
+            TypeElement parent = (TypeElement) types.asElement(superclass);
+            if (!isAccessible(parent))
+            {
+                serializationUnsupportedReason = "parent struct is not accessible from struct package";
+                return;
+            }
+            serializationStatements.add("dataProcessor.serialize(value, false, " + erasure(superclass) + ".class);");
+            deserializationUnsupportedReason = "struct has parent struct";
+        }
+
+        List<VariableElement> fields = new ArrayList<>(ElementFilter.fieldsIn(struct.getEnclosedElements()));
+        fields.removeIf(field -> field.getAnnotation(CspField.class) == null);
+        fields.sort(Comparator.comparingInt(field -> field.getAnnotation(CspField.class).value()));
+        for (VariableElement field : fields)
+        {
+            if (field.getModifiers().contains(Modifier.PRIVATE))
+            {
+                serializationUnsupportedReason = "field " + field.getSimpleName() + " is private";
+                return;
+            }
+            String reason = addField(field);
+            if (reason != null)
+            {
+                serializationUnsupportedReason = "field " + field.getSimpleName() + " " + reason;
+                return;
+            }
+        }
+    }
+
+    @Nullable
+    private String addField(VariableElement field)
+    {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        boolean reference = findTypeAnnotation(type, CspReference.class) != null;
+        if (type.getKind().isPrimitive())
+        {
+            serializationStatements.add("dataProcessor." + getSerializeMethodName(type.getKind())
+                + "(value." + name + ");");
+            if (field.getModifiers().contains(Modifier.FINAL))
+            {
+                setDeserializationUnsupported("field " + name + " is final");
+            }
+            deserializationStatements.add("value." + name + " = dataProcessor.deserialize(value." + name + ");");
+            return null;
+        }
+
+        setDeserializationUnsupported("field " + name + " is not of primitive type");
+        if (type.getKind() == TypeKind.ARRAY)
+        {
+            if (!((ArrayType) type).getComponentType().getKind().isPrimitive())
+            {
+                return "is array of non-primitive type";
+            }
+            boolean fixedSize = findTypeAnnotation(type, CspFixedSizeArray.class) != null;
+            serializationStatements.add("dataProcessor.serialize(value." + name + ", " + reference + ", "
+                + fixedSize + ");");
+            return null;
+        }
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty())
+        {
+            return "is of generic type";
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (!isAccessible(typeElement))
+        {
+            return "is of type not accessible from struct package";
+        }
+        AnnotationMirror cspString = findTypeAnnotation(type, CspString.class);
+        if (cspString != null && typeElement.getQualifiedName().contentEquals(String.class.getName()))
+        {
+            String charsetName = getAnnotationValue(cspString);
+            if (!isCharsetSupported(charsetName))
+            {
+                throw new IllegalArgumentException("unsupported charset " + charsetName);
+            }
+            String constantName = "CHARSET_" + name;
+            constants.add("private static final java.nio.charset.Charset " + constantName
+                + " = java.nio.charset.Charset.forName(\"" + charsetName + "\");");
+            serializationStatements.add("dataProcessor.serialize(value." + name + ", " + reference + ", "
+                + constantName + ");");
+            return null;
+        }
+        if (typeElement.getQualifiedName().contentEquals(String.class.getName()))
+        {
+            return "is string without " + CspString.class.getSimpleName();
+        }
+        if (typeElement.getQualifiedName().contentEquals(ByteBuffer.class.getName()))
+        {
+            boolean fixedSize = findTypeAnnotation(type, CspFixedSizeArray.class) != null;
+            serializationStatements.add("dataProcessor.serialize(value." + name + ", " + reference + ", "
+                + fixedSize + ");");
+            return null;
+        }
+        if (typeElement.getAnnotation(CspCreateProcessor.class) == null)
+        {
+            return "is neither string nor ByteBuffer nor " + CspCreateProcessor.class.getSimpleName() + " struct";
+        }
+        serializationStatements.add("dataProcessor.serialize(value." + name + ", " + reference + ", "
+            + erasure(type) + ".class);");
+        return null;
+    }
+
+    /**
+     * Finds type annotation.
+     *
+     * @implNote
+     * {@link TypeMirror#getAnnotation(Class)} does not see type annotations of fields in javac, so mirrors are
+     * searched instead.
+     */
+    @Nullable
+    private static AnnotationMirror findTypeAnnotation(TypeMirror type, Class<?> annotationClazz)
+    {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors())
+        {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                .contentEquals(annotationClazz.getName()))
+            {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String getAnnotationValue(AnnotationMirror annotation)
+    {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            annotation.getElementValues().entrySet())
+        {
+            if (entry.getKey().getSimpleName().contentEquals("value"))
+            {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return "";
+    }
+
+    private static boolean isCharsetSupported(String charsetName)
+    {
+        try
+        {
+            return Charset.isSupported(charsetName);
+        }
+        catch (IllegalCharsetNameException e)
+        {
+            return false;
+        }
+    }
+
+    private void setDeserializationUnsupported(String reason)
+    {
+        if (deserializationUnsupportedReason == null)
+        {
+            deserializationUnsupportedReason = reason;
+        }
+    }
+
+    /**
+     * Checks whether type may be referenced from struct package: neither it nor its enclosing types are private,
+     * and all of them are public if type resides in other package.
+     */
+    private boolean isAccessible(TypeElement type)
+    {
+        String typePackageName = qualifiedPackageName(type);
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE;
+             element = element.getEnclosingElement())
+        {
+            if (element.getModifiers().contains(Modifier.PRIVATE))
+            {
+                return false;
+            }
+            if (!element.getModifiers().contains(Modifier.PUBLIC) && !typePackageName.equals(packageName))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String qualifiedPackageName(Element element)
+    {
+        Element current = element;
+        while (current.getKind() != ElementKind.PACKAGE)
+        {
+            current = current.getEnclosingElement();
+        }
+        return ((PackageElement) current).getQualifiedName().toString();
+    }
+
+    private String erasure(TypeMirror type)
+    {
+        return ((TypeElement) types.asElement(types.erasure(type))).getQualifiedName().toString();
+    }
+
+    private String qualify(String simpleName)
+    {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private StringBuilder startCompilationUnit(String className, String processorInterface)
+    {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+        {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("// Generated by ").append(CspClassProcessorAnnotationProcessor.class.getName())
+              .append(". Do not edit.\n")
+              .append("public final class ").append(className).append(" implements ").append(processorInterface)
+              .append('<').append(structName).append(">\n{\n");
+        return source;
+    }
+
+    private static void appendStatements(StringBuilder source, List<String> statements)
+    {
+        for (String statement : statements)
+        {
+            source.append(INDENT).append(INDENT).append(statement).append('\n');
+        }
+    }
+
+    private static String getSerializeMethodName(TypeKind kind)
+    {
+        switch (kind)
+        {
+            case BOOLEAN:
+                return "serialize";
+            case BYTE:
+                return "serializeByte";
+            case SHORT:
+                return "serializeShort";
+            case INT:
+                return "serializeInt";
+            case LONG:
+                return "serializeLong";
+            case CHAR:
+                return "serializeChar";
+            case FLOAT:
+                return "serializeFloat";
+            default:
+                return "serializeDouble";
+        }
+    }
+}
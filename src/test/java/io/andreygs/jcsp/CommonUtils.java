@@ -25,13 +25,26 @@
 
 package io.andreygs.jcsp;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
 import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * TODO: place description here
  */
 public class CommonUtils
 {
+    private static final String LIBRARY_MODULE_NAME = "io.andreygs.jcsp.base";
+
     public static <T> int getPrimitiveSize(T value)
     {
         Class<?> clazz = value.getClass();
@@ -45,4 +58,61 @@ public class CommonUtils
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Loads library classes as named module in new module layer, the way they are loaded from module path, and opens
+     * package of given class to tests.
+     *
+     * @param libraryClazz Library class which package is opened.
+     * @param overlayClassesDirectories Directories which classes replace library ones, e.g. multi-release versions.
+     * @return loaded module.
+     */
+    public static Module defineLibraryModule(Class<?> libraryClazz, Path... overlayClassesDirectories)
+    {
+        try
+        {
+            Path moduleDirectory = Files.createTempDirectory("jcsp-module");
+            copyClasses(Path.of(libraryClazz.getProtectionDomain().getCodeSource().getLocation().toURI()),
+                moduleDirectory);
+            for (Path overlayClassesDirectory : overlayClassesDirectories)
+            {
+                copyClasses(overlayClassesDirectory, moduleDirectory);
+            }
+            Configuration configuration = ModuleLayer.boot().configuration()
+                .resolve(ModuleFinder.of(moduleDirectory), ModuleFinder.of(), Set.of(LIBRARY_MODULE_NAME));
+            ModuleLayer.Controller controller = ModuleLayer.defineModulesWithOneLoader(configuration,
+                List.of(ModuleLayer.boot()), ClassLoader.getPlatformClassLoader());
+            Module module = controller.layer().findModule(LIBRARY_MODULE_NAME).orElseThrow();
+            controller.addOpens(module, libraryClazz.getPackageName(), CommonUtils.class.getModule());
+            return module;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        catch (URISyntaxException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void copyClasses(Path classesDirectory, Path moduleDirectory) throws IOException
+    {
+        try (Stream<Path> files = Files.walk(classesDirectory))
+        {
+            files.filter(Files::isRegularFile).forEach(file ->
+            {
+                Path target = moduleDirectory.resolve(classesDirectory.relativize(file).toString());
+                try
+                {
+                    Files.createDirectories(target.getParent());
+                    Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,298 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.annotation.processor;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.data.ICspDataDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.data.CspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorDescriptor;
+import io.andreygs.jcsp.internal.protocol.message.context.CspDataMessageContextExtension;
+import io.andreygs.jcsp.internal.protocol.message.context.CspMessageContext;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspClassProcessorAnnotationProcessor}.
+ */
+public class CspClassProcessorAnnotationProcessorTest
+{
+    private static final String STRUCT_SOURCE = String.join("\n",
+        "package test.structs;",
+        "import io.andreygs.jcsp.api.annotation.protocol.*;",
+        "@CspCreateProcessor",
+        "public class Point",
+        "{",
+        "    @CspField(1) int y = 2;",
+        "    @CspField(0) long x = 1;",
+        "    @CspField(2) boolean visible = true;",
+        "}");
+    private static final String DERIVED_STRUCT_SOURCE = String.join("\n",
+        "package test.structs;",
+        "import io.andreygs.jcsp.api.annotation.protocol.*;",
+        "import java.nio.ByteBuffer;",
+        "@CspCreateProcessor",
+        "class NamedPoint extends Point",
+        "{",
+        "    @CspField(0) @CspString(\"UTF-8\") String name = \"a\";",
+        "    @CspField(1) int @CspFixedSizeArray(2) [] values = { 1, 2 };",
+        "    @CspField(2) @CspReference ByteBuffer data = ByteBuffer.wrap(new byte[] { 3 });",
+        "}");
+    private static final String PRIVATE_FIELD_STRUCT_SOURCE = String.join("\n",
+        "package test.structs;",
+        "import io.andreygs.jcsp.api.annotation.protocol.*;",
+        "@CspCreateProcessor",
+        "public class Secret",
+        "{",
+        "    @CspField(0) private int value;",
+        "}");
+    private static final String NO_CHARSET_STRUCT_SOURCE = String.join("\n",
+        "package test.structs;",
+        "import io.andreygs.jcsp.api.annotation.protocol.*;",
+        "@CspCreateProcessor",
+        "public class Text",
+        "{",
+        "    @CspField(0) String value;",
+        "}");
+    private static final String BOXED_STRUCT_SOURCE = String.join("\n",
+        "package test.structs;",
+        "import io.andreygs.jcsp.api.annotation.protocol.*;",
+        "@CspCreateProcessor",
+        "public class Boxed",
+        "{",
+        "    @CspField(0) Integer value;",
+        "}");
+
+    @Test
+    public void testGeneratedProcessorsAreIndexed() throws Exception
+    {
+        Path outputDirectory = Files.createTempDirectory("jcsp-apt");
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(outputDirectory);
+
+        assertThat(diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+            || diagnostic.getKind() == Diagnostic.Kind.WARNING
+            || diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING)).isFalse();
+        for (String runtimeStruct : List.of("test.structs.Secret", "test.structs.Text", "test.structs.Boxed"))
+        {
+            assertThat(diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE
+                && diagnostic.getMessage(null).contains(runtimeStruct))).isTrue();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+            getClass().getClassLoader()))
+        {
+            List<ICspClassProcessorIndex> indexes = new ArrayList<>();
+            ServiceLoader.load(ICspClassProcessorIndex.class, classLoader).forEach(indexes::add);
+            assertThat(indexes.size()).isEqualTo(1);
+            ICspClassProcessorIndex index = indexes.get(0);
+
+            Class<?> pointClazz = classLoader.loadClass("test.structs.Point");
+            Class<?> namedPointClazz = classLoader.loadClass("test.structs.NamedPoint");
+            Class<?> secretClazz = classLoader.loadClass("test.structs.Secret");
+            assertThat(index.getSerializationProcessors().keySet()).containsExactlyInAnyOrder(pointClazz,
+                namedPointClazz);
+            assertThat(index.getSerializationProcessors().containsKey(secretClazz)).isFalse();
+            assertThat(index.getDeserializationProcessors().keySet()).containsExactly(pointClazz);
+
+            Object namedPoint = newInstance(namedPointClazz);
+            List<String> calls = new ArrayList<>();
+            serialize(index.getSerializationProcessors().get(namedPointClazz), namedPoint, calls);
+            assertThat(calls).containsExactly("serialize [" + namedPoint + ", false, " + pointClazz + "]",
+                "serialize [a, false, UTF-8]", "serialize [[1, 2], false, true]",
+                "serialize [" + getField(namedPoint, "data") + ", true, false]");
+
+            calls.clear();
+            serialize(index.getSerializationProcessors().get(pointClazz), namedPoint, calls);
+            assertThat(calls).containsExactly("serializeLong [1]", "serializeInt [2]", "serialize [true]");
+
+            Object point = newInstance(pointClazz);
+            deserialize(index.getDeserializationProcessors().get(pointClazz), point);
+            assertThat(getField(point, "x")).isEqualTo(2L);
+            assertThat(getField(point, "y")).isEqualTo(3);
+            assertThat(getField(point, "visible")).isEqualTo(false);
+        }
+    }
+
+    @Test
+    public void testGeneratedProcessorWritesArrayFields() throws Exception
+    {
+        Path outputDirectory = Files.createTempDirectory("jcsp-apt");
+        compile(outputDirectory);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+            getClass().getClassLoader()))
+        {
+            ICspClassProcessorIndex index = ServiceLoader.load(ICspClassProcessorIndex.class, classLoader)
+                                                         .findFirst()
+                                                         .orElseThrow();
+            Class<?> namedPointClazz = classLoader.loadClass("test.structs.NamedPoint");
+            Object namedPoint = newInstance(namedPointClazz);
+            Map<Class<?>, ICspClassSerializationProcessor<?>> processors = index.getSerializationProcessors();
+
+            ByteBuffer generated = serialize(processors, dataProcessor ->
+                dataProcessor.serialize(namedPoint, false, namedPointClazz));
+            ByteBuffer expected = serialize(processors, dataProcessor -> {
+                dataProcessor.serializeLong(1);
+                dataProcessor.serializeInt(2);
+                dataProcessor.serialize(true);
+                dataProcessor.serialize("a", false, StandardCharsets.UTF_8);
+                dataProcessor.serializeInt(1);
+                dataProcessor.serializeInt(2);
+                dataProcessor.serializeByte((byte) 1);
+                dataProcessor.serializeLong(1);
+                dataProcessor.serializeByte((byte) 3);
+            });
+
+            assertThat(generated).isEqualTo(expected);
+        }
+    }
+
+    private static Object newInstance(Class<?> clazz) throws ReflectiveOperationException
+    {
+        Constructor<?> constructor = clazz.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private static Object getField(Object value, String name) throws ReflectiveOperationException
+    {
+        Field field = value.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(value);
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path outputDirectory) throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = List.of(source("test/structs/Point", STRUCT_SOURCE),
+            source("test/structs/NamedPoint", DERIVED_STRUCT_SOURCE),
+            source("test/structs/Secret", PRIVATE_FIELD_STRUCT_SOURCE),
+            source("test/structs/Text", NO_CHARSET_STRUCT_SOURCE),
+            source("test/structs/Boxed", BOXED_STRUCT_SOURCE));
+        List<String> options = List.of("-d", outputDirectory.toString(), "-Xlint:processing",
+            "-classpath", System.getProperty("java.class.path"),
+            "-processor", CspClassProcessorAnnotationProcessor.class.getName());
+        compiler.getTask(null, null, diagnostics, options, null, sources).call();
+        return diagnostics.getDiagnostics();
+    }
+
+    private static JavaFileObject source(String path, String source)
+    {
+        return new SimpleJavaFileObject(URI.create("string:///" + path + ".java"), JavaFileObject.Kind.SOURCE)
+        {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors)
+            {
+                return source;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void serialize(ICspClassSerializationProcessor<?> processor, Object value, List<String> calls)
+    {
+        ICspDataSerializationProcessor dataProcessor = (ICspDataSerializationProcessor) Proxy.newProxyInstance(
+            ICspDataSerializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspDataSerializationProcessor.class },
+            (proxy, method, args) -> {
+                calls.add(method.getName() + " " + Arrays.deepToString(args));
+                return null;
+            });
+        ((ICspClassSerializationProcessor<Object>) processor).serialize(value, dataProcessor);
+    }
+
+    private static ByteBuffer serialize(Map<Class<?>, ICspClassSerializationProcessor<?>> processors,
+        Consumer<ICspDataSerializationProcessor> writer)
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        writer.accept(new CspDataSerializationProcessor(buffer,
+            clazz -> new CspClassProcessorDescriptor<>(processors.get(clazz), Map.of()),
+            annotatedType -> {
+                throw new UnsupportedOperationException();
+            },
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, false, true, false, false, false)));
+        buffer.commitBuffer();
+        return buffer.getBuffer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void deserialize(ICspClassDeserializationProcessor<?> processor, Object value)
+    {
+        ICspDataDeserializationProcessor dataProcessor = (ICspDataDeserializationProcessor) Proxy.newProxyInstance(
+            ICspDataDeserializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspDataDeserializationProcessor.class },
+            (proxy, method, args) -> {
+                Class<?> type = method.getParameterTypes()[0];
+                if (type == long.class)
+                {
+                    return (Long) args[0] + 1;
+                }
+                if (type == int.class)
+                {
+                    return (Integer) args[0] + 1;
+                }
+                return !(Boolean) args[0];
+            });
+        ((ICspClassDeserializationProcessor<Object>) processor).deserialize(value, dataProcessor);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.api.controller.ICspDeserializationSession;
+import io.andreygs.jcsp.api.processing.data.DeserializationOutcome;
+import io.andreygs.jcsp.api.processing.data.ICspResumableDeserializer;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.internal.processing.data.string.factory.StringDedupConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspDeserializationSessionFactory}.
+ */
+public class CspDeserializationSessionFactoryTest
+{
+    @Test
+    public void testCreatedSessionDeserializesStructResumably()
+    {
+        ICspDeserializationSession session = new CspDeserializationSessionFactory().create();
+        ByteBuffer input = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + Integer.BYTES * 2)
+                                     .order(ByteOrder.LITTLE_ENDIAN)
+                                     .putInt(42).putLong(2).putInt(5).putInt(6)
+                                     .flip();
+
+        ICspResumableDeserializer<TestStruct> deserializer =
+            session.createResumableDeserializer(new TestStruct(), TestStruct.class, ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(deserializer.feed(input.slice(0, 6))).isEqualTo(DeserializationOutcome.NEED_MORE_DATA);
+        assertThat(deserializer.getRequiredBytes()).isEqualTo(6);
+        assertThat(deserializer.feed(input.slice(6, input.limit() - 6))).isEqualTo(DeserializationOutcome.COMPLETED);
+        assertThat(deserializer.getResult().id).isEqualTo(42);
+        assertThat(deserializer.getResult().values).containsExactly(5, 6);
+    }
+
+    @Test
+    public void testCreatedSessionReadsSizesOfIntegers()
+    {
+        ICspDeserializationSession session = new CspDeserializationSessionFactory().create();
+        ByteBuffer input = ByteBuffer.allocate(32)
+                                     .put((byte) Integer.BYTES).putInt(42)
+                                     .putLong(1).put((byte) Integer.BYTES).putInt(5)
+                                     .flip();
+
+        ICspResumableDeserializer<TestStruct> deserializer = session.createResumableDeserializer(new TestStruct(),
+            TestStruct.class, ByteOrder.BIG_ENDIAN, true);
+
+        assertThat(deserializer.feed(input)).isEqualTo(DeserializationOutcome.COMPLETED);
+        assertThat(deserializer.getResult().id).isEqualTo(42);
+        assertThat(deserializer.getResult().values).isEqualTo(new int[] { 5 });
+    }
+
+    @Test
+    public void testCreatedSessionUsesGivenStringDedupConfig()
+    {
+        ICspDeserializationSession session = new CspDeserializationSessionFactory().create(
+            new StringDedupConfigFactory().create(StringDedupScope.SESSION, null, null, null));
+        ByteBuffer input = ByteBuffer.allocate(Long.BYTES + 2).putLong(2).put((byte) 'i').put((byte) 'd').flip();
+
+        ICspResumableDeserializer<StringStruct> first =
+            session.createResumableDeserializer(new StringStruct(), StringStruct.class);
+        ICspResumableDeserializer<StringStruct> second =
+            session.createResumableDeserializer(new StringStruct(), StringStruct.class);
+        first.feed(input.duplicate());
+        second.feed(input.duplicate());
+
+        assertThat(first.getResult().code).isEqualTo("id");
+        assertThat(second.getResult().code).isSameAs(first.getResult().code);
+    }
+
+    @CspCreateProcessor
+    private static class StringStruct
+    {
+        @CspField(0)
+        private @CspString("UTF-8") @CspStringDedup String code;
+    }
+
+    @CspCreateProcessor
+    private static class TestStruct
+    {
+        @CspField(0)
+        private int id;
+        @CspField(1)
+        private int[] values;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.controller.ICspSerializationSessionConfig;
+import io.andreygs.jcsp.api.processing.buffer.IMemoryBudgetConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorTieringConfig;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MemoryBudgetConfigFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorTieringConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspSerializationSessionConfigFactory}.
+ */
+public class CspSerializationSessionConfigFactoryTest
+{
+    @Test
+    public void testCreateUsesDefaultsOfOmittedConfigs()
+    {
+        ICspSerializationSessionConfig sessionConfig =
+            new CspSerializationSessionConfigFactory().create(null, null, null, null, null);
+
+        assertThat(sessionConfig.getBufferConfig()).isSameAs(new SerializationBufferConfigFactory().provideDefault());
+        assertThat(sessionConfig.getMessageConfig()).isNotNull();
+        assertThat(sessionConfig.getDataMessageConfigExtension()).isNotNull();
+        assertThat(sessionConfig.getMemoryBudgetConfig().getBudgetBytes()).isEqualTo(Long.MAX_VALUE);
+        assertThat(sessionConfig.getClassProcessorTieringConfig())
+            .isSameAs(new CspClassProcessorTieringConfigFactory().provideDefault());
+    }
+
+    @Test
+    public void testCreateKeepsProvidedConfigs()
+    {
+        IMemoryBudgetConfig memoryBudgetConfig =
+            new MemoryBudgetConfigFactory().create(4096L, MemoryBudgetPolicy.FAIL_FAST, null, null);
+        ICspClassProcessorTieringConfig tieringConfig = new CspClassProcessorTieringConfigFactory().create(0, false);
+
+        ICspSerializationSessionConfig sessionConfig =
+            new CspSerializationSessionConfigFactory().create(null, null, null, memoryBudgetConfig, tieringConfig);
+
+        assertThat(sessionConfig.getMemoryBudgetConfig()).isSameAs(memoryBudgetConfig);
+        assertThat(sessionConfig.getClassProcessorTieringConfig()).isSameAs(tieringConfig);
+    }
+
+    @Test
+    public void testProvideDefaultReturnsCachedInstance()
+    {
+        ICspSerializationSessionConfigFactory factory = new CspSerializationSessionConfigFactory();
+
+        assertThat(factory.provideDefault()).isSameAs(factory.provideDefault());
+        assertThat(factory.provideDefault().getMemoryBudgetConfig().getBudgetBytes()).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.controller.factory;
+
+import io.andreygs.jcsp.api.controller.ICspSerializationSession;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.AdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferPool;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MemoryBudgetConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspSerializationSessionFactory}.
+ */
+public class CspSerializationSessionFactoryTest
+{
+    @Test
+    public void testCreatedSessionIsLimitedByConfiguredBudget()
+    {
+        ICspSerializationSessionFactory factory =
+            new CspSerializationSessionFactory(new SerializationBufferPool(), new AdaptiveBufferPolicy());
+
+        ICspSerializationSession session = factory.create(new CspSerializationSessionConfigFactory().create(null, null,
+            null, new MemoryBudgetConfigFactory().create(4096L, MemoryBudgetPolicy.FAIL_FAST, null, null), null));
+
+        assertThat(session.getMemoryBudgetMetrics().getBudgetBytes()).isEqualTo(4096L);
+    }
+
+    @Test
+    public void testCreatedDefaultSessionIsNotLimited()
+    {
+        ICspSerializationSessionFactory factory =
+            new CspSerializationSessionFactory(new SerializationBufferPool(), new AdaptiveBufferPolicy());
+
+        ICspSerializationSession session = factory.create(null, null, null);
+
+        assertThat(session.getMemoryBudgetMetrics().getBudgetBytes()).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.ICspInterfaceVersion;
+import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.buffer.DeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.factory.DeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.data.CspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorDescriptor;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassSerializationProcessorGeneratorFactory;
+import io.andreygs.jcsp.internal.processing.data.string.factory.StringDedupConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import io.andreygs.jcsp.internal.protocol.message.context.CspDataMessageContextExtension;
+import io.andreygs.jcsp.internal.protocol.message.context.CspMessageContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspDeserializationWorkflow}.
+ */
+public class CspDeserializationWorkflowTest
+{
+    private static final byte TRAILING_BYTE = 77;
+
+    @Test
+    public void testDeserializeDataMessageDeduplicatesStrings()
+    {
+        IDeserializationBuffer buffer = new DeserializationBuffer(createMessage());
+
+        TestStruct struct = createWorkflow(StringDedupScope.MESSAGE).deserializeDataMessage(buffer, TestStruct.class);
+
+        assertThat(struct.id).isEqualTo(42);
+        assertThat(struct.code).isEqualTo("EUR");
+        assertThat(struct.otherCode).isSameAs(struct.code);
+        assertThat(buffer.readByte()).isEqualTo(TRAILING_BYTE);
+    }
+
+    @Test
+    public void testSessionScopeSharesStringsBetweenMessages()
+    {
+        CspDeserializationWorkflow workflow = createWorkflow(StringDedupScope.SESSION);
+
+        TestStruct first = deserialize(workflow);
+        TestStruct second = deserialize(workflow);
+
+        assertThat(second.code).isSameAs(first.code);
+    }
+
+    @Test
+    public void testMessageScopeDoesNotShareStringsBetweenMessages()
+    {
+        CspDeserializationWorkflow workflow = createWorkflow(StringDedupScope.MESSAGE);
+
+        TestStruct first = deserialize(workflow);
+        TestStruct second = deserialize(workflow);
+
+        assertThat(second.code).isEqualTo(first.code);
+        assertThat(second.code).isNotSameAs(first.code);
+    }
+
+    @Test
+    public void testDeserializeDataMessageReadsSerializedMixedStruct()
+    {
+        for (boolean sizeOfIntegersMayBeNotEqual : new boolean[] { false, true })
+        {
+            MixedStruct struct = new MixedStruct();
+            ((TestStruct) struct).id = -7;
+            ((TestStruct) struct).code = "EUR";
+            ((TestStruct) struct).otherCode = "EUR";
+            struct.amounts = new long[] { 1, -2, Long.MIN_VALUE };
+            struct.pair = new short[] { 3, 4 };
+            struct.flags = new boolean[] { false, true };
+            struct.rate = 1.25;
+            struct.kind = 5;
+            ByteBuffer message = serialize(struct, sizeOfIntegersMayBeNotEqual);
+            IDeserializationBuffer buffer = new DeserializationBuffer(message);
+
+            MixedStruct result = createWorkflow(StringDedupScope.MESSAGE)
+                .deserializeDataMessage(buffer, MixedStruct.class, sizeOfIntegersMayBeNotEqual);
+
+            assertThat(((TestStruct) result).id).isEqualTo(-7);
+            assertThat(((TestStruct) result).code).isEqualTo("EUR");
+            assertThat(((TestStruct) result).otherCode).isSameAs(((TestStruct) result).code);
+            assertThat(result.amounts).isEqualTo(struct.amounts);
+            assertThat(result.pair).isEqualTo(struct.pair);
+            assertThat(result.flags).isEqualTo(struct.flags);
+            assertThat(result.rate).isEqualTo(struct.rate);
+            assertThat(result.kind).isEqualTo(struct.kind);
+            assertThat(buffer.readByte()).isEqualTo(TRAILING_BYTE);
+        }
+    }
+
+    private static TestStruct deserialize(CspDeserializationWorkflow workflow)
+    {
+        return workflow.deserializeDataMessage(new DeserializationBuffer(createMessage()), TestStruct.class);
+    }
+
+    private static CspDeserializationWorkflow createWorkflow(StringDedupScope scope)
+    {
+        return new CspDeserializationWorkflow(
+            new CspClassProcessorRegistryFactory<ICspClassDeserializationProcessor<?>>().create(),
+            new DeserializationBufferFactory(),
+            new StringDedupConfigFactory().create(scope, null, null, null));
+    }
+
+    private static ByteBuffer createMessage()
+    {
+        return ByteBuffer.allocate(64)
+                         .putInt(42)
+                         .putLong(3).put((byte) 'E').put((byte) 'U').put((byte) 'R')
+                         .putLong(3).put((byte) 'E').put((byte) 'U').put((byte) 'R')
+                         .put(TRAILING_BYTE)
+                         .flip();
+    }
+
+    private static ByteBuffer serialize(Object value, boolean sizeOfIntegersMayBeNotEqual)
+    {
+        ICspTypeProcessorProvider<ICspTypeSerializationProcessor> typeProcessorProvider = annotatedType -> {
+            throw new UnsupportedOperationException();
+        };
+        ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> generator =
+            new CspClassSerializationProcessorGeneratorFactory().create(
+                new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create(),
+                typeProcessorProvider);
+        ISerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        new CspDataSerializationProcessor(buffer,
+            clazz -> new CspClassProcessorDescriptor<>(generator.generate(clazz), Map.of()), typeProcessorProvider,
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, sizeOfIntegersMayBeNotEqual, false,
+                false, false, false))
+            .serialize(value, false, value.getClass());
+        buffer.writeByte(TRAILING_BYTE);
+        buffer.commitBuffer();
+        return buffer.getBuffer();
+    }
+
+    @CspCreateProcessor
+    private static class MixedStruct
+        extends TestStruct
+    {
+        @CspField(0)
+        private long[] amounts;
+        @CspField(1)
+        private short @CspFixedSizeArray(2) [] pair;
+        @CspField(2)
+        private boolean[] flags;
+        @CspField(3)
+        private double rate;
+        @CspField(4)
+        private byte kind;
+    }
+
+    @CspCreateProcessor
+    private static class TestStruct
+        implements ICspVersionable
+    {
+        @CspField(0)
+        private int id;
+        @CspField(1)
+        private @CspString("UTF-8") @CspStringDedup String code;
+        @CspField(2)
+        private @CspString("UTF-8") @CspStringDedup String otherCode;
+
+        @Override
+        public UUID getId()
+        {
+            return new UUID(0, 0);
+        }
+
+        @Override
+        public ICspInterfaceVersion[] getPrivateVersions()
+        {
+            return new ICspInterfaceVersion[0];
+        }
+
+        @Override
+        public ICspInterfaceVersion getInterfaceVersion()
+        {
+            return () -> 1;
+        }
+
+        @Override
+        public String[] getCspFieldNames()
+        {
+            return new String[0];
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IAdaptiveBufferPolicyEntry;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.api.protocol.ICspInterfaceVersion;
+import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.buffer.BufferSinkType;
+import io.andreygs.jcsp.internal.processing.buffer.ByteBufferAllocator;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.IAdaptiveBufferPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryBudgetConfig;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryGovernor;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferPool;
+import io.andreygs.jcsp.internal.processing.buffer.factory.BudgetedSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ISerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MappedFileSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferFactory;
+import io.andreygs.jcsp.internal.protocol.message.config.CspDataMessageConfigExtension;
+import io.andreygs.jcsp.internal.protocol.message.config.CspMessageConfig;
+import io.andreygs.jcsp.internal.protocol.message.context.factory.CspMessageContextFactory;
+import io.andreygs.jcsp.internal.protocol.message.factory.CspMessageFactory;
+import org.assertj.core.api.ThrowingConsumer;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit-tests for {@link CspSerializationWorkflow}.
+ */
+public class CspSerializationWorkflowTest
+{
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final int PAYLOAD_SIZE = 1000;
+
+    private static final ThrowingConsumer<CspRuntimeException> TEST_FOR_NO_MEMORY =
+        e -> assertThat(e.getCspStatus()).isEqualTo(CspStatus.NO_MEMORY);
+
+    private final List<ISerializationBufferConfig> createdBufferConfigs = new ArrayList<>();
+
+    private int encodingCount;
+
+    @Test
+    public void testMessageIsEncodedTwiceWithoutLearnedSize()
+    {
+        ByteBuffer buffer = serialize(createBufferConfig(0), null);
+
+        assertThat(encodingCount).isEqualTo(2);
+        assertThat(createdBufferConfigs.get(0).getInitialCapacity()).isEqualTo(INITIAL_CAPACITY);
+        assertThat(buffer.capacity()).isEqualTo(1024);
+        assertThat(buffer.remaining()).isEqualTo(PAYLOAD_SIZE);
+    }
+
+    @Test
+    public void testMessageIsEncodedOnceWithLearnedSize()
+    {
+        ByteBuffer buffer = serialize(createBufferConfig(0), 2048);
+
+        assertThat(encodingCount).isEqualTo(1);
+        assertThat(createdBufferConfigs.get(0).getInitialCapacity()).isEqualTo(INITIAL_CAPACITY);
+        assertThat(buffer.capacity()).isEqualTo(2048);
+    }
+
+    @Test
+    public void testSegmentedBufferIsEncodedOnce()
+    {
+        serialize(createBufferConfig(64), null);
+
+        assertThat(encodingCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedSerializationReleasesMemoryBudget()
+    {
+        for (Integer learnedSize : new Integer[] { null, INITIAL_CAPACITY })
+        {
+            MemoryGovernor governor = new MemoryGovernor(new MemoryBudgetConfig(INITIAL_CAPACITY * 2,
+                MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO, Path.of(System.getProperty("java.io.tmpdir"))));
+            ISerializationBufferFactory bufferFactory =
+                new BudgetedSerializationBufferFactory(new SerializationBufferPool(), governor);
+
+            assertThatExceptionOfType(CspRuntimeException.class)
+                .isThrownBy(() -> serialize(bufferFactory, createBufferConfig(0), learnedSize))
+                .satisfies(TEST_FOR_NO_MEMORY);
+            assertThat(governor.getReservedBytes()).isZero();
+        }
+    }
+
+    private ByteBuffer serialize(ISerializationBufferConfig bufferConfig, @Nullable Integer learnedSize)
+    {
+        return serialize(new SerializationBufferFactory(), bufferConfig, learnedSize);
+    }
+
+    private ByteBuffer serialize(ISerializationBufferFactory bufferFactory, ISerializationBufferConfig bufferConfig,
+        @Nullable Integer learnedSize)
+    {
+        CspSerializationWorkflow workflow = new CspSerializationWorkflow(
+            serializationBufferConfig -> {
+                createdBufferConfigs.add(serializationBufferConfig);
+                return bufferFactory.create(serializationBufferConfig);
+            },
+            new CspMessageContextFactory(),
+            new CspMessageFactory(),
+            (buffer, messageContext, dataMessageContextExtension) -> createDataProcessor(buffer),
+            new LearnedSizeBufferPolicy(learnedSize),
+            new ChannelSerializationBufferFactory(new ByteBufferAllocator()),
+            new MappedFileSerializationBufferFactory());
+        ICspInterfaceVersion interfaceVersion = () -> 1;
+        return workflow.serializeDataMessage(new TestStruct(), TestStruct.class, bufferConfig,
+                new CspMessageConfig(CspProtocolVersion.CSP_VERSION_2, Collections.emptySet()),
+                new CspDataMessageConfigExtension(interfaceVersion, Collections.emptySet()))
+            .getBuffer();
+    }
+
+    private ICspDataSerializationProcessor createDataProcessor(ISerializationBuffer buffer)
+    {
+        return (ICspDataSerializationProcessor) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] { ICspDataSerializationProcessor.class }, (proxy, method, args) -> {
+                if (method.getName().equals("serialize") && args.length == 2 && args[1] == TestStruct.class)
+                {
+                    ++encodingCount;
+                    buffer.write(new byte[PAYLOAD_SIZE]);
+                }
+                return null;
+            });
+    }
+
+    private static ISerializationBufferConfig createBufferConfig(int segmentSize)
+    {
+        return new SerializationBufferConfig(INITIAL_CAPACITY, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0,
+            true, 0, segmentSize);
+    }
+
+    private static final class LearnedSizeBufferPolicy
+        implements IAdaptiveBufferPolicy
+    {
+        private final @Nullable Integer learnedSize;
+
+        private LearnedSizeBufferPolicy(@Nullable Integer learnedSize)
+        {
+            this.learnedSize = learnedSize;
+        }
+
+        @Override
+        public @Nullable ISerializationBufferConfig adapt(Class<?> structClazz, ISerializationBufferConfig bufferConfig,
+            BufferSinkType sinkType)
+        {
+            return learnedSize == null
+                   ? null
+                   : new SerializationBufferConfig(learnedSize, AllocationType.HEAP, bufferConfig.getResizeStrategy(),
+                       0, true);
+        }
+
+        @Override
+        public AllocationType chooseAllocationType(long messageSize, BufferSinkType sinkType)
+        {
+            return AllocationType.HEAP;
+        }
+
+        @Override
+        public void recordSize(Class<?> structClazz, long messageSize)
+        {
+        }
+
+        @Override
+        public Map<Class<?>, IAdaptiveBufferPolicyEntry> exportTable()
+        {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static final class TestStruct
+        implements ICspVersionable
+    {
+        @Override
+        public UUID getId()
+        {
+            return new UUID(0, 0);
+        }
+
+        @Override
+        public ICspInterfaceVersion[] getPrivateVersions()
+        {
+            return new ICspInterfaceVersion[0];
+        }
+
+        @Override
+        public ICspInterfaceVersion getInterfaceVersion()
+        {
+            return () -> 1;
+        }
+
+        @Override
+        public String[] getCspFieldNames()
+        {
+            return new String[0];
+        }
+    }
+}
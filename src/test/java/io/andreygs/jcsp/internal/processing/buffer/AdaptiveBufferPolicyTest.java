@@ -0,0 +1,120 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IAdaptiveBufferPolicyEntry;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link AdaptiveBufferPolicy}.
+ */
+public class AdaptiveBufferPolicyTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(256, AllocationType.ADAPTIVE, new DoublingBufferSizeStrategy(), 0, false);
+
+    @Test
+    public void testAdaptReturnsNullUntilEnoughSamples()
+    {
+        AdaptiveBufferPolicy policy = new AdaptiveBufferPolicy();
+        assertThat(policy.adapt(String.class, BUFFER_CONFIG, BufferSinkType.MEMORY)).isNull();
+
+        for (int i = 0; i < 15; ++i)
+        {
+            policy.recordSize(String.class, 1000);
+        }
+        assertThat(policy.adapt(String.class, BUFFER_CONFIG, BufferSinkType.MEMORY)).isNull();
+
+        policy.recordSize(String.class, 1000);
+        ISerializationBufferConfig config = policy.adapt(String.class, BUFFER_CONFIG, BufferSinkType.MEMORY);
+        assertThat(config).isNotNull();
+        assertThat(config.getInitialCapacity()).isBetween(1000, 1250);
+        assertThat(config.getAllocationType()).isEqualTo(AllocationType.HEAP);
+    }
+
+    @Test
+    public void testPercentilesFollowRecentSizes()
+    {
+        AdaptiveBufferPolicy policy = new AdaptiveBufferPolicy();
+        for (int i = 0; i < 100; ++i)
+        {
+            policy.recordSize(Integer.class, 100);
+        }
+        for (int i = 0; i < 400; ++i)
+        {
+            policy.recordSize(Integer.class, 10_000);
+        }
+
+        IAdaptiveBufferPolicyEntry entry = policy.exportTable().get(Integer.class);
+        assertThat(entry.getSampleCount()).isEqualTo(500L);
+        assertThat(entry.getMedianSize()).isBetween(10_000L, 12_500L);
+        assertThat(entry.getInitialCapacity()).isBetween(10_000L, 12_500L);
+    }
+
+    @Test
+    public void testGrowthTargetCoversOutliers()
+    {
+        AdaptiveBufferPolicy policy = new AdaptiveBufferPolicy();
+        for (int i = 0; i < 100; ++i)
+        {
+            policy.recordSize(Long.class, i % 50 == 0 ? 8_000 : 100);
+        }
+
+        IAdaptiveBufferPolicyEntry entry = policy.exportTable().get(Long.class);
+        assertThat(entry.getInitialCapacity()).isLessThan(200L);
+        assertThat(entry.getGrowthTarget()).isGreaterThanOrEqualTo(8_000L);
+
+        ISerializationBufferConfig config = policy.adapt(Long.class, BUFFER_CONFIG, BufferSinkType.MEMORY);
+        assertThat(config.getResizeStrategy().calculateNewSize(config.getInitialCapacity(), 5_000))
+            .isEqualTo((int) entry.getGrowthTarget());
+    }
+
+    @Test
+    public void testAllocationTypeDependsOnSizeAndSink()
+    {
+        AdaptiveBufferPolicy policy = new AdaptiveBufferPolicy();
+
+        assertThat(policy.chooseAllocationType(100, BufferSinkType.MEMORY)).isEqualTo(AllocationType.HEAP);
+        assertThat(policy.chooseAllocationType(100, BufferSinkType.CHANNEL)).isEqualTo(AllocationType.HEAP);
+        assertThat(policy.chooseAllocationType(64 * 1024, BufferSinkType.MEMORY)).isEqualTo(AllocationType.HEAP);
+        assertThat(policy.chooseAllocationType(64 * 1024, BufferSinkType.CHANNEL)).isEqualTo(AllocationType.DIRECT);
+        assertThat(policy.chooseAllocationType(4 * 1024 * 1024, BufferSinkType.MEMORY))
+            .isEqualTo(AllocationType.DIRECT);
+    }
+
+    @Test
+    public void testRecordNegativeSizeThrows()
+    {
+        AdaptiveBufferPolicy policy = new AdaptiveBufferPolicy();
+
+        assertThatThrownBy(() -> policy.recordSize(String.class, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.factory.DeserializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.SerializationBufferFactory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit-tests for {@link ArenaBufferSupport}.
+ * <p>
+ * Tests are running against the class version that matches the test runtime.
+ */
+public class ArenaBufferSupportTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(1, AllocationType.ARENA, (currentCapacity, minimumRequiredSize) -> minimumRequiredSize,
+            0, false);
+
+    @Test
+    public void testSerializationBufferFactoryCreatesArenaBuffer()
+    {
+        if (!ArenaBufferSupport.isSupported())
+        {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> new SerializationBufferFactory().create(BUFFER_CONFIG));
+            return;
+        }
+        ISerializationBuffer buffer = new SerializationBufferFactory().create(BUFFER_CONFIG);
+        buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        buffer.writeInt(1);
+        buffer.write(new long[] { 2, 3 });
+        buffer.commitBuffer();
+
+        ByteBuffer result = buffer.getBuffer();
+        assertThat(buffer.getAllocationType()).isEqualTo(AllocationType.ARENA);
+        assertThat(result.remaining()).isEqualTo(Integer.BYTES + 2 * Long.BYTES);
+        assertThat(result.getInt(0)).isEqualTo(1);
+        assertThat(result.getLong(Integer.BYTES + Long.BYTES)).isEqualTo(3L);
+        buffer.release();
+    }
+
+    @Test
+    public void testDeserializationBufferFactoryCreatesArenaBuffer()
+    {
+        ByteBuffer source = ByteBuffer.allocate(Short.BYTES + 2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        source.putShort((short) 7).putInt(8).putInt(9).flip();
+        if (!ArenaBufferSupport.isSupported())
+        {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> new DeserializationBufferFactory().create(source, AllocationType.ARENA));
+            return;
+        }
+        IDeserializationBuffer buffer = new DeserializationBufferFactory().create(source, AllocationType.ARENA);
+        buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[2];
+
+        assertThat(buffer.readShort()).isEqualTo((short) 7);
+        buffer.read(values);
+        assertThat(values).isEqualTo(new int[] { 8, 9 });
+        buffer.release();
+    }
+}
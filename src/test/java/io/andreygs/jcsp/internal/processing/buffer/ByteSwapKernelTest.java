@@ -0,0 +1,83 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.CommonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link ByteSwapKernel}.
+ * <p>
+ * Tests are running against the class version that matches the test runtime. Classes of Java 22 version are taken
+ * from directory set in {@value #JAVA22_CLASSES_PROPERTY} system property.
+ */
+public class ByteSwapKernelTest
+{
+    private static final String JAVA22_CLASSES_PROPERTY = "jcsp.test.java22.classes";
+
+    @Test
+    public void testByteSwappedArrayIsTransferredInNamedModule() throws Exception
+    {
+        String java22Classes = System.getProperty(JAVA22_CLASSES_PROPERTY);
+        Module module = java22Classes != null && Runtime.version().feature() >= 22
+                        ? CommonUtils.defineLibraryModule(ByteSwapKernel.class, Path.of(java22Classes))
+                        : CommonUtils.defineLibraryModule(ByteSwapKernel.class);
+        Class<?> primitiveArrayAccessClazz =
+            Class.forName(module, ByteSwapKernel.class.getPackageName() + ".PrimitiveArrayAccess");
+        Method put = primitiveArrayAccessClazz.getDeclaredMethod("put", ByteBuffer.class, int[].class, int.class,
+            int.class);
+        Method get = primitiveArrayAccessClazz.getDeclaredMethod("get", ByteBuffer.class, int[].class, int.class,
+            int.class);
+        put.setAccessible(true);
+        get.setAccessible(true);
+
+        ByteOrder swappedOrder =
+            ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        int[] value = new int[67];
+        for (int i = 0; i < value.length; ++i)
+        {
+            value[i] = i * 0x01020304;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(value.length * Integer.BYTES).order(swappedOrder);
+        put.invoke(null, buffer, value, 0, value.length);
+        buffer.flip();
+        int[] result = new int[value.length];
+        get.invoke(null, buffer.duplicate().order(swappedOrder), result, 0, result.length);
+
+        assertThat(module.isNamed()).isTrue();
+        assertThat(buffer.getInt(Integer.BYTES * 66)).isEqualTo(value[66]);
+        assertThat(result).isEqualTo(value);
+    }
+}
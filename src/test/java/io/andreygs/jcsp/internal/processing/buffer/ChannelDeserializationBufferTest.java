@@ -0,0 +1,155 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link ChannelDeserializationBuffer}.
+ */
+public class ChannelDeserializationBufferTest
+{
+    @Test
+    public void testReadsAcrossWindowRefills()
+    {
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        serializationBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        serializationBuffer.writeByte((byte) 1);
+        serializationBuffer.writeShort((short) 2);
+        serializationBuffer.writeInt(3);
+        serializationBuffer.writeLong(4L);
+        serializationBuffer.writeChar('5');
+        serializationBuffer.writeFloat(6F);
+        serializationBuffer.writeDouble(7D);
+        serializationBuffer.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 });
+        serializationBuffer.write(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+        serializationBuffer.write(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+        serializationBuffer.write(new long[] { 1, 2, 3, 4, 5 });
+        serializationBuffer.write(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+        serializationBuffer.write(new float[] { 1F, 2F, 3F, 4F, 5F });
+        serializationBuffer.write(new double[] { 1D, 2D, 3D });
+        serializationBuffer.commitBuffer();
+        int messageSize = serializationBuffer.getBuffer().remaining();
+
+        ChannelDeserializationBuffer buffer = new ChannelDeserializationBuffer(
+            new TrickleChannel(serializationBuffer.getBuffer(), 3), AllocationType.DIRECT, 16);
+        buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(buffer.readByte()).isEqualTo((byte) 1);
+        assertThat(buffer.readShort()).isEqualTo((short) 2);
+        assertThat(buffer.readInt()).isEqualTo(3);
+        assertThat(buffer.readLong()).isEqualTo(4L);
+        assertThat(buffer.readChar()).isEqualTo('5');
+        assertThat(buffer.readFloat()).isEqualTo(6F);
+        assertThat(buffer.readDouble()).isEqualTo(7D);
+        byte[] bytes = new byte[19];
+        buffer.read(bytes);
+        assertThat(bytes).isEqualTo(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 });
+        short[] shorts = new short[11];
+        buffer.read(shorts);
+        assertThat(shorts).isEqualTo(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+        int[] ints = new int[7];
+        buffer.read(ints);
+        assertThat(ints).isEqualTo(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+        long[] longs = new long[5];
+        buffer.read(longs);
+        assertThat(longs).isEqualTo(new long[] { 1, 2, 3, 4, 5 });
+        char[] chars = new char[9];
+        buffer.read(chars);
+        assertThat(chars).isEqualTo(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+        float[] floats = new float[5];
+        buffer.read(floats);
+        assertThat(floats).isEqualTo(new float[] { 1F, 2F, 3F, 4F, 5F });
+        double[] doubles = new double[3];
+        buffer.read(doubles);
+        assertThat(doubles).isEqualTo(new double[] { 1D, 2D, 3D });
+        assertThat(buffer.getConsumedSize()).isEqualTo((long) messageSize);
+        assertThat(buffer.getBuffer().capacity()).isEqualTo(16);
+    }
+
+    @Test
+    public void testEndOfStreamThrows()
+    {
+        ChannelDeserializationBuffer buffer = new ChannelDeserializationBuffer(
+            Channels.newChannel(new ByteArrayInputStream(new byte[] { 0, 0, 0, 1, 0, 0 })), AllocationType.HEAP, 8);
+
+        assertThat(buffer.readInt()).isEqualTo(1);
+        assertThatThrownBy(buffer::readInt).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    /**
+     * Channel that returns at most given amount of bytes per read, as network channel may do.
+     */
+    private static final class TrickleChannel implements ReadableByteChannel
+    {
+        private final ByteBuffer source;
+        private final int maxChunkSize;
+
+        private TrickleChannel(ByteBuffer source, int maxChunkSize)
+        {
+            this.source = source.duplicate();
+            this.maxChunkSize = maxChunkSize;
+        }
+
+        @Override
+        public int read(ByteBuffer dst)
+        {
+            if (!source.hasRemaining())
+            {
+                return -1;
+            }
+            int length = Math.min(Math.min(maxChunkSize, source.remaining()), dst.remaining());
+            ByteBuffer chunk = source.slice();
+            chunk.limit(length);
+            dst.put(chunk);
+            source.position(source.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
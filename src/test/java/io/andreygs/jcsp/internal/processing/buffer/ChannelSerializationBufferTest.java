@@ -0,0 +1,199 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link ChannelSerializationBuffer}.
+ */
+public class ChannelSerializationBufferTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+
+    @Test
+    public void testStreamedDataIsSameAsContiguous()
+    {
+        Consumer<ISerializationBuffer> writer = buffer -> {
+            buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+            buffer.writeByte((byte) 1);
+            buffer.writeShort((short) 2);
+            buffer.writeInt(3);
+            buffer.writeLong(4L);
+            buffer.writeChar('5');
+            buffer.writeFloat(6F);
+            buffer.writeDouble(7D);
+            buffer.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20 });
+            buffer.write(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+            buffer.write(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+            buffer.write(new long[] { 1, 2, 3, 4, 5 });
+            buffer.write(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+            buffer.write(new float[] { 1F, 2F, 3F, 4F, 5F });
+            buffer.write(new double[] { 1D, 2D, 3D });
+        };
+        ISerializationBuffer expectedBuffer = new SerializationBuffer(BUFFER_CONFIG);
+        writer.accept(expectedBuffer);
+        expectedBuffer.commitBuffer();
+        byte[] expected = new byte[expectedBuffer.getBuffer().remaining()];
+        expectedBuffer.getBuffer().get(expected);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ChannelSerializationBuffer buffer = new ChannelSerializationBuffer(BUFFER_CONFIG,
+            Channels.newChannel(outputStream), new ByteBufferAllocator(), 16);
+        writer.accept(buffer);
+
+        assertThat(buffer.getBuffer().capacity()).isEqualTo(16);
+        assertThat((long) outputStream.size()).isEqualTo(buffer.getFlushedSize());
+
+        buffer.commitBuffer();
+        buffer.release();
+
+        assertThat(outputStream.toByteArray()).isEqualTo(expected);
+        assertThat(buffer.getFlushedSize()).isEqualTo((long) expected.length);
+        assertThat(buffer.getBuffers()).isEmpty();
+    }
+
+    @Test
+    public void testLargePayloadIsWrittenWithGatheringWrite()
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        WritableByteChannel sink = Channels.newChannel(outputStream);
+        int[] gatheringWritesCount = new int[1];
+        GatheringByteChannel gatheringChannel = new GatheringByteChannel()
+        {
+            @Override
+            public long write(ByteBuffer[] sources, int offset, int length) throws IOException
+            {
+                ++gatheringWritesCount[0];
+                long written = 0;
+                for (int i = offset; i < offset + length; ++i)
+                {
+                    written += sink.write(sources[i]);
+                }
+                return written;
+            }
+
+            @Override
+            public long write(ByteBuffer[] sources) throws IOException
+            {
+                return write(sources, 0, sources.length);
+            }
+
+            @Override
+            public int write(ByteBuffer src) throws IOException
+            {
+                return sink.write(src);
+            }
+
+            @Override
+            public boolean isOpen()
+            {
+                return true;
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+        ChannelSerializationBuffer buffer =
+            new ChannelSerializationBuffer(BUFFER_CONFIG, gatheringChannel, new ByteBufferAllocator(), 16);
+        ByteBuffer payload = ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 });
+        buffer.writeByte((byte) 0);
+        buffer.write(payload);
+        buffer.write(ByteBuffer.wrap(new byte[] { 18, 19 }));
+        buffer.commitBuffer();
+        buffer.release();
+
+        assertThat(gatheringWritesCount[0]).isEqualTo(1);
+        assertThat(payload.position()).isZero();
+        assertThat(outputStream.toByteArray()).isEqualTo(
+            new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 });
+        assertThat(buffer.getFlushedSize()).isEqualTo(20L);
+    }
+
+    @Test
+    public void testWindowIsReleasedToAllocator()
+    {
+        SerializationBufferPool pool = new SerializationBufferPool();
+        ISerializationBufferConfig bufferConfig =
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 64, false);
+        ChannelSerializationBuffer buffer = new ChannelSerializationBuffer(bufferConfig,
+            Channels.newChannel(new ByteArrayOutputStream()), pool, 64);
+        buffer.writeLong(1L);
+        buffer.commitBuffer();
+        buffer.release();
+        buffer.release();
+        pool.allocate(64, bufferConfig);
+
+        assertThat(pool.getMetrics().getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testChannelErrorIsWrapped()
+    {
+        WritableByteChannel failingChannel = new WritableByteChannel()
+        {
+            @Override
+            public int write(ByteBuffer src) throws IOException
+            {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public boolean isOpen()
+            {
+                return true;
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+        ChannelSerializationBuffer buffer =
+            new ChannelSerializationBuffer(BUFFER_CONFIG, failingChannel, new ByteBufferAllocator(), 8);
+        buffer.writeLong(1L);
+
+        assertThatThrownBy(() -> buffer.writeByte((byte) 1)).isInstanceOf(UncheckedIOException.class);
+    }
+}
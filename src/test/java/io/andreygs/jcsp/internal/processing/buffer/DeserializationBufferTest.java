@@ -28,6 +28,7 @@ package io.andreygs.jcsp.internal.processing.buffer;
 import io.andreygs.jcsp.CommonUtils;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.CharBuffer;
@@ -36,10 +37,12 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit-tests for {@link DeserializationBuffer}.
@@ -69,6 +72,21 @@ public class DeserializationBufferTest
         assertThat(cspBuffer.getBuffer().order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
     }
 
+    @Test
+    public void testEnsureReadable()
+    {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(Integer.BYTES + Short.BYTES);
+        byteBuffer.putInt(5).putShort((short) 6).flip();
+        IDeserializationBuffer cspDeserializationBuffer = new DeserializationBuffer(byteBuffer);
+
+        cspDeserializationBuffer.ensureReadable(Integer.BYTES + Short.BYTES);
+        assertThat(cspDeserializationBuffer.readIntUnchecked()).isEqualTo(5);
+        assertThat(cspDeserializationBuffer.readShortUnchecked()).isEqualTo((short) 6);
+
+        assertThatThrownBy(() -> cspDeserializationBuffer.ensureReadable(1))
+            .isInstanceOf(BufferUnderflowException.class);
+    }
+
     @Test
     public void testReadByte()
     {
@@ -133,6 +151,72 @@ public class DeserializationBufferTest
         assertThat(readValue2).isEqualTo(value2);
     }
 
+    @Test
+    public void testReadSliceIsReadOnlyView()
+    {
+        byte[] source = { 1, 2, 3, 4, 5, 6 };
+        IDeserializationBuffer cspBuffer = new DeserializationBuffer(ByteBuffer.wrap(source));
+        cspBuffer.readByte();
+        ByteBuffer slice = cspBuffer.readSlice(4);
+
+        assertThat(slice.isReadOnly()).isTrue();
+        assertThat(slice.position()).isZero();
+        assertThat(slice.limit()).isEqualTo(4);
+        assertThat(cspBuffer.readByte()).isEqualTo((byte) 6);
+        source[1] = 42;
+        assertThat(slice.get(0)).isEqualTo((byte) 42);
+    }
+
+    @Test
+    public void testReleaseActionRunsOnRelease()
+    {
+        AtomicInteger releaseCount = new AtomicInteger();
+        IDeserializationBuffer cspBuffer =
+            new DeserializationBuffer(ByteBuffer.allocate(16), releaseCount::incrementAndGet);
+        cspBuffer.readLong();
+        cspBuffer.release();
+        cspBuffer.release();
+
+        assertThat(releaseCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReleaseActionIsNotRunAfterSliceIsRead()
+    {
+        AtomicInteger releaseCount = new AtomicInteger();
+        IDeserializationBuffer cspBuffer =
+            new DeserializationBuffer(ByteBuffer.allocate(16), releaseCount::incrementAndGet);
+        ByteBuffer slice = cspBuffer.readSlice(8);
+        cspBuffer.release();
+
+        assertThat(releaseCount.get()).isZero();
+        assertThat(slice.remaining()).isEqualTo(8);
+    }
+
+    @Test
+    public void testDerivedViewOutlivesSlice() throws InterruptedException
+    {
+        byte[] source = { 1, 2, 3, 4, 5, 6, 7, 8 };
+        AtomicInteger releaseCount = new AtomicInteger();
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(source.length).put(source).flip();
+        IDeserializationBuffer cspBuffer = new DeserializationBuffer(byteBuffer, releaseCount::incrementAndGet);
+        cspBuffer.readShort();
+        ByteBuffer slice = cspBuffer.readSlice(4);
+        ByteBuffer view = slice.duplicate().slice(1, 2).asReadOnlyBuffer();
+        cspBuffer.release();
+
+        slice = null;
+        for (int i = 0; i < 5; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(releaseCount.get()).isZero();
+        assertThat(view.get(0)).isEqualTo((byte) 4);
+        assertThat(view.get(1)).isEqualTo((byte) 5);
+    }
+
     @Test
     public void testReadShortArray()
     {
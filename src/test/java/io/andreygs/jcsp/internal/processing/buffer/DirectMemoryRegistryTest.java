@@ -0,0 +1,152 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.CommonUtils;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link DirectMemoryRegistry}.
+ */
+public class DirectMemoryRegistryTest
+{
+    private static final int CAPACITY = 1024 * 1024;
+
+    @Test
+    public void testAllocateAndFreeAreAccounted()
+    {
+        DirectMemoryRegistry registry = new DirectMemoryRegistry();
+
+        ByteBuffer first = registry.allocate(CAPACITY);
+        ByteBuffer second = registry.allocate(CAPACITY / 2);
+
+        assertThat(first.isDirect()).isTrue();
+        assertThat(registry.getReservedBytes()).isEqualTo(CAPACITY + CAPACITY / 2);
+        assertThat(registry.getInUseBytes()).isEqualTo(CAPACITY + CAPACITY / 2);
+        assertThat(registry.getPeakReservedBytes()).isEqualTo(CAPACITY + CAPACITY / 2);
+
+        assertThat(registry.free(first)).isTrue();
+
+        assertThat(registry.getReservedBytes()).isEqualTo(CAPACITY / 2);
+        assertThat(registry.getInUseBytes()).isEqualTo(CAPACITY / 2);
+        assertThat(registry.getPeakReservedBytes()).isEqualTo(CAPACITY + CAPACITY / 2);
+
+        registry.free(second);
+
+        assertThat(registry.getReservedBytes()).isZero();
+    }
+
+    @Test
+    public void testIdleBuffersAreNotInUse()
+    {
+        DirectMemoryRegistry registry = new DirectMemoryRegistry();
+        ByteBuffer byteBuffer = registry.allocate(CAPACITY);
+
+        registry.markIdle(byteBuffer);
+        registry.markIdle(byteBuffer);
+
+        assertThat(registry.getReservedBytes()).isEqualTo(CAPACITY);
+        assertThat(registry.getInUseBytes()).isZero();
+
+        registry.markInUse(byteBuffer);
+
+        assertThat(registry.getInUseBytes()).isEqualTo(CAPACITY);
+
+        registry.markIdle(byteBuffer);
+        registry.free(byteBuffer);
+
+        assertThat(registry.getReservedBytes()).isZero();
+        assertThat(registry.getInUseBytes()).isZero();
+    }
+
+    @Test
+    public void testFreeIgnoresForeignAndFreedBuffers()
+    {
+        DirectMemoryRegistry registry = new DirectMemoryRegistry();
+        ByteBuffer byteBuffer = registry.allocate(CAPACITY);
+
+        assertThat(registry.free(ByteBuffer.allocateDirect(16))).isFalse();
+        assertThat(registry.free(ByteBuffer.allocate(16))).isFalse();
+        assertThat(registry.free(byteBuffer)).isTrue();
+        assertThat(registry.free(byteBuffer)).isFalse();
+        assertThat(registry.getReservedBytes()).isZero();
+    }
+
+    @Test
+    public void testFreeReleasesNativeMemoryImmediately()
+    {
+        BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+                                                       .stream()
+                                                       .filter(pool -> pool.getName().equals("direct"))
+                                                       .findFirst()
+                                                       .orElseThrow();
+        DirectMemoryRegistry registry = new DirectMemoryRegistry();
+        ByteBuffer byteBuffer = registry.allocate(CAPACITY);
+        long usedBeforeFree = directPool.getMemoryUsed();
+
+        registry.free(byteBuffer);
+
+        assertThat(DirectMemoryRegistry.isExplicitFreeSupported()).isTrue();
+        assertThat(directPool.getMemoryUsed()).isLessThanOrEqualTo(usedBeforeFree - CAPACITY);
+    }
+
+    @Test
+    public void testExplicitFreeIsSupportedInNamedModule() throws Exception
+    {
+        Module module = CommonUtils.defineLibraryModule(DirectMemoryRegistry.class);
+        Method isExplicitFreeSupported = Class.forName(module, DirectMemoryRegistry.class.getName())
+                                              .getMethod("isExplicitFreeSupported");
+
+        assertThat(module.isNamed()).isTrue();
+        assertThat(isExplicitFreeSupported.invoke(null)).isEqualTo(true);
+    }
+
+    @Test
+    public void testPoolFreesDirectBuffersItDoesNotRetain()
+    {
+        DirectMemoryRegistry registry = DirectMemoryRegistry.getInstance();
+        SerializationBufferPool pool = new SerializationBufferPool();
+        SerializationBufferConfig config =
+            new SerializationBufferConfig(0, AllocationType.DIRECT, new DoublingBufferSizeStrategy(), 0, false);
+        long reservedBefore = registry.getReservedBytes();
+
+        ByteBuffer byteBuffer = pool.allocate(CAPACITY, config);
+
+        assertThat(registry.getReservedBytes()).isEqualTo(reservedBefore + CAPACITY);
+
+        pool.release(byteBuffer, config);
+
+        assertThat(registry.getReservedBytes()).isEqualTo(reservedBefore);
+    }
+}
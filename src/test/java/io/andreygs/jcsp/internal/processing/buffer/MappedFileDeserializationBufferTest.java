@@ -0,0 +1,167 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link MappedFileDeserializationBuffer}.
+ */
+public class MappedFileDeserializationBufferTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        file = Files.createTempFile("jcsp-", ".csp");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testReadsAcrossWindows() throws IOException
+    {
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(BUFFER_CONFIG);
+        serializationBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        serializationBuffer.writeByte((byte) 1);
+        serializationBuffer.writeShort((short) 2);
+        serializationBuffer.writeInt(3);
+        serializationBuffer.writeLong(4L);
+        serializationBuffer.writeChar('5');
+        serializationBuffer.writeFloat(6F);
+        serializationBuffer.writeDouble(7D);
+        serializationBuffer.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 });
+        serializationBuffer.write(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+        serializationBuffer.write(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+        serializationBuffer.write(new long[] { 1, 2, 3, 4, 5 });
+        serializationBuffer.write(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+        serializationBuffer.write(new float[] { 1F, 2F, 3F, 4F, 5F });
+        serializationBuffer.write(new double[] { 1D, 2D, 3D });
+        serializationBuffer.commitBuffer();
+        writeFile(serializationBuffer.getBuffer(), 3);
+
+        MappedFileDeserializationBuffer buffer =
+            new MappedFileDeserializationBuffer(file, 3, serializationBuffer.getBuffer().remaining(), 16);
+        buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(buffer.readByte()).isEqualTo((byte) 1);
+        assertThat(buffer.readShort()).isEqualTo((short) 2);
+        assertThat(buffer.readInt()).isEqualTo(3);
+        assertThat(buffer.readLong()).isEqualTo(4L);
+        assertThat(buffer.readChar()).isEqualTo('5');
+        assertThat(buffer.readFloat()).isEqualTo(6F);
+        assertThat(buffer.readDouble()).isEqualTo(7D);
+        byte[] bytes = new byte[19];
+        buffer.read(bytes);
+        assertThat(bytes).isEqualTo(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 });
+        short[] shorts = new short[11];
+        buffer.read(shorts);
+        assertThat(shorts).isEqualTo(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+        int[] ints = new int[7];
+        buffer.read(ints);
+        assertThat(ints).isEqualTo(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+        long[] longs = new long[5];
+        buffer.read(longs);
+        assertThat(longs).isEqualTo(new long[] { 1, 2, 3, 4, 5 });
+        char[] chars = new char[9];
+        buffer.read(chars);
+        assertThat(chars).isEqualTo(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+        float[] floats = new float[5];
+        buffer.read(floats);
+        assertThat(floats).isEqualTo(new float[] { 1F, 2F, 3F, 4F, 5F });
+        double[] doubles = new double[3];
+        buffer.read(doubles);
+        assertThat(doubles).isEqualTo(new double[] { 1D, 2D, 3D });
+        assertThat(buffer.getFilePosition()).isEqualTo(3L + serializationBuffer.getBuffer().remaining());
+        buffer.release();
+    }
+
+    @Test
+    public void testReadSliceSurvivesRelease() throws IOException
+    {
+        writeFile(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }), 0);
+        MappedFileDeserializationBuffer buffer = new MappedFileDeserializationBuffer(file, 0, 10, 4);
+        buffer.readByte();
+        ByteBuffer mappedSlice = buffer.readSlice(4);
+        ByteBuffer copiedSlice = buffer.readSlice(5);
+        buffer.release();
+
+        assertThat(mappedSlice.isDirect()).isTrue();
+        assertThat(mappedSlice.get(0)).isEqualTo((byte) 2);
+        assertThat(mappedSlice.get(3)).isEqualTo((byte) 5);
+        assertThat(copiedSlice.isReadOnly()).isTrue();
+        assertThat(copiedSlice.get(4)).isEqualTo((byte) 10);
+    }
+
+    @Test
+    public void testReadBeyondRegionThrows() throws IOException
+    {
+        writeFile(ByteBuffer.wrap(new byte[] { 0, 0, 0, 1, 0, 0, 0, 2 }), 0);
+        MappedFileDeserializationBuffer buffer = new MappedFileDeserializationBuffer(file, 0, 6, 4);
+
+        assertThat(buffer.readInt()).isEqualTo(1);
+        assertThatThrownBy(buffer::readInt).isInstanceOf(BufferUnderflowException.class);
+        buffer.release();
+    }
+
+    @Test
+    public void testRegionOutOfFileBoundsThrows() throws IOException
+    {
+        writeFile(ByteBuffer.wrap(new byte[8]), 0);
+
+        assertThatThrownBy(() -> new MappedFileDeserializationBuffer(file, 4, 8, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void writeFile(ByteBuffer content, int offset) throws IOException
+    {
+        byte[] bytes = new byte[offset + content.remaining()];
+        content.duplicate().get(bytes, offset, content.remaining());
+        Files.write(file, bytes);
+    }
+}
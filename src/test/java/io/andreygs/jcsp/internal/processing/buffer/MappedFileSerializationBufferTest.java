@@ -0,0 +1,143 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link MappedFileSerializationBuffer}.
+ */
+public class MappedFileSerializationBufferTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.DIRECT, new DoublingBufferSizeStrategy(), 0, false);
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        file = Files.createTempFile("jcsp-", ".csp");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testCommitTruncatesFileToWrittenSize() throws IOException
+    {
+        MappedFileSerializationBuffer buffer = new MappedFileSerializationBuffer(BUFFER_CONFIG, file, 1024);
+        buffer.writeLong(1L);
+        buffer.writeInt(2);
+        buffer.commitBuffer();
+        buffer.release();
+
+        assertThat(Files.size(file)).isEqualTo(12L);
+    }
+
+    @Test
+    public void testWritesAcrossWindowsAreSameAsContiguous() throws IOException
+    {
+        Consumer<ISerializationBuffer> writer = buffer -> {
+            buffer.writeByte((byte) 1);
+            buffer.writeShort((short) 2);
+            buffer.writeInt(3);
+            buffer.writeLong(4L);
+            buffer.writeChar('5');
+            buffer.writeFloat(6F);
+            buffer.writeDouble(7D);
+            buffer.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20 });
+            buffer.write(new short[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+            buffer.write(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+            buffer.write(new long[] { 1, 2, 3, 4, 5 });
+            buffer.write(new char[] { 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i' });
+            buffer.write(new float[] { 1F, 2F, 3F, 4F, 5F });
+            buffer.write(new double[] { 1D, 2D, 3D });
+        };
+        ISerializationBuffer expectedBuffer = new SerializationBuffer(BUFFER_CONFIG);
+        expectedBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        writer.accept(expectedBuffer);
+        expectedBuffer.commitBuffer();
+        byte[] expected = new byte[expectedBuffer.getBuffer().remaining()];
+        expectedBuffer.getBuffer().get(expected);
+
+        MappedFileSerializationBuffer buffer = new MappedFileSerializationBuffer(BUFFER_CONFIG, file, 16);
+        buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        writer.accept(buffer);
+        buffer.commitBuffer();
+
+        assertThat(buffer.getFilePosition()).isEqualTo((long) expected.length);
+        ByteBuffer gathered = ByteBuffer.allocate(expected.length);
+        for (ByteBuffer window : buffer.getBuffers())
+        {
+            assertThat(window.remaining()).isLessThanOrEqualTo(16);
+            gathered.put(window);
+        }
+        assertThat(gathered.array()).isEqualTo(expected);
+        assertThat(buffer.getBuffer().order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+        buffer.release();
+        assertThat(Files.readAllBytes(file)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testMaxWindowSizeLessThanLongIsRejected()
+    {
+        assertThatThrownBy(() -> new MappedFileSerializationBuffer(BUFFER_CONFIG, file, Long.BYTES - 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testLongArrayIsWrittenWithWindowNotMultipleOfElementSize() throws IOException
+    {
+        MappedFileSerializationBuffer buffer = new MappedFileSerializationBuffer(BUFFER_CONFIG, file, 12);
+        buffer.write(new long[] { 1L, 2L, 3L });
+        buffer.commitBuffer();
+        buffer.release();
+
+        ByteBuffer written = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertThat(written.remaining()).isEqualTo(3 * Long.BYTES);
+        assertThat(written.getLong()).isEqualTo(1L);
+        assertThat(written.getLong()).isEqualTo(2L);
+        assertThat(written.getLong()).isEqualTo(3L);
+    }
+}
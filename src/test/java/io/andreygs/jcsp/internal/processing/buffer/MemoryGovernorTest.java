@@ -0,0 +1,138 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link MemoryGovernor}.
+ */
+public class MemoryGovernorTest
+{
+    private static final long BUDGET = 1024;
+
+    private static MemoryGovernor createGovernor(MemoryBudgetPolicy policy, Duration blockTimeout)
+    {
+        return new MemoryGovernor(new MemoryBudgetConfig(BUDGET, policy, blockTimeout, Path.of(".")));
+    }
+
+    @Test
+    public void testFailFastRejectsWhenBudgetIsExhausted()
+    {
+        MemoryGovernor governor = createGovernor(MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO);
+
+        governor.reserve(1000);
+
+        assertThatThrownBy(() -> governor.reserve(25))
+            .isInstanceOf(CspRuntimeException.class)
+            .hasMessageContaining(CspStatus.NO_MEMORY.toString());
+        assertThat(governor.getReservedBytes()).isEqualTo(1000);
+        assertThat(governor.getRejectedCount()).isEqualTo(1);
+
+        governor.release(1000);
+        governor.reserve(BUDGET);
+
+        assertThat(governor.getReservedBytes()).isEqualTo(BUDGET);
+    }
+
+    @Test
+    public void testBlockTimesOut()
+    {
+        MemoryGovernor governor = createGovernor(MemoryBudgetPolicy.BLOCK, Duration.ofMillis(50));
+        governor.reserve(BUDGET);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> governor.reserve(1)).isInstanceOf(CspRuntimeException.class);
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(governor.getWaitingCount()).isZero();
+        assertThat(governor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBlockIsWokenUpByRelease() throws Exception
+    {
+        MemoryGovernor governor = createGovernor(MemoryBudgetPolicy.BLOCK, Duration.ofSeconds(30));
+        governor.reserve(BUDGET);
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> governor.reserve(512));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (governor.getWaitingCount() == 0 && System.nanoTime() < deadline)
+        {
+            Thread.onSpinWait();
+        }
+
+        assertThat(governor.getWaitingCount()).isEqualTo(1);
+
+        governor.release(512);
+        waiter.get(10, TimeUnit.SECONDS);
+
+        assertThat(governor.getReservedBytes()).isEqualTo(BUDGET);
+        assertThat(governor.getWaitingCount()).isZero();
+    }
+
+    @Test
+    public void testRequestLargerThanBudgetFailsWithoutWaiting()
+    {
+        MemoryGovernor governor = createGovernor(MemoryBudgetPolicy.BLOCK, Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> governor.reserve(BUDGET + 1)).isInstanceOf(CspRuntimeException.class);
+        assertThat(governor.getReservedBytes()).isZero();
+    }
+
+    @Test
+    public void testBudgetedAllocatorAccountsGrowthAndRelease()
+    {
+        MemoryGovernor governor = createGovernor(MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO);
+        IByteBufferAllocator allocator = new BudgetedByteBufferAllocator(new SerializationBufferPool(), governor);
+        SerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(100, AllocationType.HEAP,
+                new DoublingBufferSizeStrategy(), 0, false), allocator);
+
+        assertThat(governor.getReservedBytes()).isEqualTo(128);
+
+        buffer.write(new byte[300]);
+
+        assertThat(governor.getReservedBytes()).isEqualTo(buffer.getBuffer().capacity());
+        assertThatThrownBy(() -> buffer.write(new byte[1024])).isInstanceOf(CspRuntimeException.class);
+
+        buffer.release();
+
+        assertThat(governor.getReservedBytes()).isZero();
+    }
+}
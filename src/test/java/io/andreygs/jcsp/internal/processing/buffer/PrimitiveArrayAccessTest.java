@@ -0,0 +1,268 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link PrimitiveArrayAccess}.
+ */
+public class PrimitiveArrayAccessTest
+{
+    private static final int WARM_UP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    /**
+     * Tolerance for allocations which are not related to measured calls (e.g. by JIT compiler or profiler itself).
+     */
+    private static final long ALLOCATION_TOLERANCE = 64L * 1024;
+
+    @Test
+    public void testPutIsSameAsViewBuffer()
+    {
+        for (ByteOrder byteOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN })
+        {
+            int[] value = { 1, -2, 0x01020304, Integer.MIN_VALUE, Integer.MAX_VALUE };
+            ByteBuffer expected = ByteBuffer.allocate(32).order(byteOrder);
+            expected.asIntBuffer().put(value, 1, 3);
+            ByteBuffer actual = ByteBuffer.allocateDirect(32).order(byteOrder);
+
+            PrimitiveArrayAccess.put(actual, value, 1, 3);
+
+            assertThat(actual.position()).isEqualTo(3 * Integer.BYTES);
+            for (int i = 0; i < 3 * Integer.BYTES; ++i)
+            {
+                assertThat(actual.get(i)).isEqualTo(expected.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testGetIsSameAsViewBuffer()
+    {
+        for (ByteOrder byteOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN })
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(32).order(byteOrder);
+            buffer.asDoubleBuffer().put(new double[] { 1D, -2.5D, Double.MAX_VALUE });
+            double[] value = new double[5];
+
+            PrimitiveArrayAccess.get(buffer, value, 1, 3);
+
+            assertThat(buffer.position()).isEqualTo(3 * Double.BYTES);
+            assertThat(value).isEqualTo(new double[] { 0D, 1D, -2.5D, Double.MAX_VALUE, 0D });
+        }
+    }
+
+    @Test
+    public void testSwappedTransferMatchesViewBufferForAnyLength()
+    {
+        ByteOrder swappedOrder =
+            ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        for (int length = 0; length < 70; ++length)
+        {
+            short[] shorts = new short[length + 1];
+            char[] chars = new char[length + 1];
+            long[] longs = new long[length + 1];
+            for (int i = 0; i < shorts.length; ++i)
+            {
+                shorts[i] = (short) (i * 0x0101 + 1);
+                chars[i] = (char) (i * 0x0102 + 3);
+                longs[i] = i * 0x0102030405060708L + 5;
+            }
+            ByteBuffer expected = ByteBuffer.allocate(1 + length * 12).order(swappedOrder);
+            expected.put((byte) 0);
+            expected.asShortBuffer().put(shorts, 1, length);
+            expected.position(1 + length * Short.BYTES);
+            expected.asCharBuffer().put(chars, 1, length);
+            expected.position(1 + length * (Short.BYTES + Character.BYTES));
+            expected.asLongBuffer().put(longs, 1, length);
+            expected.position(0);
+            ByteBuffer actual = ByteBuffer.allocateDirect(expected.capacity()).order(swappedOrder);
+            actual.put((byte) 0);
+
+            PrimitiveArrayAccess.put(actual, shorts, 1, length);
+            PrimitiveArrayAccess.put(actual, chars, 1, length);
+            PrimitiveArrayAccess.put(actual, longs, 1, length);
+
+            assertThat(actual.position()).isEqualTo(actual.capacity());
+            assertThat(actual.flip()).isEqualTo(expected);
+
+            short[] readShorts = new short[length + 1];
+            char[] readChars = new char[length + 1];
+            long[] readLongs = new long[length + 1];
+            actual.position(1);
+            PrimitiveArrayAccess.get(actual, readShorts, 1, length);
+            PrimitiveArrayAccess.get(actual, readChars, 1, length);
+            PrimitiveArrayAccess.get(actual, readLongs, 1, length);
+
+            assertThat(actual.hasRemaining()).isFalse();
+            assertThat(readShorts[0]).isZero();
+            for (int i = 1; i <= length; ++i)
+            {
+                assertThat(readShorts[i]).isEqualTo(shorts[i]);
+                assertThat(readChars[i]).isEqualTo(chars[i]);
+                assertThat(readLongs[i]).isEqualTo(longs[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testBooleanArrayIsConvertedToBytes()
+    {
+        boolean[] value = new boolean[67];
+        for (int i = 0; i < value.length; ++i)
+        {
+            value[i] = i % 3 == 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(value.length);
+        buffer.put((byte) 7);
+
+        PrimitiveArrayAccess.put(buffer, value, 1, value.length - 1);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        for (int i = 1; i < value.length; ++i)
+        {
+            assertThat(buffer.get(i)).isEqualTo(value[i] ? (byte) 1 : (byte) 0);
+        }
+
+        buffer.put(1, (byte) -1);
+        buffer.position(1);
+        boolean[] read = new boolean[value.length];
+
+        PrimitiveArrayAccess.get(buffer, read, 1, value.length - 1);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(read[0]).isFalse();
+        assertThat(read[1]).isTrue();
+        for (int i = 2; i < value.length; ++i)
+        {
+            assertThat(read[i]).isEqualTo(value[i]);
+        }
+    }
+
+    @Test
+    public void testPutOverflowThrows()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(7);
+
+        assertThatThrownBy(() -> PrimitiveArrayAccess.put(buffer, new long[] { 1L }, 0, 1))
+            .isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void testGetUnderflowThrows()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(3);
+
+        assertThatThrownBy(() -> PrimitiveArrayAccess.get(buffer, new short[2], 0, 2))
+            .isInstanceOf(BufferUnderflowException.class);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void testBuffersWriteAndReadSubRanges()
+    {
+        ISerializationBufferConfig bufferConfig =
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(bufferConfig);
+        serializationBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        serializationBuffer.write(new short[] { 1, 2, 3, 4 }, 1, 2);
+        serializationBuffer.write(new char[] { 'a', 'b', 'c' }, 2, 1);
+        serializationBuffer.write(new float[] { 1F, 2F }, 0, 0);
+        serializationBuffer.commitBuffer();
+
+        assertThat(serializationBuffer.getBuffer().remaining()).isEqualTo(3 * Short.BYTES);
+
+        IDeserializationBuffer deserializationBuffer = new DeserializationBuffer(serializationBuffer.getBuffer());
+        deserializationBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        short[] shorts = new short[3];
+        deserializationBuffer.read(shorts, 1, 2);
+        char[] chars = new char[1];
+        deserializationBuffer.read(chars, 0, 1);
+
+        assertThat(shorts).isEqualTo(new short[] { 0, 2, 3 });
+        assertThat(chars).isEqualTo(new char[] { 'c' });
+        assertThatThrownBy(() -> serializationBuffer.write(new int[2], 1, 2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testBulkTransferAllocationDoesNotDependOnLength()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)
+            || !threadMXBean.isThreadAllocatedMemorySupported())
+        {
+            return;
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        long shortArraysAllocated = measureTransferAllocation(threadMXBean, 64);
+        long longArraysAllocated = measureTransferAllocation(threadMXBean, 4096);
+
+        assertThat(longArraysAllocated).isLessThan(shortArraysAllocated + ALLOCATION_TOLERANCE);
+    }
+
+    private static long measureTransferAllocation(com.sun.management.ThreadMXBean threadMXBean, int length)
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length * (Integer.BYTES + Long.BYTES + Double.BYTES))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int[] ints = new int[length];
+        long[] longs = new long[length];
+        double[] doubles = new double[length];
+        transfer(buffer, ints, longs, doubles, WARM_UP_ITERATIONS);
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        transfer(buffer, ints, longs, doubles, MEASURED_ITERATIONS);
+        return threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    }
+
+    private static void transfer(ByteBuffer buffer, int[] ints, long[] longs, double[] doubles, int iterations)
+    {
+        for (int i = 0; i < iterations; ++i)
+        {
+            buffer.clear();
+            PrimitiveArrayAccess.put(buffer, ints, 0, ints.length);
+            PrimitiveArrayAccess.put(buffer, longs, 0, longs.length);
+            PrimitiveArrayAccess.put(buffer, doubles, 0, doubles.length);
+            buffer.flip();
+            PrimitiveArrayAccess.get(buffer, ints, 0, ints.length);
+            PrimitiveArrayAccess.get(buffer, longs, 0, longs.length);
+            PrimitiveArrayAccess.get(buffer, doubles, 0, doubles.length);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link ScatterListSerializationBuffer}.
+ */
+public class ScatterListSerializationBufferTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+
+    private static final int ZERO_COPY_THRESHOLD = 16;
+
+    @Test
+    public void testLargePayloadsAreReferencedAndMessageIsSameAsContiguous()
+    {
+        byte[] largeArray = createPayload(40, 1);
+        ByteBuffer largeBuffer = ByteBuffer.allocateDirect(24);
+        largeBuffer.put(createPayload(24, 100)).flip();
+        Consumer<ISerializationBuffer> writer = buffer -> {
+            buffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+            buffer.writeInt(1);
+            buffer.write(largeArray);
+            buffer.writeShort((short) 2);
+            buffer.write(largeBuffer);
+            buffer.write(new byte[] { 3, 4 });
+            buffer.write(largeArray, 8, ZERO_COPY_THRESHOLD);
+        };
+        byte[] expected = toArray(writeContiguous(writer));
+
+        ScatterListSerializationBuffer buffer =
+            new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), ZERO_COPY_THRESHOLD);
+        writer.accept(buffer);
+        buffer.commitBuffer();
+        ByteBuffer[] parts = buffer.getBuffers();
+
+        assertThat(buffer.getReferencesCount()).isEqualTo(3);
+        assertThat(buffer.getInlineSize()).isEqualTo((long) (Integer.BYTES + Short.BYTES + 2));
+        assertThat(parts.length).isEqualTo(6);
+        assertThat(parts[1].array() == largeArray).isTrue();
+        assertThat(parts[3].isDirect()).isTrue();
+        assertThat(parts[5].arrayOffset() + parts[5].position()).isEqualTo(8);
+        assertThat(largeBuffer.position()).isZero();
+        assertThat(concat(parts)).isEqualTo(expected);
+        assertThat(toArray(buffer.getBuffer())).isEqualTo(expected);
+        buffer.release();
+    }
+
+    @Test
+    public void testPayloadsBelowThresholdAreCopied()
+    {
+        ScatterListSerializationBuffer buffer =
+            new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), ZERO_COPY_THRESHOLD);
+        buffer.write(createPayload(ZERO_COPY_THRESHOLD - 1, 1));
+        buffer.write(ByteBuffer.wrap(createPayload(ZERO_COPY_THRESHOLD - 1, 1)));
+        buffer.commitBuffer();
+
+        assertThat(buffer.getReferencesCount()).isZero();
+        assertThat(buffer.getBuffers().length).isEqualTo(1);
+        assertThat(buffer.getBuffer().remaining()).isEqualTo(2 * (ZERO_COPY_THRESHOLD - 1));
+        buffer.release();
+    }
+
+    @Test
+    public void testWriteCopyIsCopiedAboveThreshold()
+    {
+        ScatterListSerializationBuffer buffer =
+            new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), ZERO_COPY_THRESHOLD);
+        byte[] payload = createPayload(ZERO_COPY_THRESHOLD, 1);
+        buffer.writeCopy(payload, 0, payload.length);
+        Arrays.fill(payload, (byte) 0);
+        buffer.commitBuffer();
+
+        assertThat(buffer.getReferencesCount()).isZero();
+        assertThat(toArray(buffer.getBuffer())).isEqualTo(createPayload(ZERO_COPY_THRESHOLD, 1));
+        buffer.release();
+    }
+
+    @Test
+    public void testReferencedPayloadsOfSegmentedBufferAreInOrder()
+    {
+        Consumer<ISerializationBuffer> writer = buffer -> {
+            buffer.write(createPayload(10, 1));
+            buffer.write(createPayload(ZERO_COPY_THRESHOLD, 50));
+            buffer.write(createPayload(5, 20));
+            buffer.write(createPayload(ZERO_COPY_THRESHOLD, 80));
+        };
+        byte[] expected = toArray(writeContiguous(writer));
+
+        ScatterListSerializationBuffer buffer = new ScatterListSerializationBuffer(
+            new SegmentedSerializationBuffer(BUFFER_CONFIG, new ByteBufferAllocator(), 8), ZERO_COPY_THRESHOLD);
+        writer.accept(buffer);
+        buffer.commitBuffer();
+
+        assertThat(concat(buffer.getBuffers())).isEqualTo(expected);
+        buffer.release();
+    }
+
+    @Test
+    public void testNotPositiveThresholdIsRejected()
+    {
+        assertThatThrownBy(() -> new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteBuffer writeContiguous(Consumer<ISerializationBuffer> writer)
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(BUFFER_CONFIG);
+        writer.accept(buffer);
+        buffer.commitBuffer();
+        return buffer.getBuffer();
+    }
+
+    private static byte[] createPayload(int size, int firstValue)
+    {
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; ++i)
+        {
+            payload[i] = (byte) (firstValue + i);
+        }
+        return payload;
+    }
+
+    private static byte[] concat(ByteBuffer[] parts)
+    {
+        int size = 0;
+        for (ByteBuffer part : parts)
+        {
+            size += part.remaining();
+        }
+        ByteBuffer result = ByteBuffer.allocate(size);
+        for (ByteBuffer part : parts)
+        {
+            result.put(part.duplicate());
+        }
+        return result.array();
+    }
+
+    private static byte[] toArray(ByteBuffer buffer)
+    {
+        byte[] result = new byte[buffer.remaining()];
+        buffer.duplicate().get(result);
+        return result;
+    }
+}
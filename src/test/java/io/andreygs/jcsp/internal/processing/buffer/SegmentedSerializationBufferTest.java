@@ -0,0 +1,152 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit-tests for {@link SegmentedSerializationBuffer}.
+ */
+public class SegmentedSerializationBufferTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.HEAP, (currentCapacity, minimumRequiredSize) -> minimumRequiredSize,
+            0, false);
+
+    private final IByteBufferAllocator allocator = new ByteBufferAllocator();
+
+    @Test
+    public void testCreateWithNotPositiveChunkSize()
+    {
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new SegmentedSerializationBuffer(BUFFER_CONFIG, allocator, 0));
+    }
+
+    @Test
+    public void testPrimitivesAreSplitAcrossChunks()
+    {
+        assertSameAsContiguous(ByteOrder.BIG_ENDIAN, buffer -> {
+            buffer.writeByte((byte) 1);
+            buffer.writeShort((short) 0x0203);
+            buffer.writeInt(0x04050607);
+            buffer.writeLong(0x08090A0B0C0D0E0FL);
+            buffer.writeChar('x');
+            buffer.writeFloat(1.5F);
+            buffer.writeDouble(-2.25D);
+        });
+    }
+
+    @Test
+    public void testPrimitivesAreSplitAcrossChunksInLittleEndian()
+    {
+        assertSameAsContiguous(ByteOrder.LITTLE_ENDIAN, buffer -> {
+            buffer.writeByte((byte) 1);
+            buffer.writeInt(0x04050607);
+            buffer.writeLong(0x08090A0B0C0D0E0FL);
+            buffer.writeShort((short) 0x0203);
+        });
+    }
+
+    @Test
+    public void testArraysAreSplitAcrossChunks()
+    {
+        assertSameAsContiguous(ByteOrder.LITTLE_ENDIAN, buffer -> {
+            buffer.writeByte((byte) 1);
+            buffer.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 });
+            buffer.write(new short[] { 1, 2, 3, 4, 5 });
+            buffer.write(new int[] { 1, 2, 3, 4, 5 });
+            buffer.write(new long[] { 1, 2, 3 });
+            buffer.write(new char[] { 'a', 'b', 'c' });
+            buffer.write(new float[] { 1F, 2F, 3F });
+            buffer.write(new double[] { 1D, 2D, 3D });
+        });
+    }
+
+    @Test
+    public void testGrowthDoesNotCopyWrittenData()
+    {
+        SegmentedSerializationBuffer buffer = new SegmentedSerializationBuffer(BUFFER_CONFIG, allocator, 4);
+        buffer.writeInt(1);
+        ByteBuffer firstChunk = buffer.getBuffers()[0];
+
+        buffer.write(new byte[10]);
+        buffer.commitBuffer();
+
+        assertThat(buffer.getChunksCount()).isEqualTo(4);
+        assertThat(buffer.getBuffers()[0]).isSameAs(firstChunk);
+        assertThat(firstChunk.getInt(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetBufferOfSingleChunkDoesNotCopy()
+    {
+        SegmentedSerializationBuffer buffer = new SegmentedSerializationBuffer(BUFFER_CONFIG, allocator, 16);
+        buffer.writeInt(1);
+        buffer.commitBuffer();
+
+        assertThat(buffer.getBuffer()).isSameAs(buffer.getBuffers()[0]);
+        assertThat(buffer.getBuffer().remaining()).isEqualTo(Integer.BYTES);
+    }
+
+    private void assertSameAsContiguous(ByteOrder byteOrder, Consumer<ISerializationBuffer> writer)
+    {
+        ISerializationBuffer expectedBuffer = new SerializationBuffer(BUFFER_CONFIG);
+        expectedBuffer.applyEndianness(byteOrder);
+        writer.accept(expectedBuffer);
+        expectedBuffer.commitBuffer();
+        byte[] expected = new byte[expectedBuffer.getBuffer().remaining()];
+        expectedBuffer.getBuffer().get(expected);
+
+        for (int chunkSize = 1; chunkSize <= 9; ++chunkSize)
+        {
+            SegmentedSerializationBuffer buffer = new SegmentedSerializationBuffer(BUFFER_CONFIG, allocator, chunkSize);
+            buffer.applyEndianness(byteOrder);
+            writer.accept(buffer);
+            buffer.commitBuffer();
+
+            ByteBuffer gathered = ByteBuffer.allocate(expected.length);
+            for (ByteBuffer chunk : buffer.getBuffers())
+            {
+                gathered.put(chunk.duplicate());
+            }
+            assertThat(gathered.array()).isEqualTo(expected);
+
+            byte[] contiguous = new byte[buffer.getBuffer().remaining()];
+            buffer.getBuffer().duplicate().get(contiguous);
+            assertThat(contiguous).isEqualTo(expected);
+            assertThat(buffer.getBuffer().order()).isEqualTo(byteOrder);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.IBufferResizeStrategy;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.ICspInterfaceVersion;
+import io.andreygs.jcsp.api.protocol.ICspVersionable;
+import io.andreygs.jcsp.internal.processing.CspSerializationWorkflow;
+import io.andreygs.jcsp.internal.processing.buffer.factory.ChannelSerializationBufferFactory;
+import io.andreygs.jcsp.internal.processing.buffer.factory.MappedFileSerializationBufferFactory;
+import io.andreygs.jcsp.internal.protocol.message.config.CspDataMessageConfigExtension;
+import io.andreygs.jcsp.internal.protocol.message.config.CspMessageConfig;
+import io.andreygs.jcsp.internal.protocol.message.context.factory.CspMessageContextFactory;
+import io.andreygs.jcsp.internal.protocol.message.factory.CspMessageFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link SerializationBufferPool}.
+ */
+public class SerializationBufferPoolTest
+{
+    private static final IBufferResizeStrategy FAKE_BUFFER_RESIZE_STRATEGY =
+        (currentCapacity, minimumRequiredSize) -> minimumRequiredSize;
+
+    private final SerializationBufferPool pool = new SerializationBufferPool();
+
+    @Test
+    public void testAllocateRoundsCapacityUpToSizeClass()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(100, AllocationType.HEAP, 1024, false);
+
+        assertThat(pool.allocate(100, bufferConfig).capacity()).isEqualTo(128);
+        assertThat(pool.allocate(0, bufferConfig).capacity()).isEqualTo(64);
+        assertThat(pool.allocate(4096, bufferConfig).capacity()).isEqualTo(4096);
+    }
+
+    @Test
+    public void testAllocateHonoursAllocationType()
+    {
+        assertThat(pool.allocate(10, createConfig(10, AllocationType.HEAP, 0, false)).isDirect()).isFalse();
+        assertThat(pool.allocate(10, createConfig(10, AllocationType.DIRECT, 0, false)).isDirect()).isTrue();
+    }
+
+    @Test
+    public void testReleasedBufferIsReusedFromThreadCache()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(256, AllocationType.HEAP, 256, false);
+        ByteBuffer byteBuffer = pool.allocate(256, bufferConfig);
+        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        byteBuffer.putInt(5);
+
+        pool.release(byteBuffer, bufferConfig);
+        ByteBuffer reusedByteBuffer = pool.allocate(200, bufferConfig);
+
+        assertThat(reusedByteBuffer).isSameAs(byteBuffer);
+        assertThat(reusedByteBuffer.position()).isEqualTo(0);
+        assertThat(reusedByteBuffer.limit()).isEqualTo(256);
+        assertThat(reusedByteBuffer.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+        assertThat(pool.getHitCount()).isEqualTo(1L);
+        assertThat(pool.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testSharedPoolIsBoundedByMaxRetainedBytes()
+    {
+        int capacity = 1024 * 1024;
+        ISerializationBufferConfig bufferConfig = createConfig(capacity, AllocationType.HEAP, capacity, false);
+        ByteBuffer byteBuffer1 = pool.allocate(capacity, bufferConfig);
+        ByteBuffer byteBuffer2 = pool.allocate(capacity, bufferConfig);
+
+        pool.release(byteBuffer1, bufferConfig);
+        pool.release(byteBuffer2, bufferConfig);
+
+        assertThat(pool.getRetainedBytes()).isEqualTo((long) capacity);
+        assertThat(pool.allocate(capacity, bufferConfig)).isSameAs(byteBuffer1);
+        assertThat(pool.getRetainedBytes()).isEqualTo(0L);
+        assertThat(pool.allocate(capacity, bufferConfig)).isNotSameAs(byteBuffer2);
+    }
+
+    @Test
+    public void testThreadCacheIsBoundedByMaxRetainedBytes()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(256, AllocationType.HEAP, 256, false);
+        ByteBuffer byteBuffer1 = pool.allocate(256, bufferConfig);
+        ByteBuffer byteBuffer2 = pool.allocate(256, bufferConfig);
+
+        pool.release(byteBuffer1, bufferConfig);
+        pool.release(byteBuffer2, bufferConfig);
+
+        assertThat(pool.getRetainedBytes()).isEqualTo(256L);
+        assertThat(pool.allocate(256, bufferConfig)).isSameAs(byteBuffer1);
+        assertThat(pool.getRetainedBytes()).isEqualTo(0L);
+        assertThat(pool.allocate(256, bufferConfig)).isNotSameAs(byteBuffer2);
+    }
+
+    @Test
+    public void testShrinkOnReleaseDropsExpandedBuffer()
+    {
+        int capacity = 1024 * 1024;
+        ISerializationBufferConfig bufferConfig = createConfig(256, AllocationType.HEAP, 4L * capacity, true);
+        ByteBuffer byteBuffer = pool.allocate(capacity, bufferConfig);
+
+        pool.release(byteBuffer, bufferConfig);
+
+        assertThat(pool.getRetainedBytes()).isEqualTo(0L);
+        assertThat(pool.allocate(capacity, bufferConfig)).isNotSameAs(byteBuffer);
+    }
+
+    @Test
+    public void testForeignBufferIsNotRetained()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(100, AllocationType.HEAP, 1024, false);
+        ByteBuffer byteBuffer = ByteBuffer.allocate(100);
+
+        pool.release(byteBuffer, bufferConfig);
+
+        assertThat(pool.allocate(100, bufferConfig)).isNotSameAs(byteBuffer);
+    }
+
+    @Test
+    public void testSerializationBufferReleaseAndExpansionReturnBuffersToPool()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(64, AllocationType.HEAP, 1024, false);
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(bufferConfig, pool);
+        ByteBuffer initialByteBuffer = serializationBuffer.getBuffer();
+
+        serializationBuffer.write(new byte[100]);
+        ByteBuffer expandedByteBuffer = serializationBuffer.getBuffer();
+        serializationBuffer.release();
+        serializationBuffer.release();
+
+        assertThat(pool.allocate(64, bufferConfig)).isSameAs(initialByteBuffer);
+        assertThat(pool.allocate(100, bufferConfig)).isSameAs(expandedByteBuffer);
+        assertThat(pool.getLeakCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testFailedSerializationReturnsBufferToPool()
+    {
+        ISerializationBufferConfig bufferConfig = createConfig(64, AllocationType.HEAP, 1024, false);
+        List<ISerializationBuffer> createdBuffers = new ArrayList<>();
+        List<ByteBuffer> writtenByteBuffers = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException();
+        CspSerializationWorkflow workflow = new CspSerializationWorkflow(
+            serializationBufferConfig -> {
+                ISerializationBuffer serializationBuffer = new SerializationBuffer(serializationBufferConfig, pool);
+                createdBuffers.add(serializationBuffer);
+                return serializationBuffer;
+            },
+            new CspMessageContextFactory(),
+            new CspMessageFactory(),
+            (buffer, messageContext, dataMessageContextExtension) -> createFailingDataProcessor(buffer,
+                createdBuffers, writtenByteBuffers, failure),
+            new AdaptiveBufferPolicy(),
+            new ChannelSerializationBufferFactory(new ByteBufferAllocator()),
+            new MappedFileSerializationBufferFactory());
+        ICspInterfaceVersion interfaceVersion = () -> 1;
+
+        assertThatThrownBy(() -> workflow.serializeDataMessage(new TestStruct(), TestStruct.class, bufferConfig,
+            new CspMessageConfig(CspProtocolVersion.CSP_VERSION_2, Collections.emptySet()),
+            new CspDataMessageConfigExtension(interfaceVersion, Collections.emptySet()))).isSameAs(failure);
+        assertThat(writtenByteBuffers).hasSize(1);
+        assertThat(pool.allocate(100, bufferConfig)).isSameAs(writtenByteBuffers.get(0));
+        assertThat(pool.getLeakCount()).isEqualTo(0L);
+    }
+
+    private static ICspDataSerializationProcessor createFailingDataProcessor(ISerializationBuffer buffer,
+        List<ISerializationBuffer> createdBuffers, List<ByteBuffer> writtenByteBuffers, RuntimeException failure)
+    {
+        return (ICspDataSerializationProcessor) Proxy.newProxyInstance(
+            ICspDataSerializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspDataSerializationProcessor.class }, (proxy, method, args) -> {
+                if (method.getName().equals("serialize") && args.length == 2 && args[1] == TestStruct.class)
+                {
+                    buffer.write(new byte[100]);
+                    if (createdBuffers.contains(buffer))
+                    {
+                        writtenByteBuffers.add(buffer.getBuffer());
+                        throw failure;
+                    }
+                }
+                return null;
+            });
+    }
+
+    private ISerializationBufferConfig createConfig(int initialCapacity, AllocationType allocationType,
+        long maxRetainedBytes, boolean shrinkOnRelease)
+    {
+        return new SerializationBufferConfig(initialCapacity, allocationType, FAKE_BUFFER_RESIZE_STRATEGY,
+            maxRetainedBytes, shrinkOnRelease);
+    }
+
+    private static final class TestStruct
+        implements ICspVersionable
+    {
+        @Override
+        public UUID getId()
+        {
+            return new UUID(0, 0);
+        }
+
+        @Override
+        public ICspInterfaceVersion[] getPrivateVersions()
+        {
+            return new ICspInterfaceVersion[0];
+        }
+
+        @Override
+        public ICspInterfaceVersion getInterfaceVersion()
+        {
+            return () -> 1;
+        }
+
+        @Override
+        public String[] getCspFieldNames()
+        {
+            return new String[0];
+        }
+    }
+}
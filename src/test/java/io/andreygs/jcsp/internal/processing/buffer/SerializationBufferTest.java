@@ -76,6 +76,19 @@ public class SerializationBufferTest
         assertThat(buffer.getBuffer().order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
     }
 
+    @Test
+    public void testApplyEndiannessIsKeptOnExpansion()
+    {
+        ISerializationBufferConfig bufferConfig = createCspSerializationBufferConfig(0, AllocationType.HEAP);
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(bufferConfig);
+
+        serializationBuffer.applyEndianness(ByteOrder.LITTLE_ENDIAN);
+        serializationBuffer.writeInt(1);
+
+        assertThat(serializationBuffer.getBuffer().order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+        assertThat(serializationBuffer.getBuffer().get(0)).isEqualTo((byte) 1);
+    }
+
     @Test
     public void testIsDirectBuffer()
     {
@@ -342,6 +355,26 @@ public class SerializationBufferTest
         assertThat(byteBuffer.position()).isEqualTo(0);
     }
 
+    @Test
+    public void testReserveAndUncheckedWrites()
+    {
+        ISerializationBufferConfig bufferConfig = createCspSerializationBufferConfig(0, AllocationType.HEAP);
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(bufferConfig);
+
+        serializationBuffer.reserve(Integer.BYTES + Long.BYTES + Short.BYTES);
+        assertThat(serializationBuffer.getBuffer().remaining()).isEqualTo(Integer.BYTES + Long.BYTES + Short.BYTES);
+
+        serializationBuffer.writeIntUnchecked(7);
+        serializationBuffer.writeLongUnchecked(-3L);
+        serializationBuffer.writeShortUnchecked((short) 12);
+        serializationBuffer.commitBuffer();
+
+        ByteBuffer byteBuffer = serializationBuffer.getBuffer();
+        assertThat(byteBuffer.getInt()).isEqualTo(7);
+        assertThat(byteBuffer.getLong()).isEqualTo(-3L);
+        assertThat(byteBuffer.getShort()).isEqualTo((short) 12);
+    }
+
     private ISerializationBufferConfig createCspSerializationBufferConfig(int initialCapacity, AllocationType allocationType)
     {
         ISerializationBufferConfig bufferConfig = mock(ISerializationBufferConfig.class);
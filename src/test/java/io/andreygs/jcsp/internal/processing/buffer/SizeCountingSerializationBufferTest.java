@@ -0,0 +1,82 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link SizeCountingSerializationBuffer}.
+ */
+public class SizeCountingSerializationBufferTest
+{
+    @Test
+    public void testSizeIsEqualToWrittenSize()
+    {
+        Consumer<ISerializationBuffer> writer = buffer -> {
+            buffer.writeByte((byte) 1);
+            buffer.writeShort((short) 2);
+            buffer.writeInt(3);
+            buffer.writeLong(4L);
+            buffer.writeChar('5');
+            buffer.writeFloat(6F);
+            buffer.writeDouble(7D);
+            buffer.write(new byte[] { 1, 2, 3 });
+            buffer.write(new short[] { 1, 2, 3 });
+            buffer.write(new int[] { 1, 2, 3 });
+            buffer.write(new long[] { 1, 2, 3 });
+            buffer.write(new char[] { 'a', 'b', 'c' });
+            buffer.write(new float[] { 1F, 2F, 3F });
+            buffer.write(new double[] { 1D, 2D, 3D });
+        };
+        ISerializationBuffer serializationBuffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        writer.accept(serializationBuffer);
+        serializationBuffer.commitBuffer();
+
+        SizeCountingSerializationBuffer sizeCountingBuffer = new SizeCountingSerializationBuffer();
+        writer.accept(sizeCountingBuffer);
+
+        assertThat(sizeCountingBuffer.getSize()).isEqualTo(serializationBuffer.getBuffer().remaining());
+        assertThat(sizeCountingBuffer.getBuffer().remaining()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSkipCountsBytes()
+    {
+        SizeCountingSerializationBuffer sizeCountingBuffer = new SizeCountingSerializationBuffer();
+        sizeCountingBuffer.writeInt(1);
+        sizeCountingBuffer.skip(10L);
+
+        assertThat(sizeCountingBuffer.getSize()).isEqualTo(14L);
+        assertThatThrownBy(() -> sizeCountingBuffer.skip(-1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.buffer.MemoryBudgetPolicy;
+import io.andreygs.jcsp.internal.processing.buffer.ArenaBufferSupport;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryBudgetConfig;
+import io.andreygs.jcsp.internal.processing.buffer.MemoryGovernor;
+import io.andreygs.jcsp.internal.processing.buffer.SegmentedSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link BudgetedSerializationBufferFactory}.
+ */
+public class BudgetedSerializationBufferFactoryTest
+{
+    private static final long BUDGET = 1024;
+
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig((int) BUDGET, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+
+    private Path spillDirectory;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        spillDirectory = Files.createTempDirectory("jcsp-");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        try (Stream<Path> files = Files.list(spillDirectory))
+        {
+            for (Path file : files.toList())
+            {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(spillDirectory);
+    }
+
+    private BudgetedSerializationBufferFactory createFactory(MemoryGovernor governor)
+    {
+        return new BudgetedSerializationBufferFactory(new SerializationBufferPool(), governor);
+    }
+
+    @Test
+    public void testSpillsToTemporaryFileWhenBudgetIsExhausted() throws IOException
+    {
+        MemoryGovernor governor = new MemoryGovernor(
+            new MemoryBudgetConfig(BUDGET, MemoryBudgetPolicy.SPILL_TO_FILE, Duration.ZERO, spillDirectory));
+        BudgetedSerializationBufferFactory factory = createFactory(governor);
+
+        ISerializationBuffer inMemory = factory.create(BUFFER_CONFIG);
+        ISerializationBuffer spilled = factory.create(BUFFER_CONFIG);
+
+        assertThat(inMemory).isInstanceOf(SerializationBuffer.class);
+        assertThat(spilled).isInstanceOf(MappedFileSerializationBuffer.class);
+        assertThat(governor.getSpilledCount()).isEqualTo(1);
+
+        spilled.writeInt(42);
+        spilled.commitBuffer();
+        assertThat(spilled.getBuffer().getInt()).isEqualTo(42);
+        spilled.release();
+        inMemory.release();
+
+        assertThat(countFiles()).isZero();
+        assertThat(governor.getReservedBytes()).isZero();
+    }
+
+    @Test
+    public void testFailFastDoesNotSpill()
+    {
+        MemoryGovernor governor = new MemoryGovernor(
+            new MemoryBudgetConfig(BUDGET, MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO, spillDirectory));
+        BudgetedSerializationBufferFactory factory = createFactory(governor);
+        factory.create(BUFFER_CONFIG);
+
+        assertThatThrownBy(() -> factory.create(BUFFER_CONFIG)).isInstanceOf(CspRuntimeException.class);
+        assertThat(governor.getSpilledCount()).isZero();
+    }
+
+    @Test
+    public void testPositiveSegmentSizeCreatesSegmentedBufferWithinBudget()
+    {
+        MemoryGovernor governor = new MemoryGovernor(
+            new MemoryBudgetConfig(BUDGET, MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO, spillDirectory));
+        BudgetedSerializationBufferFactory factory = createFactory(governor);
+        ISerializationBufferConfig bufferConfig = new SerializationBufferConfig(0, AllocationType.HEAP,
+            new DoublingBufferSizeStrategy(), 0, false, 0, 256);
+
+        ISerializationBuffer buffer = factory.create(bufferConfig);
+        buffer.write(new byte[600]);
+        buffer.commitBuffer();
+
+        assertThat(buffer).isInstanceOf(SegmentedSerializationBuffer.class);
+        assertThat(buffer.getBuffers().length).isEqualTo(3);
+        assertThat(governor.getReservedBytes()).isEqualTo(768L);
+        assertThatThrownBy(() -> buffer.write(new byte[512])).isInstanceOf(CspRuntimeException.class);
+        buffer.release();
+        assertThat(governor.getReservedBytes()).isZero();
+    }
+
+    @Test
+    public void testArenaBufferIsWithinBudget()
+    {
+        MemoryGovernor governor = new MemoryGovernor(
+            new MemoryBudgetConfig(BUDGET, MemoryBudgetPolicy.FAIL_FAST, Duration.ZERO, spillDirectory));
+        BudgetedSerializationBufferFactory factory = createFactory(governor);
+        ISerializationBufferConfig bufferConfig = new SerializationBufferConfig(256, AllocationType.ARENA,
+            new DoublingBufferSizeStrategy(), 0, false);
+        if (!ArenaBufferSupport.isSupported())
+        {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> factory.create(bufferConfig));
+            return;
+        }
+
+        ISerializationBuffer buffer = factory.create(bufferConfig);
+        assertThat(buffer.getAllocationType()).isEqualTo(AllocationType.ARENA);
+        assertThat(governor.getReservedBytes()).isEqualTo(256L);
+        buffer.write(new byte[300]);
+        assertThat(governor.getReservedBytes()).isEqualTo(512L);
+        assertThatThrownBy(() -> buffer.write(new byte[600])).isInstanceOf(CspRuntimeException.class);
+        assertThat(governor.getReservedBytes()).isEqualTo(512L);
+        buffer.release();
+        assertThat(governor.getReservedBytes()).isZero();
+    }
+
+    private long countFiles() throws IOException
+    {
+        try (Stream<Path> files = Files.list(spillDirectory))
+        {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.buffer.factory;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.MappedFileSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link MappedFileSerializationBufferFactory}.
+ */
+public class MappedFileSerializationBufferFactoryTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.DIRECT, new DoublingBufferSizeStrategy(), 0, false);
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        file = Files.createTempFile("jcsp-", ".csp");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testCreatedBufferWritesToGivenFile() throws IOException
+    {
+        MappedFileSerializationBuffer buffer = new MappedFileSerializationBufferFactory(16).create(BUFFER_CONFIG, file);
+        buffer.writeLong(1L);
+        buffer.writeLong(2L);
+        buffer.writeInt(3);
+        buffer.commitBuffer();
+        buffer.release();
+
+        assertThat(Files.size(file)).isEqualTo(20L);
+    }
+
+    @Test
+    public void testMaxWindowSizeLessThanLongIsRejected()
+    {
+        assertThatThrownBy(() -> new MappedFileSerializationBufferFactory(Long.BYTES - 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
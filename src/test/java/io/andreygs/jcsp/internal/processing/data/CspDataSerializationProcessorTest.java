@@ -0,0 +1,490 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.data;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.ScatterListSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.SizeCountingSerializationBuffer;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorDescriptor;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import io.andreygs.jcsp.internal.protocol.message.context.CspDataMessageContextExtension;
+import io.andreygs.jcsp.internal.protocol.message.context.CspMessageContext;
+import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit-tests for {@link CspDataSerializationProcessor}.
+ */
+public class CspDataSerializationProcessorTest
+{
+    private static final ISerializationBufferConfig BUFFER_CONFIG =
+        new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false);
+
+    private static final byte[] PAYLOAD = { 1, 2, 3 };
+
+    private static final ICspTypeSerializationProcessor INT_TYPE_PROCESSOR =
+        (value, processor) -> processor.serializeInt((Integer) value);
+
+    private static final ThrowingConsumer<CspRuntimeException> TEST_FOR_POINTER_WHEN_NO_ALLOW_UNMANAGED_POINTERS_SET =
+        e -> assertThat(e.getCspStatus()).isEqualTo(CspStatus.POINTER_WHEN_NO_ALLOW_UNMANAGED_POINTERS_SET);
+
+    @Test
+    public void testSerializeByteArray()
+    {
+        byte[] result = serialize(false, false, processor -> processor.serialize(PAYLOAD));
+
+        assertThat(result).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void testSerializeByteArrayNotFixedSize()
+    {
+        byte[] result = serialize(false, true, processor -> processor.serialize(PAYLOAD, false, false));
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(12).putLong(3).put((byte) 1).put(PAYLOAD).array());
+    }
+
+    @Test
+    public void testSerializeByteArrayReference()
+    {
+        byte[] result = serialize(true, false, processor -> {
+            processor.serialize(PAYLOAD, true, true);
+            processor.serialize((byte[]) null, true, true);
+        });
+
+        assertThat(result).isEqualTo(new byte[] { 1, 1, 2, 3, 0 });
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue" /* Intentional contract nullability violation for test */)
+    public void testSerializeByteArrayNull()
+    {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> serialize(true, false, processor -> processor.serialize((byte[]) null, false, true)));
+    }
+
+    @Test
+    public void testSerializeByteArrayReferenceWithoutAllowUnmanagedPointers()
+    {
+        assertThatExceptionOfType(CspRuntimeException.class)
+            .isThrownBy(() -> serialize(false, false, processor -> processor.serialize(PAYLOAD, true, true)))
+            .satisfies(TEST_FOR_POINTER_WHEN_NO_ALLOW_UNMANAGED_POINTERS_SET);
+    }
+
+    @Test
+    public void testSerializeByteArrayReferenceWithRecursivePointersCheck()
+    {
+        byte[] other = PAYLOAD.clone();
+        byte[] result = serialize(true, false, true, processor -> {
+            processor.serialize(PAYLOAD, true, true);
+            processor.serialize(other, true, true);
+            processor.serialize(PAYLOAD, true, true);
+            processor.serialize((byte[]) null, true, true);
+        });
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(38).putLong(1).put(PAYLOAD).putLong(1).put(other)
+            .putLong(2).putLong(0).array());
+    }
+
+    @Test
+    public void testSerializeBooleanArrayRoundTrip()
+    {
+        boolean[] value = { true, false, true };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        boolean[] read = new boolean[value.length];
+        for (int i = 0; i < read.length; ++i)
+        {
+            read[i] = result.get() != 0;
+        }
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isZero();
+    }
+
+    @Test
+    public void testSerializeShortArrayRoundTrip()
+    {
+        short[] value = { 1, -2, Short.MAX_VALUE };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        assertThat(result.get()).isEqualTo((byte) Short.BYTES);
+        short[] read = new short[value.length];
+        result.asShortBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Short.BYTES);
+    }
+
+    @Test
+    public void testSerializeIntArrayRoundTrip()
+    {
+        int[] value = { 1, -2, Integer.MIN_VALUE };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        assertThat(result.get()).isEqualTo((byte) Integer.BYTES);
+        int[] read = new int[value.length];
+        result.asIntBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Integer.BYTES);
+    }
+
+    @Test
+    public void testSerializeLongArrayRoundTrip()
+    {
+        long[] value = { 1, -2, Long.MAX_VALUE };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        assertThat(result.get()).isEqualTo((byte) Long.BYTES);
+        long[] read = new long[value.length];
+        result.asLongBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Long.BYTES);
+    }
+
+    @Test
+    public void testSerializeCharArrayRoundTrip()
+    {
+        char[] value = { 'a', '\u044f', 'z' };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        char[] read = new char[value.length];
+        result.asCharBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Character.BYTES);
+    }
+
+    @Test
+    public void testSerializeFloatArrayRoundTrip()
+    {
+        float[] value = { 1.5f, -2.25f, Float.MAX_VALUE };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        float[] read = new float[value.length];
+        result.asFloatBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Float.BYTES);
+    }
+
+    @Test
+    public void testSerializeDoubleArrayRoundTrip()
+    {
+        double[] value = { 1.5, -2.25, Double.MIN_VALUE };
+
+        ByteBuffer result = ByteBuffer.wrap(
+            serialize(false, true, processor -> processor.serialize(value, false, false)));
+
+        assertThat(result.getLong()).isEqualTo(value.length);
+        double[] read = new double[value.length];
+        result.asDoubleBuffer().get(read);
+        assertThat(read).isEqualTo(value);
+        assertThat(result.remaining()).isEqualTo(value.length * Double.BYTES);
+    }
+
+    @Test
+    public void testSerializePrimitiveArrayFixedSizeAndReference()
+    {
+        byte[] result = serialize(true, false, processor -> {
+            processor.serialize(new int[] { 7 });
+            processor.serialize(new long[] { 8 }, true, true);
+            processor.serialize((double[]) null, true, false);
+        });
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(14).putInt(7).put((byte) 1).putLong(8).put((byte) 0).array());
+    }
+
+    @Test
+    public void testSerializeByteBufferReference()
+    {
+        ByteBuffer value = ByteBuffer.wrap(PAYLOAD);
+        byte[] result = serialize(true, false, processor -> {
+            processor.serialize(value, true, false);
+            processor.serialize((ByteBuffer) null, true, false);
+        });
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(13).put((byte) 1).putLong(3).put(PAYLOAD).put((byte) 0)
+            .array());
+        assertThat(value.remaining()).isEqualTo(PAYLOAD.length);
+    }
+
+    @Test
+    public void testSerializeByteArrayIsWrittenByReferenceToScatterList()
+    {
+        byte[] payload = new byte[32];
+        ISerializationBuffer buffer = new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), 16);
+        ICspDataSerializationProcessor processor = createProcessor(buffer, false, false, false);
+
+        processor.serialize(payload, false, false);
+        buffer.commitBuffer();
+
+        ByteBuffer[] parts = buffer.getBuffers();
+        assertThat(parts.length).isEqualTo(2);
+        assertThat(parts[0].remaining()).isEqualTo(Long.BYTES);
+        assertThat(parts[1].array()).isSameAs(payload);
+    }
+
+    @Test
+    public void testSerializeStringsAreCopiedFromScratchMemoryToScatterList()
+    {
+        String first = "a".repeat(20);
+        String second = "b".repeat(20);
+        for (Charset charset : new Charset[] { StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+            StandardCharsets.UTF_16BE, StandardCharsets.US_ASCII })
+        {
+            ISerializationBuffer buffer =
+                new ScatterListSerializationBuffer(new SerializationBuffer(BUFFER_CONFIG), 16);
+            ICspDataSerializationProcessor processor = createProcessor(buffer, false, false, false);
+
+            processor.serialize(first, charset);
+            processor.serialize(second, charset);
+            buffer.commitBuffer();
+
+            byte[] expected = ByteBuffer.allocate(2 * Long.BYTES + first.getBytes(charset).length
+                    + second.getBytes(charset).length)
+                .putLong(first.getBytes(charset).length).put(first.getBytes(charset))
+                .putLong(second.getBytes(charset).length).put(second.getBytes(charset)).array();
+            ByteBuffer result = buffer.getBuffer();
+            byte[] bytes = new byte[result.remaining()];
+            result.get(bytes);
+            assertThat(bytes).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testSerializeStringReference()
+    {
+        byte[] result = serialize(true, false, processor -> {
+            processor.serialize("ab", true, StandardCharsets.UTF_8);
+            processor.serialize((String) null, true, StandardCharsets.UTF_8);
+        });
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(12).put((byte) 1).putLong(2).put((byte) 'a')
+            .put((byte) 'b').put((byte) 0).array());
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue" /* Intentional contract nullability violation for test */)
+    public void testSerializeStringArrayNullItem()
+    {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> serialize(false, false,
+            processor -> processor.serialize(new String[] { "a", null }, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSerializeStringArrayItemReferences()
+    {
+        byte[] result = serialize(true, false, processor -> processor.serialize(new String[] { "a", null }, true,
+            true, true, StandardCharsets.UTF_8));
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(12).put((byte) 1).put((byte) 1).putLong(1)
+            .put((byte) 'a').put((byte) 0).array());
+    }
+
+    @Test
+    public void testSerializeStringCollectionReferenceWithRecursivePointersCheck()
+    {
+        String item = "ab";
+        List<String> value = Arrays.asList(item, item, null);
+        Consumer<ICspDataSerializationProcessor> writer =
+            processor -> processor.serialize(value, true, true, StandardCharsets.UTF_8);
+
+        byte[] result = serialize(true, false, true, writer);
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(50).putLong(1).putLong(3).putLong(1).putLong(2)
+            .put((byte) 'a').put((byte) 'b').putLong(3).putLong(0).array());
+        SizeCountingSerializationBuffer sizeCountingBuffer = new SizeCountingSerializationBuffer();
+        writer.accept(createProcessor(sizeCountingBuffer, true, false, true));
+        assertThat(sizeCountingBuffer.getSize()).isEqualTo(result.length);
+    }
+
+    @Test
+    public void testSerializeStringMapKeyReferences()
+    {
+        Map<String, String> value = Collections.singletonMap("k", "v");
+
+        byte[] result = serialize(true, false, processor -> processor.serialize(value, false, true,
+            StandardCharsets.UTF_8, false, StandardCharsets.UTF_8));
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(27).putLong(1).put((byte) 1).putLong(1).put((byte) 'k')
+            .putLong(1).put((byte) 'v').array());
+    }
+
+    @Test
+    public void testSerializeObjectArrayByItemTypeProcessor()
+    {
+        Object[] value = { 1, 2 };
+
+        byte[] result = serialize(false, false,
+            processor -> ((ICspExtendedDataSerializationProcessor) processor).serialize(value, false, false,
+                INT_TYPE_PROCESSOR));
+        byte[] fixedSizeResult = serialize(false, false,
+            processor -> ((ICspExtendedDataSerializationProcessor) processor).serialize(value, false, true,
+                INT_TYPE_PROCESSOR));
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(16).putLong(2).putInt(1).putInt(2).array());
+        assertThat(fixedSizeResult).isEqualTo(ByteBuffer.allocate(8).putInt(1).putInt(2).array());
+    }
+
+    @Test
+    public void testSerializeCollectionAndMapByTypeProcessors()
+    {
+        List<Object> collection = List.of(3);
+        Map<Object, Object> map = Collections.singletonMap(4, 5);
+
+        byte[] result = serialize(true, false, processor -> {
+            ((ICspExtendedDataSerializationProcessor) processor).serialize(collection, false, INT_TYPE_PROCESSOR);
+            ((ICspExtendedDataSerializationProcessor) processor).serialize(map, true, INT_TYPE_PROCESSOR,
+                (value, dataProcessor) -> dataProcessor.serializeLong((Integer) value));
+        });
+
+        assertThat(result).isEqualTo(ByteBuffer.allocate(33).putLong(1).putInt(3).put((byte) 1).putLong(1)
+            .putLong(4).putInt(5).array());
+    }
+
+    @Test
+    public void testSerializeObjectByClassProcessor()
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(BUFFER_CONFIG);
+        ICspExtendedDataSerializationProcessor processor = new CspDataSerializationProcessor(buffer,
+            clazz -> new CspClassProcessorDescriptor<>(
+                (value, dataProcessor) -> dataProcessor.serializeInt((Integer) value), Map.of()),
+            annotatedType -> {
+                throw new UnsupportedOperationException();
+            },
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, false, true, false, false, false));
+
+        processor.serialize(6, Integer.class);
+        processor.serialize(7, true, name -> INT_TYPE_PROCESSOR);
+        processor.serialize(null, true, Integer.class);
+
+        buffer.commitBuffer();
+        assertThat(buffer.getBuffer()).isEqualTo(ByteBuffer.allocate(10).putInt(6).put((byte) 1).putInt(7)
+            .put((byte) 0).flip());
+    }
+
+    @Test
+    public void testUncheckedPrimitivesMatchChecked()
+    {
+        byte[] checked = serialize(false, true, processor -> {
+            processor.serialize(true);
+            processor.serializeByte((byte) 1);
+            processor.serializeShort((short) 2);
+            processor.serializeInt(3);
+            processor.serializeLong(4);
+            processor.serializeChar('5');
+            processor.serializeFloat(6);
+            processor.serializeDouble(7);
+        });
+        byte[] unchecked = serialize(false, true, processor -> {
+            ICspExtendedDataSerializationProcessor extendedProcessor =
+                (ICspExtendedDataSerializationProcessor) processor;
+            extendedProcessor.reserveFixedSize(30, 34);
+            extendedProcessor.serializeUnchecked(true);
+            extendedProcessor.serializeByteUnchecked((byte) 1);
+            extendedProcessor.serializeShortUnchecked((short) 2);
+            extendedProcessor.serializeIntUnchecked(3);
+            extendedProcessor.serializeLongUnchecked(4);
+            extendedProcessor.serializeCharUnchecked('5');
+            extendedProcessor.serializeFloatUnchecked(6);
+            extendedProcessor.serializeDoubleUnchecked(7);
+        });
+
+        assertThat(checked).hasSize(34);
+        assertThat(unchecked).isEqualTo(checked);
+    }
+
+    private static byte[] serialize(boolean allowUnmanagedPointers, boolean sizeOfIntegersMayBeNotEqual,
+        Consumer<ICspDataSerializationProcessor> writer)
+    {
+        return serialize(allowUnmanagedPointers, sizeOfIntegersMayBeNotEqual, false, writer);
+    }
+
+    private static byte[] serialize(boolean allowUnmanagedPointers, boolean sizeOfIntegersMayBeNotEqual,
+        boolean checkRecursivePointers, Consumer<ICspDataSerializationProcessor> writer)
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(BUFFER_CONFIG);
+        writer.accept(
+            createProcessor(buffer, allowUnmanagedPointers, sizeOfIntegersMayBeNotEqual, checkRecursivePointers));
+        buffer.commitBuffer();
+        ByteBuffer result = buffer.getBuffer();
+        byte[] bytes = new byte[result.remaining()];
+        result.get(bytes);
+        return bytes;
+    }
+
+    private static ICspDataSerializationProcessor createProcessor(ISerializationBuffer buffer,
+        boolean allowUnmanagedPointers, boolean sizeOfIntegersMayBeNotEqual, boolean checkRecursivePointers)
+    {
+        return new CspDataSerializationProcessor(buffer,
+            clazz -> {
+                throw new UnsupportedOperationException();
+            },
+            annotatedType -> {
+                throw new UnsupportedOperationException();
+            },
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, sizeOfIntegersMayBeNotEqual,
+                allowUnmanagedPointers, checkRecursivePointers, false, false));
+    }
+}
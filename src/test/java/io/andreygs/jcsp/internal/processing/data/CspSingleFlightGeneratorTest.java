@@ -0,0 +1,163 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.data;
+
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link CspSingleFlightGenerator}.
+ */
+public class CspSingleFlightGeneratorTest
+{
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    public void testGenerateConcurrentlyGeneratesOnce() throws Exception
+    {
+        CspSingleFlightGenerator<String, Object> generator = new CspSingleFlightGenerator<>(null);
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try
+        {
+            List<Future<Object>> results = new ArrayList<>();
+            results.add(executor.submit(() -> generator.generate("key", key ->
+            {
+                generations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return value;
+            })));
+            await(started);
+            for (int i = 1; i < THREAD_COUNT; ++i)
+            {
+                results.add(executor.submit(() -> generator.generate("key", key ->
+                {
+                    generations.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Object> result : results)
+            {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(value);
+            }
+            assertThat(generations.get()).isEqualTo(1);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGenerateRethrowsInJoinedThreads() throws Exception
+    {
+        CspSingleFlightGenerator<String, Object> generator = new CspSingleFlightGenerator<>(null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            Future<Object> owner = executor.submit(() -> generator.generate("key", key ->
+            {
+                started.countDown();
+                await(release);
+                throw new IllegalArgumentException("owner");
+            }));
+            await(started);
+            Future<Object> joined = executor.submit(() -> generator.generate("key", key -> new Object()));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThatThrownBy(() -> owner.get(10, TimeUnit.SECONDS)).hasMessageContaining("owner");
+            assertThatThrownBy(() -> joined.get(10, TimeUnit.SECONDS)).hasMessageContaining("owner");
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGenerateRecursiveReturnsPlaceholder()
+    {
+        CspSingleFlightGenerator<String, Supplier<String>> generator =
+            new CspSingleFlightGenerator<>(value -> () -> value.get().get());
+        List<Supplier<String>> placeholders = new ArrayList<>();
+
+        Supplier<String> generated = generator.generate("key", key ->
+        {
+            Supplier<String> placeholder = generator.generate(key, recursiveKey -> () -> "unexpected");
+            placeholders.add(placeholder);
+            assertThatThrownBy(placeholder::get).isInstanceOf(CspRuntimeException.class);
+            return () -> "generated";
+        });
+
+        assertThat(generated.get()).isEqualTo("generated");
+        assertThat(placeholders.get(0).get()).isEqualTo("generated");
+    }
+
+    @Test
+    public void testGenerateRecursiveWithoutPlaceholderFactoryThrows()
+    {
+        CspSingleFlightGenerator<String, Object> generator = new CspSingleFlightGenerator<>(null);
+
+        assertThatThrownBy(() -> generator.generate("key", key -> generator.generate(key, recursiveKey -> "value")))
+            .isInstanceOf(CspRuntimeException.class);
+        assertThat(generator.generate("key", key -> "value")).isEqualTo("value");
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
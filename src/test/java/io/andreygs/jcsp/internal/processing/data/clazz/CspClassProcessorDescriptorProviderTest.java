@@ -0,0 +1,248 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorDescriptorGeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspClassProcessorDescriptorProvider}.
+ */
+public class CspClassProcessorDescriptorProviderTest
+{
+    private final ICspClassProcessorRegistry<Object> registry =
+        new CspClassProcessorRegistry<>(new CspClassProcessorDescriptorGeneratorFactory().create());
+    private final Object interpreterProcessor = new Object();
+    private final Object optimizedProcessor = new Object();
+    private final AtomicInteger interpreterGenerations = new AtomicInteger();
+    private final AtomicInteger optimizedGenerations = new AtomicInteger();
+    private final ICspClassProcessorGenerator<Object> interpreterGenerator = clazz ->
+    {
+        interpreterGenerations.incrementAndGet();
+        return interpreterProcessor;
+    };
+    private final ICspClassProcessorGenerator<Object> optimizedGenerator = clazz ->
+    {
+        optimizedGenerations.incrementAndGet();
+        return optimizedProcessor;
+    };
+
+    @Test
+    public void testProvideWithoutTiering()
+    {
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, optimizedGenerator);
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(optimizedGenerations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testProvideSwapsToOptimizedTierAfterThreshold()
+    {
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(2, false));
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, optimizedGenerator, tiering);
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(interpreterProcessor);
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(interpreterProcessor);
+        assertThat(tiering.getInterpretedCount()).isEqualTo(1L);
+        assertThat(tiering.getCompiledCount()).isZero();
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(interpreterProcessor);
+        assertThat(tiering.getCompiledCount()).isEqualTo(1L);
+        assertThat(tiering.getPendingCompilationCount()).isZero();
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(interpreterGenerations.get()).isEqualTo(1);
+        assertThat(optimizedGenerations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testProvideZeroThresholdSkipsInterpreterTier()
+    {
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(0, false));
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, optimizedGenerator, tiering);
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(interpreterGenerations.get()).isZero();
+        assertThat(tiering.getInterpretedCount()).isZero();
+    }
+
+    @Test
+    public void testProvideCompilesInBackground()
+    {
+        List<Runnable> tasks = new ArrayList<>();
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(1, true), tasks::add);
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, optimizedGenerator, tiering);
+
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+        assertThat(tasks.size()).isEqualTo(1);
+        assertThat(tiering.getPendingCompilationCount()).isEqualTo(1L);
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(interpreterProcessor);
+
+        tasks.get(0).run();
+        assertThat(tiering.getPendingCompilationCount()).isZero();
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+    }
+
+    @Test
+    public void testProvideKeepsExplicitlyRegisteredProcessor()
+    {
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(1, false));
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, optimizedGenerator, tiering);
+        Object explicitProcessor = new Object();
+
+        provider.provide(TestClass.class);
+        registry.register(TestClass.class, explicitProcessor);
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(explicitProcessor);
+        assertThat(optimizedGenerations.get()).isZero();
+    }
+
+    @Test
+    public void testProvideDiscardsCompilationOfReplacedProcessor()
+    {
+        List<Runnable> tasks = new ArrayList<>();
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(1, true), tasks::add);
+        CspClassProcessorDescriptorProvider<Object> provider =
+            new CspClassProcessorDescriptorProvider<>(registry, interpreterGenerator, optimizedGenerator, tiering);
+        Object explicitProcessor = new Object();
+
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+        registry.register(TestClass.class, explicitProcessor);
+        tasks.get(0).run();
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(explicitProcessor);
+        assertThat(tiering.getCompiledCount()).isZero();
+        assertThat(tiering.getDiscardedCompilationCount()).isEqualTo(1L);
+        assertThat(tiering.getPendingCompilationCount()).isZero();
+    }
+
+    @Test
+    public void testProvideFailedCompilationStaysInterpreted()
+    {
+        CspClassProcessorTiering tiering =
+            new CspClassProcessorTiering(new CspClassProcessorTieringConfig(1, false));
+        CspClassProcessorDescriptorProvider<Object> provider = new CspClassProcessorDescriptorProvider<>(registry,
+            interpreterGenerator, clazz -> { throw new IllegalStateException(); }, tiering);
+
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+        provider.provide(TestClass.class);
+
+        assertThat(provider.provide(TestClass.class).getClassProcessor()).isSameAs(interpreterProcessor);
+        assertThat(tiering.getFailedCompilationCount()).isEqualTo(1L);
+        assertThat(tiering.getCompiledCount()).isZero();
+        assertThat(tiering.getDiscardedCompilationCount()).isZero();
+    }
+
+    @Test
+    public void testProvideConcurrentlyGeneratesOnce() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        CspClassProcessorDescriptorProvider<Object> provider = new CspClassProcessorDescriptorProvider<>(registry,
+            clazz ->
+            {
+                optimizedGenerations.incrementAndGet();
+                while (release.getCount() > 0)
+                {
+                    Thread.onSpinWait();
+                }
+                return optimizedProcessor;
+            });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<ICspClassProcessorDescriptor<Object>>> descriptors = new ArrayList<>();
+            for (int i = 0; i < 4; ++i)
+            {
+                descriptors.add(executor.submit(() -> provider.provide(TestClass.class)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<ICspClassProcessorDescriptor<Object>> descriptor : descriptors)
+            {
+                assertThat(descriptor.get(10, TimeUnit.SECONDS).getClassProcessor()).isSameAs(optimizedProcessor);
+            }
+            assertThat(optimizedGenerations.get()).isEqualTo(1);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testProvideRecursiveStructGetsPlaceholder()
+    {
+        AtomicReference<CspClassProcessorDescriptorProvider<Object>> provider = new AtomicReference<>();
+        List<ICspClassProcessorDescriptor<Object>> placeholders = new ArrayList<>();
+        provider.set(new CspClassProcessorDescriptorProvider<>(registry, clazz ->
+        {
+            optimizedGenerations.incrementAndGet();
+            placeholders.add(provider.get().provide(clazz));
+            return optimizedProcessor;
+        }));
+
+        assertThat(provider.get().provide(TestClass.class).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(placeholders.get(0).getClassProcessor()).isSameAs(optimizedProcessor);
+        assertThat(optimizedGenerations.get()).isEqualTo(1);
+    }
+
+    private static class TestClass
+    {
+    }
+}
@@ -25,6 +25,8 @@
 
 package io.andreygs.jcsp.internal.processing.data.clazz;
 
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassProcessorIndex;
 import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +35,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,6 +78,32 @@ public class CspClassProcessorRegistryTest
         assertThat(registry.findClassProcessorDescriptor(TestClass.class)).contains(classProcessorDescriptor);
     }
 
+    @Test
+    public void testRegisterIndexed()
+    {
+        ICspClassProcessorIndex index = new ICspClassProcessorIndex()
+        {
+            @Override
+            public Map<Class<?>, ICspClassSerializationProcessor<?>> getSerializationProcessors()
+            {
+                return Map.of(TestClass.class, classProcessor);
+            }
+
+            @Override
+            public Map<Class<?>, ICspClassDeserializationProcessor<?>> getDeserializationProcessors()
+            {
+                return Map.of();
+            }
+        };
+
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestClass.class))
+            .thenReturn(classProcessorDescriptor);
+        registry.registerIndexed(List.of(index), ICspClassProcessorIndex::getSerializationProcessors);
+
+        assertThat(registry.findClassProcessorDescriptor(TestClass.class)).contains(classProcessorDescriptor);
+    }
+
     @Test
     @SuppressWarnings("DataFlowIssue" /* Intentional contract nullability violation for test */)
     public void testRegisterNullClassProcessor()
@@ -143,7 +172,59 @@ public class CspClassProcessorRegistryTest
         assertThatNullPointerException().isThrownBy(() -> registry.unregister(null));
     }
 
+    @Test
+    public void testRegisterGeneratedIsNotExplicit()
+    {
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestClass.class))
+            .thenReturn(classProcessorDescriptor);
+
+        registry.registerGenerated(TestClass.class, classProcessor);
+        assertThat(registry.findClassProcessorDescriptor(TestClass.class)).contains(classProcessorDescriptor);
+        assertThat(registry.hasExplicitClassProcessor(TestClass.class)).isFalse();
+
+        registry.register(TestClass.class, classProcessor);
+        assertThat(registry.hasExplicitClassProcessor(TestClass.class)).isTrue();
+    }
+
+    @Test
+    public void testRegisterUnregistersGeneratedProcessorsOfSubclasses()
+    {
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestClass.class))
+            .thenReturn(classProcessorDescriptor);
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestSubclass.class))
+            .thenReturn(classProcessorDescriptor);
+
+        registry.registerGenerated(TestSubclass.class, classProcessor);
+        registry.register(TestClass.class, classProcessor);
+
+        assertThat(registry.findClassProcessorDescriptor(TestSubclass.class)).isEmpty();
+        assertThat(registry.findClassProcessorDescriptor(TestClass.class)).contains(classProcessorDescriptor);
+    }
+
+    @Test
+    public void testRegisterKeepsExplicitProcessorsOfSubclasses()
+    {
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestClass.class))
+            .thenReturn(classProcessorDescriptor);
+        when(cspClassProcessorDescriptorGenerator.<ICspClassSerializationProcessor<?>>
+            generate(classProcessor, TestSubclass.class))
+            .thenReturn(classProcessorDescriptor);
+
+        registry.register(TestSubclass.class, classProcessor);
+        registry.register(TestClass.class, classProcessor);
+
+        assertThat(registry.findClassProcessorDescriptor(TestSubclass.class)).contains(classProcessorDescriptor);
+    }
+
     private static class TestClass
     {
     }
+
+    private static class TestSubclass extends TestClass
+    {
+    }
 }
@@ -0,0 +1,226 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspReference;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.api.protocol.CspStatus;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.data.CspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassSerializationProcessorGeneratorFactory;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import io.andreygs.jcsp.internal.protocol.message.context.CspDataMessageContextExtension;
+import io.andreygs.jcsp.internal.protocol.message.context.CspMessageContext;
+import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit-tests for {@link CspClassSerializationProcessorGenerator}.
+ */
+public class CspClassSerializationProcessorGeneratorTest
+{
+    private static final ICspTypeProcessorProvider<ICspTypeSerializationProcessor> TYPE_PROCESSOR_PROVIDER =
+        annotatedType -> {
+            throw new UnsupportedOperationException();
+        };
+    private static final ThrowingConsumer<CspRuntimeException> TEST_FOR_ERROR_IN_STRUCT_FORMAT =
+        e -> assertThat(e.getCspStatus()).isEqualTo(CspStatus.ERROR_IN_STRUCT_FORMAT);
+
+    private final ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> registry =
+        new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+    private final CspClassSerializationProcessorGeneratorFactory generatorFactory =
+        new CspClassSerializationProcessorGeneratorFactory();
+    private final ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> interpreter =
+        generatorFactory.createInterpreter(registry, TYPE_PROCESSOR_PROVIDER);
+    private final ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> optimizer =
+        generatorFactory.create(registry, TYPE_PROCESSOR_PROVIDER);
+
+    @Test
+    public void testSerializeIsEqualBeforeAndAfterTierUp()
+    {
+        for (boolean sizeOfIntegersMayBeNotEqual : new boolean[] { false, true })
+        {
+            ByteBuffer interpreted = serialize(interpreter, sizeOfIntegersMayBeNotEqual,
+                dataProcessor -> dataProcessor.serialize(new TextStruct(), false, TextStruct.class));
+            ByteBuffer optimized = serialize(optimizer, sizeOfIntegersMayBeNotEqual,
+                dataProcessor -> dataProcessor.serialize(new TextStruct(), false, TextStruct.class));
+
+            assertThat(optimizer.generate(TextStruct.class).getClass())
+                .isNotEqualTo(interpreter.generate(TextStruct.class).getClass());
+            assertThat(interpreted).isEqualTo(optimized);
+            assertThat(interpreted.remaining())
+                .isEqualTo(Integer.BYTES + Long.BYTES + 2 + Long.BYTES + (sizeOfIntegersMayBeNotEqual ? 2 : 0));
+        }
+    }
+
+    @Test
+    public void testSerializeNonPrimitiveFields()
+    {
+        ByteBuffer generated = serialize(interpreter, true,
+            dataProcessor -> dataProcessor.serialize(new MixedStruct(), false, MixedStruct.class));
+        ByteBuffer expected = serialize(interpreter, true, dataProcessor -> {
+            dataProcessor.serializeInt(3);
+            dataProcessor.serialize("ab", false, StandardCharsets.UTF_8);
+            dataProcessor.serializeLong(-1);
+            dataProcessor.serialize(ByteBuffer.wrap(new byte[] { 5, 6 }), false, true);
+            dataProcessor.serialize(new int[] { 1, 2 }, false, false);
+            dataProcessor.serialize(new boolean[] { true }, false, true);
+            dataProcessor.serialize((double[]) null, true, false);
+            dataProcessor.serialize(new String[] { "x", null }, false, false, true, StandardCharsets.UTF_16LE);
+            dataProcessor.serialize(List.of("y"), false, false, StandardCharsets.UTF_8);
+            dataProcessor.serialize(Map.of("k", "v"), false, false, StandardCharsets.UTF_8, false,
+                StandardCharsets.UTF_8);
+            dataProcessor.serialize(new TextStruct(), true, TextStruct.class);
+        });
+
+        assertThat(generated).isEqualTo(expected);
+    }
+
+    @Test
+    public void testOptimizerFallsBackToInterpreter()
+    {
+        ByteBuffer generated = serialize(optimizer, false,
+            dataProcessor -> dataProcessor.serialize(new StringArrayStruct(), false, StringArrayStruct.class));
+        ByteBuffer expected = serialize(optimizer, false, dataProcessor -> {
+            dataProcessor.serialize("text", false, StandardCharsets.UTF_8);
+            dataProcessor.serialize(new long[] { 7 }, false, false);
+        });
+
+        assertThat(optimizer.generate(StringArrayStruct.class).getClass())
+            .isEqualTo(interpreter.generate(StringArrayStruct.class).getClass());
+        assertThat(generated).isEqualTo(expected);
+        assertThat(generated.remaining()).isEqualTo(Long.BYTES + 4 + Long.BYTES + Long.BYTES);
+        assertThatExceptionOfType(CspRuntimeException.class)
+            .isThrownBy(() -> optimizer.generate(IntegerListStruct.class))
+            .withMessageContaining(IntegerListStruct.class.getName() + ".listField")
+            .satisfies(TEST_FOR_ERROR_IN_STRUCT_FORMAT);
+    }
+
+    @Test
+    public void testGenerateWithUnsupportedField()
+    {
+        assertThatExceptionOfType(CspRuntimeException.class)
+            .isThrownBy(() -> interpreter.generate(NoCharsetStringStruct.class))
+            .withMessageContaining(NoCharsetStringStruct.class.getName() + ".stringField")
+            .satisfies(TEST_FOR_ERROR_IN_STRUCT_FORMAT);
+        assertThatExceptionOfType(CspRuntimeException.class)
+            .isThrownBy(() -> interpreter.generate(IntegerListStruct.class))
+            .withMessageContaining(IntegerListStruct.class.getName() + ".listField")
+            .satisfies(TEST_FOR_ERROR_IN_STRUCT_FORMAT);
+    }
+
+    private ByteBuffer serialize(ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> generator,
+        boolean sizeOfIntegersMayBeNotEqual, Consumer<ICspDataSerializationProcessor> writer)
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        writer.accept(new CspDataSerializationProcessor(buffer,
+            clazz -> new CspClassProcessorDescriptor<>(generator.generate(clazz), Map.of()),
+            TYPE_PROCESSOR_PROVIDER,
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, sizeOfIntegersMayBeNotEqual, true,
+                false, false, false)));
+        buffer.commitBuffer();
+        return buffer.getBuffer();
+    }
+
+    @CspCreateProcessor
+    static class TextStruct
+    {
+        @CspField(0)
+        int intField = 3;
+        @CspField(1)
+        @CspString("UTF-8") String stringField = "ab";
+        @CspField(2)
+        long longField = -1;
+    }
+
+    @CspCreateProcessor
+    static class MixedStruct extends TextStruct
+    {
+        @CspField(0)
+        @CspFixedSizeArray(2) ByteBuffer bufferField = ByteBuffer.wrap(new byte[] { 5, 6 });
+        @CspField(1)
+        int[] intArrayField = { 1, 2 };
+        @CspField(2)
+        boolean @CspFixedSizeArray(1) [] booleanArrayField = { true };
+        @CspField(3)
+        double @CspReference [] doubleArrayField = null;
+        @CspField(4)
+        @CspString("UTF-16LE") @CspReference String[] stringArrayField = { "x", null };
+        @CspField(5)
+        List<@CspString("UTF-8") String> stringListField = List.of("y");
+        @CspField(6)
+        Map<@CspString("UTF-8") String, @CspString("UTF-8") String> stringMapField = Map.of("k", "v");
+        @CspField(7)
+        @CspReference TextStruct structField = new TextStruct();
+    }
+
+    @CspCreateProcessor
+    static class StringArrayStruct
+    {
+        @CspField(0)
+        @CspString("UTF-8") String stringField = "text";
+        @CspField(1)
+        long[] longArrayField = { 7 };
+    }
+
+    @CspCreateProcessor
+    static class NoCharsetStringStruct
+    {
+        @CspField(0)
+        String stringField = "";
+    }
+
+    @CspCreateProcessor
+    static class IntegerListStruct
+    {
+        @CspField(0)
+        List<Integer> listField = List.of();
+    }
+}
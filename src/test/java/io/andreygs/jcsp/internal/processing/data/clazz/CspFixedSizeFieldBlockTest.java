@@ -0,0 +1,147 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SizeCountingSerializationBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-tests for {@link CspFixedSizeFieldBlock}.
+ */
+public class CspFixedSizeFieldBlockTest
+{
+    @Test
+    public void testGetSize() throws NoSuchFieldException
+    {
+        CspFixedSizeFieldBlock fieldBlock = new CspFixedSizeFieldBlock(getFields());
+
+        assertThat(fieldBlock.getFieldCount()).isEqualTo(4);
+        assertThat(fieldBlock.getSize(false)).isEqualTo(Integer.BYTES + Long.BYTES + 1 + Character.BYTES);
+        assertThat(fieldBlock.getSize(true)).isEqualTo(Integer.BYTES + Long.BYTES + 1 + Character.BYTES + 2);
+    }
+
+    @Test
+    public void testWriteMatchesSize() throws NoSuchFieldException
+    {
+        CspFixedSizeFieldBlock fieldBlock = new CspFixedSizeFieldBlock(getFields());
+
+        for (boolean sizeOfIntegersMayBeNotEqual : new boolean[] { false, true })
+        {
+            SizeCountingSerializationBuffer buffer = new SizeCountingSerializationBuffer();
+            fieldBlock.write(new Struct(), buffer, sizeOfIntegersMayBeNotEqual);
+            assertThat(buffer.getSize()).isEqualTo((long) fieldBlock.getSize(sizeOfIntegersMayBeNotEqual));
+        }
+    }
+
+    @Test
+    public void testWriteValues() throws NoSuchFieldException
+    {
+        CspFixedSizeFieldBlock fieldBlock = new CspFixedSizeFieldBlock(getFields());
+        ISerializationBufferConfig bufferConfig = mock(ISerializationBufferConfig.class);
+        when(bufferConfig.getInitialCapacity()).thenReturn(0);
+        when(bufferConfig.getAllocationType()).thenReturn(AllocationType.HEAP);
+        when(bufferConfig.getResizeStrategy())
+            .thenReturn((currentCapacity, minimumRequiredSize) -> minimumRequiredSize);
+        ISerializationBuffer buffer = new SerializationBuffer(bufferConfig);
+
+        buffer.reserve(fieldBlock.getSize(true));
+        fieldBlock.write(new Struct(), buffer, true);
+        buffer.commitBuffer();
+        ByteBuffer byteBuffer = buffer.getBuffer();
+
+        assertThat(byteBuffer.get()).isEqualTo((byte) Integer.BYTES);
+        assertThat(byteBuffer.getInt()).isEqualTo(3);
+        assertThat(byteBuffer.get()).isEqualTo((byte) Long.BYTES);
+        assertThat(byteBuffer.getLong()).isEqualTo(-9L);
+        assertThat(byteBuffer.get()).isEqualTo((byte) 1);
+        assertThat(byteBuffer.getChar()).isEqualTo('z');
+        assertThat(byteBuffer.remaining()).isZero();
+    }
+
+    @Test
+    public void testNonPrimitiveFieldIsRejected() throws NoSuchFieldException
+    {
+        Field field = Struct.class.getDeclaredField("name");
+
+        assertThatThrownBy(() -> new CspFixedSizeFieldBlock(List.of(field)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("name");
+        assertThatThrownBy(() -> new CspFixedSizeFieldBlock(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testGetEncodedSize()
+    {
+        assertThat(CspFixedSizeFieldBlock.getEncodedSize(long.class, false)).isEqualTo(Long.BYTES);
+        assertThat(CspFixedSizeFieldBlock.getEncodedSize(long.class, true)).isEqualTo(Long.BYTES + 1);
+        assertThat(CspFixedSizeFieldBlock.getEncodedSize(double.class, true)).isEqualTo(Double.BYTES);
+        assertThat(CspFixedSizeFieldBlock.getEncodedSize(boolean.class, true)).isEqualTo(1);
+        assertThatThrownBy(() -> CspFixedSizeFieldBlock.getEncodedSize(Object.class, false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInaccessibleFieldIsRejected() throws NoSuchFieldException
+    {
+        Field field = Struct.class.getDeclaredField("i");
+
+        assertThatThrownBy(() -> new CspFixedSizeFieldBlock(List.of(field)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("i");
+    }
+
+    private static List<Field> getFields() throws NoSuchFieldException
+    {
+        List<Field> fields = List.of(Struct.class.getDeclaredField("i"), Struct.class.getDeclaredField("l"),
+            Struct.class.getDeclaredField("b"), Struct.class.getDeclaredField("c"));
+        fields.forEach(field -> field.setAccessible(true));
+        return fields;
+    }
+
+    private static class Struct
+    {
+        private int i = 3;
+        private long l = -9L;
+        private boolean b = true;
+        private char c = 'z';
+        private String name = "";
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspReference;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.buffer.ISerializationBufferConfig;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.data.ICspExtendedDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-tests for {@link CspOpcodeClassSerializationProcessorGenerator}.
+ */
+public class CspOpcodeClassSerializationProcessorGeneratorTest
+{
+    private static final ICspClassSerializationProcessor<?> FALLBACK_PROCESSOR = (value, dataProcessor) -> {};
+    private static final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[] { 1, 2 });
+
+    private final ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> registry =
+        new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+    private final CspOpcodeClassSerializationProcessorGenerator generator =
+        new CspOpcodeClassSerializationProcessorGenerator(registry, structClazz -> FALLBACK_PROCESSOR);
+
+    @Test
+    public void testGenerateWritesPrimitiveFields()
+    {
+        ISerializationBuffer buffer = createBuffer();
+
+        serialize(generator.generate(PrimitiveStruct.class), new PrimitiveStruct(), buffer, true, new ArrayList<>());
+        buffer.commitBuffer();
+        ByteBuffer byteBuffer = buffer.getBuffer();
+
+        assertThat(byteBuffer.get()).isEqualTo((byte) Long.BYTES);
+        assertThat(byteBuffer.getLong()).isEqualTo(-5L);
+        assertThat(byteBuffer.get()).isEqualTo((byte) 1);
+        assertThat(byteBuffer.get()).isEqualTo((byte) Integer.BYTES);
+        assertThat(byteBuffer.getInt()).isEqualTo(7);
+        assertThat(byteBuffer.get()).isEqualTo((byte) Byte.BYTES);
+        assertThat(byteBuffer.get()).isEqualTo((byte) 3);
+        assertThat(byteBuffer.get()).isEqualTo((byte) Short.BYTES);
+        assertThat(byteBuffer.getShort()).isEqualTo((short) 4);
+        assertThat(byteBuffer.getChar()).isEqualTo('c');
+        assertThat(byteBuffer.getFloat()).isEqualTo(1.5f);
+        assertThat(byteBuffer.getDouble()).isEqualTo(2.5);
+        assertThat(byteBuffer.remaining()).isZero();
+    }
+
+    @Test
+    public void testGenerateFlattensParentFields()
+    {
+        ISerializationBuffer buffer = createBuffer();
+        List<String> calls = new ArrayList<>();
+
+        serialize(generator.generate(DerivedStruct.class), new DerivedStruct(), buffer, false, calls);
+        buffer.commitBuffer();
+        ByteBuffer byteBuffer = buffer.getBuffer();
+
+        assertThat(calls).containsExactly("serialize [text, false, UTF-8]");
+        assertThat(byteBuffer.getLong()).isEqualTo(-5L);
+        byteBuffer.position(byteBuffer.limit() - Integer.BYTES - Double.BYTES);
+        assertThat(byteBuffer.getDouble()).isEqualTo(2.5);
+        assertThat(byteBuffer.getInt()).isEqualTo(9);
+    }
+
+    @Test
+    public void testGenerateCallsExplicitlyRegisteredParentProcessor()
+    {
+        registry.register(PrimitiveStruct.class, (value, dataProcessor) -> {});
+        ISerializationBuffer buffer = createBuffer();
+        List<String> calls = new ArrayList<>();
+        DerivedStruct struct = new DerivedStruct();
+
+        serialize(generator.generate(DerivedStruct.class), struct, buffer, false, calls);
+        buffer.commitBuffer();
+        ByteBuffer byteBuffer = buffer.getBuffer();
+
+        assertThat(calls).containsExactly(
+            "serialize [" + struct + ", false, " + PrimitiveStruct.class + "]",
+            "serialize [text, false, UTF-8]");
+        assertThat(byteBuffer.getInt()).isEqualTo(9);
+        assertThat(byteBuffer.remaining()).isZero();
+    }
+
+    @Test
+    public void testGenerateRoutesNonPrimitiveFields()
+    {
+        ICspClassSerializationProcessor<?> processor = generator.generate(ReferenceStruct.class);
+        List<String> calls = new ArrayList<>();
+
+        serialize(processor, new ReferenceStruct(), createBuffer(), false, calls);
+
+        assertThat(processor).isNotSameAs(FALLBACK_PROCESSOR);
+        assertThat(calls).containsExactly("serialize [null, true, UTF-16LE]",
+            "serialize [, false, windows-1251]",
+            "serialize [" + BUFFER + ", false, false]",
+            "serialize [" + BUFFER + ", true, true]",
+            "serialize [null, true, " + PrimitiveStruct.class + "]");
+    }
+
+    @Test
+    public void testGenerateFallsBackForUnsupportedFieldTypes()
+    {
+        assertThat(generator.generate(NoCharsetStringStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(BoxedStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(ObjectStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @Test
+    public void testGenerateFallsBackForGenericFields()
+    {
+        assertThat(generator.generate(GenericStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(ArrayStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @Test
+    public void testGenerateWithoutCspCreateProcessor()
+    {
+        assertThatThrownBy(() -> generator.generate(String.class))
+            .isInstanceOf(CspRuntimeException.class);
+    }
+
+    private static ISerializationBuffer createBuffer()
+    {
+        ISerializationBufferConfig bufferConfig = mock(ISerializationBufferConfig.class);
+        when(bufferConfig.getInitialCapacity()).thenReturn(0);
+        when(bufferConfig.getAllocationType()).thenReturn(AllocationType.HEAP);
+        when(bufferConfig.getResizeStrategy())
+            .thenReturn((currentCapacity, minimumRequiredSize) -> minimumRequiredSize);
+        return new SerializationBuffer(bufferConfig);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void serialize(ICspClassSerializationProcessor<?> processor, Object value,
+        ISerializationBuffer buffer, boolean sizeOfIntegersMayBeNotEqual, List<String> calls)
+    {
+        ICspDataSerializationProcessor[] dataProcessor = new ICspDataSerializationProcessor[1];
+        dataProcessor[0] = (ICspDataSerializationProcessor) Proxy.newProxyInstance(
+            ICspExtendedDataSerializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspExtendedDataSerializationProcessor.class },
+            (proxy, method, args) -> {
+                if (args.length == 2 && args[1] instanceof CspOpcodeProgram program)
+                {
+                    program.execute(args[0], buffer, sizeOfIntegersMayBeNotEqual, dataProcessor[0]);
+                }
+                else
+                {
+                    calls.add(method.getName() + " " + Arrays.toString(args));
+                }
+                return null;
+            });
+        ((ICspClassSerializationProcessor<Object>) processor).serialize(value, dataProcessor[0]);
+    }
+
+    @CspCreateProcessor
+    private static class PrimitiveStruct
+    {
+        @CspField(1)
+        private boolean booleanField = true;
+        @CspField(2)
+        private int intField = 7;
+        @CspField(0)
+        private long longField = -5;
+        @CspField(3)
+        private byte byteField = 3;
+        @CspField(4)
+        private short shortField = 4;
+        @CspField(5)
+        private char charField = 'c';
+        @CspField(6)
+        private float floatField = 1.5f;
+        @CspField(7)
+        private double doubleField = 2.5;
+        private int notCspField = 100;
+    }
+
+    @CspCreateProcessor
+    private static class DerivedStruct extends PrimitiveStruct
+    {
+        @CspField(0)
+        private int intField = 9;
+        @CspField(1)
+        private @CspString("UTF-8") String stringField = "text";
+    }
+
+    @CspCreateProcessor
+    private static class ReferenceStruct
+    {
+        @CspField(0)
+        private @CspReference @CspString("UTF-16LE") String stringField = null;
+        @CspField(1)
+        private @CspString("windows-1251") String nonStandardCharsetStringField = "";
+        @CspField(2)
+        private ByteBuffer bufferField = BUFFER;
+        @CspField(3)
+        private @CspReference @CspFixedSizeArray(2) ByteBuffer fixedSizeBufferField = BUFFER;
+        @CspField(4)
+        private @CspReference PrimitiveStruct structField = null;
+    }
+
+    @CspCreateProcessor
+    private static class NoCharsetStringStruct
+    {
+        @CspField(0)
+        private String stringField = "";
+    }
+
+    @CspCreateProcessor
+    private static class BoxedStruct
+    {
+        @CspField(0)
+        private Integer boxedField = 0;
+    }
+
+    @CspCreateProcessor
+    private static class ObjectStruct
+    {
+        @CspField(0)
+        private Object objectField = new Object();
+    }
+
+    @CspCreateProcessor
+    private static class GenericStruct
+    {
+        @CspField(0)
+        private List<String> listField = List.of();
+    }
+
+    @CspCreateProcessor
+    private static class ArrayStruct
+    {
+        @CspField(0)
+        private int[] arrayField = new int[0];
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspStructFieldPlan}.
+ */
+public class CspStructFieldPlanTest
+{
+    private final ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> registry =
+        new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+
+    @Test
+    public void testResolveFlattensWholeChain()
+    {
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(ChildStruct.class, registry);
+
+        assertThat(fieldPlan.getParentClazz()).isNull();
+        assertThat(fieldPlan.getFields().stream().map(Field::getName).toList())
+            .containsExactly("rootField", "middleField", "childFirstField", "childSecondField");
+    }
+
+    @Test
+    public void testResolveStopsAtExplicitlyRegisteredParent()
+    {
+        registry.register(MiddleStruct.class, (value, processor) -> {});
+
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(ChildStruct.class, registry);
+
+        assertThat(fieldPlan.getParentClazz()).isEqualTo(MiddleStruct.class);
+        assertThat(fieldPlan.getFields().stream().map(Field::getName).toList())
+            .containsExactly("childFirstField", "childSecondField");
+    }
+
+    @Test
+    public void testResolveFlattensGeneratedParent()
+    {
+        registry.registerGenerated(MiddleStruct.class, (value, processor) -> {});
+
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(ChildStruct.class, registry);
+
+        assertThat(fieldPlan.getParentClazz()).isNull();
+        assertThat(fieldPlan.getFields().size()).isEqualTo(4);
+    }
+
+    @CspCreateProcessor
+    private static class RootStruct
+    {
+        @CspField(0)
+        private int rootField;
+    }
+
+    @CspCreateProcessor
+    private static class MiddleStruct extends RootStruct
+    {
+        @CspField(0)
+        private int middleField;
+    }
+
+    @CspCreateProcessor
+    private static class ChildStruct extends MiddleStruct
+    {
+        @CspField(1)
+        private int childSecondField;
+        @CspField(0)
+        private int childFirstField;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.processing.data.ICspDataDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link CspHiddenClassDeserializationProcessorGenerator}.
+ */
+public class CspHiddenClassDeserializationProcessorGeneratorTest
+{
+    private static final ICspClassDeserializationProcessor<?> FALLBACK_PROCESSOR = (value, dataProcessor) -> value;
+
+    private final CspHiddenClassDeserializationProcessorGenerator generator =
+        new CspHiddenClassDeserializationProcessorGenerator(
+            new CspClassProcessorRegistryFactory<ICspClassDeserializationProcessor<?>>().create(),
+            structClazz -> FALLBACK_PROCESSOR);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerateAssignsFields()
+    {
+        ICspClassDeserializationProcessor<Object> processor =
+            (ICspClassDeserializationProcessor<Object>) generator.generate(Struct.class);
+        ICspDataDeserializationProcessor dataProcessor = (ICspDataDeserializationProcessor) Proxy.newProxyInstance(
+            ICspDataDeserializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspDataDeserializationProcessor.class },
+            (proxy, method, args) -> {
+                Class<?> type = method.getParameterTypes()[0];
+                if (type == int.class)
+                {
+                    return 42;
+                }
+                if (type == long.class)
+                {
+                    return (Long) args[0] + 1;
+                }
+                return !(Boolean) args[0];
+            });
+        Struct struct = new Struct();
+
+        Object result = processor.deserialize(struct, dataProcessor);
+
+        assertThat(result).isSameAs(struct);
+        assertThat(struct.intField).isEqualTo(42);
+        assertThat(struct.longField).isEqualTo(11L);
+        assertThat(struct.booleanField).isTrue();
+    }
+
+    @Test
+    public void testGenerateFallsBackForUnsupportedStructs()
+    {
+        assertThat(generator.generate(FinalFieldStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(ObjectFieldStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(DerivedStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @CspCreateProcessor
+    private static class Struct
+    {
+        @CspField(0)
+        private int intField;
+        @CspField(1)
+        private long longField = 10;
+        @CspField(2)
+        private boolean booleanField;
+    }
+
+    @CspCreateProcessor
+    private static class FinalFieldStruct
+    {
+        @CspField(0)
+        private final int intField = 1;
+    }
+
+    @CspCreateProcessor
+    private static class ObjectFieldStruct
+    {
+        @CspField(0)
+        private String stringField = "";
+    }
+
+    @CspCreateProcessor
+    private static class DerivedStruct extends Struct
+    {
+    }
+}
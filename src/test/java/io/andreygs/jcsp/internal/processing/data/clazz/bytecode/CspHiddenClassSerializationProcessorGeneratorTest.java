@@ -0,0 +1,284 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.clazz.bytecode;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspReference;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.data.ICspDataSerializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.ICspExtendedDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link CspHiddenClassSerializationProcessorGenerator}.
+ */
+public class CspHiddenClassSerializationProcessorGeneratorTest
+{
+    private static final ICspClassSerializationProcessor<?> FALLBACK_PROCESSOR = (value, dataProcessor) -> {};
+
+    private static final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[] { 1, 2 });
+
+    private final ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> registry =
+        new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+    private final CspHiddenClassSerializationProcessorGenerator generator =
+        new CspHiddenClassSerializationProcessorGenerator(registry, structClazz -> FALLBACK_PROCESSOR);
+
+    @Test
+    public void testGenerateWritesFieldsInOrder()
+    {
+        ICspClassSerializationProcessor<?> processor = generator.generate(PrimitiveStruct.class);
+        List<String> calls = new ArrayList<>();
+
+        serialize(processor, new PrimitiveStruct(), calls);
+
+        assertThat(processor).isNotSameAs(FALLBACK_PROCESSOR);
+        assertThat(processor.getClass().isHidden()).isTrue();
+        assertThat(calls).containsExactly("reserveFixedSize [30, 34]", "serializeLongUnchecked [-5]",
+            "serializeUnchecked [true]", "serializeIntUnchecked [7]", "serializeByteUnchecked [3]",
+            "serializeShortUnchecked [4]", "serializeCharUnchecked [c]", "serializeFloatUnchecked [1.5]",
+            "serializeDoubleUnchecked [2.5]");
+    }
+
+    @Test
+    public void testGenerateFlattensParentFields()
+    {
+        ICspClassSerializationProcessor<?> processor = generator.generate(PackageDerivedStruct.class);
+        List<String> calls = new ArrayList<>();
+
+        serialize(processor, new PackageDerivedStruct(), calls);
+
+        assertThat(processor).isNotSameAs(FALLBACK_PROCESSOR);
+        assertThat(calls).containsExactly("reserveFixedSize [12, 14]", "serializeLongUnchecked [11]",
+            "serializeIntUnchecked [9]", "serialize [text, false, UTF-8]");
+    }
+
+    @Test
+    public void testGenerateFallsBackForPrivateParentFields()
+    {
+        assertThat(generator.generate(DerivedStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @Test
+    public void testGenerateCallsExplicitlyRegisteredParentProcessor()
+    {
+        registry.register(PrimitiveStruct.class, (value, dataProcessor) -> {});
+        ICspClassSerializationProcessor<?> processor = generator.generate(DerivedStruct.class);
+        List<String> calls = new ArrayList<>();
+        DerivedStruct struct = new DerivedStruct();
+
+        serialize(processor, struct, calls);
+
+        assertThat(calls).containsExactly(
+            "serialize [" + struct + ", false, " + PrimitiveStruct.class + "]",
+            "reserveFixedSize [4, 5]",
+            "serializeIntUnchecked [9]",
+            "serialize [text, false, UTF-8]");
+    }
+
+    @Test
+    public void testGenerateRoutesStringByteBufferAndStructFields()
+    {
+        ICspClassSerializationProcessor<?> processor = generator.generate(ReferenceStruct.class);
+        List<String> calls = new ArrayList<>();
+
+        serialize(processor, new ReferenceStruct(), calls);
+
+        assertThat(processor).isNotSameAs(FALLBACK_PROCESSOR);
+        assertThat(calls).containsExactly("serialize [null, true, UTF-16LE]",
+            "serialize [" + BUFFER + ", false, false]",
+            "serialize [" + BUFFER + ", true, true]",
+            "serialize [null, true, " + PackageParentStruct.class + "]");
+    }
+
+    @Test
+    public void testGenerateFallsBackForUnsupportedFieldTypes()
+    {
+        assertThat(generator.generate(NoCharsetStringStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(NonStandardCharsetStringStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(BoxedStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(ObjectStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @Test
+    public void testGenerateFallsBackForGenericFields()
+    {
+        assertThat(generator.generate(GenericStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+        assertThat(generator.generate(ArrayStruct.class)).isSameAs(FALLBACK_PROCESSOR);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerateRejectsNotExtendedDataProcessor()
+    {
+        ICspClassSerializationProcessor<Object> processor =
+            (ICspClassSerializationProcessor<Object>) generator.generate(PrimitiveStruct.class);
+        ICspDataSerializationProcessor dataProcessor = (ICspDataSerializationProcessor) Proxy.newProxyInstance(
+            ICspDataSerializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspDataSerializationProcessor.class },
+            (proxy, method, args) -> null);
+
+        assertThatThrownBy(() -> processor.serialize(new PrimitiveStruct(), dataProcessor))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testGenerateWithoutCspCreateProcessor()
+    {
+        assertThatThrownBy(() -> generator.generate(String.class))
+            .isInstanceOf(CspRuntimeException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void serialize(ICspClassSerializationProcessor<?> processor, Object value, List<String> calls)
+    {
+        ICspDataSerializationProcessor dataProcessor = (ICspDataSerializationProcessor) Proxy.newProxyInstance(
+            ICspExtendedDataSerializationProcessor.class.getClassLoader(),
+            new Class<?>[] { ICspExtendedDataSerializationProcessor.class },
+            (proxy, method, args) -> {
+                calls.add(method.getName() + " " + Arrays.toString(args));
+                return null;
+            });
+        ((ICspClassSerializationProcessor<Object>) processor).serialize(value, dataProcessor);
+    }
+
+    @CspCreateProcessor
+    private static class PrimitiveStruct
+    {
+        @CspField(1)
+        private boolean booleanField = true;
+        @CspField(2)
+        private int intField = 7;
+        @CspField(0)
+        private long longField = -5;
+        @CspField(3)
+        private byte byteField = 3;
+        @CspField(4)
+        private short shortField = 4;
+        @CspField(5)
+        private char charField = 'c';
+        @CspField(6)
+        private float floatField = 1.5f;
+        @CspField(7)
+        private double doubleField = 2.5;
+        private int notCspField = 100;
+    }
+
+    @CspCreateProcessor
+    private static class DerivedStruct extends PrimitiveStruct
+    {
+        @CspField(0)
+        private int intField = 9;
+        @CspField(1)
+        private @CspString("UTF-8") String stringField = "text";
+    }
+
+    @CspCreateProcessor
+    static class PackageParentStruct
+    {
+        @CspField(0)
+        long parentField = 11;
+    }
+
+    @CspCreateProcessor
+    static class PackageDerivedStruct extends PackageParentStruct
+    {
+        @CspField(0)
+        private int intField = 9;
+        @CspField(1)
+        private @CspString("UTF-8") String stringField = "text";
+    }
+
+    @CspCreateProcessor
+    private static class ReferenceStruct
+    {
+        @CspField(0)
+        private @CspReference @CspString("UTF-16LE") String stringField = null;
+        @CspField(1)
+        private ByteBuffer bufferField = BUFFER;
+        @CspField(2)
+        private @CspReference @CspFixedSizeArray(2) ByteBuffer fixedSizeBufferField = BUFFER;
+        @CspField(3)
+        private @CspReference PackageParentStruct structField = null;
+    }
+
+    @CspCreateProcessor
+    private static class NoCharsetStringStruct
+    {
+        @CspField(0)
+        private String stringField = "";
+    }
+
+    @CspCreateProcessor
+    private static class NonStandardCharsetStringStruct
+    {
+        @CspField(0)
+        private @CspString("windows-1251") String stringField = "";
+    }
+
+    @CspCreateProcessor
+    private static class BoxedStruct
+    {
+        @CspField(0)
+        private Integer boxedField = 0;
+    }
+
+    @CspCreateProcessor
+    private static class ObjectStruct
+    {
+        @CspField(0)
+        private Object objectField = new Object();
+    }
+
+    @CspCreateProcessor
+    private static class GenericStruct
+    {
+        @CspField(0)
+        private List<String> listField = List.of();
+    }
+
+    @CspCreateProcessor
+    private static class ArrayStruct
+    {
+        @CspField(0)
+        private int[] arrayField = new int[0];
+    }
+}
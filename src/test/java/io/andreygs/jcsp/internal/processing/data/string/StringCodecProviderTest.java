@@ -0,0 +1,154 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.internal.processing.buffer.DeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link StringCodecProvider}.
+ */
+public class StringCodecProviderTest
+{
+    private static final List<Charset> CHARSETS = List.of(StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1,
+        StandardCharsets.UTF_8, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE, StandardCharsets.UTF_16,
+        Charset.forName("windows-1251"));
+
+    private static final String LONG_STRING =
+        "Lorem ipsum \u00e9\u00df \u0416\u0438\u0437\u043d\u044c \u20ac ".repeat(300);
+
+    @Test
+    public void testCodecIsCachedPerCharset()
+    {
+        for (Charset charset : CHARSETS)
+        {
+            IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+            assertThat(stringCodec.getCharset()).isEqualTo(charset);
+            assertThat(StringCodecProvider.getStringCodec(charset)).isSameAs(stringCodec);
+        }
+    }
+
+    @Test
+    public void testEncodeMatchesGetBytes()
+    {
+        List<String> values = List.of("", "plain ascii text", "Caf\u00e9 \u0416 \u20ac", LONG_STRING);
+        for (Charset charset : CHARSETS)
+        {
+            IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+            for (String value : values)
+            {
+                byte[] expected = value.getBytes(charset);
+                assertThat(stringCodec.encodedLength(value)).isEqualTo((long) expected.length);
+                assertThat(encode(stringCodec, value)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeRoundTrip()
+    {
+        List<String> values = List.of("", "plain ascii text", "Caf\u00e9 \u0416 \u20ac", LONG_STRING);
+        for (Charset charset : CHARSETS)
+        {
+            IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+            for (String value : values)
+            {
+                byte[] bytes = value.getBytes(charset);
+                String decoded = stringCodec.decode(new DeserializationBuffer(ByteBuffer.wrap(bytes)), bytes.length);
+                assertThat(decoded).isEqualTo(new String(bytes, charset));
+            }
+        }
+    }
+
+    @Test
+    public void testUtf8SurrogatePairIsNotSplitBetweenChunks()
+    {
+        String value = "a".repeat(StringCodecScratch.CHARS_CAPACITY - 1) + "\ud83d\ude00" + "\ud800 lone";
+        IStringCodec stringCodec = StringCodecProvider.getStringCodec(StandardCharsets.UTF_8);
+        assertThat(encode(stringCodec, value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSingleOctetCharsetReplacesEachSurrogate()
+    {
+        for (Charset charset : List.of(StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1))
+        {
+            IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+            assertThat(stringCodec.encodedLength("a\ud83d\ude00")).isEqualTo(3L);
+            assertThat(encode(stringCodec, "a\ud83d\ude00")).isEqualTo(new byte[] { 'a', '?', '?' });
+        }
+    }
+
+    @Test
+    public void testUtf16KeepsUnpairedSurrogates()
+    {
+        String value = "x\ud800y";
+        IStringCodec stringCodec = StringCodecProvider.getStringCodec(StandardCharsets.UTF_16LE);
+        byte[] bytes = encode(stringCodec, value);
+        assertThat(bytes.length).isEqualTo(6);
+        assertThat(stringCodec.decode(new DeserializationBuffer(ByteBuffer.wrap(bytes)), bytes.length))
+            .isEqualTo(value);
+        assertThat(stringCodec.decode(new DeserializationBuffer(ByteBuffer.wrap(new byte[] { 'z', 0, 1 })), 3))
+            .isEqualTo("z\ufffd");
+    }
+
+    @Test
+    public void testDecodeRejectsNegativeLength()
+    {
+        for (Charset charset : CHARSETS)
+        {
+            IStringCodec stringCodec = StringCodecProvider.getStringCodec(charset);
+            assertThatThrownBy(() -> stringCodec.decode(new DeserializationBuffer(ByteBuffer.allocate(0)), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static byte[] encode(IStringCodec stringCodec, String value)
+    {
+        ISerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        stringCodec.encode(value, buffer);
+        buffer.commitBuffer();
+        ByteBuffer result = buffer.getBuffer();
+        byte[] bytes = new byte[result.remaining()];
+        result.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package io.andreygs.jcsp.internal.processing.data.string;
+
+import io.andreygs.jcsp.api.processing.data.StringDedupEvictionPolicy;
+import io.andreygs.jcsp.api.processing.data.StringDedupScope;
+import io.andreygs.jcsp.internal.processing.buffer.DeserializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.IDeserializationBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-tests for {@link StringDedupCache}.
+ */
+public class StringDedupCacheTest
+{
+    private static final IStringCodec UTF_8_CODEC = StringCodecProvider.getStringCodec(StandardCharsets.UTF_8);
+
+    @Test
+    public void testEqualStringsAreDecodedToSameInstance()
+    {
+        StringDedupCache stringDedupCache = createCache(StringDedupScope.MESSAGE, 4, 16, StringDedupEvictionPolicy.LRU);
+
+        String first = decode(stringDedupCache, "instrument", UTF_8_CODEC);
+        String second = decode(stringDedupCache, "instrument", UTF_8_CODEC);
+
+        assertThat(second).isEqualTo("instrument");
+        assertThat(second).isSameAs(first);
+        assertThat(stringDedupCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCharsetIsPartOfKey()
+    {
+        StringDedupCache stringDedupCache = createCache(StringDedupScope.SESSION, 4, 16, StringDedupEvictionPolicy.LRU);
+        IStringCodec latin1Codec = StringCodecProvider.getStringCodec(StandardCharsets.ISO_8859_1);
+
+        String utf8 = decode(stringDedupCache, "code", UTF_8_CODEC);
+        String latin1 = decode(stringDedupCache, "code", latin1Codec);
+
+        assertThat(latin1).isEqualTo(utf8);
+        assertThat(latin1).isNotSameAs(utf8);
+        assertThat(stringDedupCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLongStringIsNotCached()
+    {
+        StringDedupCache stringDedupCache = createCache(StringDedupScope.MESSAGE, 4, 4, StringDedupEvictionPolicy.LRU);
+
+        String first = decode(stringDedupCache, "too long", UTF_8_CODEC);
+        String second = decode(stringDedupCache, "too long", UTF_8_CODEC);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second).isNotSameAs(first);
+        assertThat(stringDedupCache.size()).isZero();
+    }
+
+    @Test
+    public void testLruEvictsLeastRecentlyUsed()
+    {
+        StringDedupCache stringDedupCache = createCache(StringDedupScope.MESSAGE, 2, 16, StringDedupEvictionPolicy.LRU);
+        String a = decode(stringDedupCache, "a", UTF_8_CODEC);
+        String b = decode(stringDedupCache, "b", UTF_8_CODEC);
+        decode(stringDedupCache, "a", UTF_8_CODEC);
+        decode(stringDedupCache, "c", UTF_8_CODEC);
+
+        assertThat(decode(stringDedupCache, "a", UTF_8_CODEC)).isSameAs(a);
+        assertThat(decode(stringDedupCache, "b", UTF_8_CODEC)).isNotSameAs(b);
+    }
+
+    @Test
+    public void testFifoEvictsOldest()
+    {
+        StringDedupCache stringDedupCache =
+            createCache(StringDedupScope.MESSAGE, 2, 16, StringDedupEvictionPolicy.FIFO);
+        String a = decode(stringDedupCache, "a", UTF_8_CODEC);
+        String b = decode(stringDedupCache, "b", UTF_8_CODEC);
+        decode(stringDedupCache, "a", UTF_8_CODEC);
+        decode(stringDedupCache, "c", UTF_8_CODEC);
+
+        assertThat(decode(stringDedupCache, "b", UTF_8_CODEC)).isSameAs(b);
+        assertThat(decode(stringDedupCache, "a", UTF_8_CODEC)).isNotSameAs(a);
+    }
+
+    private static StringDedupCache createCache(StringDedupScope scope, int maxEntries, int maxEncodedLength,
+        StringDedupEvictionPolicy evictionPolicy)
+    {
+        return new StringDedupCache(new StringDedupConfig(scope, maxEntries, maxEncodedLength, evictionPolicy));
+    }
+
+    private static String decode(StringDedupCache stringDedupCache, String value, IStringCodec stringCodec)
+    {
+        Charset charset = stringCodec.getCharset();
+        byte[] bytes = value.getBytes(charset);
+        IDeserializationBuffer buffer = new DeserializationBuffer(ByteBuffer.wrap(bytes));
+        return stringDedupCache.decode(buffer, bytes.length, stringCodec);
+    }
+}
@@ -33,7 +33,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -96,6 +99,28 @@ public class CspTypeProcessorProviderTest
         assertThatIllegalArgumentException().isThrownBy(() -> provider.provide(annotatedType));
     }
 
+    @Test
+    @SuppressWarnings("DataFlowIssue" /* Extended data processor is not used by tested type processor */)
+    public void testProvideRecursiveTypeGetsPlaceholder()
+    {
+        List<String> serialized = new ArrayList<>();
+        List<ICspTypeSerializationProcessor> placeholders = new ArrayList<>();
+        AtomicReference<CspTypeProcessorProvider<ICspTypeSerializationProcessor>> recursiveProvider =
+            new AtomicReference<>();
+        recursiveProvider.set(new CspTypeProcessorProvider<>(new CspTypeProcessorRegistry<>(), type ->
+        {
+            placeholders.add(recursiveProvider.get().provide(type));
+            return (value, extendedDataProcessor) -> serialized.add(String.valueOf(value));
+        }, placeholder -> (value, extendedDataProcessor) -> placeholder.get().serialize(value, extendedDataProcessor)));
+
+        ICspTypeSerializationProcessor generated = recursiveProvider.get().provide(annotatedType);
+        placeholders.get(0).serialize("value", null);
+
+        assertThat(placeholders.get(0)).isNotSameAs(generated);
+        assertThat(recursiveProvider.get().provide(annotatedType)).isSameAs(generated);
+        assertThat(serialized).containsExactly("value");
+    }
+
     @Test
     @SuppressWarnings("DataFlowIssue" /* Intentional contract nullability violation for test */)
     public void testProvideNullAnnotatedType()
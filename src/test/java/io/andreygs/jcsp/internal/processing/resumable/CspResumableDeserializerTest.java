@@ -0,0 +1,140 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.api.processing.data.DeserializationOutcome;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link CspResumableDeserializer}.
+ */
+public class CspResumableDeserializerTest
+{
+    private static final class Message
+    {
+        private int length;
+        private int[] values = new int[0];
+        private long tail;
+        private int lengthReads;
+    }
+
+    private static List<IResumableDeserializationStep<Message>> steps()
+    {
+        return List.of(
+            ResumableDeserializationSteps.readInt((message, value) ->
+            {
+                message.length = value;
+                ++message.lengthReads;
+            }),
+            ResumableDeserializationSteps.readIntArray(message -> message.length,
+                (message, value) -> message.values = value),
+            ResumableDeserializationSteps.readLong((message, value) -> message.tail = value));
+    }
+
+    private static ByteBuffer encode(ByteOrder byteOrder)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + Long.BYTES).order(byteOrder);
+        buffer.putInt(3).putInt(10).putInt(20).putInt(30).putLong(40L);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    public void testReportsExactRequiredBytes()
+    {
+        ByteBuffer input = encode(ByteOrder.BIG_ENDIAN);
+        CspResumableDeserializer<Message> deserializer = new CspResumableDeserializer<>(new Message(), steps());
+
+        assertThat(deserializer.feed(input.slice(0, 1))).isEqualTo(DeserializationOutcome.NEED_MORE_DATA);
+        assertThat(deserializer.getRequiredBytes()).isEqualTo(3);
+
+        assertThat(deserializer.feed(input.slice(1, 9))).isEqualTo(DeserializationOutcome.NEED_MORE_DATA);
+        assertThat(deserializer.getRequiredBytes()).isEqualTo(6);
+
+        assertThat(deserializer.feed(input.slice(10, 6))).isEqualTo(DeserializationOutcome.NEED_MORE_DATA);
+        assertThat(deserializer.getRequiredBytes()).isEqualTo(Long.BYTES);
+
+        assertThat(deserializer.feed(input.slice(16, 8))).isEqualTo(DeserializationOutcome.COMPLETED);
+        assertThat(deserializer.getRequiredBytes()).isZero();
+        Message message = deserializer.getResult();
+        assertThat(message.values).containsExactly(10, 20, 30);
+        assertThat(message.tail).isEqualTo(40L);
+    }
+
+    @Test
+    public void testResumesWithoutReparsingByteByByte()
+    {
+        ByteBuffer input = encode(ByteOrder.LITTLE_ENDIAN);
+        CspResumableDeserializer<Message> deserializer =
+            new CspResumableDeserializer<>(new Message(), steps(), ByteOrder.LITTLE_ENDIAN);
+
+        int feeds = 0;
+        while (input.hasRemaining())
+        {
+            assertThat(deserializer.isCompleted()).isFalse();
+            deserializer.feed(input.slice(input.position(), 1));
+            input.position(input.position() + 1);
+            ++feeds;
+        }
+
+        assertThat(feeds).isEqualTo(Integer.BYTES * 4 + Long.BYTES);
+        assertThat(deserializer.isCompleted()).isTrue();
+        Message message = deserializer.getResult();
+        assertThat(message.lengthReads).isEqualTo(1);
+        assertThat(message.values).containsExactly(10, 20, 30);
+        assertThat(message.tail).isEqualTo(40L);
+    }
+
+    @Test
+    public void testLeavesInputAfterMessageUnread()
+    {
+        ByteBuffer input = ByteBuffer.allocate(Integer.BYTES * 4 + Long.BYTES + 2);
+        input.put(encode(ByteOrder.BIG_ENDIAN)).put((byte) 1).put((byte) 2).flip();
+        CspResumableDeserializer<Message> deserializer = new CspResumableDeserializer<>(new Message(), steps());
+
+        assertThat(deserializer.feed(input)).isEqualTo(DeserializationOutcome.COMPLETED);
+        ByteBuffer unread = deserializer.getUnreadInput();
+        assertThat(unread.remaining()).isEqualTo(2);
+        assertThat(unread.get()).isEqualTo((byte) 1);
+    }
+
+    @Test
+    public void testGetResultBeforeCompletionThrows()
+    {
+        CspResumableDeserializer<Message> deserializer = new CspResumableDeserializer<>(new Message(), steps());
+        deserializer.feed(ByteBuffer.allocate(2));
+
+        assertThatThrownBy(deserializer::getResult).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,340 @@
+/**
+ * @author Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * License
+ * <p>
+ * Copyright 2025 Andrey Grabov-Smetankin <ukbpyh@gmail.com>
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files
+ * (the "Software"), to deal in the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge,
+ * publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so,
+ * subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE
+ * OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+
+package io.andreygs.jcsp.internal.processing.resumable;
+
+import io.andreygs.jcsp.api.annotation.protocol.CspCreateProcessor;
+import io.andreygs.jcsp.api.annotation.protocol.CspField;
+import io.andreygs.jcsp.api.annotation.protocol.CspFixedSizeArray;
+import io.andreygs.jcsp.api.annotation.protocol.CspString;
+import io.andreygs.jcsp.api.annotation.protocol.CspStringDedup;
+import io.andreygs.jcsp.api.exception.CspRuntimeException;
+import io.andreygs.jcsp.api.processing.data.DeserializationOutcome;
+import io.andreygs.jcsp.api.processing.buffer.AllocationType;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassDeserializationProcessor;
+import io.andreygs.jcsp.api.processing.data.clazz.ICspClassSerializationProcessor;
+import io.andreygs.jcsp.api.protocol.CspProtocolVersion;
+import io.andreygs.jcsp.internal.processing.buffer.DoublingBufferSizeStrategy;
+import io.andreygs.jcsp.internal.processing.buffer.ISerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBuffer;
+import io.andreygs.jcsp.internal.processing.buffer.SerializationBufferConfig;
+import io.andreygs.jcsp.internal.processing.data.CspDataSerializationProcessor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspClassProcessorDescriptor;
+import io.andreygs.jcsp.internal.processing.data.clazz.CspStructFieldPlan;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorGenerator;
+import io.andreygs.jcsp.internal.processing.data.clazz.ICspClassProcessorRegistry;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassProcessorRegistryFactory;
+import io.andreygs.jcsp.internal.processing.data.clazz.factory.CspClassSerializationProcessorGeneratorFactory;
+import io.andreygs.jcsp.internal.processing.data.string.StringDedupCache;
+import io.andreygs.jcsp.internal.processing.data.string.factory.StringDedupConfigFactory;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeProcessorProvider;
+import io.andreygs.jcsp.internal.processing.data.type.ICspTypeSerializationProcessor;
+import io.andreygs.jcsp.internal.protocol.message.context.CspDataMessageContextExtension;
+import io.andreygs.jcsp.internal.protocol.message.context.CspMessageContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-tests for {@link ResumableDeserializationSteps}.
+ */
+public class ResumableDeserializationStepsTest
+{
+    private final ICspClassProcessorRegistry<ICspClassDeserializationProcessor<?>> registry =
+        new CspClassProcessorRegistryFactory<ICspClassDeserializationProcessor<?>>().create();
+
+    @Test
+    public void testCreateStructStepsReadsFlattenedFieldsByteByByte()
+    {
+        List<IResumableDeserializationStep<ChildStruct>> steps =
+            ResumableDeserializationSteps.createStructSteps(CspStructFieldPlan.resolve(ChildStruct.class, registry));
+        ByteBuffer input = ByteBuffer.allocate(64);
+        input.putLong(7L)
+             .putLong(2)
+             .putShort((short) 1).putShort((short) 2)
+             .put((byte) 1)
+             .putLong(2).putDouble(1.5).putDouble(-2.5)
+             .putInt(3).putInt(4)
+             .flip();
+        CspResumableDeserializer<ChildStruct> deserializer = new CspResumableDeserializer<>(new ChildStruct(), steps);
+
+        while (input.hasRemaining())
+        {
+            deserializer.feed(input.slice(input.position(), 1));
+            input.position(input.position() + 1);
+        }
+
+        assertThat(deserializer.isCompleted()).isTrue();
+        ChildStruct struct = deserializer.getResult();
+        assertThat(((RootStruct) struct).rootField).isEqualTo(7L);
+        assertThat(((RootStruct) struct).shorts).containsExactly((short) 1, (short) 2);
+        assertThat(struct.flag).isTrue();
+        assertThat(struct.doubles).containsExactly(1.5, -2.5);
+        assertThat(struct.fixedInts).containsExactly(3, 4);
+    }
+
+    @Test
+    public void testCreateStructStepsReadsSerializedStruct()
+    {
+        for (boolean sizeOfIntegersMayBeNotEqual : new boolean[] { false, true })
+        {
+            AllTypesStruct struct = new AllTypesStruct();
+            struct.booleanField = true;
+            struct.byteField = -1;
+            struct.shortField = 300;
+            struct.intField = -70000;
+            struct.longField = Long.MAX_VALUE;
+            struct.charField = '\u0436';
+            struct.floatField = 1.25f;
+            struct.doubleField = -0.5;
+            struct.text = "\u0442\u0435\u043a\u0441\u0442";
+            struct.booleans = new boolean[] { true, false, true };
+            struct.bytes = new byte[] { 1, -2 };
+            struct.shorts = new short[] { 3, -4 };
+            struct.ints = new int[] { 5, -6, 7 };
+            struct.longs = new long[] { 8, -9 };
+            struct.chars = new char[] { 'a', '\u044f' };
+            struct.floats = new float[] { 1.5f };
+            struct.doubles = new double[0];
+            struct.fixedLongs = new long[] { 10, 11 };
+            ByteBuffer input = serialize(struct, sizeOfIntegersMayBeNotEqual);
+            List<IResumableDeserializationStep<AllTypesStruct>> steps = ResumableDeserializationSteps.createStructSteps(
+                CspStructFieldPlan.resolve(AllTypesStruct.class, registry), sizeOfIntegersMayBeNotEqual);
+            CspResumableDeserializer<AllTypesStruct> deserializer =
+                new CspResumableDeserializer<>(new AllTypesStruct(), steps);
+
+            while (input.hasRemaining())
+            {
+                deserializer.feed(input.slice(input.position(), 1));
+                input.position(input.position() + 1);
+            }
+
+            assertThat(deserializer.isCompleted()).isTrue();
+            AllTypesStruct result = deserializer.getResult();
+            assertThat(result.booleanField).isTrue();
+            assertThat(result.byteField).isEqualTo(struct.byteField);
+            assertThat(result.shortField).isEqualTo(struct.shortField);
+            assertThat(result.intField).isEqualTo(struct.intField);
+            assertThat(result.longField).isEqualTo(struct.longField);
+            assertThat(result.charField).isEqualTo(struct.charField);
+            assertThat(result.floatField).isEqualTo(struct.floatField);
+            assertThat(result.doubleField).isEqualTo(struct.doubleField);
+            assertThat(result.text).isEqualTo(struct.text);
+            assertThat(result.booleans).isEqualTo(struct.booleans);
+            assertThat(result.bytes).isEqualTo(struct.bytes);
+            assertThat(result.shorts).isEqualTo(struct.shorts);
+            assertThat(result.ints).isEqualTo(struct.ints);
+            assertThat(result.longs).isEqualTo(struct.longs);
+            assertThat(result.chars).isEqualTo(struct.chars);
+            assertThat(result.floats).isEqualTo(struct.floats);
+            assertThat(result.doubles).isEqualTo(struct.doubles);
+            assertThat(result.fixedLongs).isEqualTo(struct.fixedLongs);
+        }
+    }
+
+    @Test
+    public void testCreateStructStepsRejectsUnequalSizeOfInteger()
+    {
+        List<IResumableDeserializationStep<ChildStruct>> steps = ResumableDeserializationSteps.createStructSteps(
+            CspStructFieldPlan.resolve(ChildStruct.class, registry), true);
+        ByteBuffer input = ByteBuffer.allocate(16);
+        input.put((byte) Integer.BYTES).putLong(7L).flip();
+        CspResumableDeserializer<ChildStruct> deserializer = new CspResumableDeserializer<>(new ChildStruct(), steps);
+
+        assertThatThrownBy(() -> deserializer.feed(input))
+            .isInstanceOf(CspRuntimeException.class)
+            .hasMessageContaining("Size of integer 4 is not equal to 8");
+    }
+
+    @Test
+    public void testCreateStructStepsRejectsExplicitlyRegisteredParent()
+    {
+        registry.register(RootStruct.class, (value, processor) -> value);
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(ChildStruct.class, registry);
+
+        assertThatThrownBy(() -> ResumableDeserializationSteps.createStructSteps(fieldPlan))
+            .isInstanceOf(CspRuntimeException.class);
+    }
+
+    @Test
+    public void testCreateStructStepsReadsStringsWithDeduplication()
+    {
+        List<IResumableDeserializationStep<StringStruct>> steps =
+            ResumableDeserializationSteps.createStructSteps(CspStructFieldPlan.resolve(StringStruct.class, registry));
+        ByteBuffer input = ByteBuffer.allocate(64);
+        for (int i = 0; i < 3; ++i)
+        {
+            input.putLong(2).put((byte) 'i').put((byte) 'd');
+        }
+        input.flip();
+        StringDedupCache stringDedupCache = new StringDedupCache(new StringDedupConfigFactory().provideDefault());
+        CspResumableDeserializer<StringStruct> deserializer = new CspResumableDeserializer<>(new StringStruct(),
+            steps, ByteOrder.BIG_ENDIAN, stringDedupCache);
+
+        assertThat(deserializer.feed(input.slice(0, 9))).isEqualTo(DeserializationOutcome.NEED_MORE_DATA);
+        assertThat(deserializer.getRequiredBytes()).isEqualTo(1);
+        assertThat(deserializer.feed(input.slice(9, input.limit() - 9))).isEqualTo(DeserializationOutcome.COMPLETED);
+
+        StringStruct struct = deserializer.getResult();
+        assertThat(struct.text).isEqualTo("id");
+        assertThat(struct.code).isEqualTo("id");
+        assertThat(struct.otherCode).isSameAs(struct.code);
+        assertThat(struct.text).isNotSameAs(struct.code);
+        assertThat(stringDedupCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCreateStructStepsRejectsStringWithoutCharset()
+    {
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(NoCharsetStringStruct.class, registry);
+
+        assertThatThrownBy(() -> ResumableDeserializationSteps.createStructSteps(fieldPlan))
+            .isInstanceOf(CspRuntimeException.class);
+    }
+
+    @Test
+    public void testCreateStructStepsRejectsUnsupportedField()
+    {
+        CspStructFieldPlan fieldPlan = CspStructFieldPlan.resolve(UnsupportedStruct.class, registry);
+
+        assertThatThrownBy(() -> ResumableDeserializationSteps.createStructSteps(fieldPlan))
+            .isInstanceOf(CspRuntimeException.class);
+    }
+
+    private static ByteBuffer serialize(Object value, boolean sizeOfIntegersMayBeNotEqual)
+    {
+        ICspClassProcessorRegistry<ICspClassSerializationProcessor<?>> serializationRegistry =
+            new CspClassProcessorRegistryFactory<ICspClassSerializationProcessor<?>>().create();
+        ICspTypeProcessorProvider<ICspTypeSerializationProcessor> typeProcessorProvider = annotatedType -> {
+            throw new UnsupportedOperationException();
+        };
+        ICspClassProcessorGenerator<ICspClassSerializationProcessor<?>> generator =
+            new CspClassSerializationProcessorGeneratorFactory().create(serializationRegistry, typeProcessorProvider);
+        ISerializationBuffer buffer = new SerializationBuffer(
+            new SerializationBufferConfig(0, AllocationType.HEAP, new DoublingBufferSizeStrategy(), 0, false));
+        new CspDataSerializationProcessor(buffer,
+            clazz -> new CspClassProcessorDescriptor<>(generator.generate(clazz), Map.of()), typeProcessorProvider,
+            new CspMessageContext(CspProtocolVersion.CSP_VERSION_2, false, true, false),
+            new CspDataMessageContextExtension(Object.class, () -> 1, false, sizeOfIntegersMayBeNotEqual, false,
+                false, false, false))
+            .serialize(value, false, value.getClass());
+        buffer.commitBuffer();
+        return buffer.getBuffer();
+    }
+
+    @CspCreateProcessor
+    private static class AllTypesStruct
+    {
+        @CspField(0)
+        private boolean booleanField;
+        @CspField(1)
+        private byte byteField;
+        @CspField(2)
+        private short shortField;
+        @CspField(3)
+        private int intField;
+        @CspField(4)
+        private long longField;
+        @CspField(5)
+        private char charField;
+        @CspField(6)
+        private float floatField;
+        @CspField(7)
+        private double doubleField;
+        @CspField(8)
+        private @CspString("UTF-8") String text;
+        @CspField(9)
+        private boolean[] booleans;
+        @CspField(10)
+        private byte[] bytes;
+        @CspField(11)
+        private short[] shorts;
+        @CspField(12)
+        private int[] ints;
+        @CspField(13)
+        private long[] longs;
+        @CspField(14)
+        private char[] chars;
+        @CspField(15)
+        private float[] floats;
+        @CspField(16)
+        private double[] doubles;
+        @CspField(17)
+        private long @CspFixedSizeArray(2) [] fixedLongs;
+    }
+
+    @CspCreateProcessor
+    private static class RootStruct
+    {
+        @CspField(0)
+        private long rootField;
+        @CspField(1)
+        private short[] shorts;
+    }
+
+    @CspCreateProcessor
+    private static class ChildStruct extends RootStruct
+    {
+        @CspField(2)
+        private int @CspFixedSizeArray(2) [] fixedInts;
+        @CspField(0)
+        private boolean flag;
+        @CspField(1)
+        private double[] doubles;
+    }
+
+    @CspCreateProcessor
+    private static class StringStruct
+    {
+        @CspField(0)
+        private @CspString("UTF-8") String text;
+        @CspField(1)
+        private @CspString("UTF-8") @CspStringDedup String code;
+        @CspField(2)
+        private @CspString("UTF-8") @CspStringDedup String otherCode;
+    }
+
+    @CspCreateProcessor
+    private static class NoCharsetStringStruct
+    {
+        @CspField(0)
+        private String text;
+    }
+
+    @CspCreateProcessor
+    private static class UnsupportedStruct
+    {
+        @CspField(0)
+        private Object value;
+    }
+}